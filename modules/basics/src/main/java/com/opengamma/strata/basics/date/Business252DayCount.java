@@ -85,7 +85,22 @@ final class Business252DayCount implements NamedLookup<DayCount> {
 
     Bus252(String name, HolidayCalendar calendar) {
       this.name = name;
-      this.calendar = calendar;
+      this.calendar = bind(calendar);
+    }
+
+    // combined calendars are merged into a single immutable calendar where possible
+    // this allows business days to be counted in constant time using the cumulative lookup
+    // the day count is cached, so the cost of merging the calendars is only incurred once
+    private static HolidayCalendar bind(HolidayCalendar calendar) {
+      if (calendar instanceof CombinedHolidayCalendar) {
+        CombinedHolidayCalendar combined = (CombinedHolidayCalendar) calendar;
+        HolidayCalendar cal1 = bind(combined.getCalendar1());
+        HolidayCalendar cal2 = bind(combined.getCalendar2());
+        if (cal1 instanceof ImmutableHolidayCalendar && cal2 instanceof ImmutableHolidayCalendar) {
+          return ImmutableHolidayCalendar.combined((ImmutableHolidayCalendar) cal1, (ImmutableHolidayCalendar) cal2);
+        }
+      }
+      return calendar;
     }
 
     // resolve instance
@@ -7,6 +7,8 @@ package com.opengamma.strata.basics.date;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -60,6 +62,108 @@ final class CombinedHolidayCalendar
     return calendar1.isHoliday(date) || calendar2.isHoliday(date);
   }
 
+  // the underlying calendars are queried alternately until they agree on a business day
+  // this allows each calendar to skip its own holidays efficiently, rather than checking each day
+  @Override
+  public LocalDate[] shift(LocalDate[] dates, int amount) {
+    if (amount == 0) {
+      return dates.clone();
+    }
+    // single sweep through the business days when the dates are in order
+    // the window holds the business days nearest the current date in the direction of the shift
+    // when the dates are close together, most business days are reused from the previous date
+    boolean forward = amount > 0;
+    int count = Math.abs(amount);
+    LocalDate[] result = new LocalDate[dates.length];
+    Deque<LocalDate> window = new ArrayDeque<>();
+    for (int j = 0; j < dates.length; j++) {
+      int i = (forward ? j : dates.length - 1 - j);
+      LocalDate date = dates[i];
+      if (j > 0 && (forward ? date.isBefore(dates[i - 1]) : date.isAfter(dates[i + 1]))) {
+        return HolidayCalendar.super.shift(dates, amount);
+      }
+      while (!window.isEmpty() && (forward ? !window.peekFirst().isAfter(date) : !window.peekFirst().isBefore(date))) {
+        window.removeFirst();
+      }
+      LocalDate last = (window.isEmpty() ? date : window.peekLast());
+      while (window.size() < count) {
+        last = (forward ? next(last) : previous(last));
+        window.addLast(last);
+      }
+      result[i] = window.peekLast();
+    }
+    return result;
+  }
+
+  @Override
+  public LocalDate next(LocalDate date) {
+    return nextOrSame(LocalDateUtils.plusDays(date, 1));
+  }
+
+  @Override
+  public LocalDate nextOrSame(LocalDate date) {
+    LocalDate result = calendar1.nextOrSame(date);
+    LocalDate other = calendar2.nextOrSame(result);
+    while (!other.equals(result)) {
+      result = calendar1.nextOrSame(other);
+      other = calendar2.nextOrSame(result);
+    }
+    return result;
+  }
+
+  @Override
+  public LocalDate previous(LocalDate date) {
+    return previousOrSame(LocalDateUtils.plusDays(date, -1));
+  }
+
+  @Override
+  public LocalDate previousOrSame(LocalDate date) {
+    LocalDate result = calendar1.previousOrSame(date);
+    LocalDate other = calendar2.previousOrSame(result);
+    while (!other.equals(result)) {
+      result = calendar1.previousOrSame(other);
+      other = calendar2.previousOrSame(result);
+    }
+    return result;
+  }
+
+  @Override
+  public int daysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+    if (endExclusive.isBefore(startInclusive)) {
+      return HolidayCalendar.super.daysBetween(startInclusive, endExclusive);
+    }
+    // step from one business day to the next, rather than checking each day
+    int count = 0;
+    LocalDate date = nextOrSame(startInclusive);
+    while (date.isBefore(endExclusive)) {
+      count++;
+      date = next(date);
+    }
+    return count;
+  }
+
+  @Override
+  public int[] daysBetween(LocalDate[] dates) {
+    if (dates.length < 2) {
+      return new int[0];
+    }
+    // single sweep through the business days when the dates are in order
+    int[] result = new int[dates.length - 1];
+    LocalDate date = nextOrSame(dates[0]);
+    for (int i = 0; i < result.length; i++) {
+      if (dates[i + 1].isBefore(dates[i])) {
+        return HolidayCalendar.super.daysBetween(dates);
+      }
+      int count = 0;
+      while (date.isBefore(dates[i + 1])) {
+        count++;
+        date = next(date);
+      }
+      result[i] = count;
+    }
+    return result;
+  }
+
   @Override
   public String toString() {
     return "HolidayCalendar[" + getName() + ']';
@@ -6,12 +6,14 @@
 package com.opengamma.strata.basics.date;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.named.ExtendedEnum;
 import com.opengamma.strata.collect.named.Named;
 
@@ -152,6 +154,32 @@ public interface DayCount
     return yearFraction(firstDate, secondDate, scheduleInfo);
   }
 
+  /**
+   * Gets the year fractions between each pair of consecutive dates.
+   * <p>
+   * Given a list of dates, such as a schedule, this method returns the fraction of a year
+   * between each date and the next date according to the convention.
+   * The result has one less element than the list of dates, with the element at index {@code i}
+   * being the result of {@link #yearFraction(LocalDate, LocalDate)} for the dates at
+   * index {@code i} and {@code i + 1}. The dates must be in order.
+   * <p>
+   * This uses a simple {@link ScheduleInfo} which has the end-of-month convention
+   * set to true, but throws an exception for other methods.
+   * Certain implementations of {@code DayCount} need the missing information,
+   * and thus will throw an exception.
+   * 
+   * @param dates  the dates, in order
+   * @return the year fractions, empty if there are less than two dates
+   * @throws IllegalArgumentException if the dates are not in order
+   * @throws UnsupportedOperationException if the year fraction cannot be obtained
+   */
+  public default DoubleArray yearFractions(List<LocalDate> dates) {
+    if (dates.size() < 2) {
+      return DoubleArray.EMPTY;
+    }
+    return DoubleArray.of(dates.size() - 1, i -> yearFraction(dates.get(i), dates.get(i + 1)));
+  }
+
   /**
    * Calculates the number of days between the specified dates using the rules of this day count.
    * <p>
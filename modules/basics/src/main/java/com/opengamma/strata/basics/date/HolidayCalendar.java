@@ -13,6 +13,7 @@ import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalAdjusters;
 
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.named.Named;
 
 /**
@@ -106,6 +107,26 @@ public interface HolidayCalendar
     return adjusted;
   }
 
+  /**
+   * Shifts each date in the array by the specified number of business days.
+   * <p>
+   * This returns a new array with one element for each input date, where each element is
+   * the result of {@link #shift(LocalDate, int)}. The input array is not altered.
+   * Implementations may be more efficient if the dates are sorted from earliest to latest.
+   *
+   * @param dates  the dates to adjust
+   * @param amount  the number of business days to adjust by
+   * @return the shifted dates
+   * @throws IllegalArgumentException if the calculation is outside the supported range
+   */
+  public default LocalDate[] shift(LocalDate[] dates, int amount) {
+    LocalDate[] result = new LocalDate[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      result[i] = shift(dates[i], amount);
+    }
+    return result;
+  }
+
   /**
    * Finds the next business day, always returning a later date.
    * <p>
@@ -135,6 +156,29 @@ public interface HolidayCalendar
     return isHoliday(date) ? next(date) : date;
   }
 
+  /**
+   * Finds the specified number of business days after the input date.
+   * <p>
+   * Given a date, this method returns the following business days in order.
+   * The first element is the result of {@link #next(LocalDate)}, the second is the
+   * business day after that, and so on. The input date is never included.
+   *
+   * @param date  the date to start from
+   * @param count  the number of business days to find, zero or greater
+   * @return the business days after the input date
+   * @throws IllegalArgumentException if the calculation is outside the supported range
+   */
+  public default LocalDate[] nextBusinessDays(LocalDate date, int count) {
+    ArgChecker.notNegative(count, "count");
+    LocalDate[] result = new LocalDate[count];
+    LocalDate current = date;
+    for (int i = 0; i < count; i++) {
+      current = next(current);
+      result[i] = current;
+    }
+    return result;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Finds the previous business day, always returning an earlier date.
@@ -236,6 +280,29 @@ public interface HolidayCalendar
         .count());
   }
 
+  /**
+   * Calculates the number of business days between each pair of consecutive dates.
+   * <p>
+   * This returns an array with one element less than the input array, where the element
+   * at index {@code i} is the result of {@link #daysBetween(LocalDate, LocalDate)} for
+   * the dates at index {@code i} and {@code i + 1}.
+   * If there are less than two dates, an empty array is returned.
+   *
+   * @param dates  the dates, typically sorted from earliest to latest
+   * @return the number of business days between each pair of consecutive dates
+   * @throws IllegalArgumentException if the calculation is outside the supported range
+   */
+  public default int[] daysBetween(LocalDate[] dates) {
+    if (dates.length < 2) {
+      return new int[0];
+    }
+    int[] result = new int[dates.length - 1];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = daysBetween(dates[i], dates[i + 1]);
+    }
+    return result;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Combines this holiday calendar with another.
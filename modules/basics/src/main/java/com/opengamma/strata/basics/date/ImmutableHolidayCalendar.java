@@ -90,6 +90,11 @@ public final class ImmutableHolidayCalendar
    * Trailing bits are set to 0 so they act as holidays, avoiding month length logic.
    */
   private final transient int[] lookup;  // not a property
+  /**
+   * The cumulative number of business days, where each item is the number of business days
+   * in the lookup table before the matching month. There is one more item than in the lookup table.
+   */
+  private final transient int[] cumulativeBusinessDays;  // not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -178,6 +183,7 @@ public final class ImmutableHolidayCalendar
       int endYearExclusive = holidays.last().getYear() + 1;
       this.lookup = buildLookupArray(holidays, weekendDays, startYear, endYearExclusive);
     }
+    this.cumulativeBusinessDays = buildCumulativeArray(lookup);
   }
 
   // create and populate the int[] lookup
@@ -215,6 +221,16 @@ public final class ImmutableHolidayCalendar
     return array;
   }
 
+  // create and populate the int[] cumulative business days
+  // use JDK bitCount() method which is mapped to a fast intrinsic
+  private static int[] buildCumulativeArray(int[] lookup) {
+    int[] array = new int[lookup.length + 1];
+    for (int i = 0; i < lookup.length; i++) {
+      array[i + 1] = array[i] + Integer.bitCount(lookup[i]);
+    }
+    return array;
+  }
+
   // ensure standard constructor is invoked
   private Object readResolve() {
     return new ImmutableHolidayCalendar(id, holidays, weekendDays);
@@ -268,6 +284,58 @@ public final class ImmutableHolidayCalendar
     throw new IllegalArgumentException("Date is outside the accepted range (year 0000 to 10,000): " + date);
   }
 
+  @Override
+  public LocalDate[] shift(LocalDate[] dates, int amount) {
+    LocalDate[] result = new LocalDate[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      result[i] = shiftByCount(dates[i], amount);
+    }
+    return result;
+  }
+
+  // shift using the cumulative business day counts, avoiding a loop around the amount
+  private LocalDate shiftByCount(LocalDate date, int amount) {
+    if (amount == 0) {
+      return date;
+    }
+    try {
+      // find data for month
+      int index = (date.getYear() - startYear) * 12 + date.getMonthValue() - 1;
+      int dom0 = date.getDayOfMonth() - 1;
+      // the number of business days before the date, and one if the date is itself a business day
+      int before = cumulativeBusinessDays[index] + Integer.bitCount(lookup[index] & ((1 << dom0) - 1));
+      int same = (lookup[index] >>> dom0) & 1;
+      // the zero-based count of the target business day from the start of the lookup
+      int target = (amount > 0 ? before + same + amount - 1 : before + amount);
+      if (target < 0 || target >= cumulativeBusinessDays[lookup.length]) {
+        return shift(date, amount);
+      }
+      return businessDay(index, target);
+
+    } catch (ArrayIndexOutOfBoundsException ex) {
+      return shift(date, amount);
+    }
+  }
+
+  // find the business day with the zero-based count, searching from the month index
+  private LocalDate businessDay(int baseIndex, int target) {
+    // find the month where the cumulative count brackets the target
+    int index = baseIndex;
+    while (cumulativeBusinessDays[index + 1] <= target) {
+      index++;
+    }
+    while (cumulativeBusinessDays[index] > target) {
+      index--;
+    }
+    // remove the least significant bits, the business days in the month before the target
+    int monthData = lookup[index];
+    for (int i = cumulativeBusinessDays[index]; i < target; i++) {
+      monthData &= monthData - 1;
+    }
+    // use JDK numberOfTrailingZeros() method which is mapped to a fast intrinsic
+    return LocalDate.of(startYear + index / 12, index % 12 + 1, Integer.numberOfTrailingZeros(monthData) + 1);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public LocalDate next(LocalDate date) {
@@ -280,6 +348,44 @@ public final class ImmutableHolidayCalendar
     }
   }
 
+  @Override
+  public LocalDate[] nextBusinessDays(LocalDate date, int count) {
+    ArgChecker.notNegative(count, "count");
+    try {
+      return nextBusinessDays(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), count);
+
+    } catch (ArrayIndexOutOfBoundsException ex) {
+      return HolidayCalendar.super.nextBusinessDays(date, count);
+    }
+  }
+
+  // find the business days after the date, sweeping forward through the lookup table
+  // input day-of-month is one-based
+  private LocalDate[] nextBusinessDays(int baseYear, int baseMonth, int baseDom, int count) {
+    LocalDate[] result = new LocalDate[count];
+    int year = baseYear;
+    int month = baseMonth;
+    // find data for month
+    int index = (baseYear - startYear) * 12 + baseMonth - 1;
+    // remove the bits for the input day-of-month and earlier days
+    int monthData = lookup[index] & ~((1 << baseDom) - 1);
+    for (int i = 0; i < count; i++) {
+      // move to next month if no more business days in the month
+      while (monthData == 0) {
+        index++;
+        monthData = lookup[index];
+        year = (month == 12 ? year + 1 : year);
+        month = (month == 12 ? 1 : month + 1);
+      }
+      // find least significant bit, which is next business day
+      // use JDK numberOfTrailingZeros() method which is mapped to a fast intrinsic
+      result[i] = LocalDate.of(year, month, Integer.numberOfTrailingZeros(monthData) + 1);
+      // remove the least significant bit
+      monthData &= monthData - 1;
+    }
+    return result;
+  }
+
   // shift to a later working day, following nextOrSame semantics
   // input day-of-month is zero-based
   private LocalDate shiftNext(int baseYear, int baseMonth, int baseDom0, int amount) {
@@ -433,6 +539,56 @@ public final class ImmutableHolidayCalendar
     throw new IllegalArgumentException("Date is outside the accepted range (year 0000 to 10,000): " + date);
   }
 
+  //-------------------------------------------------------------------------
+  @Override
+  public int daysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+    if (endExclusive.isBefore(startInclusive)) {
+      return HolidayCalendar.super.daysBetween(startInclusive, endExclusive);
+    }
+    try {
+      // difference between the number of business days before each date
+      return businessDaysBefore(endExclusive) - businessDaysBefore(startInclusive);
+
+    } catch (ArrayIndexOutOfBoundsException ex) {
+      // out of range dates are handled by checking each date
+      return HolidayCalendar.super.daysBetween(startInclusive, endExclusive);
+    }
+  }
+
+  @Override
+  public int[] daysBetween(LocalDate[] dates) {
+    if (dates.length < 2) {
+      return new int[0];
+    }
+    try {
+      // each date is only looked up once, as the end of one range is the start of the next
+      int[] result = new int[dates.length - 1];
+      int before = businessDaysBefore(dates[0]);
+      for (int i = 0; i < result.length; i++) {
+        if (dates[i + 1].isBefore(dates[i])) {
+          return HolidayCalendar.super.daysBetween(dates);
+        }
+        int after = businessDaysBefore(dates[i + 1]);
+        result[i] = after - before;
+        before = after;
+      }
+      return result;
+
+    } catch (ArrayIndexOutOfBoundsException ex) {
+      // out of range dates are handled by checking each pair of dates
+      return HolidayCalendar.super.daysBetween(dates);
+    }
+  }
+
+  // the number of business days in the lookup table before the date
+  private int businessDaysBefore(LocalDate date) {
+    // find data for month
+    int index = (date.getYear() - startYear) * 12 + date.getMonthValue() - 1;
+    // mask to retain the bits before the zero-based day-of-month and count them
+    int businessDaysInMonth = Integer.bitCount(lookup[index] & ((1 << (date.getDayOfMonth() - 1)) - 1));
+    return cumulativeBusinessDays[index] + businessDaysInMonth;
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public boolean equals(Object obj) {
@@ -0,0 +1,536 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.schedule;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableValidator;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
+
+/**
+ * A compact schedule of periods, with dates stored as epoch-days.
+ * <p>
+ * This holds the adjusted start date, adjusted end date, payment date and year fraction of each period.
+ * The dates are stored as primitive epoch-days, see {@link LocalDate#toEpochDay()}.
+ * This avoids holding a {@code LocalDate} instance for each date, and allows the dates and
+ * year fractions to be processed in bulk, such as when discounting all the payments of a leg.
+ * <p>
+ * The schedule may be created from a {@link Schedule}, or by a resolved product
+ * where the periods are simple enough to be represented in this form.
+ */
+@BeanDefinition(builderScope = "private")
+public final class CompactSchedule
+    implements ImmutableBean, Serializable {
+
+  /**
+   * The adjusted start date of each period, as epoch-days.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final IntArray startDates;
+  /**
+   * The adjusted end date of each period, as epoch-days.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final IntArray endDates;
+  /**
+   * The payment date of each period, as epoch-days.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final IntArray paymentDates;
+  /**
+   * The year fraction of each period.
+   * <p>
+   * This is the year fraction of the period between the start and end date.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleArray yearFractions;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the dates and year fractions.
+   * <p>
+   * Each array must have one element for each period.
+   *
+   * @param startDates  the adjusted start date of each period, as epoch-days
+   * @param endDates  the adjusted end date of each period, as epoch-days
+   * @param paymentDates  the payment date of each period, as epoch-days
+   * @param yearFractions  the year fraction of each period
+   * @return the compact schedule
+   */
+  public static CompactSchedule of(
+      IntArray startDates,
+      IntArray endDates,
+      IntArray paymentDates,
+      DoubleArray yearFractions) {
+
+    return new CompactSchedule(startDates, endDates, paymentDates, yearFractions);
+  }
+
+  /**
+   * Obtains an instance from a schedule, where the payment date is the end date of each period.
+   * <p>
+   * The year fraction of each period is calculated using the day count.
+   *
+   * @param schedule  the schedule
+   * @param dayCount  the day count used to calculate the year fractions
+   * @return the compact schedule
+   */
+  public static CompactSchedule of(Schedule schedule, DayCount dayCount) {
+    ArgChecker.notNull(schedule, "schedule");
+    ArgChecker.notNull(dayCount, "dayCount");
+    int size = schedule.size();
+    int[] startDates = new int[size];
+    int[] endDates = new int[size];
+    double[] yearFractions = new double[size];
+    for (int i = 0; i < size; i++) {
+      SchedulePeriod period = schedule.getPeriod(i);
+      startDates[i] = toEpochDay(period.getStartDate());
+      endDates[i] = toEpochDay(period.getEndDate());
+      yearFractions[i] = period.yearFraction(dayCount, schedule);
+    }
+    IntArray ends = IntArray.ofUnsafe(endDates);
+    return new CompactSchedule(IntArray.ofUnsafe(startDates), ends, ends, DoubleArray.ofUnsafe(yearFractions));
+  }
+
+  /**
+   * Converts a date to an epoch-day, as stored by this class.
+   *
+   * @param date  the date
+   * @return the epoch-day
+   * @throws ArithmeticException if the epoch-day does not fit in an {@code int}
+   */
+  public static int toEpochDay(LocalDate date) {
+    return Math.toIntExact(date.toEpochDay());
+  }
+
+  //-------------------------------------------------------------------------
+  @ImmutableValidator
+  private void validate() {
+    int size = startDates.size();
+    ArgChecker.isTrue(endDates.size() == size, "End dates must have one element for each period");
+    ArgChecker.isTrue(paymentDates.size() == size, "Payment dates must have one element for each period");
+    ArgChecker.isTrue(yearFractions.size() == size, "Year fractions must have one element for each period");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of periods in the schedule.
+   *
+   * @return the number of periods
+   */
+  public int size() {
+    return startDates.size();
+  }
+
+  /**
+   * Gets the adjusted start date of a period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the start date
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public LocalDate getStartDate(int index) {
+    return LocalDate.ofEpochDay(startDates.get(index));
+  }
+
+  /**
+   * Gets the adjusted end date of a period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the end date
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public LocalDate getEndDate(int index) {
+    return LocalDate.ofEpochDay(endDates.get(index));
+  }
+
+  /**
+   * Gets the payment date of a period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the payment date
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public LocalDate getPaymentDate(int index) {
+    return LocalDate.ofEpochDay(paymentDates.get(index));
+  }
+
+  /**
+   * Gets the year fraction of a period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the year fraction
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public double getYearFraction(int index) {
+    return yearFractions.get(index);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code CompactSchedule}.
+   * @return the meta-bean, not null
+   */
+  public static CompactSchedule.Meta meta() {
+    return CompactSchedule.Meta.INSTANCE;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(CompactSchedule.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private CompactSchedule(
+      IntArray startDates,
+      IntArray endDates,
+      IntArray paymentDates,
+      DoubleArray yearFractions) {
+    JodaBeanUtils.notNull(startDates, "startDates");
+    JodaBeanUtils.notNull(endDates, "endDates");
+    JodaBeanUtils.notNull(paymentDates, "paymentDates");
+    JodaBeanUtils.notNull(yearFractions, "yearFractions");
+    this.startDates = startDates;
+    this.endDates = endDates;
+    this.paymentDates = paymentDates;
+    this.yearFractions = yearFractions;
+    validate();
+  }
+
+  @Override
+  public CompactSchedule.Meta metaBean() {
+    return CompactSchedule.Meta.INSTANCE;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the adjusted start date of each period, as epoch-days.
+   * @return the value of the property, not null
+   */
+  public IntArray getStartDates() {
+    return startDates;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the adjusted end date of each period, as epoch-days.
+   * @return the value of the property, not null
+   */
+  public IntArray getEndDates() {
+    return endDates;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the payment date of each period, as epoch-days.
+   * @return the value of the property, not null
+   */
+  public IntArray getPaymentDates() {
+    return paymentDates;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the year fraction of each period.
+   * <p>
+   * This is the year fraction of the period between the start and end date.
+   * @return the value of the property, not null
+   */
+  public DoubleArray getYearFractions() {
+    return yearFractions;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      CompactSchedule other = (CompactSchedule) obj;
+      return JodaBeanUtils.equal(startDates, other.startDates) &&
+          JodaBeanUtils.equal(endDates, other.endDates) &&
+          JodaBeanUtils.equal(paymentDates, other.paymentDates) &&
+          JodaBeanUtils.equal(yearFractions, other.yearFractions);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(startDates);
+    hash = hash * 31 + JodaBeanUtils.hashCode(endDates);
+    hash = hash * 31 + JodaBeanUtils.hashCode(paymentDates);
+    hash = hash * 31 + JodaBeanUtils.hashCode(yearFractions);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(160);
+    buf.append("CompactSchedule{");
+    buf.append("startDates").append('=').append(startDates).append(',').append(' ');
+    buf.append("endDates").append('=').append(endDates).append(',').append(' ');
+    buf.append("paymentDates").append('=').append(paymentDates).append(',').append(' ');
+    buf.append("yearFractions").append('=').append(JodaBeanUtils.toString(yearFractions));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code CompactSchedule}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code startDates} property.
+     */
+    private final MetaProperty<IntArray> startDates = DirectMetaProperty.ofImmutable(
+        this, "startDates", CompactSchedule.class, IntArray.class);
+    /**
+     * The meta-property for the {@code endDates} property.
+     */
+    private final MetaProperty<IntArray> endDates = DirectMetaProperty.ofImmutable(
+        this, "endDates", CompactSchedule.class, IntArray.class);
+    /**
+     * The meta-property for the {@code paymentDates} property.
+     */
+    private final MetaProperty<IntArray> paymentDates = DirectMetaProperty.ofImmutable(
+        this, "paymentDates", CompactSchedule.class, IntArray.class);
+    /**
+     * The meta-property for the {@code yearFractions} property.
+     */
+    private final MetaProperty<DoubleArray> yearFractions = DirectMetaProperty.ofImmutable(
+        this, "yearFractions", CompactSchedule.class, DoubleArray.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "startDates",
+        "endDates",
+        "paymentDates",
+        "yearFractions");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1598636221:  // startDates
+          return startDates;
+        case 1700060778:  // endDates
+          return endDates;
+        case -522438625:  // paymentDates
+          return paymentDates;
+        case -2145580300:  // yearFractions
+          return yearFractions;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends CompactSchedule> builder() {
+      return new CompactSchedule.Builder();
+    }
+
+    @Override
+    public Class<? extends CompactSchedule> beanType() {
+      return CompactSchedule.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code startDates} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<IntArray> startDates() {
+      return startDates;
+    }
+
+    /**
+     * The meta-property for the {@code endDates} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<IntArray> endDates() {
+      return endDates;
+    }
+
+    /**
+     * The meta-property for the {@code paymentDates} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<IntArray> paymentDates() {
+      return paymentDates;
+    }
+
+    /**
+     * The meta-property for the {@code yearFractions} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<DoubleArray> yearFractions() {
+      return yearFractions;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -1598636221:  // startDates
+          return ((CompactSchedule) bean).getStartDates();
+        case 1700060778:  // endDates
+          return ((CompactSchedule) bean).getEndDates();
+        case -522438625:  // paymentDates
+          return ((CompactSchedule) bean).getPaymentDates();
+        case -2145580300:  // yearFractions
+          return ((CompactSchedule) bean).getYearFractions();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code CompactSchedule}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<CompactSchedule> {
+
+    private IntArray startDates;
+    private IntArray endDates;
+    private IntArray paymentDates;
+    private DoubleArray yearFractions;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+      super(meta());
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1598636221:  // startDates
+          return startDates;
+        case 1700060778:  // endDates
+          return endDates;
+        case -522438625:  // paymentDates
+          return paymentDates;
+        case -2145580300:  // yearFractions
+          return yearFractions;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -1598636221:  // startDates
+          this.startDates = (IntArray) newValue;
+          break;
+        case 1700060778:  // endDates
+          this.endDates = (IntArray) newValue;
+          break;
+        case -522438625:  // paymentDates
+          this.paymentDates = (IntArray) newValue;
+          break;
+        case -2145580300:  // yearFractions
+          this.yearFractions = (DoubleArray) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public CompactSchedule build() {
+      return new CompactSchedule(
+          startDates,
+          endDates,
+          paymentDates,
+          yearFractions);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(160);
+      buf.append("CompactSchedule.Builder{");
+      buf.append("startDates").append('=').append(JodaBeanUtils.toString(startDates)).append(',').append(' ');
+      buf.append("endDates").append('=').append(JodaBeanUtils.toString(endDates)).append(',').append(' ');
+      buf.append("paymentDates").append('=').append(JodaBeanUtils.toString(paymentDates)).append(',').append(' ');
+      buf.append("yearFractions").append('=').append(JodaBeanUtils.toString(yearFractions));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
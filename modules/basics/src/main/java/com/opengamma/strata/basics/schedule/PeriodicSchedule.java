@@ -34,6 +34,7 @@ import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.date.AdjustableDate;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.DateAdjuster;
 import com.opengamma.strata.collect.ArgChecker;
 
 /**
@@ -717,8 +718,10 @@ public final class PeriodicSchedule
   private List<LocalDate> applyBusinessDayAdjustment(List<LocalDate> unadj, ReferenceData refData) {
     List<LocalDate> adj = new ArrayList<>(unadj.size());
     adj.add(calculatedStartDate().adjusted(refData));
+    // resolve once, rather than looking up the holiday calendar for each date
+    DateAdjuster adjuster = businessDayAdjustment.resolve(refData);
     for (int i = 1; i < unadj.size() - 1; i++) {
-      adj.add(businessDayAdjustment.adjust(unadj.get(i), refData));
+      adj.add(adjuster.adjust(unadj.get(i)));
     }
     adj.add(calculatedEndDate().adjusted(refData));
     return adj;
@@ -16,10 +16,13 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
  * Test {@link Business252DayCount}.
@@ -68,6 +71,30 @@ public class Business252DayCountTest {
     }
   }
 
+  public void test_yearFraction_combinedCalendar() {
+    DayCount test = DayCount.of("Bus/252 EUTA+GBLO");
+    HolidayCalendar calendar = EUTA.resolve(REF_DATA).combinedWith(GBLO.resolve(REF_DATA));
+    LocalDate date1 = date(2014, 12, 1);
+    LocalDate date2 = date(2014, 12, 1);
+    for (int i = 0; i < 366; i++) {
+      long expected = LocalDateUtils.stream(date1, date2).filter(calendar::isBusinessDay).count();
+      assertEquals(test.yearFraction(date1, date2), expected / 252d);
+      date2 = date2.plusDays(1);
+    }
+  }
+
+  public void test_yearFractions() {
+    DayCount test = DayCount.of("Bus/252 EUTA");
+    List<LocalDate> dates = ImmutableList.of(date(2014, 12, 1), date(2015, 3, 2), date(2015, 6, 1), date(2045, 6, 1));
+    DoubleArray expected = DoubleArray.of(
+        test.yearFraction(dates.get(0), dates.get(1)),
+        test.yearFraction(dates.get(1), dates.get(2)),
+        test.yearFraction(dates.get(2), dates.get(3)));
+    assertEquals(test.yearFractions(dates), expected);
+    assertEquals(test.yearFractions(dates.subList(0, 1)), DoubleArray.EMPTY);
+    assertThrowsIllegalArg(() -> test.yearFractions(ImmutableList.of(dates.get(1), dates.get(0))));
+  }
+
   public void test_yearFraction_badOrder() {
     DayCount test = DayCount.of("Bus/252 EUTA");
     LocalDate date1 = date(2014, 12, 2);
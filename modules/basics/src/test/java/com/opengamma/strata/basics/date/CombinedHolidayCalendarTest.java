@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.date;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link CombinedHolidayCalendar}.
+ */
+@Test
+public class CombinedHolidayCalendarTest {
+
+  private static final HolidayCalendarId TEST_ID1 = HolidayCalendarId.of("Test1");
+  private static final HolidayCalendarId TEST_ID2 = HolidayCalendarId.of("Test2");
+  // some holidays are in both calendars, some in only one
+  private static final ImmutableHolidayCalendar BASE1 = ImmutableHolidayCalendar.of(
+      TEST_ID1,
+      Arrays.asList(date(2014, 7, 16), date(2014, 12, 25), date(2014, 12, 26), date(2015, 1, 1), date(2015, 4, 6)),
+      SATURDAY,
+      SUNDAY);
+  private static final ImmutableHolidayCalendar BASE2 = ImmutableHolidayCalendar.of(
+      TEST_ID2,
+      Arrays.asList(date(2014, 7, 14), date(2014, 12, 24), date(2014, 12, 25), date(2015, 1, 1), date(2015, 1, 2)),
+      FRIDAY,
+      SATURDAY);
+  private static final CombinedHolidayCalendar TEST = new CombinedHolidayCalendar(BASE1, BASE2);
+  // the default methods, which check each day in turn
+  private static final HolidayCalendar REFERENCE = new HolidayCalendar() {
+    @Override
+    public boolean isHoliday(LocalDate date) {
+      return BASE1.isHoliday(date) || BASE2.isHoliday(date);
+    }
+
+    @Override
+    public HolidayCalendarId getId() {
+      return TEST_ID1.combinedWith(TEST_ID2);
+    }
+  };
+  // the dates to check, including dates outside the range of the underlying lookups
+  private static final LocalDate[] DATES = new LocalDate[100];
+  static {
+    for (int i = 0; i < DATES.length; i++) {
+      DATES[i] = date(2013, 11, 20).plusDays(i * 11);
+    }
+  }
+  private static final LocalDate[] UNSORTED = {
+      date(2014, 12, 29), date(2014, 12, 23), date(2015, 1, 2), date(2014, 7, 14), date(2014, 7, 14), date(2015, 4, 3)};
+
+  //-------------------------------------------------------------------------
+  public void test_basics() {
+    assertEquals(TEST.getId(), TEST_ID1.combinedWith(TEST_ID2));
+    assertEquals(TEST.getName(), "Test1+Test2");
+    assertEquals(TEST.toString(), "HolidayCalendar[Test1+Test2]");
+    assertEquals(TEST.isHoliday(date(2014, 7, 14)), true);
+    assertEquals(TEST.isHoliday(date(2014, 7, 15)), false);
+    assertEquals(TEST.isHoliday(date(2014, 7, 16)), true);
+    assertEquals(TEST.isHoliday(date(2014, 7, 18)), true);
+    assertEquals(TEST.isHoliday(date(2014, 12, 25)), true);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_nextPrevious() {
+    for (LocalDate date : DATES) {
+      for (int i = 0; i < 11; i++) {
+        LocalDate test = date.plusDays(i);
+        assertEquals(TEST.next(test), REFERENCE.next(test));
+        assertEquals(TEST.nextOrSame(test), REFERENCE.nextOrSame(test));
+        assertEquals(TEST.previous(test), REFERENCE.previous(test));
+        assertEquals(TEST.previousOrSame(test), REFERENCE.previousOrSame(test));
+      }
+    }
+  }
+
+  public void test_nextPrevious_holidaysInBoth() {
+    // Wed 24th holiday in 2, Thu 25th in both, Fri 26th in 1 and weekend in 2, Sat/Sun weekends
+    assertEquals(TEST.next(date(2014, 12, 23)), date(2014, 12, 29));
+    assertEquals(TEST.nextOrSame(date(2014, 12, 24)), date(2014, 12, 29));
+    assertEquals(TEST.previous(date(2014, 12, 29)), date(2014, 12, 23));
+    assertEquals(TEST.previousOrSame(date(2014, 12, 28)), date(2014, 12, 23));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_shift_array() {
+    for (int amount = -12; amount <= 12; amount++) {
+      LocalDate[] test = TEST.shift(DATES, amount);
+      assertEquals(test.length, DATES.length);
+      for (int i = 0; i < DATES.length; i++) {
+        assertEquals(test[i], REFERENCE.shift(DATES[i], amount));
+      }
+      LocalDate[] unsorted = TEST.shift(UNSORTED, amount);
+      for (int i = 0; i < UNSORTED.length; i++) {
+        assertEquals(unsorted[i], REFERENCE.shift(UNSORTED[i], amount));
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_daysBetween_LocalDateLocalDate() {
+    for (LocalDate start : DATES) {
+      for (int i = -3; i < 60; i += 4) {
+        LocalDate end = start.plusDays(i);
+        assertEquals(TEST.daysBetween(start, end), REFERENCE.daysBetween(start, end));
+      }
+    }
+  }
+
+  public void test_daysBetween_array() {
+    assertEquals(Arrays.toString(TEST.daysBetween(DATES)), Arrays.toString(REFERENCE.daysBetween(DATES)));
+    assertEquals(Arrays.toString(TEST.daysBetween(UNSORTED)), Arrays.toString(REFERENCE.daysBetween(UNSORTED)));
+    assertEquals(TEST.daysBetween(new LocalDate[] {date(2014, 7, 14)}).length, 0);
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    coverImmutableBean(TEST);
+  }
+
+  public void test_serialization() {
+    assertSerialization(TEST);
+  }
+
+}
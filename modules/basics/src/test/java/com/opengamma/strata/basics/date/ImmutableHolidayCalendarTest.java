@@ -751,6 +751,98 @@ public class ImmutableHolidayCalendarTest {
     assertEquals(HOLCAL_MON_WED.daysBetween(start, end), expected);
   }
 
+  public void test_daysBetween_range() {
+    // compare to counting each date, including dates outside the range of the lookup
+    LocalDate base = date(2013, 11, 20);
+    for (int i = 0; i < 900; i += 7) {
+      LocalDate start = base.plusDays(i);
+      for (int j = 0; j < 500; j += 13) {
+        LocalDate end = start.plusDays(j);
+        long expected = LocalDateUtils.stream(start, end).filter(HOLCAL_MON_WED::isBusinessDay).count();
+        assertEquals(HOLCAL_MON_WED.daysBetween(start, end), expected);
+      }
+    }
+  }
+
+  public void test_daysBetween_array() {
+    LocalDate[] dates = new LocalDate[60];
+    for (int i = 0; i < dates.length; i++) {
+      dates[i] = date(2013, 11, 20).plusDays(i * 17);
+    }
+    int[] test = HOLCAL_MON_WED.daysBetween(dates);
+    assertEquals(test.length, dates.length - 1);
+    for (int i = 0; i < test.length; i++) {
+      assertEquals(test[i], HOLCAL_MON_WED.daysBetween(dates[i], dates[i + 1]));
+    }
+    assertEquals(HOLCAL_MON_WED.daysBetween(new LocalDate[] {MON_2014_07_14}).length, 0);
+    int[] unsorted = HOLCAL_MON_WED.daysBetween(new LocalDate[] {MON_2014_07_14, WED_2014_07_23, THU_2014_07_10});
+    assertEquals(unsorted.length, 2);
+    assertEquals(unsorted[0], HOLCAL_MON_WED.daysBetween(MON_2014_07_14, WED_2014_07_23));
+    assertEquals(unsorted[1], HOLCAL_MON_WED.daysBetween(WED_2014_07_23, THU_2014_07_10));
+  }
+
+  public void test_nextBusinessDays() {
+    assertEquals(
+        HOLCAL_MON_WED.nextBusinessDays(FRI_2014_07_11, 4),
+        new LocalDate[] {TUE_2014_07_15, THU_2014_07_17, FRI_2014_07_18, MON_2014_07_21});
+    assertEquals(HOLCAL_MON_WED.nextBusinessDays(FRI_2014_07_11, 0).length, 0);
+    assertThrowsIllegalArg(() -> HOLCAL_MON_WED.nextBusinessDays(FRI_2014_07_11, -1));
+    // compare to repeated calls, including dates outside the range of the lookup
+    LocalDate base = date(2013, 11, 20);
+    for (int i = 0; i < 900; i += 11) {
+      LocalDate date = base.plusDays(i);
+      LocalDate[] test = HOLCAL_MON_WED.nextBusinessDays(date, 45);
+      LocalDate expected = date;
+      for (int j = 0; j < test.length; j++) {
+        expected = HOLCAL_MON_WED.next(expected);
+        assertEquals(test[j], expected);
+      }
+    }
+  }
+
+  public void test_shift_array() {
+    LocalDate[] dates = {FRI_2014_07_11, SAT_2014_07_12, MON_2014_07_14, WED_2014_07_23};
+    assertEquals(
+        HOLCAL_MON_WED.shift(dates, 2),
+        new LocalDate[] {THU_2014_07_17, THU_2014_07_17, THU_2014_07_17, HOLCAL_MON_WED.shift(WED_2014_07_23, 2)});
+    assertEquals(HOLCAL_MON_WED.shift(dates, 0), dates);
+    // compare to shifting each date, including dates and results outside the range of the lookup
+    LocalDate[] range = new LocalDate[90];
+    for (int i = 0; i < range.length; i++) {
+      range[i] = date(2013, 11, 20).plusDays(i * 10);
+    }
+    for (int amount = -300; amount <= 300; amount += 7) {
+      LocalDate[] test = HOLCAL_MON_WED.shift(range, amount);
+      for (int i = 0; i < range.length; i++) {
+        assertEquals(test[i], HOLCAL_MON_WED.shift(range[i], amount));
+      }
+    }
+  }
+
+  public void test_combinedWith_bulk() {
+    // the combined calendar must match the equivalent flattened calendar
+    Iterable<LocalDate> holidays1 = Arrays.asList(WED_2014_07_16, date(2014, 12, 25), date(2014, 12, 26));
+    ImmutableHolidayCalendar base1 = ImmutableHolidayCalendar.of(TEST_ID, holidays1, SATURDAY, SUNDAY);
+    Iterable<LocalDate> holidays2 = Arrays.asList(MON_2014_07_14, date(2014, 12, 24), date(2014, 12, 29));
+    ImmutableHolidayCalendar base2 = ImmutableHolidayCalendar.of(TEST_ID2, holidays2, FRIDAY, SATURDAY);
+    HolidayCalendar test = base1.combinedWith(base2);
+    ImmutableHolidayCalendar expected = ImmutableHolidayCalendar.combined(base1, base2);
+    LocalDate[] dates = new LocalDate[80];
+    for (int i = 0; i < dates.length; i++) {
+      LocalDate date = date(2013, 11, 20).plusDays(i * 13);
+      dates[i] = date;
+      assertEquals(test.next(date), expected.next(date));
+      assertEquals(test.nextOrSame(date), expected.nextOrSame(date));
+      assertEquals(test.previous(date), expected.previous(date));
+      assertEquals(test.previousOrSame(date), expected.previousOrSame(date));
+      assertEquals(test.shift(date, 3), expected.shift(date, 3));
+      assertEquals(test.shift(date, -3), expected.shift(date, -3));
+      assertEquals(test.nextBusinessDays(date, 10), expected.nextBusinessDays(date, 10));
+      assertEquals(test.daysBetween(date, date.plusDays(40)), expected.daysBetween(date, date.plusDays(40)));
+    }
+    assertEquals(Arrays.toString(test.daysBetween(dates)), Arrays.toString(expected.daysBetween(dates)));
+  }
+
   //-------------------------------------------------------------------------
   public void test_combinedWith() {
     Iterable<LocalDate> holidays1 = Arrays.asList(WED_2014_07_16);
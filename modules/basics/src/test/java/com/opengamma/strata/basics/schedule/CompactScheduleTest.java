@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.schedule;
+
+import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.schedule.Frequency.P1M;
+import static com.opengamma.strata.basics.schedule.RollConventions.DAY_17;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
+
+/**
+ * Test {@link CompactSchedule}.
+ */
+@Test
+public class CompactScheduleTest {
+
+  private static final LocalDate JUL_04 = date(2014, 7, 4);
+  private static final LocalDate JUL_17 = date(2014, 7, 17);
+  private static final LocalDate AUG_18 = date(2014, 8, 18);
+  private static final LocalDate SEP_17 = date(2014, 9, 17);
+  private static final LocalDate SEP_19 = date(2014, 9, 19);
+
+  private static final Schedule SCHEDULE = Schedule.builder()
+      .periods(ImmutableList.of(
+          SchedulePeriod.of(JUL_04, JUL_17),
+          SchedulePeriod.of(JUL_17, AUG_18, JUL_17, date(2014, 8, 17)),
+          SchedulePeriod.of(AUG_18, SEP_17, date(2014, 8, 17), SEP_17)))
+      .frequency(P1M)
+      .rollConvention(DAY_17)
+      .build();
+
+  //-------------------------------------------------------------------------
+  public void test_of_schedule() {
+    CompactSchedule test = CompactSchedule.of(SCHEDULE, ACT_365F);
+    assertEquals(test.size(), 3);
+    for (int i = 0; i < SCHEDULE.size(); i++) {
+      SchedulePeriod period = SCHEDULE.getPeriod(i);
+      assertEquals(test.getStartDate(i), period.getStartDate());
+      assertEquals(test.getEndDate(i), period.getEndDate());
+      assertEquals(test.getPaymentDate(i), period.getEndDate());
+      assertEquals(test.getYearFraction(i), period.yearFraction(ACT_365F, SCHEDULE));
+      assertEquals(test.getStartDates().get(i), period.getStartDate().toEpochDay());
+    }
+  }
+
+  public void test_of_arrays() {
+    CompactSchedule test = CompactSchedule.of(
+        IntArray.of(CompactSchedule.toEpochDay(JUL_04)),
+        IntArray.of(CompactSchedule.toEpochDay(SEP_17)),
+        IntArray.of(CompactSchedule.toEpochDay(SEP_19)),
+        DoubleArray.of(0.2));
+    assertEquals(test.size(), 1);
+    assertEquals(test.getStartDate(0), JUL_04);
+    assertEquals(test.getEndDate(0), SEP_17);
+    assertEquals(test.getPaymentDate(0), SEP_19);
+    assertEquals(test.getYearFraction(0), 0.2);
+  }
+
+  public void test_of_arraysSizeMismatch() {
+    assertThrowsIllegalArg(() -> CompactSchedule.of(
+        IntArray.of(1, 2), IntArray.of(3, 4), IntArray.of(3), DoubleArray.of(0.1, 0.1)));
+    assertThrowsIllegalArg(() -> CompactSchedule.of(
+        IntArray.of(1, 2), IntArray.of(3, 4), IntArray.of(3, 4), DoubleArray.of(0.1)));
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    CompactSchedule test = CompactSchedule.of(SCHEDULE, ACT_365F);
+    coverImmutableBean(test);
+    CompactSchedule test2 = CompactSchedule.of(SCHEDULE, ACT_360);
+    coverBeanEquals(test, test2);
+  }
+
+  public void test_serialization() {
+    assertSerialization(CompactSchedule.of(SCHEDULE, ACT_365F));
+  }
+
+}
@@ -0,0 +1,387 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+import static com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.currency.FxMatrix;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.BusinessDayConventions;
+import com.opengamma.strata.basics.date.HolidayCalendarIds;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.schedule.StubConvention;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.ImmutableMarketDataBuilder;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.ConstantCurve;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveNode;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.curve.node.FixedIborSwapCurveNode;
+import com.opengamma.strata.market.curve.node.FixedOvernightSwapCurveNode;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.market.surface.DefaultSurfaceMetadata;
+import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
+import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
+import com.opengamma.strata.pricer.curve.CurveCalibrator;
+import com.opengamma.strata.pricer.fxopt.BlackFxOptionSurfaceVolatilities;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.SwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapTemplate;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapTemplate;
+
+/**
+ * Generators of synthetic data used by the benchmarks.
+ * <p>
+ * All data is generated from a seed, such that the same seed always produces the same data.
+ * This allows the results of separate benchmark runs to be compared.
+ */
+public final class BenchmarkData {
+
+  /**
+   * The valuation date.
+   */
+  public static final LocalDate VAL_DATE = LocalDate.of(2017, 6, 30);
+  /**
+   * The reference data.
+   */
+  public static final ReferenceData REF_DATA = ReferenceData.standard();
+  /**
+   * The name of the curve group.
+   */
+  public static final CurveGroupName CURVE_GROUP_NAME = CurveGroupName.of("USD-DSCON-LIBOR3M");
+  /**
+   * The scheme of the quote identifiers.
+   */
+  private static final String SCHEME = "BENCHMARK";
+  /**
+   * The currency pair of the FX market data.
+   */
+  public static final CurrencyPair FX_PAIR = CurrencyPair.of(EUR, USD);
+  /**
+   * The FX spot rate of the currency pair.
+   */
+  public static final double FX_SPOT = 1.4;
+  /**
+   * The times of the nodes of the FX volatility surface.
+   */
+  private static final DoubleArray FX_VOL_TIMES = DoubleArray.of(0.5, 1d, 2d, 3d, 5d);
+  /**
+   * The strikes of the nodes of the FX volatility surface, relative to the spot rate.
+   */
+  private static final DoubleArray FX_VOL_MONEYNESS =
+      DoubleArray.of(0.2, 0.35, 0.55, 0.7, 0.85, 0.93, 1d, 1.07, 1.15, 1.3, 1.5, 1.85, 2.5, 3.6);
+  /**
+   * The tenors of the OIS nodes of the discount curve.
+   */
+  private static final Tenor[] OIS_TENORS = {
+      Tenor.TENOR_1M, Tenor.TENOR_3M, Tenor.TENOR_6M, Tenor.TENOR_1Y, Tenor.TENOR_2Y, Tenor.TENOR_3Y,
+      Tenor.TENOR_5Y, Tenor.TENOR_7Y, Tenor.TENOR_10Y, Tenor.TENOR_15Y, Tenor.TENOR_20Y, Tenor.TENOR_30Y};
+  /**
+   * The tenors of the swap nodes of the forward curve.
+   */
+  private static final Tenor[] IRS_TENORS = {
+      Tenor.TENOR_1Y, Tenor.TENOR_2Y, Tenor.TENOR_3Y, Tenor.TENOR_4Y, Tenor.TENOR_5Y, Tenor.TENOR_7Y,
+      Tenor.TENOR_10Y, Tenor.TENOR_12Y, Tenor.TENOR_15Y, Tenor.TENOR_20Y, Tenor.TENOR_25Y, Tenor.TENOR_30Y};
+  /**
+   * The tenors of the generated swap trades.
+   */
+  private static final Tenor[] TRADE_TENORS = {
+      Tenor.TENOR_1Y, Tenor.TENOR_2Y, Tenor.TENOR_3Y, Tenor.TENOR_5Y, Tenor.TENOR_7Y,
+      Tenor.TENOR_10Y, Tenor.TENOR_15Y, Tenor.TENOR_20Y, Tenor.TENOR_30Y};
+  /**
+   * The calibrated rates provider, built on first use.
+   */
+  private static volatile ImmutableRatesProvider ratesProvider;
+
+  /**
+   * Restricted constructor.
+   */
+  private BenchmarkData() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the definition of the curve group used by the benchmarks.
+   * <p>
+   * The group contains an OIS discount curve and a Libor 3M forward curve,
+   * both interpolated on zero rates with the specified interpolator.
+   *
+   * @param interpolatorName  the name of the curve interpolator
+   * @return the curve group definition
+   */
+  public static CurveGroupDefinition curveGroupDefinition(String interpolatorName) {
+    CurveNode[] dscNodes = new CurveNode[OIS_TENORS.length];
+    for (int i = 0; i < OIS_TENORS.length; i++) {
+      dscNodes[i] = FixedOvernightSwapCurveNode.of(
+          FixedOvernightSwapTemplate.of(Period.ZERO, OIS_TENORS[i], USD_FIXED_1Y_FED_FUND_OIS),
+          QuoteId.of(StandardId.of(SCHEME, "OIS" + OIS_TENORS[i])));
+    }
+    CurveNode[] fwdNodes = new CurveNode[IRS_TENORS.length];
+    for (int i = 0; i < IRS_TENORS.length; i++) {
+      fwdNodes[i] = FixedIborSwapCurveNode.of(
+          FixedIborSwapTemplate.of(Period.ZERO, IRS_TENORS[i], USD_FIXED_6M_LIBOR_3M),
+          QuoteId.of(StandardId.of(SCHEME, "IRS" + IRS_TENORS[i])));
+    }
+    return CurveGroupDefinition.builder()
+        .name(CURVE_GROUP_NAME)
+        .addCurve(curveDefinition("USD-DSCON", interpolatorName, dscNodes), USD, USD_FED_FUND)
+        .addForwardCurve(curveDefinition("USD-LIBOR3M", interpolatorName, fwdNodes), USD_LIBOR_3M)
+        .build();
+  }
+
+  // creates the definition of a single curve
+  private static InterpolatedNodalCurveDefinition curveDefinition(
+      String name,
+      String interpolatorName,
+      CurveNode[] nodes) {
+
+    return InterpolatedNodalCurveDefinition.builder()
+        .name(CurveName.of(name))
+        .xValueType(ValueType.YEAR_FRACTION)
+        .yValueType(ValueType.ZERO_RATE)
+        .dayCount(ACT_365F)
+        .interpolator(CurveInterpolator.of(interpolatorName))
+        .extrapolatorLeft(CurveExtrapolators.FLAT)
+        .extrapolatorRight(CurveExtrapolators.FLAT)
+        .nodes(nodes)
+        .build();
+  }
+
+  /**
+   * Generates the market quotes of the nodes of the curve group.
+   * <p>
+   * The quotes lie on upward sloping curves, with a random perturbation of up to one basis point.
+   *
+   * @param seed  the seed of the random number generator
+   * @return the market data containing the quotes
+   */
+  public static ImmutableMarketData quotes(long seed) {
+    Random random = new Random(seed);
+    ImmutableMarketDataBuilder builder = ImmutableMarketData.builder(VAL_DATE);
+    for (Tenor tenor : OIS_TENORS) {
+      double quote = 0.0100 + 0.0005 * years(tenor) + 0.0001 * random.nextDouble();
+      builder.addValue(QuoteId.of(StandardId.of(SCHEME, "OIS" + tenor)), quote);
+    }
+    for (Tenor tenor : IRS_TENORS) {
+      double quote = 0.0125 + 0.0006 * years(tenor) + 0.0001 * random.nextDouble();
+      builder.addValue(QuoteId.of(StandardId.of(SCHEME, "IRS" + tenor)), quote);
+    }
+    return builder.build();
+  }
+
+  // the tenor as an approximate number of years
+  private static double years(Tenor tenor) {
+    return tenor.getPeriod().toTotalMonths() / 12d;
+  }
+
+  /**
+   * Obtains a rates provider calibrated to the quotes generated with a seed of zero.
+   * <p>
+   * The calibration is only performed once.
+   *
+   * @return the rates provider
+   */
+  public static ImmutableRatesProvider ratesProvider() {
+    ImmutableRatesProvider provider = ratesProvider;
+    if (provider == null) {
+      provider = CurveCalibrator.standard().calibrate(
+          curveGroupDefinition(CurveInterpolators.LINEAR.getName()), quotes(0), REF_DATA);
+      ratesProvider = provider;
+    }
+    return provider;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a rates provider for the EUR/USD currency pair.
+   * <p>
+   * The discount curves have constant zero rates, 1% for EUR and 2% for USD,
+   * and the FX spot rate is {@link #FX_SPOT}.
+   *
+   * @return the rates provider
+   */
+  public static ImmutableRatesProvider fxRatesProvider() {
+    return ImmutableRatesProvider.builder(VAL_DATE)
+        .discountCurve(EUR, ConstantCurve.of(Curves.zeroRates("EUR-DSC", ACT_365F), 0.01))
+        .discountCurve(USD, ConstantCurve.of(Curves.zeroRates("USD-DSC", ACT_365F), 0.02))
+        .fxRateProvider(FxMatrix.of(FX_PAIR, FX_SPOT))
+        .build();
+  }
+
+  /**
+   * Obtains Black volatilities with a smile for the EUR/USD currency pair.
+   * <p>
+   * The smile is symmetric in log-moneyness around the spot rate and rises with time,
+   * such that the implied local volatility is well defined.
+   * The surface is flat beyond the nodes.
+   *
+   * @return the volatilities
+   */
+  public static BlackFxOptionSurfaceVolatilities fxVolatilities() {
+    int nStrikes = FX_VOL_MONEYNESS.size();
+    int nPoints = FX_VOL_TIMES.size() * nStrikes;
+    DoubleArray times = DoubleArray.of(nPoints, i -> FX_VOL_TIMES.get(i / nStrikes));
+    DoubleArray strikes = DoubleArray.of(nPoints, i -> FX_SPOT * FX_VOL_MONEYNESS.get(i % nStrikes));
+    DoubleArray vols = DoubleArray.of(nPoints, i -> {
+      double logMoneyness = Math.log(FX_VOL_MONEYNESS.get(i % nStrikes));
+      double squared = logMoneyness * logMoneyness;
+      return 0.1075 + 0.005 * times.get(i) + 0.03 * squared / (1d + squared);
+    });
+    InterpolatedNodalSurface surface = InterpolatedNodalSurface.of(
+        DefaultSurfaceMetadata.builder()
+            .surfaceName("EUR-USD-Smile")
+            .xValueType(ValueType.YEAR_FRACTION)
+            .yValueType(ValueType.STRIKE)
+            .zValueType(ValueType.BLACK_VOLATILITY)
+            .dayCount(ACT_365F)
+            .build(),
+        times,
+        strikes,
+        vols,
+        GridSurfaceInterpolator.of(
+            CurveInterpolators.LINEAR,
+            CurveExtrapolators.FLAT,
+            CurveInterpolators.NATURAL_SPLINE,
+            CurveExtrapolators.FLAT));
+    return BlackFxOptionSurfaceVolatilities.of(FX_PAIR, VAL_DATE.atStartOfDay(ZoneOffset.UTC), surface);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Generates a portfolio of vanilla fixed versus Libor 3M swaps.
+   * <p>
+   * The swaps start on or after the valuation date, such that no fixings are needed to price them.
+   *
+   * @param count  the number of trades
+   * @param seed  the seed of the random number generator
+   * @return the trades
+   */
+  public static List<SwapTrade> swapTrades(int count, long seed) {
+    Random random = new Random(seed);
+    List<SwapTrade> trades = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Tenor tenor = TRADE_TENORS[random.nextInt(TRADE_TENORS.length)];
+      Period periodToStart = Period.ofMonths(random.nextInt(24));
+      BuySell buySell = random.nextBoolean() ? BuySell.BUY : BuySell.SELL;
+      double notional = 1_000_000d * (1 + random.nextInt(100));
+      double fixedRate = 0.01 + 0.02 * random.nextDouble();
+      SwapTrade trade = USD_FIXED_6M_LIBOR_3M.createTrade(
+          VAL_DATE, periodToStart, tenor, buySell, notional, fixedRate, REF_DATA);
+      trades.add(trade.toBuilder()
+          .info(TradeInfo.builder()
+              .id(StandardId.of(SCHEME, "TRADE" + i))
+              .tradeDate(VAL_DATE)
+              .build())
+          .build());
+    }
+    return trades;
+  }
+
+  /**
+   * Generates periodic schedules with a range of start dates, tenors and frequencies.
+   *
+   * @param count  the number of schedules
+   * @param seed  the seed of the random number generator
+   * @return the schedules
+   */
+  public static List<PeriodicSchedule> schedules(int count, long seed) {
+    Random random = new Random(seed);
+    Frequency[] frequencies = {Frequency.P1M, Frequency.P3M, Frequency.P6M, Frequency.P12M};
+    BusinessDayAdjustment adjustment = BusinessDayAdjustment.of(
+        BusinessDayConventions.MODIFIED_FOLLOWING, HolidayCalendarIds.GBLO.combinedWith(HolidayCalendarIds.USNY));
+    List<PeriodicSchedule> schedules = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      LocalDate start = VAL_DATE.plusDays(random.nextInt(365));
+      LocalDate end = start.plusYears(1 + random.nextInt(30)).plusDays(random.nextInt(60));
+      Frequency frequency = frequencies[random.nextInt(frequencies.length)];
+      schedules.add(PeriodicSchedule.of(start, end, frequency, adjustment, StubConvention.SHORT_INITIAL, false));
+    }
+    return schedules;
+  }
+
+  /**
+   * Generates dates spread over the thirty years following the valuation date.
+   *
+   * @param count  the number of dates
+   * @param seed  the seed of the random number generator
+   * @return the dates
+   */
+  public static LocalDate[] dates(int count, long seed) {
+    Random random = new Random(seed);
+    LocalDate[] dates = new LocalDate[count];
+    for (int i = 0; i < count; i++) {
+      dates[i] = VAL_DATE.plusDays(random.nextInt(30 * 365));
+    }
+    return dates;
+  }
+
+  /**
+   * Generates values spread over the specified range.
+   *
+   * @param count  the number of values
+   * @param min  the minimum value
+   * @param max  the maximum value
+   * @param seed  the seed of the random number generator
+   * @return the values
+   */
+  public static DoubleArray values(int count, double min, double max, long seed) {
+    Random random = new Random(seed);
+    return DoubleArray.of(count, i -> min + (max - min) * random.nextDouble());
+  }
+
+  /**
+   * Generates the text of a CSV file of quotes, with a header row.
+   * <p>
+   * The file has the same format as the quotes file of the CSV loader.
+   *
+   * @param rows  the number of rows, excluding the header
+   * @param seed  the seed of the random number generator
+   * @return the CSV text
+   */
+  public static String quotesCsv(int rows, long seed) {
+    Random random = new Random(seed);
+    StringBuilder buf = new StringBuilder(rows * 48);
+    buf.append("Valuation Date,Symbology,Ticker,Field Name,Value\n");
+    for (int i = 0; i < rows; i++) {
+      buf.append(VAL_DATE.minusDays(random.nextInt(250))).append(',')
+          .append(SCHEME).append(',')
+          .append("TICKER").append(random.nextInt(1000)).append(',')
+          .append("MarketValue").append(',')
+          .append(random.nextDouble())
+          .append('\n');
+    }
+    return buf.toString();
+  }
+
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.measure.StandardComponents.marketDataFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * Benchmark of the calculation of a portfolio of swaps using {@link CalculationRunner}.
+ * <p>
+ * The market data, including the calibrated curves, is built once during setup.
+ * Each invocation resolves the trades and calculates the measures on all available processors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CalculationRunnerBenchmark {
+
+  /**
+   * The columns to calculate.
+   */
+  private static final List<Column> COLUMNS = ImmutableList.of(
+      Column.of(Measures.PRESENT_VALUE),
+      Column.of(Measures.PAR_RATE));
+
+  /**
+   * The number of trades in the portfolio.
+   */
+  @Param({"100000"})
+  private int tradeCount;
+  /**
+   * The trades.
+   */
+  private List<SwapTrade> trades;
+  /**
+   * The calculation rules.
+   */
+  private CalculationRules rules;
+  /**
+   * The market data, including the calibrated curves.
+   */
+  private MarketData marketData;
+  /**
+   * The runner.
+   */
+  private CalculationRunner runner;
+
+  @Setup
+  public void setup() {
+    trades = BenchmarkData.swapTrades(tradeCount, 1);
+    CurveGroupDefinition definition = BenchmarkData.curveGroupDefinition(CurveInterpolators.LINEAR.getName());
+    rules = CalculationRules.of(StandardComponents.calculationFunctions(), RatesMarketDataLookup.of(definition));
+    MarketDataConfig config = MarketDataConfig.builder()
+        .add(BenchmarkData.CURVE_GROUP_NAME, definition)
+        .build();
+    MarketDataRequirements reqs = MarketDataRequirements.of(rules, trades, COLUMNS, BenchmarkData.REF_DATA);
+    marketData = marketDataFactory().create(reqs, config, BenchmarkData.quotes(0), BenchmarkData.REF_DATA);
+    runner = CalculationRunner.ofMultiThreaded();
+  }
+
+  @TearDown
+  public void tearDown() {
+    runner.close();
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public Results calculate() {
+    return runner.calculate(rules, trades, COLUMNS, marketData, BenchmarkData.REF_DATA);
+  }
+
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.io.CsvFile;
+
+/**
+ * Benchmark of the parsing of CSV files using {@link CsvFile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CsvFileBenchmark {
+
+  /**
+   * The number of rows in the file.
+   */
+  @Param({"100", "100000"})
+  private int rowCount;
+  /**
+   * The source of the file.
+   */
+  private CharSource source;
+
+  @Setup
+  public void setup() {
+    source = CharSource.wrap(BenchmarkData.quotesCsv(rowCount, 1));
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public CsvFile parse() {
+    return CsvFile.of(source, true);
+  }
+
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.pricer.curve.CurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Benchmark of the calibration of a curve group using {@link CurveCalibrator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CurveCalibrationBenchmark {
+
+  /**
+   * The calibrator.
+   */
+  private static final CurveCalibrator CALIBRATOR = CurveCalibrator.standard();
+
+  /**
+   * The name of the curve interpolator.
+   */
+  @Param({"Linear", "NaturalSpline", "DoubleQuadratic"})
+  private String interpolator;
+  /**
+   * The curve group definition.
+   */
+  private CurveGroupDefinition definition;
+  /**
+   * The market quotes.
+   */
+  private ImmutableMarketData quotes;
+  /**
+   * The provider calibrated to the quotes, used as a starting point.
+   */
+  private ImmutableRatesProvider calibrated;
+
+  @Setup
+  public void setup() {
+    definition = BenchmarkData.curveGroupDefinition(interpolator);
+    quotes = BenchmarkData.quotes(1);
+    calibrated = CALIBRATOR.calibrate(definition, BenchmarkData.quotes(0), BenchmarkData.REF_DATA);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public ImmutableRatesProvider calibrate() {
+    return CALIBRATOR.calibrate(definition, quotes, BenchmarkData.REF_DATA);
+  }
+
+  @Benchmark
+  public ImmutableRatesProvider calibrateWarmStart() {
+    return CALIBRATOR.calibrate(definition, quotes, BenchmarkData.REF_DATA, calibrated);
+  }
+
+}
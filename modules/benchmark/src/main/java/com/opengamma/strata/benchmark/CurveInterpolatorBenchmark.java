@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+
+/**
+ * Benchmark of the curve interpolators.
+ * <p>
+ * The interpolators are bound to a curve of twenty nodes between zero and thirty years.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CurveInterpolatorBenchmark {
+
+  /**
+   * The number of x-values used in each invocation.
+   */
+  private static final int X_COUNT = 1000;
+  /**
+   * The x-values of the nodes.
+   */
+  private static final DoubleArray X_NODES = DoubleArray.of(
+      0.1, 0.25, 0.5, 0.75, 1, 1.5, 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 20, 25, 30);
+
+  /**
+   * The name of the interpolator.
+   */
+  @Param({
+      "Linear",
+      "LogLinear",
+      "DoubleQuadratic",
+      "NaturalCubicSpline",
+      "NaturalSplineNonnegativityCubic",
+      "LogNaturalSplineMonotoneCubic",
+      "ProductNaturalSpline",
+      "PiecewiseCubicHermiteMonotonicity"})
+  private String interpolator;
+  /**
+   * The y-values of the nodes.
+   */
+  private DoubleArray yNodes;
+  /**
+   * The x-values to interpolate at.
+   */
+  private double[] xValues;
+  /**
+   * The bound interpolator.
+   */
+  private BoundCurveInterpolator bound;
+
+  @Setup
+  public void setup() {
+    yNodes = BenchmarkData.values(X_NODES.size(), 0.01, 0.03, 1).sorted();
+    xValues = BenchmarkData.values(X_COUNT, 0, 30, 2).toArray();
+    bound = bind();
+  }
+
+  // binds the interpolator to the nodes
+  private BoundCurveInterpolator bind() {
+    return CurveInterpolator.of(interpolator).bind(X_NODES, yNodes, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public BoundCurveInterpolator bindNodes() {
+    return bind();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(X_COUNT)
+  public void interpolate(Blackhole blackhole) {
+    for (double x : xValues) {
+      blackhole.consume(bound.interpolate(x));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(X_COUNT)
+  public void firstDerivative(Blackhole blackhole) {
+    for (double x : xValues) {
+      blackhole.consume(bound.firstDerivative(x));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(X_COUNT)
+  public void parameterSensitivity(Blackhole blackhole) {
+    for (double x : xValues) {
+      blackhole.consume(bound.parameterSensitivity(x));
+    }
+  }
+
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.pricer.fxopt.BlackFxOptionSurfaceVolatilities;
+import com.opengamma.strata.pricer.fxopt.DupirePdeFxSingleBarrierOptionProductPricer;
+import com.opengamma.strata.pricer.fxopt.ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.common.LongShort;
+import com.opengamma.strata.product.fx.ResolvedFxSingle;
+import com.opengamma.strata.product.fxopt.ResolvedFxSingleBarrierOption;
+import com.opengamma.strata.product.fxopt.ResolvedFxVanillaOption;
+import com.opengamma.strata.product.option.BarrierType;
+import com.opengamma.strata.product.option.KnockType;
+import com.opengamma.strata.product.option.SimpleConstantContinuousBarrier;
+
+/**
+ * Benchmark of the price of an FX barrier option on a volatility smile, comparing
+ * {@link DupirePdeFxSingleBarrierOptionProductPricer} with
+ * {@link ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer}.
+ * <p>
+ * Each invocation includes the calibration of the local volatility or of the tree.
+ * The PDE uses {@code 2 * steps + 1} spatial nodes, matching the number of nodes at the last layer of the tree.
+ * On tear down, the error of each engine relative to a PDE on a much finer grid is printed,
+ * such that the cost of each engine can be compared at a given accuracy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class FxSingleBarrierOptionBenchmark {
+
+  /**
+   * The notional of the option.
+   */
+  private static final double NOTIONAL = 1_000_000d;
+  /**
+   * The strike of the option.
+   */
+  private static final double STRIKE = BenchmarkData.FX_SPOT;
+  /**
+   * The knock-out barrier level.
+   */
+  private static final double BARRIER_LEVEL = 1.2;
+  /**
+   * The pricer used to compute the reference price.
+   */
+  private static final DupirePdeFxSingleBarrierOptionProductPricer REFERENCE_PRICER =
+      new DupirePdeFxSingleBarrierOptionProductPricer(800, 1601);
+
+  /**
+   * The number of time steps of each engine.
+   */
+  @Param({"25", "50", "100", "200"})
+  private int steps;
+  /**
+   * The PDE pricer.
+   */
+  private DupirePdeFxSingleBarrierOptionProductPricer pdePricer;
+  /**
+   * The trinomial tree pricer.
+   */
+  private ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer treePricer;
+  /**
+   * The option, a two year down-and-out EUR call/USD put.
+   */
+  private ResolvedFxSingleBarrierOption option;
+  /**
+   * The rates provider.
+   */
+  private ImmutableRatesProvider provider;
+  /**
+   * The volatilities.
+   */
+  private BlackFxOptionSurfaceVolatilities volatilities;
+  /**
+   * The reference price.
+   */
+  private double referencePrice;
+
+  @Setup
+  public void setup() {
+    pdePricer = new DupirePdeFxSingleBarrierOptionProductPricer(steps, 2 * steps + 1);
+    treePricer = new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(steps);
+    LocalDate expiryDate = BenchmarkData.VAL_DATE.plusYears(2);
+    ZonedDateTime expiry = expiryDate.atStartOfDay(ZoneOffset.UTC);
+    ResolvedFxSingle underlying = ResolvedFxSingle.of(
+        CurrencyAmount.of(EUR, NOTIONAL), CurrencyAmount.of(USD, -NOTIONAL * STRIKE), expiryDate);
+    ResolvedFxVanillaOption call = ResolvedFxVanillaOption.builder()
+        .longShort(LongShort.LONG)
+        .expiry(expiry)
+        .underlying(underlying)
+        .build();
+    option = ResolvedFxSingleBarrierOption.of(
+        call, SimpleConstantContinuousBarrier.of(BarrierType.DOWN, KnockType.KNOCK_OUT, BARRIER_LEVEL));
+    provider = BenchmarkData.fxRatesProvider();
+    volatilities = BenchmarkData.fxVolatilities();
+    referencePrice = REFERENCE_PRICER.price(option, provider, volatilities);
+  }
+
+  @TearDown
+  public void tearDown() {
+    double pdeError = pdePricer.price(option, provider, volatilities) - referencePrice;
+    double treeError = treePricer.price(option, provider, volatilities) - referencePrice;
+    System.out.println();
+    System.out.println(
+        "Steps " + steps + ": reference price " + referencePrice +
+            ", PDE error " + pdeError + ", tree error " + treeError);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public double pde() {
+    return pdePricer.price(option, provider, volatilities);
+  }
+
+  @Benchmark
+  public double tree() {
+    return treePricer.price(option, provider, volatilities);
+  }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
+import com.opengamma.strata.basics.date.ImmutableHolidayCalendar;
+
+/**
+ * Benchmark of the business day operations of {@link ImmutableHolidayCalendar}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HolidayCalendarBenchmark {
+
+  /**
+   * The number of dates used in each invocation.
+   */
+  private static final int DATE_COUNT = 1000;
+
+  /**
+   * The identifier of the calendar.
+   */
+  @Param({"GBLO", "USNY+GBLO"})
+  private String calendarId;
+  /**
+   * The number of business days to shift by.
+   */
+  @Param({"2", "-10", "250"})
+  private int shift;
+  /**
+   * The calendar.
+   */
+  private HolidayCalendar calendar;
+  /**
+   * The dates.
+   */
+  private LocalDate[] dates;
+
+  @Setup
+  public void setup() {
+    calendar = HolidayCalendarId.of(calendarId).resolve(BenchmarkData.REF_DATA);
+    dates = BenchmarkData.dates(DATE_COUNT, 1);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  @OperationsPerInvocation(DATE_COUNT)
+  public void shift(Blackhole blackhole) {
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.shift(date, shift));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DATE_COUNT)
+  public void isBusinessDay(Blackhole blackhole) {
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.isBusinessDay(date));
+    }
+  }
+
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+
+/**
+ * Benchmark of the creation of schedules using {@link PeriodicSchedule}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ScheduleBenchmark {
+
+  /**
+   * The number of schedules created in each invocation.
+   */
+  private static final int SCHEDULE_COUNT = 100;
+
+  /**
+   * The schedule definitions.
+   */
+  private List<PeriodicSchedule> schedules;
+
+  @Setup
+  public void setup() {
+    schedules = BenchmarkData.schedules(SCHEDULE_COUNT, 1);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  @OperationsPerInvocation(SCHEDULE_COUNT)
+  public void createSchedule(Blackhole blackhole) {
+    for (PeriodicSchedule schedule : schedules) {
+      blackhole.consume(schedule.createSchedule(BenchmarkData.REF_DATA));
+    }
+  }
+
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+
+/**
+ * Benchmark of the present value of a portfolio of swaps using {@link DiscountingSwapTradePricer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SwapPricerBenchmark {
+
+  /**
+   * The pricer.
+   */
+  private static final DiscountingSwapTradePricer PRICER = DiscountingSwapTradePricer.DEFAULT;
+
+  /**
+   * The number of trades priced in each invocation.
+   */
+  @Param({"1", "1000"})
+  private int tradeCount;
+  /**
+   * The resolved trades.
+   */
+  private List<ResolvedSwapTrade> trades;
+  /**
+   * The rates provider.
+   */
+  private ImmutableRatesProvider provider;
+
+  @Setup
+  public void setup() {
+    trades = BenchmarkData.swapTrades(tradeCount, 1).stream()
+        .map(trade -> trade.resolve(BenchmarkData.REF_DATA))
+        .collect(toImmutableList());
+    provider = BenchmarkData.ratesProvider();
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public void presentValue(Blackhole blackhole) {
+    for (ResolvedSwapTrade trade : trades) {
+      blackhole.consume(PRICER.presentValue(trade, provider));
+    }
+  }
+
+  @Benchmark
+  public void presentValueSensitivity(Blackhole blackhole) {
+    for (ResolvedSwapTrade trade : trades) {
+      blackhole.consume(provider.parameterSensitivity(PRICER.presentValueSensitivity(trade, provider)));
+    }
+  }
+
+}
@@ -0,0 +1,15 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * Performance benchmarks of the main calculation paths.
+ * <p>
+ * The benchmarks use the Java Microbenchmark Harness (JMH) and run on synthetic data
+ * generated by {@link com.opengamma.strata.benchmark.BenchmarkData BenchmarkData}.
+ * Building the module creates {@code target/benchmarks.jar}, which can be run using
+ * {@code java -jar target/benchmarks.jar [regexp]}.
+ */
+package com.opengamma.strata.benchmark;
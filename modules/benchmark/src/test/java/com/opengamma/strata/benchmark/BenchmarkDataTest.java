@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * Test {@link BenchmarkData}.
+ */
+@Test
+public class BenchmarkDataTest {
+
+  public void test_reproducible() {
+    assertEquals(BenchmarkData.swapTrades(10, 1), BenchmarkData.swapTrades(10, 1));
+    assertEquals(BenchmarkData.schedules(10, 1), BenchmarkData.schedules(10, 1));
+    assertEquals(BenchmarkData.quotes(1), BenchmarkData.quotes(1));
+    assertEquals(BenchmarkData.quotesCsv(10, 1), BenchmarkData.quotesCsv(10, 1));
+    assertEquals(BenchmarkData.values(10, 0, 1, 1), BenchmarkData.values(10, 0, 1, 1));
+    assertFalse(BenchmarkData.quotes(1).equals(BenchmarkData.quotes(2)));
+  }
+
+  public void test_quotes_coverDefinition() {
+    CurveGroupDefinition definition = BenchmarkData.curveGroupDefinition(CurveInterpolators.LINEAR.getName());
+    definition.getCurveDefinitions().stream()
+        .flatMap(curveDefn -> curveDefn.getNodes().stream())
+        .flatMap(node -> node.requirements().stream())
+        .forEach(id -> assertEquals(BenchmarkData.quotes(1).containsValue(id), true));
+  }
+
+  public void test_ratesProvider() {
+    assertEquals(BenchmarkData.ratesProvider().getValuationDate(), BenchmarkData.VAL_DATE);
+    assertEquals(BenchmarkData.ratesProvider().getDiscountCurrencies().size(), 1);
+  }
+
+  public void test_fxRatesProvider() {
+    assertEquals(BenchmarkData.fxRatesProvider().getValuationDate(), BenchmarkData.VAL_DATE);
+    assertEquals(BenchmarkData.fxRatesProvider().fxRate(BenchmarkData.FX_PAIR), BenchmarkData.FX_SPOT);
+    assertEquals(BenchmarkData.fxVolatilities(), BenchmarkData.fxVolatilities());
+    assertEquals(BenchmarkData.fxVolatilities().getCurrencyPair(), BenchmarkData.FX_PAIR);
+  }
+
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import java.util.List;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.Resolvable;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.calc.runner.ResolutionCache;
+import com.opengamma.strata.calc.runner.ResolutionCacheParameter;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * A calculation plan, built once and executed many times against different market data.
+ * <p>
+ * The standard methods on {@link CalculationRunner} take the targets, columns and rules,
+ * creating the tasks and resolving the targets on every call. When the same targets
+ * are repeatedly calculated against new market data, such as in an intraday loop,
+ * this setup cost is paid each time.
+ * <p>
+ * A plan performs the setup once. It holds the {@linkplain CalculationTasks tasks},
+ * the {@linkplain MarketDataRequirements market data requirements} and the resolved form
+ * of each target, bound to the reference data. The plan is then passed to
+ * {@link CalculationRunner#calculate(CalculationPlan, com.opengamma.strata.data.MarketData)}
+ * or one of the related methods.
+ * <p>
+ * The resolved targets are held in a {@link ResolutionCache}. If the rules already contain
+ * a {@link ResolutionCacheParameter} then its cache is used, otherwise a parameter with a cache
+ * large enough to hold every target is added to the rules.
+ * A target that cannot be resolved is not an error here, instead the failure is reported
+ * in the results when the plan is executed.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class CalculationPlan {
+
+  /**
+   * The tasks that perform the calculations.
+   */
+  private final CalculationTasks tasks;
+  /**
+   * The market data required by the tasks.
+   */
+  private final MarketDataRequirements requirements;
+  /**
+   * The reference data used to resolve the targets.
+   */
+  private final ReferenceData refData;
+  /**
+   * The cache holding the resolved targets.
+   */
+  private final ResolutionCache resolutionCache;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds a plan from a set of targets, columns and rules.
+   * <p>
+   * This creates the tasks, resolves each target and determines the market data requirements.
+   *
+   * @param rules  the rules defining how the calculation is performed
+   * @param targets  the targets for which values of the measures will be calculated
+   * @param columns  the configuration for the columns that will be calculated,
+   *   including the measure and any column-specific overrides
+   * @param refData  the reference data to be used in the calculations
+   * @return the plan
+   */
+  public static CalculationPlan of(
+      CalculationRules rules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      ReferenceData refData) {
+
+    ArgChecker.notNull(rules, "rules");
+    ArgChecker.notNull(targets, "targets");
+    ArgChecker.notNull(columns, "columns");
+    ArgChecker.notNull(refData, "refData");
+    // ensure the rules contain a cache for the resolved targets
+    ResolutionCacheParameter cacheParameter = rules.getParameters().findParameter(ResolutionCacheParameter.class)
+        .orElseGet(() -> ResolutionCacheParameter.of(Math.max(targets.size(), 1)));
+    CalculationRules cachingRules = CalculationRules.of(
+        rules.getFunctions(), rules.getReportingCurrency(), rules.getParameters().with(cacheParameter));
+    ResolutionCache cache = cacheParameter.getCache();
+
+    // resolve each target once, up-front
+    for (CalculationTarget target : targets) {
+      if (target instanceof Resolvable) {
+        try {
+          cache.resolve((Resolvable<?>) target, refData);
+        } catch (RuntimeException ex) {
+          // the failure is reported when the plan is executed
+        }
+      }
+    }
+    CalculationTasks tasks = CalculationTasks.of(cachingRules, targets, columns);
+    MarketDataRequirements requirements = tasks.requirements(refData);
+    return new CalculationPlan(tasks, requirements, refData, cache);
+  }
+
+  // restricted constructor
+  private CalculationPlan(
+      CalculationTasks tasks,
+      MarketDataRequirements requirements,
+      ReferenceData refData,
+      ResolutionCache resolutionCache) {
+
+    this.tasks = tasks;
+    this.requirements = requirements;
+    this.refData = refData;
+    this.resolutionCache = resolutionCache;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the tasks that perform the calculations.
+   *
+   * @return the tasks
+   */
+  public CalculationTasks getTasks() {
+    return tasks;
+  }
+
+  /**
+   * Gets the market data required by the plan.
+   * <p>
+   * This is typically used to build the market data for each execution of the plan.
+   *
+   * @return the market data requirements
+   */
+  public MarketDataRequirements getRequirements() {
+    return requirements;
+  }
+
+  /**
+   * Gets the reference data used to resolve the targets.
+   * <p>
+   * The same reference data is used when the plan is executed.
+   *
+   * @return the reference data
+   */
+  public ReferenceData getReferenceData() {
+    return refData;
+  }
+
+  /**
+   * Gets the cache holding the resolved targets.
+   * <p>
+   * The statistics of the cache can be used to check that the resolved targets are being reused.
+   *
+   * @return the resolution cache
+   */
+  public ResolutionCache getResolutionCache() {
+    return resolutionCache;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format(
+        "CalculationPlan[targets={}, columns={}, tasks={}]",
+        tasks.getTargets().size(),
+        tasks.getColumns().size(),
+        tasks.getTasks().size());
+  }
+
+}
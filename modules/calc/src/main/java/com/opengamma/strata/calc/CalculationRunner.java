@@ -66,6 +66,20 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation runner capable of performing calculations, specifying the task runner.
+   * <p>
+   * This allows the behavior of the underlying task runner to be controlled,
+   * such as by using {@link CalculationTaskRunner#ofMultiThreadedChunked(int)}.
+   * Closing the calculation runner will close the task runner.
+   * 
+   * @param taskRunner  the task runner to use
+   * @return the calculation runner
+   */
+  public static CalculationRunner of(CalculationTaskRunner taskRunner) {
+    return new DefaultCalculationRunner(taskRunner);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -158,6 +172,56 @@ public interface CalculationRunner extends AutoCloseable {
       ReferenceData refData,
       CalculationListener listener);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Performs the calculations of a plan for a single set of market data.
+   * <p>
+   * This returns a grid of results based on the targets and columns of the plan.
+   * The plan can be executed many times, avoiding the cost of creating the tasks
+   * and resolving the targets on each call.
+   * 
+   * @param plan  the plan defining the calculations to perform
+   * @param marketData  the market data to be used in the calculations
+   * @return the grid of calculation results, based on the targets and columns
+   */
+  public abstract Results calculate(CalculationPlan plan, MarketData marketData);
+
+  /**
+   * Performs the calculations of a plan asynchronously for a single set of market data,
+   * invoking a listener as each calculation completes.
+   * 
+   * @param plan  the plan defining the calculations to perform
+   * @param marketData  the market data to be used in the calculations
+   * @param listener  listener that is invoked when individual results are calculated
+   */
+  public abstract void calculateAsync(CalculationPlan plan, MarketData marketData, CalculationListener listener);
+
+  /**
+   * Performs the calculations of a plan for multiple scenarios, each with a different set of market data.
+   * <p>
+   * This returns a grid of results based on the targets and columns of the plan.
+   * The plan can be executed many times, avoiding the cost of creating the tasks
+   * and resolving the targets on each call.
+   * 
+   * @param plan  the plan defining the calculations to perform
+   * @param marketData  the market data to be used in the calculations
+   * @return the grid of calculation results, based on the targets and columns
+   */
+  public abstract Results calculateMultiScenario(CalculationPlan plan, ScenarioMarketData marketData);
+
+  /**
+   * Performs the calculations of a plan asynchronously for multiple scenarios,
+   * invoking a listener as each calculation completes.
+   * 
+   * @param plan  the plan defining the calculations to perform
+   * @param marketData  the market data to be used in the calculations
+   * @param listener  listener that is invoked when individual results are calculated
+   */
+  public abstract void calculateMultiScenarioAsync(
+      CalculationPlan plan,
+      ScenarioMarketData marketData,
+      CalculationListener listener);
+
   //-------------------------------------------------------------------------
   /**
    * Gets the underlying task runner.
@@ -121,6 +121,31 @@ class DefaultCalculationRunner implements CalculationRunner {
     taskRunner.calculateMultiScenarioAsync(tasks, marketData, refData, listener);
   }
 
+  //-------------------------------------------------------------------------
+  @Override
+  public Results calculate(CalculationPlan plan, MarketData marketData) {
+    return taskRunner.calculate(plan.getTasks(), marketData, plan.getReferenceData());
+  }
+
+  @Override
+  public void calculateAsync(CalculationPlan plan, MarketData marketData, CalculationListener listener) {
+    taskRunner.calculateAsync(plan.getTasks(), marketData, plan.getReferenceData(), listener);
+  }
+
+  @Override
+  public Results calculateMultiScenario(CalculationPlan plan, ScenarioMarketData marketData) {
+    return taskRunner.calculateMultiScenario(plan.getTasks(), marketData, plan.getReferenceData());
+  }
+
+  @Override
+  public void calculateMultiScenarioAsync(
+      CalculationPlan plan,
+      ScenarioMarketData marketData,
+      CalculationListener listener) {
+
+    taskRunner.calculateMultiScenarioAsync(plan.getTasks(), marketData, plan.getReferenceData(), listener);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public CalculationTaskRunner getTaskRunner() {
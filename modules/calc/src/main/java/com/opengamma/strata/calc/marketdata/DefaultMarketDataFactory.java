@@ -10,10 +10,14 @@ import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
@@ -30,6 +34,11 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default market data factory.
  * <p>
  * This uses two providers, one for observable data and one for time-series.
+ * <p>
+ * Market data is built in layers, where each layer only depends on data in earlier layers.
+ * If an executor is specified, the non-observable data in each layer, such as curve groups,
+ * is built concurrently using the executor. The results are identical to building the data
+ * sequentially, including the reporting of failures.
  */
 final class DefaultMarketDataFactory implements MarketDataFactory {
 
@@ -42,6 +51,9 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** Executes the building of non-observable market data, null to build on the calling thread. */
+  private final Executor executor;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,14 +64,35 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
-  @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
       List<MarketDataFunction<?, ?>> functions) {
 
+    this(observableDataProvider, timeSeriesProvider, functions, null);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * building independent items of market data concurrently using the executor.
+   * <p>
+   * The market data functions are used to build the market data.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param functions  the functions that create the market data
+   * @param executor  the executor used to build the market data, null to build on the calling thread
+   */
+  @SuppressWarnings("unchecked")
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions,
+      Executor executor) {
+
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
+    this.executor = executor;
 
     // Use a HashMap instead of an ImmutableMap.Builder so values can be overwritten.
     // If the functions argument includes a missing mapping builder it can overwrite the one inserted below
@@ -241,8 +274,34 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       BuiltScenarioMarketData marketData,
       ReferenceData refData) {
 
-    return ids.stream()
-        .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
+    if (executor == null || ids.size() <= 1) {
+      return ids.stream()
+          .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
+    }
+    // the items in a single layer are independent of one another so can be built concurrently
+    // the results are collected in the iteration order of the IDs, the same as the sequential case
+    Map<MarketDataId<?>, CompletableFuture<Result<MarketDataBox<?>>>> futures = new LinkedHashMap<>();
+    for (MarketDataId<?> id : ids) {
+      futures.put(id, CompletableFuture.supplyAsync(
+          () -> buildNonObservableData(id, marketDataConfig, marketData, refData), executor));
+    }
+    ImmutableMap.Builder<MarketDataId<?>, Result<MarketDataBox<?>>> builder = ImmutableMap.builder();
+    for (Map.Entry<MarketDataId<?>, CompletableFuture<Result<MarketDataBox<?>>>> entry : futures.entrySet()) {
+      builder.put(entry.getKey(), join(entry.getValue()));
+    }
+    return builder.build();
+  }
+
+  // waits for the result, rethrowing any exception thrown by the build in the same way as the sequential case
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
   }
 
   /**
@@ -6,10 +6,12 @@
 package com.opengamma.strata.calc.marketdata;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -74,6 +76,34 @@ public interface MarketDataFactory {
     return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions);
   }
 
+  /**
+   * Obtains an instance of the factory based on providers of market data and time-series,
+   * building independent items of market data concurrently.
+   * <p>
+   * The market data functions are used to build the market data.
+   * Market data is built in layers, where each layer only depends on data in earlier layers.
+   * The non-observable data in each layer, such as curve groups for different currencies,
+   * is built concurrently using the executor. The built data, including any failures, is the
+   * same as that produced by a factory without an executor.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param functions  the functions that create the market data
+   * @param executor  the executor used to build independent items of market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions, executor);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data.
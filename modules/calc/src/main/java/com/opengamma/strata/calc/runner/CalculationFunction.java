@@ -5,10 +5,12 @@
  */
 package com.opengamma.strata.calc.runner;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
@@ -37,6 +39,8 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  *  - the market data requirements for performing the calculation
  * <li>{@link #calculate(CalculationTarget, Set, CalculationParameters, ScenarioMarketData, ReferenceData)}
  *  - perform the calculation
+ * <li>{@link #calculateAll(List, Set, CalculationParameters, ScenarioMarketData, ReferenceData)}
+ *  - optionally, perform the calculation for many targets at once
  * </ul>
  * <p>
  * If any of the calculated values contain any currency amounts and implement {@link ScenarioFxConvertible}
@@ -145,4 +149,40 @@ public interface CalculationFunction<T extends CalculationTarget> {
       ScenarioMarketData marketData,
       ReferenceData refData);
 
+  /**
+   * Calculates values of multiple measures for a number of targets using multiple sets of market data.
+   * <p>
+   * This is an optional bulk form of
+   * {@link #calculate(CalculationTarget, Set, CalculationParameters, ScenarioMarketData, ReferenceData)}.
+   * The calculation runner may use it when a group of targets share the same function, parameters and measures.
+   * Implementations may override this method to perform set-up work once for the whole group,
+   * such as extracting a view of the market data, rather than once for each target.
+   * <p>
+   * The returned list must contain one map for each target, in the same order as the targets.
+   * If the calculation for a single target fails, the failure should be returned in the map for that target.
+   * If this method throws an exception, the runner will calculate each target separately.
+   * <p>
+   * The default implementation calls the single target method for each target.
+   *
+   * @param targets  the targets of the calculation
+   * @param measures  the set of measures to calculate
+   * @param parameters  the parameters that affect how the calculation is performed
+   * @param marketData  the multi-scenario market data to be used in the calculation
+   * @param refData  the reference data to be used in the calculation
+   * @return the read-only list of maps of calculated values, one for each target, keyed by their measure
+   */
+  public default List<Map<Measure, Result<?>>> calculateAll(
+      List<? extends T> targets,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    ImmutableList.Builder<Map<Measure, Result<?>>> builder = ImmutableList.builder();
+    for (T target : targets) {
+      builder.add(calculate(target, measures, parameters, marketData, refData));
+    }
+    return builder.build();
+  }
+
 }
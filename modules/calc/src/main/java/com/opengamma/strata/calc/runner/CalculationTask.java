@@ -6,13 +6,12 @@
 package com.opengamma.strata.calc.runner;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
-import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 import org.joda.beans.BeanDefinition;
@@ -22,24 +21,25 @@ import org.joda.beans.MetaBean;
 import org.joda.beans.Property;
 import org.joda.beans.PropertyDefinition;
 import org.joda.beans.impl.light.LightMetaBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
-import com.opengamma.strata.basics.ReferenceDataNotFoundException;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
 import com.opengamma.strata.calc.marketdata.MarketDataRequirementsBuilder;
+import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.FxRateId;
 import com.opengamma.strata.data.MarketDataId;
-import com.opengamma.strata.data.MarketDataNotFoundException;
 import com.opengamma.strata.data.ObservableId;
 import com.opengamma.strata.data.ObservableSource;
 import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
@@ -56,6 +56,8 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
 @BeanDefinition(style = "light")
 public final class CalculationTask implements ImmutableBean {
 
+  private static final Logger log = LoggerFactory.getLogger(CalculationTask.class);
+
   /**
    * The target for which the value will be calculated.
    * This is typically a trade.
@@ -207,15 +209,85 @@ public final class CalculationTask implements ImmutableBean {
     // calculate the results
     Map<Measure, Result<?>> results = calculate(marketData, refData);
 
-    // convert the results, using a normal loop for better stack traces
+    // convert the results
     ScenarioFxRateProvider fxProvider = ScenarioFxRateProvider.of(marketData);
-    ImmutableList.Builder<CalculationResult> resultBuilder = ImmutableList.builder();
-    for (CalculationTaskCell cell : cells) {
-      resultBuilder.add(cell.createResult(this, target, results, fxProvider, refData));
+    return createResults(results, fxProvider, refData);
+  }
+
+  /**
+   * Executes a group of tasks, performing calculations for the targets using multiple sets of market data.
+   * <p>
+   * The tasks must all have the same function, parameters and measures.
+   * The targets are passed to the function in a single call to
+   * {@link CalculationFunction#calculateAll(List, Set, CalculationParameters, ScenarioMarketData, ReferenceData)},
+   * allowing the function to share work between the targets.
+   * If the bulk call fails, each task is executed separately, ensuring that the
+   * failure is reported against the correct target.
+   *
+   * @param tasks  the tasks to execute, sharing the same function, parameters and measures
+   * @param marketData  the market data used in the calculation
+   * @param refData  the reference data
+   * @return results of the calculation, one for each task, in the same order as the tasks
+   * @throws IllegalArgumentException if the tasks do not share the same function, parameters and measures
+   */
+  public static List<CalculationResults> executeAll(
+      List<CalculationTask> tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    if (tasks.size() <= 1) {
+      return tasks.stream().map(task -> task.execute(marketData, refData)).collect(toImmutableList());
+    }
+    CalculationTask first = tasks.get(0);
+    Set<Measure> requestedMeasures = first.getMeasures();
+    for (CalculationTask task : tasks) {
+      if (task.function != first.function ||
+          !task.parameters.equals(first.parameters) ||
+          !task.getMeasures().equals(requestedMeasures)) {
+        throw new IllegalArgumentException(
+            "Tasks must share the same function, parameters and measures to be executed together");
+      }
     }
 
-    // return the result
-    return CalculationResults.of(target, resultBuilder.build());
+    // calculate the results for all targets in one call
+    Set<Measure> supportedMeasures = first.function.supportedMeasures();
+    Set<Measure> measures = Sets.intersection(requestedMeasures, supportedMeasures);
+    List<Map<Measure, Result<?>>> results;
+    try {
+      if (measures.isEmpty()) {
+        results = Collections.nCopies(tasks.size(), ImmutableMap.<Measure, Result<?>>of());
+      } else {
+        List<CalculationTarget> targets = tasks.stream().map(task -> task.target).collect(toImmutableList());
+        results = first.function.calculateAll(targets, measures, first.parameters, marketData, refData);
+        if (results.size() != tasks.size()) {
+          throw new IllegalStateException(Messages.format(
+              "Function '{}' returned {} results for {} targets",
+              first.function.getClass().getSimpleName(),
+              results.size(),
+              tasks.size()));
+        }
+      }
+    } catch (RuntimeException ex) {
+      // calculate each target separately to attribute the failure correctly
+      log.warn(Messages.format(
+          "Function '{}' failed to calculate {} targets together, calculating each target separately",
+          first.function.getClass().getSimpleName(),
+          tasks.size()), ex);
+      return tasks.stream().map(task -> task.execute(marketData, refData)).collect(toImmutableList());
+    }
+
+    // convert the results, using a normal loop for better stack traces
+    ScenarioFxRateProvider fxProvider = ScenarioFxRateProvider.of(marketData);
+    ImmutableList.Builder<CalculationResults> builder = ImmutableList.builder();
+    for (int i = 0; i < tasks.size(); i++) {
+      CalculationTask task = tasks.get(i);
+      Map<Measure, Result<?>> map = results.get(i);
+      if (!map.keySet().containsAll(requestedMeasures)) {
+        map = task.handleMissing(requestedMeasures, supportedMeasures, map);
+      }
+      builder.add(task.createResults(map, fxProvider, refData));
+    }
+    return builder.build();
   }
 
   // calculates the result
@@ -239,6 +311,20 @@ public final class CalculationTask implements ImmutableBean {
     }
   }
 
+  // converts the calculated values to the results for each cell
+  private CalculationResults createResults(
+      Map<Measure, Result<?>> results,
+      ScenarioFxRateProvider fxProvider,
+      ReferenceData refData) {
+
+    // using a normal loop for better stack traces
+    ImmutableList.Builder<CalculationResult> resultBuilder = ImmutableList.builder();
+    for (CalculationTaskCell cell : cells) {
+      resultBuilder.add(cell.createResult(this, target, results, fxProvider, refData));
+    }
+    return CalculationResults.of(target, resultBuilder.build());
+  }
+
   // populate the result with failures
   private Map<Measure, Result<?>> handleMissing(
       Set<Measure> requestedMeasures,
@@ -274,44 +360,7 @@ public final class CalculationTask implements ImmutableBean {
 
   // handle the failure, extracted to aid inlining
   private Map<Measure, Result<?>> handleFailure(RuntimeException ex) {
-    Result<?> failure;
-    String fnName = function.getClass().getSimpleName();
-    String exMsg = ex.getMessage();
-    Optional<String> id = function.identifier(target);
-    String msg = id.map(v -> " for ID '" + v + "': " + exMsg).orElse(": " + exMsg + ": for target '" + target.toString() + "'");
-    if (ex instanceof MarketDataNotFoundException) {
-      failure = Result.failure(
-          FailureReason.MISSING_DATA,
-          ex,
-          "Missing market data when invoking function '{}'{}",
-          fnName,
-          msg);
-
-    } else if (ex instanceof ReferenceDataNotFoundException) {
-      failure = Result.failure(
-          FailureReason.MISSING_DATA,
-          ex,
-          "Missing reference data when invoking function '{}'{}",
-          fnName,
-          msg);
-
-    } else if (ex instanceof UnsupportedOperationException) {
-      failure = Result.failure(
-          FailureReason.UNSUPPORTED,
-          ex,
-          "Unsupported operation when invoking function '{}'{}",
-          fnName,
-          msg);
-
-    } else {
-      failure = Result.failure(
-          FailureReason.CALCULATION_FAILED,
-          ex,
-          "Error when invoking function '{}'{}",
-          fnName,
-          msg);
-    }
-    return getMeasures().stream().collect(toImmutableMap(m -> m, m -> failure));
+    return FunctionUtils.handleFailure(function, target, getMeasures(), ex);
   }
 
   //-------------------------------------------------------------------------
@@ -79,6 +79,44 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a multi-threaded calculation task runner that schedules the tasks in chunks.
+   * <p>
+   * Each task normally calculates the measures for a single target and is submitted to the executor separately.
+   * When there are a large number of cheap tasks, the scheduling overhead can exceed the cost of the calculations.
+   * This runner groups the tasks by function, target type, parameters and measures, then splits each
+   * group into chunks containing approximately the specified number of cells. Each chunk is run as a single
+   * unit of work on a work-stealing fork-join pool, with the results delivered to the listener as a batch.
+   * The targets of each chunk are passed to the function together using
+   * {@link CalculationFunction#calculateAll(List, java.util.Set, CalculationParameters,
+   * ScenarioMarketData, ReferenceData) calculateAll}.
+   * <p>
+   * It is recommended to use try-with-resources to manage the runner.
+   * 
+   * @param chunkSize  the number of cells to calculate in each chunk, at least one
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofMultiThreadedChunked(int chunkSize) {
+    return DefaultCalculationTaskRunner.ofMultiThreadedChunked(chunkSize);
+  }
+
+  /**
+   * Creates a calculation task runner that schedules the tasks in chunks, specifying the executor.
+   * <p>
+   * This runner groups the tasks by function, target type, parameters and measures, then splits each
+   * group into chunks containing approximately the specified number of cells. Each chunk is submitted
+   * to the executor as a single unit of work, with the results delivered to the listener as a batch.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param chunkSize  the number of cells to calculate in each chunk, at least one
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner of(ExecutorService executor, int chunkSize) {
+    return DefaultCalculationTaskRunner.of(executor, chunkSize);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
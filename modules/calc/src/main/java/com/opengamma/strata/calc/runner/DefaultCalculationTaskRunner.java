@@ -7,14 +7,21 @@ package com.opengamma.strata.calc.runner;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.Column;
@@ -30,6 +37,17 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * <p>
+ * By default, each task is submitted to the executor individually.
+ * If a chunk size greater than one is specified, the tasks are instead grouped by function,
+ * target type, parameters and measures and split into chunks, with each chunk submitted to
+ * the executor as a single unit of work. The targets of a chunk are passed to the function together,
+ * and the results are delivered to the listener as a batch.
+ * This reduces the scheduling overhead when there are a large number of cheap tasks.
+ * <p>
+ * If a task has the {@link ScenarioParallelism} parameter, the scenarios of the task
+ * are split into chunks, with each chunk submitted to the executor separately.
+ * The results of the chunks are merged in scenario order before being delivered to the listener.
  */
 final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
@@ -38,6 +56,12 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * This will typically be multi-threaded, but single or direct executors also work.
    */
   private final ExecutorService executor;
+  /**
+   * The number of cells to calculate in each unit of work submitted to the executor.
+   * Tasks are added to a chunk until the total number of cells reaches this size.
+   * A value of one submits each task individually.
+   */
+  private final int chunkSize;
 
   //-------------------------------------------------------------------------
   /**
@@ -54,7 +78,21 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner ofMultiThreaded() {
-    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()));
+    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()), 1);
+  }
+
+  /**
+   * Creates a multi-threaded calculation task runner that runs the tasks in chunks.
+   * <p>
+   * This factory creates a work-stealing fork-join pool basing the number of threads on
+   * the number of available processors. The tasks are grouped by function and target type,
+   * then split into chunks containing approximately the specified number of cells.
+   *
+   * @param chunkSize  the number of cells to calculate in each chunk, at least one
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofMultiThreadedChunked(int chunkSize) {
+    return new DefaultCalculationTaskRunner(createForkJoinPool(Runtime.getRuntime().availableProcessors()), chunkSize);
   }
 
   /**
@@ -66,7 +104,20 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner of(ExecutorService executor) {
-    return new DefaultCalculationTaskRunner(executor);
+    return new DefaultCalculationTaskRunner(executor, 1);
+  }
+
+  /**
+   * Creates a calculation task runner capable of performing calculations in chunks, specifying the executor.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param chunkSize  the number of cells to calculate in each chunk, at least one
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner of(ExecutorService executor, int chunkSize) {
+    return new DefaultCalculationTaskRunner(executor, chunkSize);
   }
 
   // create an executor with daemon threads
@@ -81,14 +132,27 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return Executors.newFixedThreadPool(effectiveThreads, threadFactory);
   }
 
+  // create a work-stealing pool, fork-join worker threads are always daemon threads
+  private static ExecutorService createForkJoinPool(int threads) {
+    int effectiveThreads = (threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads);
+    ForkJoinWorkerThreadFactory threadFactory = pool -> {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName("CalculationTaskRunner-" + t.getName());
+      return t;
+    };
+    return new ForkJoinPool(effectiveThreads, threadFactory, null, false);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the executor to use.
    *
    * @param executor  the executor that is used to perform the calculations
+   * @param chunkSize  the number of cells to calculate in each chunk
    */
-  private DefaultCalculationTaskRunner(ExecutorService executor) {
+  private DefaultCalculationTaskRunner(ExecutorService executor, int chunkSize) {
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.chunkSize = ArgChecker.notNegativeOrZero(chunkSize, "chunkSize");
   }
 
   //-------------------------------------------------------------------------
@@ -176,11 +240,25 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     // the listener is invoked via this wrapper
     // the wrapper ensures thread-safety for the listener
     // it also calls the listener with single CalculationResult cells, not CalculationResults
-    Consumer<CalculationResults> consumer =
+    ListenerWrapper consumer =
         new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
 
-    // run each task using the executor
-    taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+    if (chunkSize == 1) {
+      // run each task using the executor
+      taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+    } else {
+      // tasks that split their scenarios are run individually
+      List<CalculationTask> chunkableTasks = new ArrayList<>(taskList.size());
+      for (CalculationTask task : taskList) {
+        if (scenarioChunkSize(task, marketData).isPresent()) {
+          runTask(task, marketData, refData, consumer);
+        } else {
+          chunkableTasks.add(task);
+        }
+      }
+      // run each chunk of tasks using the executor
+      chunk(chunkableTasks, chunkSize).forEach(chunk -> runChunk(chunk, marketData, refData, consumer));
+    }
   }
 
   // submits a task to the executor to be run
@@ -188,22 +266,103 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       CalculationTask task,
       ScenarioMarketData marketData,
       ReferenceData refData,
-      Consumer<CalculationResults> consumer) {
+      ListenerWrapper consumer) {
 
+    // the scenarios of the task may be split and run in parallel
+    Optional<Integer> scenarioChunkSize = scenarioChunkSize(task, marketData);
+    if (scenarioChunkSize.isPresent()) {
+      runTaskByScenario(task, marketData, refData, consumer, scenarioChunkSize.get());
+      return;
+    }
     // the task is executed, with the result passed to the consumer
     // the consumer wraps the listener to ensure thread-safety
     Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
     CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
   }
 
+  // submits each chunk of scenarios of a task to the executor, merging the results in scenario order
+  private void runTaskByScenario(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ListenerWrapper consumer,
+      int scenarioChunkSize) {
+
+    List<CompletableFuture<CalculationResults>> futures = ScenarioSplitter.split(marketData, scenarioChunkSize).stream()
+        .map(md -> CompletableFuture.supplyAsync(() -> task.execute(md, refData), executor))
+        .collect(toImmutableList());
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]))
+        .thenApply(ignored -> ScenarioSplitter.merge(
+            futures.stream().map(CompletableFuture::join).collect(toImmutableList())))
+        .thenAccept(consumer);
+  }
+
+  // finds the number of scenarios in each chunk, empty if the scenarios of the task are not split
+  private static Optional<Integer> scenarioChunkSize(CalculationTask task, ScenarioMarketData marketData) {
+    return task.getParameters().findParameter(ScenarioParallelism.class)
+        .map(ScenarioParallelism::getChunkSize)
+        .filter(size -> marketData.getScenarioCount() > size);
+  }
+
+  // submits a chunk of tasks to the executor to be run, delivering the results as a batch
+  private void runChunk(
+      List<CalculationTask> chunk,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ListenerWrapper consumer) {
+
+    // the tasks in a chunk are homogeneous, allowing the function to calculate them in bulk
+    Supplier<List<CalculationResults>> chunkExecutor = () -> CalculationTask.executeAll(chunk, marketData, refData);
+    CompletableFuture.supplyAsync(chunkExecutor, executor).thenAccept(consumer::acceptAll);
+  }
+
+  /**
+   * Splits the tasks into chunks.
+   * <p>
+   * The tasks are first grouped by function, target type, parameters and measures,
+   * preserving the order in which each group is first seen. As such, each chunk can be
+   * executed using {@link CalculationTask#executeAll(List, ScenarioMarketData, ReferenceData)}.
+   * Each group is then split into chunks, with tasks added to a chunk
+   * until the number of cells reaches the chunk size. Tasks are weighted by their number
+   * of cells as each cell is typically a separate measure to be calculated.
+   *
+   * @param tasks  the tasks to split
+   * @param chunkSize  the number of cells in each chunk
+   * @return the chunks of tasks
+   */
+  static List<List<CalculationTask>> chunk(List<CalculationTask> tasks, int chunkSize) {
+    Map<List<Object>, List<CalculationTask>> grouped = new LinkedHashMap<>();
+    for (CalculationTask task : tasks) {
+      List<Object> key = ImmutableList.of(
+          task.getFunction(), task.getTarget().getClass(), task.getParameters(), task.getMeasures());
+      grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(task);
+    }
+    ImmutableList.Builder<List<CalculationTask>> chunks = ImmutableList.builder();
+    for (List<CalculationTask> group : grouped.values()) {
+      List<CalculationTask> current = new ArrayList<>();
+      int cellCount = 0;
+      for (CalculationTask task : group) {
+        current.add(task);
+        cellCount += task.getCells().size();
+        if (cellCount >= chunkSize) {
+          chunks.add(current);
+          current = new ArrayList<>();
+          cellCount = 0;
+        }
+      }
+      if (!current.isEmpty()) {
+        chunks.add(current);
+      }
+    }
+    return chunks.build();
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public void close() {
     executor.shutdown();
   }
 
-  //-------------------------------------------------------------------------
-
   //-------------------------------------------------------------------------
   /**
    * Listener that decorates another listener and unwraps {@link ScenarioArray} instances
@@ -5,16 +5,25 @@
  */
 package com.opengamma.strata.calc.runner;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableMap;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.DoubleStream;
 
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceDataNotFoundException;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketDataNotFoundException;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
@@ -132,4 +141,103 @@ public final class FunctionUtils {
     mutableMeasureMap.put(newKey, result);
   }
 
+  /**
+   * Calculates the measures for each target, reporting a failure against the target that failed.
+   * <p>
+   * This is intended for use by functions implementing {@link CalculationFunction#calculateAll(List, Set,
+   * CalculationParameters, com.opengamma.strata.data.scenario.ScenarioMarketData,
+   * com.opengamma.strata.basics.ReferenceData) calculateAll}.
+   * The function typically queries the market data once for all targets, then uses this method
+   * to resolve and calculate each target in turn.
+   * If the calculation throws an exception, such as for missing reference data, the exception is
+   * converted to a failure for each measure using {@link #handleFailure(CalculationFunction, CalculationTarget,
+   * Set, RuntimeException) handleFailure} and the remaining targets are calculated as normal.
+   *
+   * @param <T>  the type of the target
+   * @param function  the function performing the calculation
+   * @param targets  the targets to be calculated
+   * @param measures  the measures to be calculated
+   * @param calculation  the calculation of all measures for a single target
+   * @return the list of results, one map of results for each target, in the same order as the targets
+   */
+  public static <T extends CalculationTarget> List<Map<Measure, Result<?>>> calculateEach(
+      CalculationFunction<T> function,
+      List<? extends T> targets,
+      Set<Measure> measures,
+      Function<? super T, Map<Measure, Result<?>>> calculation) {
+
+    List<Map<Measure, Result<?>>> results = new ArrayList<>(targets.size());
+    for (T target : targets) {
+      try {
+        results.add(calculation.apply(target));
+      } catch (RuntimeException ex) {
+        results.add(handleFailure(function, target, measures, ex));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Converts an exception thrown when calculating a target into a failure for each measure.
+   * <p>
+   * This is used by the calculation runner when a function throws an exception.
+   * It can also be used by functions implementing {@link CalculationFunction#calculateAll(List, Set,
+   * CalculationParameters, com.opengamma.strata.data.scenario.ScenarioMarketData,
+   * com.opengamma.strata.basics.ReferenceData) calculateAll} to report the failure
+   * of a single target without affecting the other targets.
+   *
+   * @param <T>  the type of the target
+   * @param function  the function that failed
+   * @param target  the target of the calculation
+   * @param measures  the measures that were to be calculated
+   * @param ex  the exception
+   * @return the map of failures, keyed by measure
+   */
+  public static <T extends CalculationTarget> Map<Measure, Result<?>> handleFailure(
+      CalculationFunction<T> function,
+      T target,
+      Set<Measure> measures,
+      RuntimeException ex) {
+
+    Result<?> failure;
+    String fnName = function.getClass().getSimpleName();
+    String exMsg = ex.getMessage();
+    Optional<String> id = function.identifier(target);
+    String msg = id.map(v -> " for ID '" + v + "': " + exMsg)
+        .orElse(": " + exMsg + ": for target '" + target.toString() + "'");
+    if (ex instanceof MarketDataNotFoundException) {
+      failure = Result.failure(
+          FailureReason.MISSING_DATA,
+          ex,
+          "Missing market data when invoking function '{}'{}",
+          fnName,
+          msg);
+
+    } else if (ex instanceof ReferenceDataNotFoundException) {
+      failure = Result.failure(
+          FailureReason.MISSING_DATA,
+          ex,
+          "Missing reference data when invoking function '{}'{}",
+          fnName,
+          msg);
+
+    } else if (ex instanceof UnsupportedOperationException) {
+      failure = Result.failure(
+          FailureReason.UNSUPPORTED,
+          ex,
+          "Unsupported operation when invoking function '{}'{}",
+          fnName,
+          msg);
+
+    } else {
+      failure = Result.failure(
+          FailureReason.CALCULATION_FAILED,
+          ex,
+          "Error when invoking function '{}'{}",
+          fnName,
+          msg);
+    }
+    return measures.stream().collect(toImmutableMap(m -> m, m -> failure));
+  }
+
 }
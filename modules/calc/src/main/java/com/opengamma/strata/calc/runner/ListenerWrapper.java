@@ -15,6 +15,7 @@ import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.collect.ArgChecker;
@@ -29,6 +30,10 @@ import com.opengamma.strata.collect.ArgChecker;
  * Calculations may be performed in bulk for a given target.
  * The logic in this class unwraps the {@link CalculationResults}, calling the
  * listener with each individual {@link CalculationResult}.
+ * <p>
+ * Results may also be delivered in batches using {@link #acceptAll(List)}.
+ * A batch is queued and delivered as a single unit, reducing contention
+ * when many cheap tasks complete at the same time.
  */
 final class ListenerWrapper implements Consumer<CalculationResults> {
 
@@ -37,8 +42,8 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
   /** The wrapped listener. */
   private final CalculationListener listener;
 
-  /** Queue of actions to perform on the delegate. */
-  private final Queue<CalculationResults> queue = new LinkedList<>();
+  /** Queue of batches of results to deliver to the delegate. */
+  private final Queue<List<CalculationResults>> queue = new LinkedList<>();
 
   /** Protects the queue and the executing flag. */
   private final Lock lock = new ReentrantLock();
@@ -101,7 +106,23 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
    */
   @Override
   public void accept(CalculationResults result) {
-    CalculationResults nextResult;
+    acceptAll(ImmutableList.of(result));
+  }
+
+  /**
+   * Accepts a batch of calculation results and delivers them to the listener.
+   * <p>
+   * This behaves as though {@link #accept(CalculationResults)} was called for each result
+   * in the batch, but only acquires the lock once for the whole batch.
+   * Each element of the batch counts as one task towards the number expected.
+   *
+   * @param results the results of a number of calculations
+   */
+  void acceptAll(List<CalculationResults> results) {
+    if (results.isEmpty()) {
+      return;
+    }
+    List<CalculationResults> nextResults;
 
     // Multiple calculation threads can try to acquire this lock at the same time.
     // The thread which acquires the lock will set the executing flag and proceed into
@@ -116,13 +137,13 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
         // Another thread is already invoking the listener. Add the result to
         // the queue and return. The other thread will ensure the queued results
         // are delivered.
-        queue.add(result);
+        queue.add(results);
         return;
       } else {
         // There is no thread invoking the listener. Set the executing flag to
         // ensure no other thread passes this point and invoke the listener.
         executing = true;
-        nextResult = result;
+        nextResults = results;
       }
     } finally {
       lock.unlock();
@@ -131,7 +152,7 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
     // The logic in the block above guarantees that there will never be more than one thread in the
     // rest of the method below this point.
 
-    // Loop until the nextResult and all the results from the queue have been delivered
+    // Loop until the nextResults and all the results from the queue have been delivered
     for (;;) {
       // The logic above means this lock is never contended; the executing flag means
       // only one thread will ever be in this loop at any given time.
@@ -140,11 +161,9 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
       try {
         // Invoke the listener while not protected by lock. This allows other threads
         // to queue results while this thread is delivering them to the listener.
-        for (CalculationResult cell : nextResult.getCells()) {
-          listener.resultReceived(nextResult.getTarget(), cell);
+        for (CalculationResults nextResult : nextResults) {
+          deliver(nextResult);
         }
-      } catch (RuntimeException e) {
-        log.warn("Exception invoking listener.resultReceived", e);
       } finally {
         listenerLock.unlock();
       }
@@ -153,7 +172,8 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
       // to the executing flag and to the state of the queue are visible to all threads
       lock.lock();
       try {
-        if (++tasksReceived == tasksExpected) {
+        tasksReceived += nextResults.size();
+        if (tasksReceived == tasksExpected) {
           // The expected number of results have been received, inform the listener.
           // The listener lock must be acquired to ensure any state changes in the listener are
           // visible to all threads
@@ -175,11 +195,22 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
           // There are results on the queue. This means another thread called accept(),
           // added a result to the queue and returned while this thread was invoking the listener.
           // This thread must deliver the results from the queue.
-          nextResult = queue.remove();
+          nextResults = queue.remove();
         }
       } finally {
         lock.unlock();
       }
     }
   }
+
+  // delivers the cells of a single result to the listener
+  private void deliver(CalculationResults result) {
+    try {
+      for (CalculationResult cell : result.getCells()) {
+        listener.resultReceived(result.getTarget(), cell);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Exception invoking listener.resultReceived", e);
+    }
+  }
 }
@@ -0,0 +1,257 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.Resolvable;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * A cache of the resolved form of calculation targets.
+ * <p>
+ * Calculation functions typically resolve each trade against the reference data before pricing.
+ * When the same trades are calculated many times, such as for several sets of rules or
+ * several calls to the calculation runner, the resolution is repeated each time.
+ * Adding a {@link ResolutionCacheParameter} to the {@link CalculationRules} allows the resolved form
+ * to be held in an instance of this class and reused, avoiding the cost of schedule generation
+ * and holiday adjustment.
+ * <p>
+ * The cache is keyed by the identity of the target and the identity of the reference data.
+ * An equal but different instance of either is treated as a different key.
+ * The cache holds at most the specified number of entries, evicting the least recently used.
+ * The number of hits, misses and evictions is recorded to allow the cache to be tuned.
+ * <p>
+ * Resolved objects are bound to the reference data used to create them.
+ * If the reference data is changed in place, such as the addition of a new holiday,
+ * the cache must be {@linkplain #clear() cleared}.
+ * <p>
+ * This class is mutable and thread-safe.
+ */
+public final class ResolutionCache {
+
+  /**
+   * The maximum number of entries.
+   */
+  private final int maximumSize;
+  /**
+   * The cached entries, in access order, guarded by synchronizing on the map.
+   */
+  private final Map<Key, Object> cache;
+  /**
+   * The number of hits.
+   */
+  private final AtomicLong hitCount = new AtomicLong();
+  /**
+   * The number of misses.
+   */
+  private final AtomicLong missCount = new AtomicLong();
+  /**
+   * The number of evictions.
+   */
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty cache that holds up to the specified number of resolved targets.
+   * <p>
+   * Calculation functions use the cache held by a {@link ResolutionCacheParameter},
+   * thus this is only needed to use the cache directly.
+   *
+   * @param maximumSize  the maximum number of entries, at least one
+   * @return the cache
+   */
+  public static ResolutionCache of(int maximumSize) {
+    return new ResolutionCache(maximumSize);
+  }
+
+  /**
+   * Resolves the target, using the cache in the parameters if present.
+   * <p>
+   * This is intended to be called by calculation functions in place of {@link Resolvable#resolve(ReferenceData)}.
+   * If the parameters do not contain a {@link ResolutionCacheParameter}, the target is resolved directly.
+   *
+   * @param <T>  the type of the resolved target
+   * @param target  the target to resolve, such as a trade
+   * @param parameters  the calculation parameters
+   * @param refData  the reference data to use when resolving
+   * @return the resolved target
+   */
+  public static <T> T resolve(Resolvable<T> target, CalculationParameters parameters, ReferenceData refData) {
+    return parameters.findParameter(ResolutionCacheParameter.class)
+        .map(parameter -> parameter.getCache().resolve(target, refData))
+        .orElseGet(() -> target.resolve(refData));
+  }
+
+  // restricted constructor
+  private ResolutionCache(int maximumSize) {
+    this.maximumSize = ArgChecker.notNegativeOrZero(maximumSize, "maximumSize");
+    this.cache = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+        if (size() > ResolutionCache.this.maximumSize) {
+          evictionCount.incrementAndGet();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves the target, returning the cached result if available.
+   * <p>
+   * The target is resolved outside the lock, thus two threads that miss at the same time
+   * may both resolve the target. Only one of the results is retained.
+   *
+   * @param <T>  the type of the resolved target
+   * @param target  the target to resolve, such as a trade
+   * @param refData  the reference data to use when resolving
+   * @return the resolved target
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T resolve(Resolvable<T> target, ReferenceData refData) {
+    ArgChecker.notNull(target, "target");
+    ArgChecker.notNull(refData, "refData");
+    Key key = new Key(target, refData);
+    Object cached;
+    synchronized (cache) {
+      cached = cache.get(key);
+    }
+    if (cached != null) {
+      hitCount.incrementAndGet();
+      return (T) cached;
+    }
+    missCount.incrementAndGet();
+    T resolved = target.resolve(refData);
+    synchronized (cache) {
+      Object existing = cache.putIfAbsent(key, resolved);
+      return existing != null ? (T) existing : resolved;
+    }
+  }
+
+  /**
+   * Removes all entries from the cache.
+   * <p>
+   * The statistics are not reset.
+   */
+  public void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the maximum number of entries in the cache.
+   *
+   * @return the maximum size
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Gets the current number of entries in the cache.
+   *
+   * @return the size
+   */
+  public int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  /**
+   * Gets the number of times a resolved target was found in the cache.
+   *
+   * @return the number of hits
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Gets the number of times a target had to be resolved.
+   *
+   * @return the number of misses
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Gets the number of entries that were evicted to keep within the maximum size.
+   *
+   * @return the number of evictions
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  /**
+   * Gets the proportion of requests that were found in the cache.
+   * <p>
+   * This is one if no requests have been made.
+   *
+   * @return the hit rate, from zero to one
+   */
+  public double getHitRate() {
+    long hits = hitCount.get();
+    long requests = hits + missCount.get();
+    return requests == 0 ? 1d : (double) hits / requests;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format(
+        "ResolutionCache[size={}, maximumSize={}, hits={}, misses={}, evictions={}]",
+        size(),
+        maximumSize,
+        hitCount.get(),
+        missCount.get(),
+        evictionCount.get());
+  }
+
+  //-------------------------------------------------------------------------
+  // the cache key, comparing the target and reference data by identity
+  private static final class Key {
+    private final Object target;
+    private final ReferenceData refData;
+
+    private Key(Object target, ReferenceData refData) {
+      this.target = target;
+      this.refData = refData;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof Key) {
+        Key other = (Key) obj;
+        return target == other.target && refData == other.refData;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(target) * 31 + System.identityHashCode(refData);
+    }
+  }
+
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.io.Serializable;
+import java.util.Set;
+
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableConstructor;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A calculation parameter that enables caching of the resolved form of calculation targets.
+ * <p>
+ * Adding an instance of this class to the {@link CalculationRules} allows calculation functions
+ * to reuse the resolved form of a target, see {@link ResolutionCache#resolve(
+ * com.opengamma.strata.basics.Resolvable, CalculationParameters, com.opengamma.strata.basics.ReferenceData)}.
+ * The same instance should be used for each set of rules and each call to the calculation runner
+ * that is to share the resolved targets.
+ * <p>
+ * This class is immutable, however it holds a {@link ResolutionCache}, which is a mutable store.
+ * The store is not part of the state of the bean. It is excluded from equality,
+ * since it only affects the speed of the calculation and not the results, and is not serialized.
+ * A deserialized instance has an empty store of the same maximum size.
+ */
+@BeanDefinition(style = "light")
+public final class ResolutionCacheParameter
+    implements CalculationParameter, ImmutableBean, Serializable {
+
+  /**
+   * The maximum number of resolved targets held by the cache.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegativeOrZero")
+  private final int maximumSize;
+  /**
+   * The mutable store of resolved targets.
+   */
+  private final transient ResolutionCache cache;  // derived, not a property
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance with an empty cache that holds up to the specified number of resolved targets.
+   *
+   * @param maximumSize  the maximum number of entries, at least one
+   * @return the parameter
+   */
+  public static ResolutionCacheParameter of(int maximumSize) {
+    return new ResolutionCacheParameter(maximumSize);
+  }
+
+  @ImmutableConstructor
+  private ResolutionCacheParameter(int maximumSize) {
+    this.maximumSize = ArgChecker.notNegativeOrZero(maximumSize, "maximumSize");
+    this.cache = ResolutionCache.of(maximumSize);
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new ResolutionCacheParameter(maximumSize);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the cache holding the resolved targets.
+   * <p>
+   * The cache is mutable and thread-safe. Its statistics can be used to check
+   * that the resolved targets are being reused.
+   *
+   * @return the cache
+   */
+  public ResolutionCache getCache() {
+    return cache;
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code ResolutionCacheParameter}.
+   */
+  private static final MetaBean META_BEAN = LightMetaBean.of(ResolutionCacheParameter.class);
+
+  /**
+   * The meta-bean for {@code ResolutionCacheParameter}.
+   * @return the meta-bean, not null
+   */
+  public static MetaBean meta() {
+    return META_BEAN;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(META_BEAN);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public MetaBean metaBean() {
+    return META_BEAN;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the maximum number of resolved targets held by the cache.
+   * @return the value of the property
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ResolutionCacheParameter other = (ResolutionCacheParameter) obj;
+      return (maximumSize == other.maximumSize);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(maximumSize);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(64);
+    buf.append("ResolutionCacheParameter{");
+    buf.append("maximumSize").append('=').append(JodaBeanUtils.toString(maximumSize));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
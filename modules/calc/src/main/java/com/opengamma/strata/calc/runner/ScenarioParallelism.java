@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.io.Serializable;
+import java.util.Set;
+
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * A calculation parameter that allows the scenarios of a single task to be calculated in parallel.
+ * <p>
+ * Normally, a task calculates all scenarios for its target on a single thread.
+ * When this parameter applies to a task, the calculation runner splits the scenario market data
+ * into chunks of the specified size and calculates each chunk as a separate unit of work.
+ * The results are then reassembled in scenario order.
+ * <p>
+ * This is useful when there are a small number of expensive targets and a large number of scenarios.
+ * The parameter can be specified in {@link CalculationRules} to apply to all calculations,
+ * or on a {@link Column} to apply to a single measure.
+ * <p>
+ * Splitting is only suitable for functions that calculate each scenario independently,
+ * returning a {@link ScenarioArray} with one value for each scenario.
+ * Any other value is retained only if the same value is calculated for every chunk,
+ * otherwise the result is a failure.
+ */
+@BeanDefinition(style = "light")
+public final class ScenarioParallelism
+    implements CalculationParameter, ImmutableBean, Serializable {
+
+  /**
+   * The number of scenarios to calculate in each chunk.
+   * <p>
+   * A task is only split if the number of scenarios exceeds this size.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegativeOrZero")
+  private final int chunkSize;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance specifying the number of scenarios to calculate in each chunk.
+   *
+   * @param chunkSize  the number of scenarios in each chunk, at least one
+   * @return the parameter
+   */
+  public static ScenarioParallelism of(int chunkSize) {
+    return new ScenarioParallelism(chunkSize);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code ScenarioParallelism}.
+   */
+  private static final MetaBean META_BEAN = LightMetaBean.of(ScenarioParallelism.class);
+
+  /**
+   * The meta-bean for {@code ScenarioParallelism}.
+   * @return the meta-bean, not null
+   */
+  public static MetaBean meta() {
+    return META_BEAN;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(META_BEAN);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private ScenarioParallelism(
+      int chunkSize) {
+    ArgChecker.notNegativeOrZero(chunkSize, "chunkSize");
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public MetaBean metaBean() {
+    return META_BEAN;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of scenarios to calculate in each chunk.
+   * <p>
+   * A task is only split if the number of scenarios exceeds this size.
+   * @return the value of the property
+   */
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ScenarioParallelism other = (ScenarioParallelism) obj;
+      return (chunkSize == other.chunkSize);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(chunkSize);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(64);
+    buf.append("ScenarioParallelism{");
+    buf.append("chunkSize").append('=').append(JodaBeanUtils.toString(chunkSize));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Splits scenario market data into chunks and reassembles the results calculated for each chunk.
+ * <p>
+ * This is used to calculate the scenarios of a single task in parallel, see {@link ScenarioParallelism}.
+ */
+final class ScenarioSplitter {
+
+  /**
+   * Restricted constructor.
+   */
+  private ScenarioSplitter() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Splits the market data into chunks of consecutive scenarios.
+   * <p>
+   * Each chunk is a view of the underlying market data, containing at most the specified number of scenarios.
+   * The last chunk may contain fewer scenarios.
+   *
+   * @param marketData  the market data to split
+   * @param chunkSize  the maximum number of scenarios in each chunk
+   * @return the chunks, in scenario order
+   */
+  static List<ScenarioMarketData> split(ScenarioMarketData marketData, int chunkSize) {
+    int scenarioCount = marketData.getScenarioCount();
+    ImmutableList.Builder<ScenarioMarketData> builder = ImmutableList.builder();
+    for (int start = 0; start < scenarioCount; start += chunkSize) {
+      builder.add(new SubsetScenarioMarketData(marketData, start, Math.min(chunkSize, scenarioCount - start)));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Merges the results calculated for each chunk of scenarios.
+   * <p>
+   * The results must have been calculated by the same task, in scenario order.
+   * If any chunk failed, the first failure is returned for the cell.
+   *
+   * @param chunkResults  the results for each chunk of scenarios
+   * @return the merged results
+   */
+  static CalculationResults merge(List<CalculationResults> chunkResults) {
+    CalculationResults first = chunkResults.get(0);
+    if (chunkResults.size() == 1) {
+      return first;
+    }
+    ImmutableList.Builder<CalculationResult> builder = ImmutableList.builder();
+    for (int i = 0; i < first.getCells().size(); i++) {
+      List<Result<?>> cellResults = new ArrayList<>(chunkResults.size());
+      for (CalculationResults results : chunkResults) {
+        cellResults.add(results.getCells().get(i).getResult());
+      }
+      builder.add(first.getCells().get(i).withResult(mergeResults(cellResults)));
+    }
+    return CalculationResults.of(first.getTarget(), builder.build());
+  }
+
+  // merges the results for a single cell
+  private static Result<?> mergeResults(List<Result<?>> results) {
+    for (Result<?> result : results) {
+      if (result.isFailure()) {
+        return result;
+      }
+    }
+    Object firstValue = results.get(0).getValue();
+    if (!(firstValue instanceof ScenarioArray)) {
+      // a value that does not vary by scenario, such as the resolved trade
+      for (Result<?> result : results) {
+        if (!firstValue.equals(result.getValue())) {
+          return Result.failure(
+              FailureReason.CALCULATION_FAILED,
+              "Unable to merge results of type '{}' calculated for separate chunks of scenarios",
+              firstValue.getClass().getSimpleName());
+        }
+      }
+      return results.get(0);
+    }
+    return Result.of(() -> concat(results));
+  }
+
+  // concatenates the scenario arrays, retaining the specialized types where possible
+  @SuppressWarnings("unchecked")
+  private static Object concat(List<Result<?>> results) {
+    Class<?> type = results.get(0).getValue().getClass();
+    List<Object> values = new ArrayList<>();
+    for (Result<?> result : results) {
+      Object value = result.getValue();
+      if (!(value instanceof ScenarioArray)) {
+        throw new IllegalArgumentException("Results calculated for separate chunks of scenarios have different types");
+      }
+      if (value.getClass() != type) {
+        type = ScenarioArray.class;
+      }
+      ((ScenarioArray<?>) value).stream().forEach(values::add);
+    }
+    if (type == DoubleScenarioArray.class) {
+      return DoubleScenarioArray.of((List<Double>) (List<?>) values);
+    }
+    if (type == CurrencyScenarioArray.class) {
+      return CurrencyScenarioArray.of((List<CurrencyAmount>) (List<?>) values);
+    }
+    if (type == MultiCurrencyScenarioArray.class) {
+      return MultiCurrencyScenarioArray.of((List<MultiCurrencyAmount>) (List<?>) values);
+    }
+    return ScenarioArray.of(values);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A view of a range of consecutive scenarios in the underlying market data.
+   */
+  private static final class SubsetScenarioMarketData implements ScenarioMarketData {
+
+    /** The underlying market data. */
+    private final ScenarioMarketData underlying;
+    /** The index of the first scenario in the underlying market data. */
+    private final int start;
+    /** The number of scenarios. */
+    private final int scenarioCount;
+
+    private SubsetScenarioMarketData(ScenarioMarketData underlying, int start, int scenarioCount) {
+      this.underlying = underlying;
+      this.start = start;
+      this.scenarioCount = scenarioCount;
+    }
+
+    // restricts the box to the scenarios in the range
+    private <T> MarketDataBox<T> subset(MarketDataBox<T> box) {
+      if (box.isSingleValue()) {
+        return box;
+      }
+      return MarketDataBox.ofScenarioValue(ScenarioArray.of(scenarioCount, i -> box.getValue(start + i)));
+    }
+
+    @Override
+    public MarketDataBox<LocalDate> getValuationDate() {
+      return subset(underlying.getValuationDate());
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return scenarioCount;
+    }
+
+    @Override
+    public boolean containsValue(MarketDataId<?> id) {
+      return underlying.containsValue(id);
+    }
+
+    @Override
+    public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+      return underlying.findValue(id).map(box -> subset(box));
+    }
+
+    @Override
+    public Set<MarketDataId<?>> getIds() {
+      return underlying.getIds();
+    }
+
+    @Override
+    public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+      return underlying.findIds(name);
+    }
+
+    @Override
+    public Set<ObservableId> getTimeSeriesIds() {
+      return underlying.getTimeSeriesIds();
+    }
+
+    @Override
+    public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+      return underlying.getTimeSeries(id);
+    }
+  }
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.Resolvable;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.ResolutionCache;
+import com.opengamma.strata.calc.runner.ResolutionCacheParameter;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link CalculationPlan}.
+ */
+@Test
+public class CalculationPlanTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final Column COLUMN1 = Column.of(TestingMeasures.PRESENT_VALUE);
+  private static final Column COLUMN2 = Column.of(TestingMeasures.BUCKETED_PV01);
+  private static final ImmutableList<Column> COLUMNS = ImmutableList.of(COLUMN1, COLUMN2);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    TestTarget target1 = new TestTarget();
+    ResolvableTestTarget target2 = new ResolvableTestTarget(false);
+    ResolvableTestTarget target3 = new ResolvableTestTarget(true);
+    ImmutableList<CalculationTarget> targets = ImmutableList.of(target1, target2, target3);
+    CalculationRules rules = CalculationRules.of(CalculationFunctions.empty());
+    CalculationPlan test = CalculationPlan.of(rules, targets, COLUMNS, REF_DATA);
+    assertThat(test.getTasks().getTargets()).containsExactly(target1, target2, target3);
+    assertThat(test.getTasks().getColumns()).isEqualTo(COLUMNS);
+    assertThat(test.getRequirements()).isEqualTo(test.getTasks().requirements(REF_DATA));
+    assertThat(test.getReferenceData()).isSameAs(REF_DATA);
+    assertThat(test.getResolutionCache().getMaximumSize()).isEqualTo(3);
+    assertThat(test.getResolutionCache().size()).isEqualTo(1);
+    assertThat(target2.count).isEqualTo(1);
+    assertThat(test.toString()).isEqualTo("CalculationPlan[targets=3, columns=2, tasks=3]");
+    // the cache is available to the functions
+    Optional<ResolutionCacheParameter> parameter =
+        test.getTasks().getTasks().get(1).getParameters().findParameter(ResolutionCacheParameter.class);
+    assertThat(parameter.get().getCache()).isSameAs(test.getResolutionCache());
+  }
+
+  public void test_of_existingCache() {
+    ResolvableTestTarget target = new ResolvableTestTarget(false);
+    ResolutionCacheParameter parameter = ResolutionCacheParameter.of(100);
+    CalculationRules rules = CalculationRules.of(CalculationFunctions.empty(), parameter);
+    CalculationPlan test = CalculationPlan.of(rules, ImmutableList.of(target), COLUMNS, REF_DATA);
+    ResolutionCache cache = parameter.getCache();
+    assertThat(test.getResolutionCache()).isSameAs(cache);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  //-------------------------------------------------------------------------
+  public void calculate() {
+    ImmutableList<CalculationTarget> targets = ImmutableList.of(new TestTarget());
+    CalculationRules rules = CalculationRules.of(CalculationFunctions.empty());
+    CalculationPlan plan = CalculationPlan.of(rules, targets, COLUMNS, REF_DATA);
+    MarketData md = MarketData.empty(date(2016, 6, 30));
+    ScenarioMarketData smd = ScenarioMarketData.empty();
+
+    try (CalculationRunner test = CalculationRunner.of(MoreExecutors.newDirectExecutorService())) {
+      assertThat(test.calculate(plan, md).get(0, 0).isFailure()).isTrue();
+      assertThat(test.calculate(plan, md).get(0, 1).isFailure()).isTrue();
+      assertThat(test.calculateMultiScenario(plan, smd).get(0, 0).isFailure()).isTrue();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static class TestTarget implements CalculationTarget {
+  }
+
+  private static class ResolvableTestTarget implements CalculationTarget, Resolvable<String> {
+    private final boolean fail;
+    private int count;
+
+    ResolvableTestTarget(boolean fail) {
+      this.fail = fail;
+    }
+
+    @Override
+    public String resolve(ReferenceData refData) {
+      count++;
+      if (fail) {
+        throw new IllegalArgumentException("Unable to resolve");
+      }
+      return "Resolved";
+    }
+  }
+
+}
@@ -10,9 +10,12 @@ import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.testng.annotations.Test;
 
@@ -209,6 +212,61 @@ public class DefaultMarketDataFactoryTest {
     assertThat(marketDataB2).isEqualTo(expectedB2);
   }
 
+  /**
+   * Tests building market data concurrently produces the same data as building it sequentially.
+   */
+  public void buildDataFromOtherDataConcurrently() {
+    TestMarketDataFunctionB builderB = new TestMarketDataFunctionB();
+    TestMarketDataFunctionC builderC = new TestMarketDataFunctionC();
+
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"))
+        .build();
+
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 1);
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 10);
+    Map<TestIdA, LocalDateDoubleTimeSeries> timeSeriesMap =
+        ImmutableMap.of(
+            new TestIdA("1"), timeSeries1,
+            new TestIdA("2"), timeSeries2);
+    TimeSeriesProvider timeSeriesProvider = new TestTimeSeriesProvider(timeSeriesMap);
+    List<MarketDataFunction<?, ?>> functions = ImmutableList.of(builderB, builderC);
+    MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+
+    MarketDataFactory sequentialFactory = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        timeSeriesProvider,
+        functions);
+    BuiltMarketData expected = sequentialFactory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          timeSeriesProvider,
+          functions,
+          executor);
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+      assertThat(marketData).isEqualTo(expected);
+      assertThat(marketData.getValueFailures()).isEmpty();
+      assertThat(marketData.getValue(new TestIdB("1"))).isEqualTo(new TestMarketDataB(1, new TestMarketDataC(timeSeries1)));
+      assertThat(marketData.getValue(new TestIdB("2"))).isEqualTo(new TestMarketDataB(2, new TestMarketDataC(timeSeries2)));
+
+      // the same exception is thrown as in the sequential case
+      MarketDataFactory missingFactory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          timeSeriesProvider,
+          ImmutableList.of(builderB),
+          executor);
+      assertThrows(
+          () -> missingFactory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA),
+          IllegalStateException.class,
+          "No market data function available for market data ID of type.*");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   /**
    * Tests building market data that depends on other market data that is supplied by the user.
    *
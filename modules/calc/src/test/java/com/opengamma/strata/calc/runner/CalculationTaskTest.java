@@ -12,6 +12,7 @@ import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.testng.Assert.assertNotNull;
@@ -255,6 +256,61 @@ public class CalculationTaskTest {
     assertThat(result).hasValue(ScenarioArray.of("foo"));
   }
 
+  /**
+   * Tests that executing a group of tasks returns one result for each task.
+   */
+  public void executeAll() {
+    SupplierFunction<String> fn = SupplierFunction.of(() -> "foo");
+    CalculationTaskCell cell0 = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
+    CalculationTaskCell cell1 = CalculationTaskCell.of(1, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
+    CalculationTask task0 = CalculationTask.of(TARGET, fn, cell0);
+    CalculationTask task1 = CalculationTask.of(new TestTarget(), fn, cell1);
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(date(2011, 3, 8)).build();
+
+    List<CalculationResults> calculationResults =
+        CalculationTask.executeAll(ImmutableList.of(task0, task1), marketData, REF_DATA);
+    assertThat(calculationResults).hasSize(2);
+    assertThat(calculationResults.get(0).getTarget()).isSameAs(TARGET);
+    assertThat(calculationResults.get(0).getCells().get(0).getResult()).hasValue(ScenarioArray.of("foo"));
+    assertThat(calculationResults.get(1).getCells().get(0).getRowIndex()).isEqualTo(1);
+    assertThat(calculationResults.get(1).getCells().get(0).getResult()).hasValue(ScenarioArray.of("foo"));
+  }
+
+  /**
+   * Tests that a failure when executing a group of tasks is reported against each task.
+   */
+  public void executeAllException() {
+    SupplierFunction<String> fn = SupplierFunction.of(() -> {
+      throw new IllegalArgumentException("foo");
+    });
+    CalculationTaskCell cell0 = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
+    CalculationTaskCell cell1 = CalculationTaskCell.of(1, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
+    CalculationTask task0 = CalculationTask.of(TARGET, fn, cell0);
+    CalculationTask task1 = CalculationTask.of(new TestTarget(), fn, cell1);
+    ScenarioMarketData marketData = ScenarioMarketData.empty();
+
+    List<CalculationResults> calculationResults =
+        CalculationTask.executeAll(ImmutableList.of(task0, task1), marketData, REF_DATA);
+    assertThat(calculationResults).hasSize(2);
+    for (CalculationResults results : calculationResults) {
+      assertThat(results.getCells().get(0).getResult())
+          .isFailure(FailureReason.CALCULATION_FAILED)
+          .hasFailureMessageMatching("Error when invoking function 'SupplierFunction' for ID '123': foo");
+    }
+  }
+
+  /**
+   * Tests that tasks with different functions cannot be executed together.
+   */
+  public void executeAllMismatch() {
+    CalculationTaskCell cell0 = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
+    CalculationTaskCell cell1 = CalculationTaskCell.of(1, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
+    CalculationTask task0 = CalculationTask.of(TARGET, SupplierFunction.of(() -> "foo"), cell0);
+    CalculationTask task1 = CalculationTask.of(new TestTarget(), SupplierFunction.of(() -> "bar"), cell1);
+    assertThrowsIllegalArg(
+        () -> CalculationTask.executeAll(ImmutableList.of(task0, task1), ScenarioMarketData.empty(), REF_DATA));
+  }
+
   /**
    * Test executing a bad function that fails to return expected measure.
    */
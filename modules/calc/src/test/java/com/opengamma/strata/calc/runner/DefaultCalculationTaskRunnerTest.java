@@ -13,6 +13,7 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -33,8 +34,10 @@ import com.opengamma.strata.calc.TestingMeasures;
 import com.opengamma.strata.calc.marketdata.TestId;
 import com.opengamma.strata.calc.marketdata.TestObservableId;
 import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -131,6 +134,82 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(result2).hasValue(scenarioResult);
   }
 
+  //-------------------------------------------------------------------------
+  public void chunkedTasks() {
+    TestFunction fn1 = new TestFunction();
+    ScenarioResultFunction fn2 = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, ScenarioArray.of("foo"));
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < 5; i++) {
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(new TestTarget(), i % 2 == 0 ? fn1 : fn2, cell));
+    }
+    List<CalculationTask> taskList = taskBuilder.build();
+
+    List<List<CalculationTask>> chunks = DefaultCalculationTaskRunner.chunk(taskList, 2);
+    assertThat(chunks).hasSize(3);
+    assertThat(chunks.get(0)).containsExactly(taskList.get(0), taskList.get(2));
+    assertThat(chunks.get(1)).containsExactly(taskList.get(4));
+    assertThat(chunks.get(2)).containsExactly(taskList.get(1), taskList.get(3));
+    assertThat(DefaultCalculationTaskRunner.chunk(taskList, 10)).hasSize(2);
+    assertThrowsIllegalArg(() -> CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 0));
+
+    // using the direct executor means there is no need to close/shutdown the runner
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(taskList, ImmutableList.of(column));
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 2);
+    Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+    assertThat(results.getRowCount()).isEqualTo(5);
+    assertThat(results.get(0, 0)).hasValue("bar");
+    assertThat(results.get(1, 0)).hasValue("foo");
+    assertThat(results.get(2, 0)).hasValue("bar");
+    assertThat(results.get(3, 0)).hasValue("foo");
+    assertThat(results.get(4, 0)).hasValue("bar");
+  }
+
+  public void chunkedMultiThreaded() {
+    TestFunction fn = new TestFunction();
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < 100; i++) {
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(new TestTarget(), fn, cell));
+    }
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofMultiThreadedChunked(8)) {
+      Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+      assertThat(results.getRowCount()).isEqualTo(100);
+      for (int i = 0; i < 100; i++) {
+        assertThat(results.get(i, 0)).hasValue("bar");
+      }
+    }
+  }
+
+  public void scenarioParallelism() {
+    ScenarioCountFunction fn = new ScenarioCountFunction();
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PAR_RATE, NATURAL);
+    CalculationParameters params = CalculationParameters.of(ScenarioParallelism.of(2));
+    CalculationTask task = CalculationTask.of(TARGET, fn, params, ImmutableList.of(cell));
+    Column column = Column.of(TestingMeasures.PAR_RATE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+    ScenarioMarketData marketData = ScenarioMarketData.of(5, MarketData.empty(VAL_DATE));
+
+    // using the direct executor means there is no need to close/shutdown the runner
+    // each value is the number of scenarios in the chunk that calculated it
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService());
+    Results results = test.calculateMultiScenario(tasks, marketData, REF_DATA);
+    assertThat(results.get(0, 0)).hasValue(DoubleScenarioArray.of(DoubleArray.of(2, 2, 2, 2, 1)));
+
+    // not split if there are fewer scenarios than the chunk size
+    Results results2 = test.calculateMultiScenario(tasks, ScenarioMarketData.of(2, MarketData.empty(VAL_DATE)), REF_DATA);
+    assertThat(results2.get(0, 0)).hasValue(DoubleScenarioArray.of(DoubleArray.of(2, 2)));
+
+    // split when chunking tasks
+    CalculationTaskRunner test2 = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 10);
+    Results results3 = test2.calculateMultiScenario(tasks, marketData, REF_DATA);
+    assertThat(results3.get(0, 0)).hasValue(DoubleScenarioArray.of(DoubleArray.of(2, 2, 2, 2, 1)));
+  }
+
   //-------------------------------------------------------------------------
   public static final class TestFunction implements CalculationFunction<TestTarget> {
 
@@ -243,6 +322,48 @@ public class DefaultCalculationTaskRunnerTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  private static final class ScenarioCountFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PAR_RATE);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      int scenarioCount = marketData.getScenarioCount();
+      DoubleScenarioArray array = DoubleScenarioArray.of(scenarioCount, i -> scenarioCount);
+      return ImmutableMap.of(TestingMeasures.PAR_RATE, Result.success(array));
+    }
+  }
+
   //-------------------------------------------------------------------------
   private static final class Listener implements CalculationListener {
 
@@ -8,13 +8,24 @@ package com.opengamma.strata.calc.runner;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.ReferenceDataNotFoundException;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestFunction;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 
@@ -60,4 +71,30 @@ public class FunctionUtilsTest {
     MultiCurrencyScenarioArray array = amounts.stream().collect(FunctionUtils.toMultiCurrencyValuesArray());
     assertThat(array).isEqualTo(expected);
   }
+
+  public void calculateEach() {
+    TestTarget target1 = new TestTarget();
+    TestTarget target2 = new TestTarget();
+    TestTarget target3 = new TestTarget();
+    Set<Measure> measures = ImmutableSet.of(TestingMeasures.PRESENT_VALUE, TestingMeasures.PAR_RATE);
+    List<Map<Measure, Result<?>>> results = FunctionUtils.calculateEach(
+        new TestFunction(),
+        ImmutableList.of(target1, target2, target3),
+        measures,
+        target -> {
+          if (target == target2) {
+            throw new ReferenceDataNotFoundException("Not found");
+          }
+          return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(1d));
+        });
+    assertThat(results).hasSize(3);
+    assertThat(results.get(0)).isEqualTo(ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(1d)));
+    assertThat(results.get(1).keySet()).isEqualTo(measures);
+    assertThat(results.get(1).get(TestingMeasures.PRESENT_VALUE).getFailure().getReason())
+        .isEqualTo(FailureReason.MISSING_DATA);
+    assertThat(results.get(1).get(TestingMeasures.PAR_RATE).getFailure().getReason())
+        .isEqualTo(FailureReason.MISSING_DATA);
+    assertThat(results.get(2)).isEqualTo(ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(1d)));
+  }
+
 }
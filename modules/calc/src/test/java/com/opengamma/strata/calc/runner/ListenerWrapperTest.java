@@ -8,6 +8,8 @@ package com.opengamma.strata.calc.runner;
 import static java.util.stream.Collectors.joining;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
@@ -52,6 +54,33 @@ public class ListenerWrapperTest {
     }
   }
 
+  // Tests that batches of results are counted individually towards the expected number of results.
+  public void concurrentBatchExecution() throws InterruptedException {
+    int nThreads = Runtime.getRuntime().availableProcessors();
+    int batchesPerThread = 10;
+    int batchSize = 3;
+    ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    int expectedResultCount = nThreads * batchesPerThread * batchSize;
+    Listener listener = new Listener(errors, latch);
+    ListenerWrapper wrapper =
+        new ListenerWrapper(listener, expectedResultCount, ImmutableList.of(), ImmutableList.of());
+    ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+    CalculationResult result = CalculationResult.of(0, 0, Result.failure(FailureReason.ERROR, "foo"));
+    CalculationTarget target = new CalculationTarget() {};
+    CalculationResults results = CalculationResults.of(target, ImmutableList.of(result));
+    List<CalculationResults> batch = Collections.nCopies(batchSize, results);
+    IntStream.range(0, nThreads * batchesPerThread).forEach(i -> executor.submit(() -> wrapper.acceptAll(batch)));
+
+    latch.await();
+    executor.shutdown();
+
+    if (!errors.isEmpty()) {
+      String allErrors = errors.stream().collect(joining("\n"));
+      fail(allErrors);
+    }
+  }
+
   public static final class Listener implements CalculationListener {
 
     /**
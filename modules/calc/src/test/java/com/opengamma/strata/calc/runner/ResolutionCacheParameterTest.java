@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.tuple.Pair;
+
+/**
+ * Test {@link ResolutionCacheParameter}.
+ */
+@Test
+public class ResolutionCacheParameterTest {
+
+  public void of() {
+    ResolutionCacheParameter test = ResolutionCacheParameter.of(10);
+    assertEquals(test.getMaximumSize(), 10);
+    assertEquals(test.getCache().getMaximumSize(), 10);
+    assertEquals(test.getCache().size(), 0);
+    assertEquals(test.queryType(), ResolutionCacheParameter.class);
+    assertThrowsIllegalArg(() -> ResolutionCacheParameter.of(0));
+  }
+
+  public void test_equalsIgnoresCache() {
+    ResolutionCacheParameter test = ResolutionCacheParameter.of(10);
+    ResolutionCacheParameter test2 = ResolutionCacheParameter.of(10);
+    test.getCache().resolve(refData -> Pair.of(1, 2), ReferenceData.empty());
+    assertNotSame(test.getCache(), test2.getCache());
+    assertEquals(test, test2);
+    assertEquals(test.hashCode(), test2.hashCode());
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    ResolutionCacheParameter test = ResolutionCacheParameter.of(10);
+    coverImmutableBean(test);
+    ResolutionCacheParameter test2 = ResolutionCacheParameter.of(20);
+    coverBeanEquals(test, test2);
+  }
+
+  public void test_serialization() {
+    ResolutionCacheParameter test = ResolutionCacheParameter.of(10);
+    test.getCache().resolve(refData -> Pair.of(1, 2), ReferenceData.empty());
+    assertSerialization(test);
+  }
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.Resolvable;
+
+/**
+ * Test {@link ResolutionCache}.
+ */
+@Test
+public class ResolutionCacheTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ReferenceData REF_DATA2 = ReferenceData.empty();
+
+  public void of() {
+    ResolutionCache test = ResolutionCache.of(10);
+    assertEquals(test.getMaximumSize(), 10);
+    assertEquals(test.size(), 0);
+    assertEquals(test.getHitRate(), 1d);
+    assertThrowsIllegalArg(() -> ResolutionCache.of(0));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_resolve() {
+    ResolutionCache test = ResolutionCache.of(10);
+    TestTarget target = new TestTarget();
+    String resolved = test.resolve(target, REF_DATA);
+    assertSame(test.resolve(target, REF_DATA), resolved);
+    assertEquals(target.count, 1);
+    assertEquals(test.getHitCount(), 1);
+    assertEquals(test.getMissCount(), 1);
+    assertEquals(test.getHitRate(), 0.5d);
+    assertEquals(test.size(), 1);
+    // different reference data
+    assertNotSame(test.resolve(target, REF_DATA2), resolved);
+    assertEquals(target.count, 2);
+    // different but equal target
+    test.resolve(new TestTarget(), REF_DATA);
+    assertEquals(test.getMissCount(), 3);
+    assertEquals(test.size(), 3);
+    // clear
+    test.clear();
+    assertEquals(test.size(), 0);
+    test.resolve(target, REF_DATA);
+    assertEquals(target.count, 3);
+  }
+
+  public void test_resolve_eviction() {
+    ResolutionCache test = ResolutionCache.of(2);
+    TestTarget target1 = new TestTarget();
+    TestTarget target2 = new TestTarget();
+    TestTarget target3 = new TestTarget();
+    test.resolve(target1, REF_DATA);
+    test.resolve(target2, REF_DATA);
+    test.resolve(target1, REF_DATA);
+    test.resolve(target3, REF_DATA);  // evicts target2, the least recently used
+    assertEquals(test.size(), 2);
+    assertEquals(test.getEvictionCount(), 1);
+    test.resolve(target1, REF_DATA);
+    assertEquals(target1.count, 1);
+    test.resolve(target2, REF_DATA);
+    assertEquals(target2.count, 2);
+    assertEquals(test.getHitCount(), 2);
+    assertEquals(test.getMissCount(), 4);
+  }
+
+  public void test_resolve_parameters() {
+    ResolutionCacheParameter parameter = ResolutionCacheParameter.of(10);
+    ResolutionCache cache = parameter.getCache();
+    TestTarget target = new TestTarget();
+    CalculationParameters parameters = CalculationParameters.of(parameter);
+    String resolved = ResolutionCache.resolve(target, parameters, REF_DATA);
+    assertSame(ResolutionCache.resolve(target, parameters, REF_DATA), resolved);
+    assertEquals(target.count, 1);
+    assertEquals(cache.getHitCount(), 1);
+    // no cache
+    ResolutionCache.resolve(target, CalculationParameters.empty(), REF_DATA);
+    ResolutionCache.resolve(target, CalculationParameters.empty(), REF_DATA);
+    assertEquals(target.count, 3);
+  }
+
+  public void test_toString() {
+    ResolutionCache test = ResolutionCache.of(10);
+    test.resolve(new TestTarget(), REF_DATA);
+    assertEquals(test.toString(), "ResolutionCache[size=1, maximumSize=10, hits=0, misses=1, evictions=0]");
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class TestTarget implements Resolvable<String> {
+    private int count;
+
+    @Override
+    public String resolve(ReferenceData refData) {
+      count++;
+      return new String("Resolved");
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof TestTarget;
+    }
+
+    @Override
+    public int hashCode() {
+      return 1;
+    }
+  }
+
+}
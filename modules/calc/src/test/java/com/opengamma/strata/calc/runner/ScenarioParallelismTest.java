@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link ScenarioParallelism}.
+ */
+@Test
+public class ScenarioParallelismTest {
+
+  public void of() {
+    ScenarioParallelism test = ScenarioParallelism.of(10);
+    assertEquals(test.getChunkSize(), 10);
+    assertEquals(test.queryType(), ScenarioParallelism.class);
+    assertThrowsIllegalArg(() -> ScenarioParallelism.of(0));
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    ScenarioParallelism test = ScenarioParallelism.of(10);
+    coverImmutableBean(test);
+    ScenarioParallelism test2 = ScenarioParallelism.of(20);
+    coverBeanEquals(test, test2);
+  }
+
+}
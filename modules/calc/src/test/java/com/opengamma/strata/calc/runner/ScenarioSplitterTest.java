@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.marketdata.TestId;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link ScenarioSplitter}.
+ */
+@Test
+public class ScenarioSplitterTest {
+
+  private static final TestId ID1 = TestId.of("1");
+  private static final TestId ID2 = TestId.of("2");
+  private static final CalculationTarget TARGET = new CalculationTarget() {};
+
+  public void split() {
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(date(2011, 3, 8))
+        .addScenarioValue(ID1, ImmutableList.of("a", "b", "c", "d", "e"))
+        .addValue(ID2, "x")
+        .build();
+
+    List<ScenarioMarketData> test = ScenarioSplitter.split(marketData, 2);
+    assertThat(test).hasSize(3);
+    assertThat(test.get(0).getScenarioCount()).isEqualTo(2);
+    assertThat(test.get(1).getScenarioCount()).isEqualTo(2);
+    assertThat(test.get(2).getScenarioCount()).isEqualTo(1);
+    assertThat(test.get(0).scenario(0).getValue(ID1)).isEqualTo("a");
+    assertThat(test.get(0).scenario(1).getValue(ID1)).isEqualTo("b");
+    assertThat(test.get(1).scenario(0).getValue(ID1)).isEqualTo("c");
+    assertThat(test.get(1).scenario(1).getValue(ID1)).isEqualTo("d");
+    assertThat(test.get(2).scenario(0).getValue(ID1)).isEqualTo("e");
+    assertThat(test.get(2).scenario(0).getValue(ID2)).isEqualTo("x");
+    assertThat(test.get(2).getValuationDate().getValue(0)).isEqualTo(date(2011, 3, 8));
+    assertThat(test.get(2).containsValue(ID2)).isTrue();
+  }
+
+  public void merge() {
+    CalculationResults part1 = results(
+        Result.success(DoubleScenarioArray.of(DoubleArray.of(1, 2))),
+        Result.success(CurrencyScenarioArray.of(USD, DoubleArray.of(10, 20))),
+        Result.success(ScenarioArray.of("a", "b")),
+        Result.success("trade"));
+    CalculationResults part2 = results(
+        Result.success(DoubleScenarioArray.of(DoubleArray.of(3))),
+        Result.success(CurrencyScenarioArray.of(USD, DoubleArray.of(30))),
+        Result.success(ScenarioArray.of("c")),
+        Result.success("trade"));
+
+    CalculationResults test = ScenarioSplitter.merge(ImmutableList.of(part1, part2));
+    assertThat(test.getTarget()).isSameAs(TARGET);
+    assertThat(test.getCells()).hasSize(4);
+    assertThat(test.getCells().get(0).getColumnIndex()).isEqualTo(0);
+    assertThat(test.getCells().get(0).getResult()).hasValue(DoubleScenarioArray.of(DoubleArray.of(1, 2, 3)));
+    assertThat(test.getCells().get(1).getResult()).hasValue(CurrencyScenarioArray.of(USD, DoubleArray.of(10, 20, 30)));
+    assertThat(test.getCells().get(2).getResult()).hasValue(ScenarioArray.of("a", "b", "c"));
+    assertThat(test.getCells().get(3).getResult()).hasValue("trade");
+  }
+
+  public void merge_failure() {
+    Result<?> failure = Result.failure(FailureReason.CALCULATION_FAILED, "foo");
+    CalculationResults part1 = results(Result.success(ScenarioArray.of("a")), Result.success("x"));
+    CalculationResults part2 = results(failure, Result.success("y"));
+
+    CalculationResults test = ScenarioSplitter.merge(ImmutableList.of(part1, part2));
+    assertThat(test.getCells().get(0).getResult()).isSameAs(failure);
+    assertThat(test.getCells().get(1).getResult()).isFailure(FailureReason.CALCULATION_FAILED);
+  }
+
+  private static CalculationResults results(Result<?>... results) {
+    ImmutableList.Builder<CalculationResult> builder = ImmutableList.builder();
+    for (int i = 0; i < results.length; i++) {
+      builder.add(CalculationResult.of(0, i, results[i]));
+    }
+    return CalculationResults.of(TARGET, builder.build());
+  }
+
+}
@@ -13,6 +13,7 @@ import java.util.stream.IntStream;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -90,6 +91,20 @@ public interface Curve extends ParameterizedData {
    */
   public abstract double yValue(double x);
 
+  /**
+   * Computes the y-values for the specified x-values.
+   * <p>
+   * This returns an array with one element for each x-value, where each element is
+   * the result of {@link #yValue(double)}. The x-values may be in any order,
+   * however implementations may be more efficient if they are sorted from low to high.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @return the values at the x-values
+   */
+  public default DoubleArray yValues(DoubleArray xValues) {
+    return xValues.map(this::yValue);
+  }
+
   /**
    * Computes the sensitivity of the y-value with respect to the curve parameters.
    * <p>
@@ -102,6 +117,31 @@ public interface Curve extends ParameterizedData {
    */
   public abstract UnitParameterSensitivity yValueParameterSensitivity(double x);
 
+  /**
+   * Computes the sensitivity of the y-value with respect to the curve parameters,
+   * adding it to a builder.
+   * <p>
+   * The sensitivity of the y-value at the specified x-value to each parameter is multiplied
+   * by the amount and added to the builder in the specified currency.
+   * <p>
+   * This is equivalent to adding the result of {@link #yValueParameterSensitivity(double)}
+   * to the builder, but implementations may avoid creating the intermediate sensitivity.
+   * 
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param currency  the currency of the amount
+   * @param amount  the amount to multiply the sensitivity by
+   * @param builder  the builder to add to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void yValueParameterSensitivity(
+      double x,
+      Currency currency,
+      double amount,
+      CurrencyParameterSensitivitiesBuilder builder) {
+
+    builder.add(yValueParameterSensitivity(x), currency, amount);
+  }
+
   /**
    * Computes the first derivative of the curve.
    * <p>
@@ -36,6 +36,7 @@ import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -244,11 +245,26 @@ public final class InterpolatedNodalCurve
     return boundInterpolator.interpolate(x);
   }
 
+  @Override
+  public DoubleArray yValues(DoubleArray xValues) {
+    return boundInterpolator.interpolate(xValues);
+  }
+
   @Override
   public UnitParameterSensitivity yValueParameterSensitivity(double x) {
     return createParameterSensitivity(boundInterpolator.parameterSensitivity(x));
   }
 
+  @Override
+  public void yValueParameterSensitivity(
+      double x,
+      Currency currency,
+      double amount,
+      CurrencyParameterSensitivitiesBuilder builder) {
+
+    boundInterpolator.parameterSensitivity(x, amount, builder.values(getName(), parameterMetadata, currency));
+  }
+
   @Override
   public double firstDerivative(double x) {
     return boundInterpolator.firstDerivative(x);
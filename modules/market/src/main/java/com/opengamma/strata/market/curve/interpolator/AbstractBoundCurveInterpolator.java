@@ -99,6 +99,53 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract double doInterpolate(double xValue);
 
+  @Override
+  public final DoubleArray interpolate(DoubleArray xValues) {
+    double[] x = xValues.toArrayUnsafe();
+    int size = x.length;
+    for (int i = 1; i < size; i++) {
+      if (!(x[i] >= x[i - 1])) {
+        return BoundCurveInterpolator.super.interpolate(xValues);
+      }
+    }
+    // sorted x-values, split into left extrapolation, interpolation and right extrapolation
+    double[] result = new double[size];
+    int start = 0;
+    while (start < size && x[start] < firstXValue) {
+      result[start] = extrapolatorLeft.leftExtrapolate(x[start]);
+      start++;
+    }
+    int end = start;
+    while (end < size && x[end] < lastXValue) {
+      end++;
+    }
+    doInterpolate(x, start, end, result);
+    for (int i = end; i < size; i++) {
+      result[i] = x[i] == lastXValue ? lastYValue : extrapolatorRight.rightExtrapolate(x[i]);
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  /**
+   * Method for subclasses to calculate the interpolated values for sorted x-values.
+   * <p>
+   * The x-values between the from and to index are sorted from low to high, and are
+   * greater than or equal to the first node and less than the last node.
+   * The default implementation calls {@link #doInterpolate(double)} for each x-value.
+   * Subclasses may override this to find the intervals in a single sweep of the nodes,
+   * rather than by a binary search for each x-value.
+   * 
+   * @param xValues  the x-values
+   * @param fromIndex  the index of the first x-value to interpolate, inclusive
+   * @param toIndex  the index of the last x-value to interpolate, exclusive
+   * @param result  the array to store the interpolated y-values in, at the same index as the x-value
+   */
+  protected void doInterpolate(double[] xValues, int fromIndex, int toIndex, double[] result) {
+    for (int i = fromIndex; i < toIndex; i++) {
+      result[i] = doInterpolate(xValues[i]);
+    }
+  }
+
   @Override
   public final double firstDerivative(double xValue) {
     if (xValue < firstXValue) {
@@ -135,6 +182,39 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract DoubleArray doParameterSensitivity(double xValue);
 
+  @Override
+  public final void parameterSensitivity(double xValue, double amount, double[] sensitivities) {
+    if (xValue < firstXValue) {
+      addSensitivity(extrapolatorLeft.leftExtrapolateParameterSensitivity(xValue), amount, sensitivities);
+    } else if (xValue > lastXValue) {
+      addSensitivity(extrapolatorRight.rightExtrapolateParameterSensitivity(xValue), amount, sensitivities);
+    } else {
+      doParameterSensitivity(xValue, amount, sensitivities);
+    }
+  }
+
+  /**
+   * Method for subclasses to add the parameter sensitivity to an array.
+   * <p>
+   * The default implementation adds the result of {@link #doParameterSensitivity(double)}.
+   * Subclasses where only a small number of parameters affect the y-value should override this.
+   *
+   * @param xValue  the x-value
+   * @param amount  the amount to multiply the sensitivity by
+   * @param sensitivities  the array of sensitivities to add to
+   */
+  protected void doParameterSensitivity(double xValue, double amount, double[] sensitivities) {
+    addSensitivity(doParameterSensitivity(xValue), amount, sensitivities);
+  }
+
+  // adds the sensitivity multiplied by the amount
+  private static void addSensitivity(DoubleArray sensitivity, double amount, double[] sensitivities) {
+    double[] unit = sensitivity.toArrayUnsafe();
+    for (int i = 0; i < unit.length; i++) {
+      sensitivities[i] += unit[i] * amount;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Returns the index of the last value in the input array which is lower than the specified value.
@@ -180,4 +260,28 @@ public abstract class AbstractBoundCurveInterpolator
     return lo - 1;
   }
 
+  /**
+   * Returns the index of the last value in the input array which is lower than the specified value,
+   * searching forward from a known lower index.
+   * <p>
+   * This is equivalent to {@link #lowerBoundIndex(double, double[])}, but is efficient when
+   * the specified x-values are processed in ascending order, as the index of the previous
+   * x-value can be passed in as the starting point.
+   * The same conditions apply, and in addition {@code xValues[startIndex]} must be less than
+   * or equal to {@code xValue}.
+   *
+   * @param xValue  a value which is less than the last element in {@code xValues}
+   * @param xValues  an array of values sorted in ascending order
+   * @param startIndex  the index to start searching from
+   * @return the index of the last value in {@code xValues} which is lower than {@code xValue}
+   */
+  protected static int lowerBoundIndex(double xValue, double[] xValues, int startIndex) {
+    int index = startIndex;
+    int last = xValues.length - 1;
+    while (index < last && xValues[index + 1] <= xValue) {
+      index++;
+    }
+    return index;
+  }
+
 }
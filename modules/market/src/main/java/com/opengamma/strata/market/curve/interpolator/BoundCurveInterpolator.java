@@ -29,6 +29,21 @@ public interface BoundCurveInterpolator {
    */
   public abstract double interpolate(double x);
 
+  /**
+   * Computes the y-values for the specified x-values by interpolation.
+   * <p>
+   * This returns an array with one element for each x-value, where each element is
+   * the result of {@link #interpolate(double)}. The x-values may be in any order,
+   * however implementations may be more efficient if they are sorted from low to high.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @return the values at the x-values
+   * @throws RuntimeException if the y-values cannot be calculated
+   */
+  public default DoubleArray interpolate(DoubleArray xValues) {
+    return xValues.map(this::interpolate);
+  }
+
   /**
    * Computes the first derivative of the y-value for the specified x-value.
    * <p>
@@ -52,6 +67,30 @@ public interface BoundCurveInterpolator {
    */
   public abstract DoubleArray parameterSensitivity(double x);
 
+  /**
+   * Computes the sensitivity of the y-value with respect to the curve parameters,
+   * adding it to an array of sensitivities.
+   * <p>
+   * The array must have one element for each parameter of the curve.
+   * The sensitivity of the y-value at the specified x-value to each parameter is multiplied
+   * by the amount and added to the matching element of the array.
+   * <p>
+   * This is equivalent to adding the result of {@link #parameterSensitivity(double)}, but avoids
+   * creating the intermediate array. Local interpolators, such as linear, only update the
+   * small number of parameters that affect the y-value.
+   *
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param amount  the amount to multiply the sensitivity by
+   * @param sensitivities  the array of sensitivities to add to, updated by this method
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void parameterSensitivity(double x, double amount, double[] sensitivities) {
+    double[] unit = parameterSensitivity(x).toArrayUnsafe();
+    for (int i = 0; i < unit.length; i++) {
+      sensitivities[i] += unit[i] * amount;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Binds this interpolator to the specified extrapolators.
@@ -105,6 +105,17 @@ final class LinearCurveInterpolator
       return y1 + (xValue - x1) * gradients[lowerIndex];
     }
 
+    @Override
+    protected void doInterpolate(double[] x, int fromIndex, int toIndex, double[] result) {
+      // x-values are sorted, so the lower index can be found by sweeping forward
+      int lowerIndex = 0;
+      for (int i = fromIndex; i < toIndex; i++) {
+        double xValue = x[i];
+        lowerIndex = lowerBoundIndex(xValue, xValues, lowerIndex);
+        result[i] = yValues[lowerIndex] + (xValue - xValues[lowerIndex]) * gradients[lowerIndex];
+      }
+    }
+
     @Override
     protected double doFirstDerivative(double xValue) {
       int lowerIndex = lowerBoundIndex(xValue, xValues);
@@ -135,6 +146,23 @@ final class LinearCurveInterpolator
       return DoubleArray.ofUnsafe(result);
     }
 
+    @Override
+    protected void doParameterSensitivity(double xValue, double amount, double[] sensitivities) {
+      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      // check if x-value is at the last node
+      if (lowerIndex == intervalCount) {
+        // sensitivity is entirely to the last node
+        sensitivities[intervalCount] += amount;
+      } else {
+        double x1 = xValues[lowerIndex];
+        double x2 = xValues[lowerIndex + 1];
+        double dx = x2 - x1;
+        double a = (x2 - xValue) / dx;
+        sensitivities[lowerIndex] += a * amount;
+        sensitivities[lowerIndex + 1] += (1 - a) * amount;
+      }
+    }
+
     @Override
     public BoundCurveInterpolator bind(
         BoundCurveExtrapolator extrapolatorLeft,
@@ -98,6 +98,21 @@ final class LogLinearCurveInterpolator
       return Math.pow(y2 / y1, (xValue - x1) / (x2 - x1)) * y1;
     }
 
+    @Override
+    protected void doInterpolate(double[] x, int fromIndex, int toIndex, double[] result) {
+      // x-values are sorted, so the lower index can be found by sweeping forward
+      int lowerIndex = 0;
+      for (int i = fromIndex; i < toIndex; i++) {
+        double xValue = x[i];
+        lowerIndex = lowerBoundIndex(xValue, xValues, lowerIndex);
+        double x1 = xValues[lowerIndex];
+        double x2 = xValues[lowerIndex + 1];
+        double y1 = yValues[lowerIndex];
+        double y2 = yValues[lowerIndex + 1];
+        result[i] = Math.pow(y2 / y1, (xValue - x1) / (x2 - x1)) * y1;
+      }
+    }
+
     @Override
     protected double doFirstDerivative(double xValue) {
       int lowerIndex = lowerBoundIndex(xValue, xValues);
@@ -142,6 +157,27 @@ final class LogLinearCurveInterpolator
       return DoubleArray.ofUnsafe(result);
     }
 
+    @Override
+    protected void doParameterSensitivity(double xValue, double amount, double[] sensitivities) {
+      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      // check if x-value is at the last node
+      if (lowerIndex == intervalCount) {
+        // sensitivity is entirely to the last node
+        sensitivities[intervalCount] += amount;
+      } else {
+        double x1 = xValues[lowerIndex];
+        double x2 = xValues[lowerIndex + 1];
+        double y1 = yValues[lowerIndex];
+        double y2 = yValues[lowerIndex + 1];
+        double diffInv = 1.0 / (x2 - x1);
+        double x1diffInv = (xValue - x1) * diffInv;
+        double x2diffInv = (x2 - xValue) * diffInv;
+        double yDiv = y1 / y2;
+        sensitivities[lowerIndex] += Math.pow(yDiv, -x1diffInv) * x2diffInv * amount;
+        sensitivities[lowerIndex + 1] += Math.pow(yDiv, x2diffInv) * x1diffInv * amount;
+      }
+    }
+
     @Override
     public BoundCurveInterpolator bind(
         BoundCurveExtrapolator extrapolatorLeft,
@@ -94,6 +94,18 @@ public final class CurrencyParameterSensitivities
     return EMPTY;
   }
 
+  /**
+   * Returns a builder that can be used to create an instance of {@code CurrencyParameterSensitivities}.
+   * <p>
+   * The builder sums sensitivities in place, and is more efficient than repeated calls to
+   * {@link #combinedWith(CurrencyParameterSensitivities)} when combining many sensitivities.
+   * 
+   * @return the builder
+   */
+  public static CurrencyParameterSensitivitiesBuilder builder() {
+    return new CurrencyParameterSensitivitiesBuilder();
+  }
+
   /**
    * Obtains an instance from a single sensitivity entry.
    * 
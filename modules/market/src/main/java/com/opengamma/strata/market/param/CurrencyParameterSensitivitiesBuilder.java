@@ -0,0 +1,201 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+
+/**
+ * Builder for {@code CurrencyParameterSensitivities}.
+ * <p>
+ * This accumulates sensitivities into a mutable {@code double[]} for each combination of
+ * market data name and currency, such as a curve. Entries with the same name and currency
+ * are summed, as in {@link CurrencyParameterSensitivities#combinedWith(CurrencyParameterSensitivity)}.
+ * The immutable {@link CurrencyParameterSensitivities} is only created when {@link #build()} is called.
+ * <p>
+ * This is intended to be used when a large number of sensitivities are combined,
+ * such as when converting point sensitivities to parameter sensitivities.
+ * <p>
+ * This is a mutable builder that is not intended for use in multiple threads.
+ */
+public final class CurrencyParameterSensitivitiesBuilder {
+
+  /**
+   * The sensitivities, keyed by market data name and currency.
+   */
+  private final Map<Pair<MarketDataName<?>, Currency>, Entry> sensitivities = new LinkedHashMap<>();
+
+  /**
+   * Creates an empty instance.
+   */
+  CurrencyParameterSensitivitiesBuilder() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds a single sensitivity to the builder.
+   * <p>
+   * If the market data name and currency match an existing entry, the values are summed.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the number of parameters does not match the existing entry
+   */
+  public CurrencyParameterSensitivitiesBuilder add(CurrencyParameterSensitivity sensitivity) {
+    ArgChecker.notNull(sensitivity, "sensitivity");
+    double[] values = values(
+        sensitivity.getMarketDataName(),
+        sensitivity.getParameterMetadata(),
+        sensitivity.getCurrency(),
+        sensitivity.getParameterSplit().orElse(null),
+        sensitivity.getParameterCount());
+    double[] addition = sensitivity.getSensitivity().toArrayUnsafe();
+    for (int i = 0; i < values.length; i++) {
+      values[i] += addition[i];
+    }
+    return this;
+  }
+
+  /**
+   * Adds all the sensitivities to the builder.
+   * <p>
+   * If the market data name and currency match an existing entry, the values are summed.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the number of parameters does not match the existing entry
+   */
+  public CurrencyParameterSensitivitiesBuilder add(CurrencyParameterSensitivities sensitivities) {
+    ArgChecker.notNull(sensitivities, "sensitivities");
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a unit sensitivity multiplied by an amount to the builder.
+   * <p>
+   * This is equivalent to adding {@code unitSensitivity.multipliedBy(currency, amount)},
+   * but avoids creating the intermediate sensitivity.
+   *
+   * @param unitSensitivity  the unit sensitivity
+   * @param currency  the currency of the amount
+   * @param amount  the amount to multiply by
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the number of parameters does not match the existing entry
+   */
+  public CurrencyParameterSensitivitiesBuilder add(
+      UnitParameterSensitivity unitSensitivity,
+      Currency currency,
+      double amount) {
+
+    ArgChecker.notNull(unitSensitivity, "unitSensitivity");
+    ArgChecker.notNull(currency, "currency");
+    double[] values = values(
+        unitSensitivity.getMarketDataName(),
+        unitSensitivity.getParameterMetadata(),
+        currency,
+        unitSensitivity.getParameterSplit().orElse(null),
+        unitSensitivity.getParameterCount());
+    double[] unit = unitSensitivity.getSensitivity().toArrayUnsafe();
+    for (int i = 0; i < values.length; i++) {
+      values[i] += unit[i] * amount;
+    }
+    return this;
+  }
+
+  /**
+   * Gets the mutable sensitivity values for the market data name and currency.
+   * <p>
+   * This allows a sensitivity to be added in place, without creating an intermediate array.
+   * This is useful when only a small number of parameters are affected, such as with local interpolation.
+   * The array has one element for each parameter and is created if necessary.
+   * Changes to the array will be included when {@link #build()} is called.
+   *
+   * @param name  the market data name
+   * @param parameterMetadata  the parameter metadata, used if the entry is created
+   * @param currency  the currency
+   * @return the mutable array of values
+   * @throws IllegalArgumentException if the number of parameters does not match the existing entry
+   */
+  public double[] values(MarketDataName<?> name, List<ParameterMetadata> parameterMetadata, Currency currency) {
+    ArgChecker.notNull(name, "name");
+    ArgChecker.notNull(parameterMetadata, "parameterMetadata");
+    ArgChecker.notNull(currency, "currency");
+    return values(name, parameterMetadata, currency, null, parameterMetadata.size());
+  }
+
+  // finds the values of the matching entry, creating it if necessary
+  private double[] values(
+      MarketDataName<?> name,
+      List<ParameterMetadata> parameterMetadata,
+      Currency currency,
+      List<ParameterSize> parameterSplit,
+      int parameterCount) {
+
+    Entry entry = sensitivities.computeIfAbsent(
+        Pair.of(name, currency), key -> new Entry(name, parameterMetadata, currency, parameterSplit, parameterCount));
+    if (entry.values.length != parameterCount) {
+      throw new IllegalArgumentException(Messages.format(
+          "Sensitivity array size {} must match size {}", parameterCount, entry.values.length));
+    }
+    return entry.values;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the sensitivities.
+   * <p>
+   * The builder may continue to be used after this method is called.
+   *
+   * @return the sensitivities
+   */
+  public CurrencyParameterSensitivities build() {
+    List<CurrencyParameterSensitivity> list = new ArrayList<>(sensitivities.size());
+    for (Entry entry : sensitivities.values()) {
+      list.add(CurrencyParameterSensitivity.of(
+          entry.name, entry.parameterMetadata, entry.currency, DoubleArray.copyOf(entry.values), entry.parameterSplit));
+    }
+    return CurrencyParameterSensitivities.of(list);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The mutable values for a single market data name and currency.
+   */
+  private static final class Entry {
+    private final MarketDataName<?> name;
+    private final List<ParameterMetadata> parameterMetadata;
+    private final Currency currency;
+    private final List<ParameterSize> parameterSplit;
+    private final double[] values;
+
+    private Entry(
+        MarketDataName<?> name,
+        List<ParameterMetadata> parameterMetadata,
+        Currency currency,
+        List<ParameterSize> parameterSplit,
+        int parameterCount) {
+
+      this.name = name;
+      this.parameterMetadata = parameterMetadata;
+      this.currency = currency;
+      this.parameterSplit = parameterSplit;
+      this.values = new double[parameterCount];
+    }
+  }
+
+}
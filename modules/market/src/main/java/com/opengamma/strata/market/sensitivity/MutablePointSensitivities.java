@@ -189,17 +189,25 @@ public final class MutablePointSensitivities
    */
   @Override
   public MutablePointSensitivities normalize() {
+    // the sort is stable, thus entries with the same key are summed in the order they were added
+    // each run of equal keys is merged into a single entry, compacting the list in one pass
     sensitivities.sort(PointSensitivity::compareKey);
-    PointSensitivity previous = sensitivities.get(0);
-    for (int i = 1; i < sensitivities.size(); i++) {
-      PointSensitivity current = sensitivities.get(i);
-      if (current.compareKey(previous) == 0) {
-        sensitivities.set(i - 1, previous.withSensitivity(previous.getSensitivity() + current.getSensitivity()));
-        sensitivities.remove(i);
-        i--;
+    int size = sensitivities.size();
+    int merged = 0;
+    int start = 0;
+    while (start < size) {
+      PointSensitivity first = sensitivities.get(start);
+      double total = first.getSensitivity();
+      int end = start + 1;
+      while (end < size && sensitivities.get(end).compareKey(first) == 0) {
+        total += sensitivities.get(end).getSensitivity();
+        end++;
       }
-      previous = current;
+      sensitivities.set(merged, end - start == 1 ? first : first.withSensitivity(total));
+      merged++;
+      start = end;
     }
+    sensitivities.subList(merged, size).clear();
     return this;
   }
 
@@ -26,6 +26,8 @@ import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.LabelDateParameterMetadata;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -236,6 +238,24 @@ public class InterpolatedNodalCurveTest {
         CurrencyParameterSensitivity.of(CURVE_NAME, Currency.GBP, DoubleArray.of(2d, 3d, 4d)));
   }
 
+  public void test_yValues() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    DoubleArray xValues = DoubleArray.of(0.5d, 1d, 1.5d, 2d, 2.7d, 3d, 4d);
+    assertThat(test.yValues(xValues)).isEqualTo(xValues.map(test::yValue));
+  }
+
+  public void test_yValueParameterSensitivity_builder() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA_ENTRIES, XVALUES, YVALUES, INTERPOLATOR);
+    for (double x : new double[] {1.5d, 2d, 2.7d, 3d}) {
+      CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder();
+      test.yValueParameterSensitivity(x, Currency.GBP, 2d, builder);
+      test.yValueParameterSensitivity(x, Currency.GBP, 3d, builder);
+      CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(
+          test.yValueParameterSensitivity(x).multipliedBy(Currency.GBP, 5d));
+      assertThat(builder.build().equalWithTolerance(expected, 1e-12)).isTrue();
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void coverage() {
     InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
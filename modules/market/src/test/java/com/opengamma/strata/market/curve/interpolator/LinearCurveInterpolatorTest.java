@@ -7,6 +7,7 @@ package com.opengamma.strata.market.curve.interpolator;
 
 import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import org.testng.annotations.Test;
 
@@ -76,6 +77,29 @@ public class LinearCurveInterpolatorTest {
     assertEquals(bci.parameterSensitivity(5.0).get(X_DATA.size() - 1), 1d, TOL);
   }
 
+  public void test_interpolate_bulk() {
+    BoundCurveInterpolator bci = LINEAR_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    DoubleArray xValues = DoubleArray.of(-1.0, 0.0, 0.2, 0.4, 0.4, 1.1, 2.3, 2.8, 4.9, 5.0, 6.0);
+    DoubleArray computed = bci.interpolate(xValues);
+    assertEquals(computed, xValues.map(bci::interpolate));
+    DoubleArray unsorted = DoubleArray.of(2.3, -1.0, 5.0, 0.2);
+    assertEquals(bci.interpolate(unsorted), unsorted.map(bci::interpolate));
+    assertEquals(bci.interpolate(DoubleArray.EMPTY), DoubleArray.EMPTY);
+  }
+
+  public void test_parameterSensitivity_addToArray() {
+    BoundCurveInterpolator bci = LINEAR_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    double[] xValues = {-1.0, 0.0, 0.2, 0.4, 1.1, 2.3, 5.0, 6.0};
+    for (double x : xValues) {
+      double[] computed = new double[X_DATA.size()];
+      computed[0] = 1d;
+      bci.parameterSensitivity(x, 2.5, computed);
+      DoubleArray dense = bci.parameterSensitivity(x);
+      DoubleArray expected = dense.multipliedBy(2.5).with(0, dense.get(0) * 2.5 + 1d);
+      assertTrue(DoubleArray.ofUnsafe(computed).equalWithTolerance(expected, TOL));
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void test_serialization() {
     assertSerialization(LINEAR_INTERPOLATOR);
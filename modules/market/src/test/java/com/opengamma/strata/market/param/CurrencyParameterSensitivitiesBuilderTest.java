@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.curve.CurveName;
+
+/**
+ * Test {@link CurrencyParameterSensitivitiesBuilder}.
+ */
+@Test
+public class CurrencyParameterSensitivitiesBuilderTest {
+
+  private static final Currency USD = Currency.USD;
+  private static final Currency EUR = Currency.EUR;
+  private static final MarketDataName<?> NAME1 = CurveName.of("NAME-1");
+  private static final MarketDataName<?> NAME2 = CurveName.of("NAME-2");
+  private static final List<ParameterMetadata> METADATA1 = ParameterMetadata.listOfEmpty(4);
+  private static final List<ParameterMetadata> METADATA2 = ParameterMetadata.listOfEmpty(3);
+  private static final DoubleArray VECTOR_USD1 = DoubleArray.of(100, 200, 300, 123);
+  private static final DoubleArray VECTOR_USD2 = DoubleArray.of(1000, 250, 321, 123);
+  private static final DoubleArray VECTOR_EUR1 = DoubleArray.of(1000, 250, 321);
+
+  private static final CurrencyParameterSensitivity ENTRY_USD =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, VECTOR_USD1);
+  private static final CurrencyParameterSensitivity ENTRY_USD2 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, VECTOR_USD2);
+  private static final CurrencyParameterSensitivity ENTRY_EUR =
+      CurrencyParameterSensitivity.of(NAME2, METADATA2, EUR, VECTOR_EUR1);
+
+  //-------------------------------------------------------------------------
+  public void test_empty() {
+    assertEquals(CurrencyParameterSensitivities.builder().build(), CurrencyParameterSensitivities.empty());
+  }
+
+  public void test_add() {
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.builder()
+        .add(ENTRY_EUR)
+        .add(ENTRY_USD)
+        .add(ENTRY_USD2)
+        .build();
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(ENTRY_EUR)
+        .combinedWith(ENTRY_USD)
+        .combinedWith(ENTRY_USD2);
+    assertEquals(test, expected);
+  }
+
+  public void test_add_sensitivities() {
+    CurrencyParameterSensitivities sensitivities = CurrencyParameterSensitivities.of(ImmutableList.of(ENTRY_USD, ENTRY_EUR));
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.builder()
+        .add(sensitivities)
+        .add(sensitivities)
+        .build();
+    assertEquals(test, sensitivities.multipliedBy(2d));
+  }
+
+  public void test_add_unit() {
+    UnitParameterSensitivity unit = UnitParameterSensitivity.of(NAME1, METADATA1, VECTOR_USD1);
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.builder()
+        .add(unit, USD, 2d)
+        .add(ENTRY_USD2)
+        .build();
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(unit.multipliedBy(USD, 2d))
+        .combinedWith(ENTRY_USD2);
+    assertEquals(test, expected);
+  }
+
+  public void test_values() {
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder().add(ENTRY_USD);
+    double[] values = builder.values(NAME1, METADATA1, USD);
+    values[1] += 50d;
+    builder.values(NAME2, METADATA2, EUR)[2] = 10d;
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(
+        ENTRY_USD.withSensitivity(DoubleArray.of(100, 250, 300, 123)),
+        CurrencyParameterSensitivity.of(NAME2, METADATA2, EUR, DoubleArray.of(0, 0, 10)));
+    assertEquals(builder.build(), expected);
+    assertThrowsIllegalArg(() -> builder.values(NAME1, METADATA2, USD));
+  }
+
+  public void test_build_reuse() {
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder().add(ENTRY_USD);
+    CurrencyParameterSensitivities first = builder.build();
+    builder.add(ENTRY_USD2);
+    assertEquals(first, CurrencyParameterSensitivities.of(ENTRY_USD));
+  }
+
+  public void test_add_sizeMismatch() {
+    CurrencyParameterSensitivity small =
+        CurrencyParameterSensitivity.of(NAME1, ParameterMetadata.listOfEmpty(1), USD, DoubleArray.of(100d));
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder().add(ENTRY_USD);
+    assertThrowsIllegalArg(() -> builder.add(small));
+  }
+
+}
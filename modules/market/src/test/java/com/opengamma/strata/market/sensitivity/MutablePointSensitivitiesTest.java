@@ -159,6 +159,23 @@ public class MutablePointSensitivitiesTest {
     assertEquals(test.getSensitivities(), ImmutableList.of(CS1, CS2, CS3.withSensitivity(35d)));
   }
 
+  public void test_normalize_empty() {
+    MutablePointSensitivities test = new MutablePointSensitivities();
+    test.normalize();
+    assertEquals(test.size(), 0);
+  }
+
+  public void test_normalize_manyDuplicates() {
+    MutablePointSensitivities test = new MutablePointSensitivities();
+    for (int i = 0; i < 1000; i++) {
+      test.add(CS3B);
+      test.add(CS1);
+      test.add(CS3);
+    }
+    test.normalize();
+    assertEquals(test.getSensitivities(), ImmutableList.of(CS1.withSensitivity(12000d), CS3.withSensitivity(35000d)));
+  }
+
   //-------------------------------------------------------------------------
   public void test_toImmutable() {
     MutablePointSensitivities test = new MutablePointSensitivities();
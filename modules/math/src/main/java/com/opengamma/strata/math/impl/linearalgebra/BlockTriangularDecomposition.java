@@ -0,0 +1,160 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Decomposition of a square matrix that exploits a block triangular structure.
+ * <p>
+ * The sparsity pattern of the matrix defines a graph, where index i is linked to index j
+ * if the element (i, j) is non-zero. The strongly connected components of the graph are the
+ * diagonal blocks of a symmetric permutation of the matrix to block lower triangular form.
+ * Each diagonal block is decomposed using the underlying decomposition, and systems of equations
+ * are solved by block forward substitution.
+ * <p>
+ * This is efficient for block-sparse matrices, such as the derivatives used in curve calibration,
+ * where each instrument only depends on a small number of curves. The cost of the decomposition
+ * is driven by the size of the largest block rather than the size of the matrix.
+ * <p>
+ * If the matrix forms a single block, or has a zero on the diagonal, the underlying decomposition
+ * is applied to the whole matrix.
+ */
+public class BlockTriangularDecomposition extends Decomposition<DecompositionResult> {
+
+  /**
+   * The decomposition used for each diagonal block.
+   */
+  private final Decomposition<?> blockDecomposition;
+
+  /**
+   * Creates an instance.
+   *
+   * @param blockDecomposition  the decomposition used for each diagonal block
+   */
+  public BlockTriangularDecomposition(Decomposition<?> blockDecomposition) {
+    this.blockDecomposition = ArgChecker.notNull(blockDecomposition, "blockDecomposition");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DecompositionResult apply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    ArgChecker.isTrue(x.isSquare(), "Matrix must be square");
+    List<int[]> blocks = blocks(x);
+    if (blocks.size() <= 1) {
+      return blockDecomposition.apply(x);
+    }
+    return new BlockTriangularDecompositionResult(x, blocks, blockDecomposition);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Finds the diagonal blocks of the block triangular form of the matrix.
+   * <p>
+   * Each block is an array of indices into the matrix, in ascending order.
+   * The blocks are returned in the order they must be solved, such that the rows of
+   * each block only depend on the indices of the block itself and the earlier blocks.
+   * <p>
+   * If the diagonal contains a zero, a single block containing all the indices is returned.
+   *
+   * @param matrix  the square matrix
+   * @return the blocks
+   */
+  public static List<int[]> blocks(DoubleMatrix matrix) {
+    ArgChecker.notNull(matrix, "matrix");
+    ArgChecker.isTrue(matrix.isSquare(), "Matrix must be square");
+    int size = matrix.rowCount();
+    for (int i = 0; i < size; i++) {
+      if (matrix.get(i, i) == 0d) {
+        List<int[]> single = new ArrayList<>();
+        single.add(range(size));
+        return single;
+      }
+    }
+    return new StronglyConnectedComponents(matrix).find();
+  }
+
+  // the indices from zero to size exclusive
+  private static int[] range(int size) {
+    int[] result = new int[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = i;
+    }
+    return result;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Tarjan's algorithm for the strongly connected components of the sparsity graph.
+   * <p>
+   * Tarjan's algorithm completes a component only once all the components it links to are complete.
+   * As such, the components are found in the order they must be solved.
+   */
+  private static final class StronglyConnectedComponents {
+    private final DoubleMatrix matrix;
+    private final int size;
+    private final int[] index;
+    private final int[] lowLink;
+    private final boolean[] onStack;
+    private final Deque<Integer> stack = new ArrayDeque<>();
+    private final List<int[]> components = new ArrayList<>();
+    private int nextIndex = 1;
+
+    private StronglyConnectedComponents(DoubleMatrix matrix) {
+      this.matrix = matrix;
+      this.size = matrix.rowCount();
+      this.index = new int[size];
+      this.lowLink = new int[size];
+      this.onStack = new boolean[size];
+    }
+
+    private List<int[]> find() {
+      for (int i = 0; i < size; i++) {
+        if (index[i] == 0) {
+          visit(i);
+        }
+      }
+      return components;
+    }
+
+    private void visit(int i) {
+      index[i] = nextIndex;
+      lowLink[i] = nextIndex;
+      nextIndex++;
+      stack.push(i);
+      onStack[i] = true;
+      double[] row = matrix.rowArray(i);
+      for (int j = 0; j < size; j++) {
+        if (j != i && row[j] != 0d) {
+          if (index[j] == 0) {
+            visit(j);
+            lowLink[i] = Math.min(lowLink[i], lowLink[j]);
+          } else if (onStack[j]) {
+            lowLink[i] = Math.min(lowLink[i], index[j]);
+          }
+        }
+      }
+      if (lowLink[i] == index[i]) {
+        List<Integer> component = new ArrayList<>();
+        int j;
+        do {
+          j = stack.pop();
+          onStack[j] = false;
+          component.add(j);
+        } while (j != i);
+        components.add(component.stream().mapToInt(Integer::intValue).sorted().toArray());
+      }
+    }
+  }
+
+}
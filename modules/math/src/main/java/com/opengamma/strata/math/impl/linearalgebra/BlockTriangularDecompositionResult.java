@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the block triangular decomposition ({@link BlockTriangularDecomposition}).
+ * <p>
+ * This holds the decomposition of each diagonal block, together with the non-zero elements
+ * outside the diagonal blocks. The memory used is proportional to the size of the diagonal
+ * blocks and the number of non-zero elements, rather than the size of the matrix.
+ */
+public class BlockTriangularDecompositionResult implements DecompositionResult {
+
+  /**
+   * The size of the matrix.
+   */
+  private final int size;
+  /**
+   * The indices of each diagonal block, in the order they are solved.
+   */
+  private final List<int[]> blocks;
+  /**
+   * The decomposition of each diagonal block.
+   */
+  private final List<DecompositionResult> blockResults;
+  /**
+   * The column indices of the non-zero elements outside the diagonal block, for each row of each block.
+   */
+  private final List<int[][]> offBlockColumns;
+  /**
+   * The values of the non-zero elements outside the diagonal block, for each row of each block.
+   */
+  private final List<double[][]> offBlockValues;
+
+  /**
+   * Creates an instance.
+   *
+   * @param matrix  the matrix
+   * @param blocks  the indices of each diagonal block, in the order they are solved
+   * @param blockDecomposition  the decomposition used for each diagonal block
+   */
+  BlockTriangularDecompositionResult(DoubleMatrix matrix, List<int[]> blocks, Decomposition<?> blockDecomposition) {
+    this.size = matrix.rowCount();
+    this.blocks = blocks;
+    this.blockResults = new ArrayList<>(blocks.size());
+    this.offBlockColumns = new ArrayList<>(blocks.size());
+    this.offBlockValues = new ArrayList<>(blocks.size());
+    boolean[] inBlock = new boolean[size];
+    for (int[] block : blocks) {
+      for (int i : block) {
+        inBlock[i] = true;
+      }
+      int[][] columns = new int[block.length][];
+      double[][] values = new double[block.length][];
+      double[][] diagonal = new double[block.length][block.length];
+      for (int i = 0; i < block.length; i++) {
+        double[] row = matrix.rowArray(block[i]);
+        for (int j = 0; j < block.length; j++) {
+          diagonal[i][j] = row[block[j]];
+        }
+        int count = 0;
+        int[] rowColumns = new int[size];
+        double[] rowValues = new double[size];
+        for (int j = 0; j < size; j++) {
+          if (!inBlock[j] && row[j] != 0d) {
+            rowColumns[count] = j;
+            rowValues[count] = row[j];
+            count++;
+          }
+        }
+        columns[i] = Arrays.copyOf(rowColumns, count);
+        values[i] = Arrays.copyOf(rowValues, count);
+      }
+      for (int i : block) {
+        inBlock[i] = false;
+      }
+      blockResults.add(blockDecomposition.apply(DoubleMatrix.ofUnsafe(diagonal)));
+      offBlockColumns.add(columns);
+      offBlockValues.add(values);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the indices of each diagonal block, in the order they are solved.
+   *
+   * @return the blocks
+   */
+  public List<int[]> getBlocks() {
+    return blocks;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DoubleArray solve(DoubleArray b) {
+    ArgChecker.notNull(b, "b");
+    return DoubleArray.ofUnsafe(solve(b.toArrayUnsafe()));
+  }
+
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.length == size, "Vector must have length {}, but was {}", size, b.length);
+    double[] x = new double[size];
+    for (int k = 0; k < blocks.size(); k++) {
+      int[] block = blocks.get(k);
+      int[][] columns = offBlockColumns.get(k);
+      double[][] values = offBlockValues.get(k);
+      // move the known values from earlier blocks to the right hand side
+      double[] rhs = new double[block.length];
+      for (int i = 0; i < block.length; i++) {
+        double sum = b[block[i]];
+        for (int j = 0; j < columns[i].length; j++) {
+          sum -= values[i][j] * x[columns[i][j]];
+        }
+        rhs[i] = sum;
+      }
+      double[] xBlock = blockResults.get(k).solve(rhs);
+      for (int i = 0; i < block.length; i++) {
+        x[block[i]] = xBlock[i];
+      }
+    }
+    return x;
+  }
+
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.rowCount() == size, "Matrix must have {} rows, but was {}", size, b.rowCount());
+    int columnCount = b.columnCount();
+    double[][] result = new double[size][columnCount];
+    for (int j = 0; j < columnCount; j++) {
+      double[] x = solve(b.column(j).toArrayUnsafe());
+      for (int i = 0; i < size; i++) {
+        result[i][j] = x[i];
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+}
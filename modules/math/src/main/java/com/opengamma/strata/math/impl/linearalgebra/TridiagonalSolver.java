@@ -63,4 +63,48 @@ public class TridiagonalSolver {
     return DoubleArray.copyOf(solvTriDag(aM, b.toArray()));
   }
 
+  /**
+   * Solves the system Ax = y for the unknown vector x over a range of rows, without allocating memory.
+   * <p>
+   * This is intended for repeated solves, such as the time steps of a finite difference scheme,
+   * where the caller owns and reuses all the arrays.
+   * The coefficients are aligned by row, thus row {@code i} of the system is
+   * {@code lower[i] * x[i - 1] + diagonal[i] * x[i] + upper[i] * x[i + 1] = y[i]}.
+   * Only the rows from {@code start} inclusive to {@code end} exclusive are solved, with
+   * {@code lower[start]} and {@code upper[end - 1]} ignored.
+   * <p>
+   * The arrays {@code x} and {@code y} may be the same array, in which case {@code y} is overwritten.
+   * The array {@code work} is used for intermediate results and is overwritten.
+   * 
+   * @param lower  the lower sub-diagonal coefficients, aligned by row
+   * @param diagonal  the diagonal coefficients
+   * @param upper  the upper sub-diagonal coefficients, aligned by row
+   * @param y  the known vector
+   * @param x  the array to populate with the solution
+   * @param work  the workspace, of the same length as the other arrays
+   * @param start  the first row to solve, inclusive
+   * @param end  the last row to solve, exclusive
+   */
+  public static void solvTriDag(
+      double[] lower,
+      double[] diagonal,
+      double[] upper,
+      double[] y,
+      double[] x,
+      double[] work,
+      int start,
+      int end) {
+
+    double beta = diagonal[start];
+    x[start] = y[start] / beta;
+    for (int i = start + 1; i < end; i++) {
+      work[i] = upper[i - 1] / beta;
+      beta = diagonal[i] - lower[i] * work[i];
+      x[i] = (y[i] - lower[i] * x[i - 1]) / beta;
+    }
+    for (int i = end - 2; i >= start; i--) {
+      x[i] -= work[i + 1] * x[i + 1];
+    }
+  }
+
 }
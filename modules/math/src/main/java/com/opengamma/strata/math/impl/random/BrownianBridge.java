@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Brownian bridge construction of a Brownian motion path.
+ * <p>
+ * The path is built from independent standard normal numbers by first setting the value
+ * at the last time, then repeatedly filling in the value in the middle of an interval
+ * conditional on the values at either end.
+ * The first numbers thus determine the large scale shape of the path.
+ * <p>
+ * This is typically combined with a low-discrepancy sequence, such as {@link SobolSequenceGenerator},
+ * as the leading dimensions of such sequences have the best uniformity properties.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class BrownianBridge {
+
+  /**
+   * The number of times.
+   */
+  private final int size;
+  /**
+   * The index of the point populated at each step.
+   */
+  private final int[] bridgeIndex;
+  /**
+   * The index after the left point at each step, zero if the left point is time zero.
+   */
+  private final int[] leftIndex;
+  /**
+   * The index of the right point at each step.
+   */
+  private final int[] rightIndex;
+  /**
+   * The weight of the left point at each step.
+   */
+  private final double[] leftWeight;
+  /**
+   * The weight of the right point at each step.
+   */
+  private final double[] rightWeight;
+  /**
+   * The conditional standard deviation at each step.
+   */
+  private final double[] stdDev;
+
+  /**
+   * Creates an instance.
+   *
+   * @param times  the times of the path, strictly increasing and positive
+   */
+  public BrownianBridge(DoubleArray times) {
+    ArgChecker.notNull(times, "times");
+    ArgChecker.isTrue(times.size() > 0, "times must not be empty");
+    ArgChecker.isTrue(times.get(0) > 0d, "times must be positive");
+    for (int i = 1; i < times.size(); i++) {
+      ArgChecker.isTrue(times.get(i - 1) < times.get(i), "times must be strictly increasing");
+    }
+    double[] t = times.toArrayUnsafe();
+    this.size = t.length;
+    this.bridgeIndex = new int[size];
+    this.leftIndex = new int[size];
+    this.rightIndex = new int[size];
+    this.leftWeight = new double[size];
+    this.rightWeight = new double[size];
+    this.stdDev = new double[size];
+    // map records the step at which each point is populated, zero if not yet populated
+    int[] map = new int[size];
+    map[size - 1] = 1;
+    bridgeIndex[0] = size - 1;
+    stdDev[0] = Math.sqrt(t[size - 1]);
+    int j = 0;
+    for (int i = 1; i < size; i++) {
+      while (map[j] != 0) {
+        j++;
+      }
+      int k = j;
+      while (map[k] == 0) {
+        k++;
+      }
+      // points j to k-1 are not populated, point k is populated
+      int l = j + ((k - 1 - j) >> 1);
+      map[l] = i;
+      bridgeIndex[i] = l;
+      leftIndex[i] = j;
+      rightIndex[i] = k;
+      double tLeft = j == 0 ? 0d : t[j - 1];
+      leftWeight[i] = (t[k] - t[l]) / (t[k] - tLeft);
+      rightWeight[i] = (t[l] - tLeft) / (t[k] - tLeft);
+      stdDev[i] = Math.sqrt((t[l] - tLeft) * (t[k] - t[l]) / (t[k] - tLeft));
+      j = k + 1;
+      if (j >= size) {
+        j = 0;
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of times in the path.
+   *
+   * @return the size
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Builds the path of the Brownian motion from independent standard normal numbers.
+   * <p>
+   * The path is the value of the Brownian motion at each time, starting from zero at time zero.
+   *
+   * @param normals  the standard normal numbers, of length at least the size
+   * @param path  the array to populate with the path, of length at least the size
+   */
+  public void transform(double[] normals, double[] path) {
+    path[size - 1] = stdDev[0] * normals[0];
+    for (int i = 1; i < size; i++) {
+      int j = leftIndex[i];
+      int k = rightIndex[i];
+      int l = bridgeIndex[i];
+      if (j == 0) {
+        path[l] = rightWeight[i] * path[k] + stdDev[i] * normals[i];
+      } else {
+        path[l] = leftWeight[i] * path[j - 1] + rightWeight[i] * path[k] + stdDev[i] * normals[i];
+      }
+    }
+  }
+
+}
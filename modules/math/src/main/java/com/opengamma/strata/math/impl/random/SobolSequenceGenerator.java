@@ -0,0 +1,198 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import java.util.List;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Splitter;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.io.ResourceLocator;
+
+/**
+ * Generator of Sobol low-discrepancy sequences.
+ * <p>
+ * The points are generated in Gray code order using the Antonov-Saleev method.
+ * The direction numbers for the second and subsequent dimensions are those of Joe and Kuo,
+ * supporting up to {@link #MAX_DIMENSION} dimensions. They are loaded from the table
+ * {@code new-joe-kuo-6.1000}, which is a classpath resource of Apache Commons Math.
+ * The initial point of the sequence, which is zero in every dimension, is skipped,
+ * thus every coordinate is strictly between zero and one.
+ * <p>
+ * The generator can be moved to any point of the sequence using {@link #skipTo(long)}.
+ * This allows separate generators to produce non-overlapping parts of the same sequence,
+ * for example one for each batch of a parallel simulation.
+ * <p>
+ * Reference: Joe, S. and Kuo, F. Y. (2008). "Constructing Sobol sequences with better two-dimensional projections".
+ * SIAM Journal on Scientific Computing, 30(5):2635--2654.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class SobolSequenceGenerator {
+
+  /**
+   * The maximum supported dimension.
+   */
+  public static final int MAX_DIMENSION = 1000;
+  /**
+   * The number of bits used for each coordinate.
+   */
+  private static final int BITS = 52;
+  /**
+   * The scale to convert the coordinate to a double.
+   */
+  private static final double SCALE = Math.pow(2, BITS);
+  /**
+   * The classpath resource holding the direction numbers of Joe and Kuo, as shipped by Apache Commons Math.
+   */
+  static final String DIRECTION_NUMBERS_RESOURCE = "/assets/org/apache/commons/math3/random/new-joe-kuo-6.1000";
+  /**
+   * The direction numbers for dimensions 2 and above, as degree, coefficients and initial numbers.
+   */
+  private static final int[][] DIRECTION_NUMBERS = loadDirectionNumbers();
+
+  /**
+   * The dimension.
+   */
+  private final int dimension;
+  /**
+   * The direction vectors, indexed by dimension and bit.
+   */
+  private final long[][] direction;
+  /**
+   * The integer coordinates of the current point.
+   */
+  private final long[] x;
+  /**
+   * The index of the current point.
+   */
+  private long index;
+
+  /**
+   * Creates an instance.
+   *
+   * @param dimension  the dimension of the points, from one to {@link #MAX_DIMENSION}
+   */
+  public SobolSequenceGenerator(int dimension) {
+    ArgChecker.inRangeInclusive(dimension, 1, MAX_DIMENSION, "dimension");
+    this.dimension = dimension;
+    this.direction = new long[dimension][BITS + 1];
+    this.x = new long[dimension];
+    for (int i = 1; i <= BITS; i++) {
+      direction[0][i] = 1L << (BITS - i);
+    }
+    for (int d = 1; d < dimension; d++) {
+      int[] numbers = DIRECTION_NUMBERS[d - 1];
+      int s = numbers[0];
+      int a = numbers[1];
+      long[] v = direction[d];
+      for (int i = 1; i <= s; i++) {
+        v[i] = ((long) numbers[i + 1]) << (BITS - i);
+      }
+      for (int i = s + 1; i <= BITS; i++) {
+        v[i] = v[i - s] ^ (v[i - s] >> s);
+        for (int k = 1; k < s; k++) {
+          v[i] ^= ((a >> (s - 1 - k)) & 1) * v[i - k];
+        }
+      }
+    }
+  }
+
+  // loads the direction numbers, in the file format of Joe and Kuo
+  // each line after the header holds the dimension, degree, coefficients and initial numbers
+  private static int[][] loadDirectionNumbers() {
+    ResourceLocator locator = ResourceLocator.ofClasspath(SobolSequenceGenerator.class, DIRECTION_NUMBERS_RESOURCE);
+    List<String> lines = Unchecked.wrap(() -> locator.getCharSource().readLines());
+    int[][] numbers = new int[MAX_DIMENSION - 1][];
+    for (String line : lines.subList(1, lines.size())) {
+      List<String> fields = Splitter.on(CharMatcher.whitespace()).omitEmptyStrings().splitToList(line);
+      if (fields.isEmpty()) {
+        continue;
+      }
+      int dimension = Integer.parseInt(fields.get(0));
+      int degree = Integer.parseInt(fields.get(1));
+      if (dimension < 2 || dimension > MAX_DIMENSION || fields.size() != degree + 3) {
+        throw new IllegalStateException("Invalid Sobol direction numbers: " + line);
+      }
+      numbers[dimension - 2] = fields.stream().skip(1).mapToInt(Integer::parseInt).toArray();
+    }
+    for (int i = 0; i < numbers.length; i++) {
+      if (numbers[i] == null) {
+        throw new IllegalStateException("Missing Sobol direction numbers for dimension " + (i + 2));
+      }
+    }
+    return numbers;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the dimension of the points.
+   *
+   * @return the dimension
+   */
+  public int getDimension() {
+    return dimension;
+  }
+
+  /**
+   * Gets the index of the next point to be generated.
+   * <p>
+   * The first point generated has index one.
+   *
+   * @return the index of the next point
+   */
+  public long getNextIndex() {
+    return index + 1;
+  }
+
+  /**
+   * Generates the next point into the specified array.
+   *
+   * @param point  the array to populate, of length at least the dimension
+   */
+  public void nextPoint(double[] point) {
+    int bit = 1 + Long.numberOfTrailingZeros(~index);
+    ArgChecker.isTrue(bit <= BITS, "Sobol sequence exhausted");
+    for (int d = 0; d < dimension; d++) {
+      x[d] ^= direction[d][bit];
+      point[d] = x[d] / SCALE;
+    }
+    index++;
+  }
+
+  /**
+   * Generates the next point.
+   *
+   * @return the point
+   */
+  public double[] nextVector() {
+    double[] point = new double[dimension];
+    nextPoint(point);
+    return point;
+  }
+
+  /**
+   * Moves the generator such that the next point generated is the point at the specified index.
+   *
+   * @param nextIndex  the index of the next point, one or greater
+   */
+  public void skipTo(long nextIndex) {
+    ArgChecker.isTrue(nextIndex >= 1 && nextIndex < (1L << BITS), "Invalid index: {}", nextIndex);
+    index = nextIndex - 1;
+    long gray = index ^ (index >> 1);
+    for (int d = 0; d < dimension; d++) {
+      long value = 0;
+      for (int bit = 1; bit <= BITS; bit++) {
+        if ((gray & (1L << (bit - 1))) != 0) {
+          value ^= direction[d][bit];
+        }
+      }
+      x[d] = value;
+    }
+  }
+
+}
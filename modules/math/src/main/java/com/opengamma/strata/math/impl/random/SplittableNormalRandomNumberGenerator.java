@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Standard normal random number generator based on a reproducible and splittable stream.
+ * <p>
+ * The generator is created from a seed, with the same seed always producing the same sequence.
+ * Independent generators can be obtained using {@link #split()}, allowing each thread
+ * to have its own stream. Provided the generators are split in a fixed order, the numbers
+ * produced are independent of the number of threads and the order in which they run.
+ * <p>
+ * The normal samples are obtained from the uniform samples using the Marsaglia polar method.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class SplittableNormalRandomNumberGenerator
+    implements RandomNumberGenerator {
+
+  /**
+   * The underlying stream of uniform random numbers.
+   */
+  private final SplittableRandom random;
+  /**
+   * The second sample generated by the polar method.
+   */
+  private double nextSample;
+  /**
+   * Whether the second sample is available.
+   */
+  private boolean hasNextSample;
+
+  /**
+   * Creates an instance from a seed.
+   *
+   * @param seed  the seed
+   */
+  public SplittableNormalRandomNumberGenerator(long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  // creates an instance from a stream
+  private SplittableNormalRandomNumberGenerator(SplittableRandom random) {
+    this.random = random;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Splits off a new generator.
+   * <p>
+   * The new generator is independent of this one, but fully determined by the state of this one.
+   *
+   * @return the new generator
+   */
+  public SplittableNormalRandomNumberGenerator split() {
+    return new SplittableNormalRandomNumberGenerator(random.split());
+  }
+
+  /**
+   * Gets the next standard normal random number.
+   *
+   * @return the random number
+   */
+  public double nextNormal() {
+    if (hasNextSample) {
+      hasNextSample = false;
+      return nextSample;
+    }
+    double x;
+    double y;
+    double s;
+    do {
+      x = 2d * random.nextDouble() - 1d;
+      y = 2d * random.nextDouble() - 1d;
+      s = x * x + y * y;
+    } while (s >= 1d || s == 0d);
+    double factor = Math.sqrt(-2d * Math.log(s) / s);
+    nextSample = y * factor;
+    hasNextSample = true;
+    return x * factor;
+  }
+
+  /**
+   * Fills the array with standard normal random numbers.
+   *
+   * @param array  the array to fill
+   */
+  public void fill(double[] array) {
+    for (int i = 0; i < array.length; i++) {
+      array[i] = nextNormal();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double[] getVector(int size) {
+    ArgChecker.notNegative(size, "size");
+    double[] result = new double[size];
+    fill(result);
+    return result;
+  }
+
+  @Override
+  public List<double[]> getVectors(int arraySize, int listSize) {
+    ArgChecker.notNegative(arraySize, "arraySize");
+    ArgChecker.notNegative(listSize, "listSize");
+    List<double[]> result = new ArrayList<>(listSize);
+    for (int i = 0; i < listSize; i++) {
+      result.add(getVector(arraySize));
+    }
+    return result;
+  }
+
+}
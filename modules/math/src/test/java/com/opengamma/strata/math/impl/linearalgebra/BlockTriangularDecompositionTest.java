@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+
+/**
+ * Test {@link BlockTriangularDecomposition}.
+ */
+@Test
+public class BlockTriangularDecompositionTest {
+
+  private static final MatrixAlgebra ALGEBRA = new CommonsMatrixAlgebra();
+  private static final Decomposition<SVDecompositionResult> SVD = new SVDecompositionCommons();
+  private static final BlockTriangularDecomposition BLOCK = new BlockTriangularDecomposition(SVD);
+  // indices 0 and 3 form the first block, indices 1, 2 and 4 form the second block depending on the first
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(new double[][] {
+      {4, 0, 0, 1, 0},
+      {1, 3, 1, 0, 0},
+      {0, 1, 4, 2, 1},
+      {2, 0, 0, 5, 0},
+      {0, 0, 1, 1, 3}});
+  private static final double EPS = 1e-10;
+
+  public void test_blocks() {
+    List<int[]> blocks = BlockTriangularDecomposition.blocks(A);
+    assertEquals(blocks.size(), 2);
+    assertThat(blocks.get(0)).containsExactly(0, 3);
+    assertThat(blocks.get(1)).containsExactly(1, 2, 4);
+  }
+
+  public void test_blocks_zeroDiagonal() {
+    DoubleMatrix matrix = DoubleMatrix.copyOf(new double[][] {{0, 1}, {1, 0}});
+    List<int[]> blocks = BlockTriangularDecomposition.blocks(matrix);
+    assertEquals(blocks.size(), 1);
+    assertThat(blocks.get(0)).containsExactly(0, 1);
+  }
+
+  public void test_blocks_diagonal() {
+    List<int[]> blocks = BlockTriangularDecomposition.blocks(DoubleMatrix.identity(3));
+    assertEquals(blocks.size(), 3);
+  }
+
+  public void test_solve() {
+    DecompositionResult result = BLOCK.apply(A);
+    assertTrue(result instanceof BlockTriangularDecompositionResult);
+    DoubleArray b = DoubleArray.of(1, 2, 3, 4, 5);
+    DoubleArray expected = SVD.apply(A).solve(b);
+    DoubleArray computed = result.solve(b);
+    assertTrue(computed.equalWithTolerance(expected, EPS));
+    DoubleArray recovered = DoubleArray.of(5, i -> A.row(i).multipliedBy(computed).sum());
+    assertTrue(recovered.equalWithTolerance(b, EPS));
+  }
+
+  public void test_solve_matrix() {
+    DoubleMatrix computed = BLOCK.apply(A).solve(DoubleMatrix.identity(5));
+    DoubleMatrix expected = ALGEBRA.getInverse(A);
+    for (int i = 0; i < 5; i++) {
+      assertTrue(computed.row(i).equalWithTolerance(expected.row(i), EPS));
+    }
+  }
+
+  public void test_singleBlock() {
+    DoubleMatrix matrix = DoubleMatrix.copyOf(new double[][] {{2, 1}, {1, 3}});
+    assertTrue(BLOCK.apply(matrix) instanceof SVDecompositionResult);
+  }
+
+  public void test_notSquare() {
+    assertThrowsIllegalArg(() -> BLOCK.apply(DoubleMatrix.filled(2, 3)));
+  }
+
+}
@@ -60,4 +60,56 @@ public class TridiagonalSolverTest {
 
   }
 
+  public void test_workspace() {
+    final int n = 23;
+    final int start = 3;
+    final int end = 19;
+    double[] a = new double[n - 1];
+    double[] b = new double[n];
+    double[] c = new double[n - 1];
+    double[] lower = new double[n];
+    double[] upper = new double[n];
+    for (int ii = 0; ii < n; ii++) {
+      b[ii] = 4d + RANDOM.nextRandom();
+      if (ii < n - 1) {
+        a[ii] = RANDOM.nextRandom();
+        c[ii] = RANDOM.nextRandom();
+        lower[ii + 1] = a[ii];
+        upper[ii] = c[ii];
+      }
+    }
+    double[] y = new double[n];
+    for (int ii = 0; ii < n; ii++) {
+      y[ii] = RANDOM.nextRandom();
+    }
+    // reference solution of the sub-system
+    int m = end - start;
+    double[] aSub = new double[m - 1];
+    double[] bSub = new double[m];
+    double[] cSub = new double[m - 1];
+    double[] ySub = new double[m];
+    for (int ii = 0; ii < m; ii++) {
+      bSub[ii] = b[start + ii];
+      ySub[ii] = y[start + ii];
+      if (ii < m - 1) {
+        aSub[ii] = a[start + ii];
+        cSub[ii] = c[start + ii];
+      }
+    }
+    double[] expected = solvTriDag(new TridiagonalMatrix(bSub, aSub, cSub), ySub);
+    double[] x = new double[n];
+    double[] work = new double[n];
+    solvTriDag(lower, b, upper, y, x, work, start, end);
+    for (int i = 0; i < m; i++) {
+      assertEquals(expected[i], x[start + i], 1e-12);
+    }
+    assertEquals(0d, x[start - 1], 0d);
+    assertEquals(0d, x[end], 0d);
+    // solution in place
+    solvTriDag(lower, b, upper, y, y, work, start, end);
+    for (int i = 0; i < m; i++) {
+      assertEquals(expected[i], y[start + i], 1e-12);
+    }
+  }
+
 }
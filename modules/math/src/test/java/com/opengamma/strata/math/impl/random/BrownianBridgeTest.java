@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link BrownianBridge}.
+ */
+@Test
+public class BrownianBridgeTest {
+
+  private static final double TOL = 1e-12;
+
+  public void test_covariance() {
+    // the covariance of the path is min(s, t) for all sizes
+    for (int size = 1; size <= 9; size++) {
+      double[] times = new double[size];
+      for (int i = 0; i < size; i++) {
+        times[i] = 0.25 * (i + 1) + 0.01 * i * i;
+      }
+      BrownianBridge test = new BrownianBridge(DoubleArray.ofUnsafe(times));
+      assertEquals(test.size(), size);
+      double[][] covariance = new double[size][size];
+      double[] path = new double[size];
+      for (int k = 0; k < size; k++) {
+        double[] unit = new double[size];
+        unit[k] = 1d;
+        test.transform(unit, path);
+        for (int i = 0; i < size; i++) {
+          for (int j = 0; j < size; j++) {
+            covariance[i][j] += path[i] * path[j];
+          }
+        }
+      }
+      for (int i = 0; i < size; i++) {
+        for (int j = 0; j < size; j++) {
+          assertEquals(covariance[i][j], Math.min(times[i], times[j]), TOL);
+        }
+      }
+    }
+  }
+
+  public void test_lastPoint() {
+    BrownianBridge test = new BrownianBridge(DoubleArray.of(0.5, 1d, 1.5, 4d));
+    double[] path = new double[4];
+    test.transform(new double[] {1d, 0d, 0d, 0d}, path);
+    assertEquals(path[3], 2d, TOL);
+    assertEquals(path[1], 0.5, TOL);
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> new BrownianBridge(DoubleArray.EMPTY));
+    assertThrowsIllegalArg(() -> new BrownianBridge(DoubleArray.of(0d, 1d)));
+    assertThrowsIllegalArg(() -> new BrownianBridge(DoubleArray.of(1d, 1d)));
+  }
+
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link SobolSequenceGenerator}.
+ */
+@Test
+public class SobolSequenceGeneratorTest {
+
+  public void test_directionNumbersResource() {
+    // the direction numbers are loaded from an asset of Apache Commons Math, which is not part of its API
+    assertNotNull(
+        SobolSequenceGenerator.class.getResource(SobolSequenceGenerator.DIRECTION_NUMBERS_RESOURCE),
+        "Sobol direction numbers not found on the classpath, the Apache Commons Math asset may have moved: " +
+            SobolSequenceGenerator.DIRECTION_NUMBERS_RESOURCE);
+    assertEquals(new SobolSequenceGenerator(SobolSequenceGenerator.MAX_DIMENSION).getDimension(),
+        SobolSequenceGenerator.MAX_DIMENSION);
+  }
+
+  public void test_firstPoints() {
+    SobolSequenceGenerator test = new SobolSequenceGenerator(2);
+    assertEquals(test.getDimension(), 2);
+    assertEquals(test.getNextIndex(), 1L);
+    double[][] expected = {{0.5, 0.5}, {0.75, 0.25}, {0.25, 0.75}, {0.375, 0.375}};
+    for (double[] point : expected) {
+      double[] computed = test.nextVector();
+      assertEquals(computed[0], point[0]);
+      assertEquals(computed[1], point[1]);
+    }
+    assertEquals(test.getNextIndex(), 5L);
+  }
+
+  public void test_uniformity() {
+    // the first 2^k - 1 points contain each non-zero multiple of 2^-k once in each dimension
+    int dimension = SobolSequenceGenerator.MAX_DIMENSION;
+    SobolSequenceGenerator test = new SobolSequenceGenerator(dimension);
+    int nbPoints = (1 << 10) - 1;
+    double[] sum = new double[dimension];
+    double[] point = new double[dimension];
+    for (int i = 0; i < nbPoints; i++) {
+      test.nextPoint(point);
+      for (int d = 0; d < dimension; d++) {
+        assertTrue(point[d] > 0d && point[d] < 1d);
+        sum[d] += point[d];
+      }
+    }
+    for (int d = 0; d < dimension; d++) {
+      assertEquals(sum[d] / nbPoints, 0.5, 1e-15);
+    }
+  }
+
+  public void test_skipTo() {
+    SobolSequenceGenerator base = new SobolSequenceGenerator(5);
+    for (int i = 1; i < 100; i++) {
+      double[] expected = base.nextVector();
+      SobolSequenceGenerator test = new SobolSequenceGenerator(5);
+      test.skipTo(i);
+      assertEquals(test.nextVector(), expected);
+    }
+    SobolSequenceGenerator test = new SobolSequenceGenerator(5);
+    test.skipTo(37);
+    assertEquals(test.getNextIndex(), 37L);
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> new SobolSequenceGenerator(0));
+    assertThrowsIllegalArg(() -> new SobolSequenceGenerator(SobolSequenceGenerator.MAX_DIMENSION + 1));
+    assertThrowsIllegalArg(() -> new SobolSequenceGenerator(1).skipTo(0));
+  }
+
+}
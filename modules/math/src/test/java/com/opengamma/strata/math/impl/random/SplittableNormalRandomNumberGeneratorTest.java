@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link SplittableNormalRandomNumberGenerator}.
+ */
+@Test
+public class SplittableNormalRandomNumberGeneratorTest {
+
+  public void test_array() {
+    SplittableNormalRandomNumberGenerator test = new SplittableNormalRandomNumberGenerator(1L);
+    double[] result = test.getVector(10);
+    assertEquals(result.length, 10);
+  }
+
+  public void test_list() {
+    SplittableNormalRandomNumberGenerator test = new SplittableNormalRandomNumberGenerator(1L);
+    List<double[]> result = test.getVectors(10, 50);
+    assertEquals(result.size(), 50);
+    for (double[] d : result) {
+      assertEquals(d.length, 10);
+    }
+  }
+
+  public void test_reproducible() {
+    double[] first = new SplittableNormalRandomNumberGenerator(42L).getVector(101);
+    double[] second = new SplittableNormalRandomNumberGenerator(42L).getVector(101);
+    assertEquals(first, second);
+    assertFalse(Arrays.equals(first, new SplittableNormalRandomNumberGenerator(43L).getVector(101)));
+  }
+
+  public void test_split() {
+    SplittableNormalRandomNumberGenerator base1 = new SplittableNormalRandomNumberGenerator(42L);
+    SplittableNormalRandomNumberGenerator base2 = new SplittableNormalRandomNumberGenerator(42L);
+    SplittableNormalRandomNumberGenerator split1 = base1.split();
+    SplittableNormalRandomNumberGenerator split2 = base2.split();
+    double[] array = new double[20];
+    split2.fill(array);
+    assertEquals(split1.getVector(20), array);
+    assertFalse(Arrays.equals(base1.getVector(20), array));
+  }
+
+  public void test_moments() {
+    SplittableNormalRandomNumberGenerator test = new SplittableNormalRandomNumberGenerator(7L);
+    int nbSamples = 100_000;
+    double sum = 0d;
+    double sumSq = 0d;
+    for (int i = 0; i < nbSamples; i++) {
+      double value = test.nextNormal();
+      sum += value;
+      sumSq += value * value;
+    }
+    assertEquals(sum / nbSamples, 0d, 0.02);
+    assertEquals(sumSq / nbSamples, 1d, 0.02);
+  }
+
+  public void test_invalid() {
+    SplittableNormalRandomNumberGenerator test = new SplittableNormalRandomNumberGenerator(1L);
+    assertThrowsIllegalArg(() -> test.getVector(-1));
+    assertThrowsIllegalArg(() -> test.getVectors(-1, 4));
+    assertThrowsIllegalArg(() -> test.getVectors(1, -5));
+  }
+
+}
@@ -8,9 +8,14 @@ package com.opengamma.strata.measure.curve;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -42,6 +47,12 @@ import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
  * Market data function that builds a curve group.
  * <p>
  * This function calibrates curves, turning a {@link CurveGroupDefinition} into a {@link CurveGroup}.
+ * <p>
+ * When the input data varies by scenario, a curve group is calibrated for each scenario.
+ * The first scenario is calibrated using the initial guesses of the curve definitions.
+ * The curves of the first scenario are then used as the starting point for calibrating the other scenarios.
+ * If an executor is specified, the other scenarios are calibrated concurrently using the executor.
+ * The results are identical to calibrating the scenarios on the calling thread.
  */
 public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGroup, CurveGroupId> {
 
@@ -49,6 +60,10 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
    * The default analytics object that performs the curve calibration.
    */
   private final CalibrationMeasures calibrationMeasures;
+  /**
+   * The executor used to calibrate the scenarios, null to calibrate on the calling thread.
+   */
+  private final Executor executor;
 
   //-------------------------------------------------------------------------
   /**
@@ -72,6 +87,27 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
    */
   public CurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures) {
     this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.executor = null;
+  }
+
+  /**
+   * Creates a new function for building curve groups that calibrates scenarios concurrently.
+   * <p>
+   * The default calibrator is specified. The {@link MarketDataConfig} may contain a
+   * {@link RootFinderConfig} that alters the tolerances used in calibration.
+   * <p>
+   * When the input data varies by scenario, the scenarios are calibrated using the executor.
+   * The calling thread also calibrates any scenario that the executor has not yet started,
+   * and only waits for scenarios already being calibrated. As such, the executor may be shared
+   * with the market data factory, including a bounded executor, without risk of deadlock.
+   * The caller is responsible for the lifecycle of the executor.
+   *
+   * @param calibrationMeasures  the calibration measures to be used in the calibrator
+   * @param executor  the executor used to calibrate the scenarios
+   */
+  public CurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures, Executor executor) {
+    this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.executor = ArgChecker.notNull(executor, "executor");
   }
 
   //-------------------------------------------------------------------------
@@ -170,17 +206,85 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
     int scenarioCount = scenarioCount(valuationDateBox, inputBoxes);
     ImmutableList.Builder<CurveGroup> builder = ImmutableList.builder();
 
-    for (int i = 0; i < scenarioCount; i++) {
-      LocalDate valuationDate = valuationDateBox.getValue(scenarioCount);
-      CurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
-      List<CurveInputs> curveInputsList = inputsForScenario(inputBoxes, i);
-      MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
-      builder.add(buildGroup(filteredGroup, calibrator, inputs, refData));
+    // the first scenario is calibrated from the initial guesses and is the starting point for the others
+    ImmutableRatesProvider baseProvider =
+        calibrateScenario(configuredGroup, calibrator, valuationDateBox, inputBoxes, fixings, refData, 0, null);
+    builder.add(curveGroup(configuredGroup.getName(), baseProvider));
+
+    if (executor == null) {
+      for (int i = 1; i < scenarioCount; i++) {
+        ImmutableRatesProvider provider = calibrateScenario(
+            configuredGroup, calibrator, valuationDateBox, inputBoxes, fixings, refData, i, baseProvider);
+        builder.add(curveGroup(configuredGroup.getName(), provider));
+      }
+    } else {
+      // the calling thread runs any task not yet started by the executor, and only waits for running tasks
+      // this avoids a deadlock when the calling thread is itself a thread of a bounded executor
+      List<FutureTask<ImmutableRatesProvider>> tasks = new ArrayList<>(scenarioCount - 1);
+      for (int i = 1; i < scenarioCount; i++) {
+        int scenarioIndex = i;
+        FutureTask<ImmutableRatesProvider> task = new FutureTask<>(() -> calibrateScenario(
+            configuredGroup, calibrator, valuationDateBox, inputBoxes, fixings, refData, scenarioIndex, baseProvider));
+        tasks.add(task);
+        submit(task);
+      }
+      for (FutureTask<ImmutableRatesProvider> task : tasks) {
+        task.run();
+        builder.add(curveGroup(configuredGroup.getName(), get(task)));
+      }
     }
     ImmutableList<CurveGroup> curveGroups = builder.build();
     return MarketDataBox.ofScenarioValues(curveGroups);
   }
 
+  // calibrates a single scenario, using the starting provider if not null
+  private static ImmutableRatesProvider calibrateScenario(
+      CurveGroupDefinition configuredGroup,
+      CurveCalibrator calibrator,
+      MarketDataBox<LocalDate> valuationDateBox,
+      List<MarketDataBox<CurveInputs>> inputBoxes,
+      Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
+      ReferenceData refData,
+      int scenarioIndex,
+      ImmutableRatesProvider startingProvider) {
+
+    LocalDate valuationDate = valuationDateBox.getValue(scenarioIndex);
+    CurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
+    List<CurveInputs> curveInputsList = inputsForScenario(inputBoxes, scenarioIndex);
+    MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
+    if (startingProvider == null) {
+      return calibrator.calibrate(filteredGroup, inputs, refData);
+    }
+    return calibrator.calibrate(filteredGroup, inputs, refData, startingProvider);
+  }
+
+  // submits the task to the executor, a rejected task is run by the calling thread
+  private void submit(FutureTask<?> task) {
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException ex) {
+      // ignore, the task is run when its result is needed
+    }
+  }
+
+  // waits for the task to complete, rethrowing the original exception on failure
+  private static <T> T get(FutureTask<T> task) {
+    try {
+      return task.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while calibrating curves", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      if (ex.getCause() instanceof Error) {
+        throw (Error) ex.getCause();
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
   private static List<CurveInputs> inputsForScenario(List<MarketDataBox<CurveInputs>> boxes, int scenarioIndex) {
     return boxes.stream()
         .map(box -> box.getValue(scenarioIndex))
@@ -252,8 +356,13 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
         marketData,
         refData);
 
+    return curveGroup(groupDefn.getName(), calibratedProvider);
+  }
+
+  // extracts the curves from the calibrated provider
+  private static CurveGroup curveGroup(CurveGroupName groupName, ImmutableRatesProvider calibratedProvider) {
     return CurveGroup.of(
-        groupDefn.getName(),
+        groupName,
         calibratedProvider.getDiscountCurves(),
         calibratedProvider.getIndexCurves());
   }
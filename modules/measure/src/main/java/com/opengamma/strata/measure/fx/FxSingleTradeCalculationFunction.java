@@ -6,6 +6,7 @@
 package com.opengamma.strata.measure.fx;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -19,6 +20,8 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.FunctionUtils;
+import com.opengamma.strata.calc.runner.ResolutionCache;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -131,16 +134,45 @@ public class FxSingleTradeCalculationFunction
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedFxSingleTrade resolved = trade.resolve(refData);
+    ResolvedFxSingleTrade resolved = ResolutionCache.resolve(trade, parameters, refData);
 
     // use lookup to query market data
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
     RatesScenarioMarketData marketData = ratesLookup.marketDataView(scenarioMarketData);
+    return calculate(measures, resolved, marketData);
+  }
+
+  @Override
+  public List<Map<Measure, Result<?>>> calculateAll(
+      List<? extends FxSingleTrade> trades,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      ScenarioMarketData scenarioMarketData,
+      ReferenceData refData) {
+
+    // use lookup to query market data once for all trades
+    // this allows the market data for each scenario to be shared between the trades
+    RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
+    RatesScenarioMarketData marketData = ratesLookup.marketDataView(scenarioMarketData);
+
+    // resolve each trade once for all measures and all scenarios
+    // a failure, such as missing reference data, is reported against the trade that failed
+    return FunctionUtils.calculateEach(
+        this,
+        trades,
+        measures,
+        trade -> calculate(measures, ResolutionCache.resolve(trade, parameters, refData), marketData));
+  }
+
+  // calculate all measures, calculating all scenarios for one measure
+  private Map<Measure, Result<?>> calculate(
+      Set<Measure> measures,
+      ResolvedFxSingleTrade trade,
+      RatesScenarioMarketData marketData) {
 
-    // loop around measures, calculating all scenarios for one measure
     Map<Measure, Result<?>> results = new HashMap<>();
     for (Measure measure : measures) {
-      results.put(measure, calculate(measure, resolved, marketData));
+      results.put(measure, calculate(measure, trade, marketData));
     }
     return results;
   }
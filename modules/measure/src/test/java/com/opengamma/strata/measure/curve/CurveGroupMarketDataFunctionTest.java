@@ -7,6 +7,7 @@ package com.opengamma.strata.measure.curve;
 
 import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -16,6 +17,10 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.testng.annotations.Test;
 
@@ -60,6 +65,7 @@ import com.opengamma.strata.market.curve.node.FxSwapCurveNode;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.CurveCalibrator;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -136,6 +142,72 @@ public class CurveGroupMarketDataFunctionTest {
     nodes.stream().forEach(node -> checkFraPvIsZero(node, ratesProvider, marketData));
   }
 
+  /**
+   * Tests calibrating a curve group for multiple scenarios, both serially and concurrently.
+   */
+  public void multipleScenarios() throws Exception {
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraCurveDefinition();
+    List<MarketDataId<?>> keys = curveDefn.getNodes().stream().map(CurveTestUtils::key).collect(toImmutableList());
+    double[] rates = {0.003, 0.0033, 0.0037, 0.0054, 0.007, 0.0091, 0.0134};
+    CurveGroupName groupName = CurveGroupName.of("Curve Group");
+    CurveName curveName = CurveName.of("FRA Curve");
+    List<CurveInputs> scenarioInputs = IntStream.range(0, 5)
+        .mapToObj(scenario -> {
+          Map<MarketDataId<?>, Double> inputData = IntStream.range(0, keys.size())
+              .boxed()
+              .collect(toImmutableMap(i -> keys.get(i), i -> rates[i] + scenario * 0.0005));
+          return CurveInputs.of(inputData, DefaultCurveMetadata.of(curveName));
+        })
+        .collect(toImmutableList());
+
+    CurveGroupDefinition groupDefn = CurveGroupDefinition.builder()
+        .name(groupName)
+        .addCurve(curveDefn, Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+    LocalDate valuationDate = date(2011, 3, 8);
+    ScenarioMarketData inputMarketData = ImmutableScenarioMarketData.builder(valuationDate)
+        .addScenarioValue(CurveInputsId.of(groupName, curveName, ObservableSource.NONE), scenarioInputs)
+        .build();
+
+    CurveGroupMarketDataFunction serialFunction = new CurveGroupMarketDataFunction();
+    MarketDataBox<CurveGroup> serialGroups =
+        serialFunction.buildCurveGroup(groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE);
+    assertThat(serialGroups.getScenarioCount()).isEqualTo(5);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      CurveGroupMarketDataFunction concurrentFunction =
+          new CurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, executor);
+      MarketDataBox<CurveGroup> concurrentGroups =
+          concurrentFunction.buildCurveGroup(groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE);
+      assertThat(concurrentGroups).isEqualTo(serialGroups);
+    } finally {
+      executor.shutdown();
+    }
+
+    // the calling thread is the only thread of the executor, as when the executor is shared with the factory
+    ExecutorService singleExecutor = Executors.newSingleThreadExecutor();
+    try {
+      CurveGroupMarketDataFunction sharedFunction =
+          new CurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, singleExecutor);
+      MarketDataBox<CurveGroup> sharedGroups = singleExecutor.submit(() -> sharedFunction.buildCurveGroup(
+          groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE)).get(1, TimeUnit.MINUTES);
+      assertThat(sharedGroups).isEqualTo(serialGroups);
+    } finally {
+      singleExecutor.shutdown();
+    }
+
+    // each scenario matches the curve calibrated independently
+    for (int i = 0; i < 5; i++) {
+      MarketData scenarioData = ImmutableMarketData.of(valuationDate, scenarioInputs.get(i).getMarketData());
+      Curve expected = CALIBRATOR.calibrate(groupDefn, scenarioData, REF_DATA).findData(curveName).get();
+      Curve curve = serialGroups.getValue(i).findDiscountCurve(Currency.USD).get();
+      for (int j = 0; j < expected.getParameterCount(); j++) {
+        assertThat(curve.getParameter(j)).isCloseTo(expected.getParameter(j), offset(1e-8));
+      }
+    }
+  }
+
   public void roundTripFraAndFixedFloatSwap() {
     CurveGroupName groupName = CurveGroupName.of("Curve Group");
     InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraSwapCurveDefinition();
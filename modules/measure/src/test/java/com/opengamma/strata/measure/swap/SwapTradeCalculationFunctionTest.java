@@ -5,11 +5,14 @@
  */
 package com.opengamma.strata.measure.swap;
 
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
 import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.testng.annotations.Test;
@@ -20,11 +23,15 @@ import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
 import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
@@ -45,7 +52,9 @@ import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
 import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.RateCalculationSwapLeg;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.Swap;
 import com.opengamma.strata.product.swap.SwapTrade;
 import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
 
@@ -143,6 +152,44 @@ public class SwapTradeCalculationFunctionTest {
             Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedBucketedPv01))));
   }
 
+  public void test_calculateAll() {
+    SwapTradeCalculationFunction function = new SwapTradeCalculationFunction();
+    ScenarioMarketData md = marketData();
+    Set<Measure> measures = ImmutableSet.of(Measures.PRESENT_VALUE, Measures.PAR_RATE);
+    Map<Measure, Result<?>> expected = function.calculate(TRADE, measures, PARAMS, md, REF_DATA);
+
+    List<Map<Measure, Result<?>>> results =
+        function.calculateAll(ImmutableList.of(TRADE, TRADE), measures, PARAMS, md, REF_DATA);
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0)).isEqualTo(expected);
+    assertThat(results.get(1)).isEqualTo(expected);
+  }
+
+  public void test_calculateAll_failure() {
+    SwapTradeCalculationFunction function = new SwapTradeCalculationFunction();
+    ScenarioMarketData md = marketData();
+    Set<Measure> measures = ImmutableSet.of(Measures.PRESENT_VALUE, Measures.PAR_RATE);
+    Map<Measure, Result<?>> expected = function.calculate(TRADE, measures, PARAMS, md, REF_DATA);
+    // the holiday calendar is not in the reference data, thus the trade cannot be resolved
+    RateCalculationSwapLeg leg = (RateCalculationSwapLeg) TRADE.getProduct().getLegs().get(0);
+    PeriodicSchedule schedule = leg.getAccrualSchedule().toBuilder()
+        .businessDayAdjustment(BusinessDayAdjustment.of(MODIFIED_FOLLOWING, HolidayCalendarId.of("Rubbish")))
+        .build();
+    SwapTrade badTrade = TRADE.toBuilder()
+        .product(Swap.of(leg.toBuilder().accrualSchedule(schedule).build(), TRADE.getProduct().getLegs().get(1)))
+        .build();
+
+    List<Map<Measure, Result<?>>> results =
+        function.calculateAll(ImmutableList.of(badTrade, TRADE), measures, PARAMS, md, REF_DATA);
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).keySet()).isEqualTo(measures);
+    for (Result<?> result : results.get(0).values()) {
+      assertThat(result.isFailure()).isTrue();
+      assertThat(result.getFailure().getReason()).isEqualTo(FailureReason.MISSING_DATA);
+    }
+    assertThat(results.get(1)).isEqualTo(expected);
+  }
+
   //-------------------------------------------------------------------------
   static ScenarioMarketData marketData() {
     Curve curve = ConstantCurve.of(Curves.discountFactors("Test", ACT_360), 0.99);
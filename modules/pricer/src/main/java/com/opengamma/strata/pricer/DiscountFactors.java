@@ -8,19 +8,23 @@ package com.opengamma.strata.pricer;
 import static com.opengamma.strata.pricer.SimpleDiscountFactors.EFFECTIVE_ZERO;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.schedule.CompactSchedule;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.market.MarketDataView;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.ParameterizedData;
@@ -93,6 +97,22 @@ public interface DiscountFactors
    */
   public double relativeYearFraction(LocalDate date);
 
+  /**
+   * Calculates the relative time between the valuation date and each of the specified dates.
+   * <p>
+   * The dates are expressed as epoch-days, see {@link LocalDate#toEpochDay()}, such as the
+   * dates of a {@link CompactSchedule}. This returns an array with one element for each date,
+   * where each element is the result of {@link #relativeYearFraction(LocalDate)}.
+   * Implementations may avoid creating a {@code LocalDate} for each date.
+   * 
+   * @param epochDays  the dates, as epoch-days
+   * @return  the year fractions
+   * @throws RuntimeException if it is not possible to convert dates to relative times
+   */
+  public default DoubleArray relativeYearFractions(IntArray epochDays) {
+    return DoubleArray.of(epochDays.size(), i -> relativeYearFraction(LocalDate.ofEpochDay(epochDays.get(i))));
+  }
+
   /**
    * Gets the discount factor for the specified date.
    * <p>
@@ -120,6 +140,39 @@ public interface DiscountFactors
    * @throws RuntimeException if the value cannot be obtained
    */
   public abstract double discountFactor(double yearFraction);
+
+  /**
+   * Gets the discount factors for the specified dates.
+   * <p>
+   * This returns an array with one element for each date, where each element is
+   * the result of {@link #discountFactor(LocalDate)}. The dates may be in any order,
+   * however implementations may be more efficient if they are sorted, such as the
+   * payment dates of a leg.
+   * 
+   * @param dates  the dates to discount to
+   * @return the discount factors
+   * @throws RuntimeException if the values cannot be obtained
+   */
+  public default DoubleArray discountFactors(List<LocalDate> dates) {
+    return discountFactors(DoubleArray.of(dates.size(), i -> relativeYearFraction(dates.get(i))));
+  }
+
+  /**
+   * Gets the discount factors for the specified year fractions.
+   * <p>
+   * This returns an array with one element for each year fraction, where each element is
+   * the result of {@link #discountFactor(double)}. The year fractions may be in any order,
+   * however implementations may be more efficient if they are sorted from low to high.
+   * <p>
+   * The year fractions must be based on {@code #relativeYearFraction(LocalDate)}.
+   * 
+   * @param yearFractions  the year fractions
+   * @return the discount factors
+   * @throws RuntimeException if the values cannot be obtained
+   */
+  public default DoubleArray discountFactors(DoubleArray yearFractions) {
+    return yearFractions.map(this::discountFactor);
+  }
   
   /**
    * Returns the discount factor derivative with respect to the year fraction or time.
@@ -447,6 +500,23 @@ public interface DiscountFactors
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSensitivity);
 
+  /**
+   * Calculates the parameter sensitivity from the point sensitivity, adding it to the builder.
+   * <p>
+   * This is equivalent to adding the result of {@link #parameterSensitivity(ZeroRateSensitivity)}
+   * to the builder, but allows implementations to avoid creating intermediate objects.
+   * 
+   * @param pointSensitivity  the point sensitivity to convert
+   * @param builder  the builder to add the parameter sensitivity to
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default void parameterSensitivity(
+      ZeroRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesBuilder builder) {
+
+    builder.add(parameterSensitivity(pointSensitivity));
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
@@ -30,6 +30,7 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.Curve;
@@ -37,10 +38,9 @@ import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
-import com.opengamma.strata.market.param.UnitParameterSensitivity;
 
 /**
  * Provides access to discount factors for a currency based on a discount factor curve.
@@ -78,6 +78,10 @@ public final class SimpleDiscountFactors
    * The day count convention of the curve.
    */
   private final transient DayCount dayCount;  // cached, not a property
+  /**
+   * The cache of relative year fractions, shared with instances derived from this one.
+   */
+  private final transient YearFractionCache yearFractionCache;  // cached, not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -103,6 +107,16 @@ public final class SimpleDiscountFactors
       LocalDate valuationDate,
       Curve curve) {
 
+    this(currency, valuationDate, curve, null);
+  }
+
+  // creates an instance, reusing the year fraction cache if it matches
+  private SimpleDiscountFactors(
+      Currency currency,
+      LocalDate valuationDate,
+      Curve curve,
+      YearFractionCache yearFractionCache) {
+
     ArgChecker.notNull(currency, "currency");
     ArgChecker.notNull(valuationDate, "valuationDate");
     ArgChecker.notNull(curve, "curve");
@@ -117,6 +131,9 @@ public final class SimpleDiscountFactors
     this.valuationDate = valuationDate;
     this.curve = curve;
     this.dayCount = dayCount;
+    this.yearFractionCache = yearFractionCache != null && yearFractionCache.matches(valuationDate, dayCount) ?
+        yearFractionCache :
+        YearFractionCache.of(valuationDate, dayCount);
   }
 
   // ensure standard constructor is invoked
@@ -161,7 +178,12 @@ public final class SimpleDiscountFactors
   //-------------------------------------------------------------------------
   @Override
   public double relativeYearFraction(LocalDate date) {
-    return dayCount.relativeYearFraction(valuationDate, date);
+    return yearFractionCache.relativeYearFraction(date);
+  }
+
+  @Override
+  public DoubleArray relativeYearFractions(IntArray epochDays) {
+    return yearFractionCache.relativeYearFractions(epochDays);
   }
 
   @Override
@@ -170,6 +192,11 @@ public final class SimpleDiscountFactors
     return curve.yValue(yearFraction);
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray yearFractions) {
+    return curve.yValues(yearFractions);
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     return curve.firstDerivative(yearFraction);
@@ -192,16 +219,23 @@ public final class SimpleDiscountFactors
   //-------------------------------------------------------------------------
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSens) {
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder();
+    parameterSensitivity(pointSens, builder);
+    return builder.build();
+  }
+
+  @Override
+  public void parameterSensitivity(ZeroRateSensitivity pointSens, CurrencyParameterSensitivitiesBuilder builder) {
     double yearFraction = pointSens.getYearFraction();
     if (Math.abs(yearFraction) < EFFECTIVE_ZERO) {
-      return CurrencyParameterSensitivities.empty(); // Discount factor in 0 is always 1, no sensitivity.
+      return; // Discount factor in 0 is always 1, no sensitivity.
     }
     double discountFactor = discountFactor(yearFraction);
-    UnitParameterSensitivity unitSens = curve.yValueParameterSensitivity(yearFraction);
-    CurrencyParameterSensitivity curSens = unitSens
-        .multipliedBy(-1d / (yearFraction * discountFactor))
-        .multipliedBy(pointSens.getCurrency(), pointSens.getSensitivity());
-    return CurrencyParameterSensitivities.of(curSens);
+    curve.yValueParameterSensitivity(
+        yearFraction,
+        pointSens.getCurrency(),
+        -pointSens.getSensitivity() / (yearFraction * discountFactor),
+        builder);
   }
 
   @Override
@@ -217,7 +251,7 @@ public final class SimpleDiscountFactors
    * @return the new instance
    */
   public SimpleDiscountFactors withCurve(Curve curve) {
-    return new SimpleDiscountFactors(currency, valuationDate, curve);
+    return new SimpleDiscountFactors(currency, valuationDate, curve, yearFractionCache);
   }
 
   //------------------------- AUTOGENERATED START -------------------------
@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
+
+/**
+ * A cache of year fractions relative to a valuation date.
+ * <p>
+ * Some day counts, such as 'Bus/252', are expensive to calculate, yet the same dates are
+ * queried many times against the same valuation date. This caches the result of
+ * {@link DayCount#relativeYearFraction(LocalDate, LocalDate)} in an array indexed by the
+ * number of days from the valuation date. The array is allocated in blocks when first used.
+ * Dates before the valuation date, or too far after it, are calculated without caching.
+ * <p>
+ * This class is thread-safe.
+ */
+final class YearFractionCache {
+
+  /**
+   * The number of bits used to index within a block.
+   */
+  private static final int BLOCK_SHIFT = 8;
+  /**
+   * The number of days in a block.
+   */
+  private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+  /**
+   * The maximum number of blocks, covering about 67 years.
+   */
+  private static final int BLOCK_COUNT = 96;
+  /**
+   * The maximum number of days that are cached.
+   */
+  private static final int MAX_DAYS = BLOCK_SIZE * BLOCK_COUNT;
+
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The valuation date as an epoch-day.
+   */
+  private final long valuationEpochDay;
+  /**
+   * The day count.
+   */
+  private final DayCount dayCount;
+  /**
+   * The blocks of cached year fractions, stored as raw long bits, zero if not yet calculated.
+   */
+  private final AtomicReferenceArray<AtomicLongArray> blocks = new AtomicReferenceArray<>(BLOCK_COUNT);
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty cache for the valuation date and day count.
+   *
+   * @param valuationDate  the valuation date
+   * @param dayCount  the day count
+   * @return the cache
+   */
+  static YearFractionCache of(LocalDate valuationDate, DayCount dayCount) {
+    return new YearFractionCache(valuationDate, dayCount);
+  }
+
+  // creates an instance
+  private YearFractionCache(LocalDate valuationDate, DayCount dayCount) {
+    this.valuationDate = ArgChecker.notNull(valuationDate, "valuationDate");
+    this.valuationEpochDay = valuationDate.toEpochDay();
+    this.dayCount = ArgChecker.notNull(dayCount, "dayCount");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if this cache is for the specified valuation date and day count.
+   *
+   * @param valuationDate  the valuation date
+   * @param dayCount  the day count
+   * @return true if the cache matches
+   */
+  boolean matches(LocalDate valuationDate, DayCount dayCount) {
+    return this.valuationDate.equals(valuationDate) && this.dayCount.equals(dayCount);
+  }
+
+  /**
+   * Calculates the relative time between the valuation date and the specified date.
+   * <p>
+   * The result is the same as {@link DayCount#relativeYearFraction(LocalDate, LocalDate)}.
+   *
+   * @param date  the date
+   * @return the year fraction
+   */
+  double relativeYearFraction(LocalDate date) {
+    long offset = date.toEpochDay() - valuationEpochDay;
+    if (offset < 0 || offset >= MAX_DAYS) {
+      return dayCount.relativeYearFraction(valuationDate, date);
+    }
+    return cachedYearFraction(offset);
+  }
+
+  /**
+   * Calculates the relative time between the valuation date and each of the specified dates.
+   * <p>
+   * The dates are expressed as epoch-days. A {@code LocalDate} is only created
+   * when the year fraction is not already cached.
+   *
+   * @param epochDays  the dates, as epoch-days
+   * @return the year fractions
+   */
+  DoubleArray relativeYearFractions(IntArray epochDays) {
+    double[] result = new double[epochDays.size()];
+    for (int i = 0; i < result.length; i++) {
+      long offset = epochDays.get(i) - valuationEpochDay;
+      if (offset < 0 || offset >= MAX_DAYS) {
+        result[i] = dayCount.relativeYearFraction(valuationDate, LocalDate.ofEpochDay(epochDays.get(i)));
+      } else {
+        result[i] = cachedYearFraction(offset);
+      }
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  // finds the year fraction for a cached offset, calculating and storing it if necessary
+  private double cachedYearFraction(long offset) {
+    int blockNumber = (int) (offset >>> BLOCK_SHIFT);
+    AtomicLongArray block = blocks.get(blockNumber);
+    if (block == null) {
+      blocks.compareAndSet(blockNumber, null, new AtomicLongArray(BLOCK_SIZE));
+      block = blocks.get(blockNumber);
+    }
+    int index = (int) (offset & (BLOCK_SIZE - 1));
+    long bits = block.get(index);
+    if (bits != 0) {
+      return Double.longBitsToDouble(bits);
+    }
+    // a year fraction of zero is not cached, but is cheap to recalculate
+    double yearFraction = dayCount.relativeYearFraction(valuationDate, valuationDate.plusDays(offset));
+    block.set(index, Double.doubleToRawLongBits(yearFraction));
+    return yearFraction;
+  }
+
+}
@@ -30,6 +30,7 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.Curve;
@@ -37,10 +38,9 @@ import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
-import com.opengamma.strata.market.param.UnitParameterSensitivity;
 
 /**
  * Provides access to discount factors for a currency based on a zero rate continuously compounded curve.
@@ -74,6 +74,10 @@ public final class ZeroRateDiscountFactors
    * The day count convention of the curve.
    */
   private final transient DayCount dayCount;  // cached, not a property
+  /**
+   * The cache of relative year fractions, shared with instances derived from this one.
+   */
+  private final transient YearFractionCache yearFractionCache;  // cached, not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -99,6 +103,16 @@ public final class ZeroRateDiscountFactors
       LocalDate valuationDate,
       Curve curve) {
 
+    this(currency, valuationDate, curve, null);
+  }
+
+  // creates an instance, reusing the year fraction cache if it matches
+  private ZeroRateDiscountFactors(
+      Currency currency,
+      LocalDate valuationDate,
+      Curve curve,
+      YearFractionCache yearFractionCache) {
+
     ArgChecker.notNull(currency, "currency");
     ArgChecker.notNull(valuationDate, "valuationDate");
     ArgChecker.notNull(curve, "curve");
@@ -113,6 +127,9 @@ public final class ZeroRateDiscountFactors
     this.valuationDate = valuationDate;
     this.curve = curve;
     this.dayCount = dayCount;
+    this.yearFractionCache = yearFractionCache != null && yearFractionCache.matches(valuationDate, dayCount) ?
+        yearFractionCache :
+        YearFractionCache.of(valuationDate, dayCount);
   }
 
   // ensure standard constructor is invoked
@@ -157,7 +174,12 @@ public final class ZeroRateDiscountFactors
   //-------------------------------------------------------------------------
   @Override
   public double relativeYearFraction(LocalDate date) {
-    return dayCount.relativeYearFraction(valuationDate, date);
+    return yearFractionCache.relativeYearFraction(date);
+  }
+
+  @Override
+  public DoubleArray relativeYearFractions(IntArray epochDays) {
+    return yearFractionCache.relativeYearFractions(epochDays);
   }
 
   @Override
@@ -166,6 +188,13 @@ public final class ZeroRateDiscountFactors
     return Math.exp(-yearFraction * curve.yValue(yearFraction));
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray yearFractions) {
+    // find all the zero rates in one call to the curve
+    DoubleArray zeroRates = curve.yValues(yearFractions);
+    return DoubleArray.of(yearFractions.size(), i -> Math.exp(-yearFractions.get(i) * zeroRates.get(i)));
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     double zr = curve.yValue(yearFraction);    
@@ -187,10 +216,15 @@ public final class ZeroRateDiscountFactors
 
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSens) {
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder();
+    parameterSensitivity(pointSens, builder);
+    return builder.build();
+  }
+
+  @Override
+  public void parameterSensitivity(ZeroRateSensitivity pointSens, CurrencyParameterSensitivitiesBuilder builder) {
     double yearFraction = pointSens.getYearFraction();
-    UnitParameterSensitivity unitSens = curve.yValueParameterSensitivity(yearFraction);
-    CurrencyParameterSensitivity curSens = unitSens.multipliedBy(pointSens.getCurrency(), pointSens.getSensitivity());
-    return CurrencyParameterSensitivities.of(curSens);
+    curve.yValueParameterSensitivity(yearFraction, pointSens.getCurrency(), pointSens.getSensitivity(), builder);
   }
 
   @Override
@@ -206,7 +240,7 @@ public final class ZeroRateDiscountFactors
    * @return the new instance
    */
   public ZeroRateDiscountFactors withCurve(Curve curve) {
-    return new ZeroRateDiscountFactors(currency, valuationDate, curve);
+    return new ZeroRateDiscountFactors(currency, valuationDate, curve, yearFractionCache);
   }
 
   //------------------------- AUTOGENERATED START -------------------------
@@ -30,16 +30,16 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
-import com.opengamma.strata.market.param.UnitParameterSensitivity;
 
 /**
  * Provides access to discount factors for a currency based on a zero rate periodically-compounded curve.
@@ -82,6 +82,10 @@ public final class ZeroRatePeriodicDiscountFactors
    * The day count convention of the curve.
    */
   private final transient DayCount dayCount;  // cached, not a property
+  /**
+   * The cache of relative year fractions, shared with instances derived from this one.
+   */
+  private final transient YearFractionCache yearFractionCache;  // cached, not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -107,6 +111,16 @@ public final class ZeroRatePeriodicDiscountFactors
       LocalDate valuationDate,
       Curve curve) {
 
+    this(currency, valuationDate, curve, null);
+  }
+
+  // creates an instance, reusing the year fraction cache if it matches
+  private ZeroRatePeriodicDiscountFactors(
+      Currency currency,
+      LocalDate valuationDate,
+      Curve curve,
+      YearFractionCache yearFractionCache) {
+
     ArgChecker.notNull(currency, "currency");
     ArgChecker.notNull(valuationDate, "valuationDate");
     ArgChecker.notNull(curve, "curve");
@@ -124,6 +138,9 @@ public final class ZeroRatePeriodicDiscountFactors
     this.valuationDate = valuationDate;
     this.curve = curve;
     this.dayCount = dayCount;
+    this.yearFractionCache = yearFractionCache != null && yearFractionCache.matches(valuationDate, dayCount) ?
+        yearFractionCache :
+        YearFractionCache.of(valuationDate, dayCount);
     this.frequency = frequencyOpt.get();
   }
 
@@ -169,7 +186,12 @@ public final class ZeroRatePeriodicDiscountFactors
   //-------------------------------------------------------------------------
   @Override
   public double relativeYearFraction(LocalDate date) {
-    return dayCount.relativeYearFraction(valuationDate, date);
+    return yearFractionCache.relativeYearFraction(date);
+  }
+
+  @Override
+  public DoubleArray relativeYearFractions(IntArray epochDays) {
+    return yearFractionCache.relativeYearFractions(epochDays);
   }
 
   @Override
@@ -178,6 +200,15 @@ public final class ZeroRatePeriodicDiscountFactors
     return Math.pow(1d + curve.yValue(relativeYearFraction) / frequency, -relativeYearFraction * frequency);
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray yearFractions) {
+    // find all the zero rates in one call to the curve
+    DoubleArray zeroRates = curve.yValues(yearFractions);
+    return DoubleArray.of(
+        yearFractions.size(),
+        i -> Math.pow(1d + zeroRates.get(i) / frequency, -yearFractions.get(i) * frequency));
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     double zr = curve.yValue(yearFraction);
@@ -225,13 +256,19 @@ public final class ZeroRatePeriodicDiscountFactors
   //-------------------------------------------------------------------------
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSens) {
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder();
+    parameterSensitivity(pointSens, builder);
+    return builder.build();
+  }
+
+  @Override
+  public void parameterSensitivity(ZeroRateSensitivity pointSens, CurrencyParameterSensitivitiesBuilder builder) {
     double yearFraction = pointSens.getYearFraction();
     double rp = curve.yValue(yearFraction);
     double rcBar = 1.0;
     double rpBar = 1.0 / (1 + rp / frequency) * rcBar;
-    UnitParameterSensitivity unitSens = curve.yValueParameterSensitivity(yearFraction).multipliedBy(rpBar);
-    CurrencyParameterSensitivity curSens = unitSens.multipliedBy(pointSens.getCurrency(), pointSens.getSensitivity());
-    return CurrencyParameterSensitivities.of(curSens);
+    curve.yValueParameterSensitivity(
+        yearFraction, pointSens.getCurrency(), rpBar * pointSens.getSensitivity(), builder);
   }
 
   @Override
@@ -247,7 +284,7 @@ public final class ZeroRatePeriodicDiscountFactors
    * @return the new instance
    */
   public ZeroRatePeriodicDiscountFactors withCurve(Curve curve) {
-    return new ZeroRatePeriodicDiscountFactors(currency, valuationDate, curve);
+    return new ZeroRatePeriodicDiscountFactors(currency, valuationDate, curve, yearFractionCache);
   }
 
   //------------------------- AUTOGENERATED START -------------------------
@@ -8,13 +8,17 @@ package com.opengamma.strata.pricer.bond;
 import static java.time.temporal.ChronoUnit.DAYS;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.CompoundedRateType;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.product.bond.FixedCouponBondPaymentPeriod;
 
@@ -60,6 +64,44 @@ public class DiscountingFixedCouponBondPaymentPeriodPricer {
     return period.getFixedRate() * period.getNotional() * period.getYearFraction() * df;
   }
 
+  /**
+   * Calculates the present value of a list of fixed coupon payment periods.
+   * <p>
+   * The amount is expressed in the currency of the periods.
+   * The result is the sum of {@link #presentValue(FixedCouponBondPaymentPeriod, IssuerCurveDiscountFactors)}
+   * for each period, thus periods with a payment date in the past have no value.
+   * The discount factors of the payment dates are obtained together,
+   * see {@link DiscountFactors#discountFactors(List)}, which is efficient if the periods are sorted.
+   * <p>
+   * A subclass that overrides the single period method is priced by calling that method for each period.
+   * 
+   * @param periods  the periods to price
+   * @param discountFactors  the discount factor provider
+   * @return the total present value of the periods
+   */
+  public double presentValue(List<FixedCouponBondPaymentPeriod> periods, IssuerCurveDiscountFactors discountFactors) {
+    if (getClass() != DiscountingFixedCouponBondPaymentPeriodPricer.class) {
+      return periods.stream()
+          .mapToDouble(period -> presentValue(period, discountFactors))
+          .sum();
+    }
+    List<FixedCouponBondPaymentPeriod> futurePeriods = new ArrayList<>(periods.size());
+    List<LocalDate> paymentDates = new ArrayList<>(periods.size());
+    for (FixedCouponBondPaymentPeriod period : periods) {
+      if (!period.getPaymentDate().isBefore(discountFactors.getValuationDate())) {
+        futurePeriods.add(period);
+        paymentDates.add(period.getPaymentDate());
+      }
+    }
+    DoubleArray dfs = discountFactors.getDiscountFactors().discountFactors(paymentDates);
+    double total = 0d;
+    for (int i = 0; i < futurePeriods.size(); i++) {
+      FixedCouponBondPaymentPeriod period = futurePeriods.get(i);
+      total += period.getFixedRate() * period.getNotional() * period.getYearFraction() * dfs.get(i);
+    }
+    return total;
+  }
+
   /**
    * Calculates the present value of a single fixed coupon payment period with z-spread.
    * <p>
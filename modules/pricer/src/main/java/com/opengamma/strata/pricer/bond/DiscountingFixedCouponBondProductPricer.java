@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.bond;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.DE_BONDS;
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.GB_BUMP_DMO;
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.JP_SIMPLE;
@@ -836,13 +837,11 @@ public class DiscountingFixedCouponBondProductPricer {
       IssuerCurveDiscountFactors discountFactors,
       LocalDate referenceDate) {
 
-    double total = 0d;
-    for (FixedCouponBondPaymentPeriod period : bond.getPeriodicPayments()) {
-      if (period.getDetachmentDate().isAfter(referenceDate)) {
-        total += periodPricer.presentValue(period, discountFactors);
-      }
-    }
-    return CurrencyAmount.of(bond.getCurrency(), total);
+    // the periods are priced together, allowing the discount factors of the sorted payment dates to be found together
+    ImmutableList<FixedCouponBondPaymentPeriod> periods = bond.getPeriodicPayments().stream()
+        .filter(period -> period.getDetachmentDate().isAfter(referenceDate))
+        .collect(toImmutableList());
+    return CurrencyAmount.of(bond.getCurrency(), periodPricer.presentValue(periods, discountFactors));
   }
 
   private CurrencyAmount presentValueCouponFromZSpread(
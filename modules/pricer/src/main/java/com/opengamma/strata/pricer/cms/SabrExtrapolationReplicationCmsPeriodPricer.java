@@ -30,6 +30,7 @@ import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.math.impl.integration.RungeKuttaIntegrator1D;
 import com.opengamma.strata.pricer.impl.option.SabrExtrapolationRightFunction;
 import com.opengamma.strata.pricer.impl.volatility.smile.SabrFormulaData;
+import com.opengamma.strata.pricer.model.SabrSmile;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
 import com.opengamma.strata.pricer.swaption.SabrSwaptionVolatilities;
@@ -181,7 +182,8 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     double expiryTime = swaptionVolatilities.relativeTime(
         fixingDate.atTime(index.getFixingTime()).atZone(index.getFixingZone()));
     double tenor = swaptionVolatilities.tenor(swap.getStartDate(), swap.getEndDate());
-    double shift = swaptionVolatilities.shift(expiryTime, tenor);
+    SabrSmile smile = swaptionVolatilities.smile(expiryTime, tenor);
+    double shift = smile.getShift();
     double strikeCpn = cmsPeriod.getCmsPeriodType().equals(CmsPeriodType.COUPON) ? -shift : cmsPeriod.getStrike();
     if (!fixingDate.isAfter(valuationDate.toLocalDate())) {
       OptionalDouble fixedRate = provider.timeSeries(cmsPeriod.getIndex()).get(fixingDate);
@@ -201,7 +203,7 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     double eta = index.getTemplate().getConvention().getFixedLeg().getDayCount()
         .relativeYearFraction(cmsPeriod.getPaymentDate(), swap.getStartDate());
     CmsIntegrantProvider intProv = new CmsIntegrantProvider(
-        cmsPeriod, swap, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor, cutOffStrike, eta);
+        cmsPeriod, swap, smile, forward, strikeCpn, cutOffStrike, eta);
     double factor = dfPayment / intProv.h(forward) * intProv.g(forward);
     double strikePart = factor * intProv.k(strikeCpn) * intProv.bs(strikeCpn);
     RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL, NUM_ITER);
@@ -210,7 +212,7 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     try {
       if (intProv.getPutCall().isCall()) {
         integralPart = dfPayment *
-            integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
+            integrateCall(integrator, integrant, smile, forward, strikeCpn);
       } else {
         integralPart = -dfPayment * integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
       }
@@ -306,7 +308,8 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     double expiryTime = swaptionVolatilities.relativeTime(
         fixingDate.atTime(index.getFixingTime()).atZone(index.getFixingZone()));
     double tenor = swaptionVolatilities.tenor(swap.getStartDate(), swap.getEndDate());
-    double shift = swaptionVolatilities.shift(expiryTime, tenor);
+    SabrSmile smile = swaptionVolatilities.smile(expiryTime, tenor);
+    double shift = smile.getShift();
     double strikeCpn = cmsPeriod.getCmsPeriodType().equals(CmsPeriodType.COUPON) ? -shift : cmsPeriod.getStrike();
     if (!fixingDate.isAfter(valuationDate.toLocalDate())) {
       OptionalDouble fixedRate = provider.timeSeries(cmsPeriod.getIndex()).get(fixingDate);
@@ -323,7 +326,7 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     double eta = index.getTemplate().getConvention().getFixedLeg().getDayCount()
         .relativeYearFraction(cmsPeriod.getPaymentDate(), swap.getStartDate());
     CmsDeltaIntegrantProvider intProv = new CmsDeltaIntegrantProvider(
-        cmsPeriod, swap, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor, cutOffStrike, eta);
+        cmsPeriod, swap, smile, forward, strikeCpn, cutOffStrike, eta);
     RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL, NUM_ITER);
     double[] bs = intProv.bsbsp(strikeCpn);
     double[] n = intProv.getNnp();
@@ -335,9 +338,9 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     try {
       if (intProv.getPutCall().isCall()) {
         integralPartPrice =
-            integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
+            integrateCall(integrator, integrant, smile, forward, strikeCpn);
         integralPart = dfPayment *
-            integrateCall(integrator, integrantDelta, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
+            integrateCall(integrator, integrantDelta, smile, forward, strikeCpn);
       } else {
         integralPartPrice = -integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
         integralPart = -dfPayment * integrator.integrate(integrantDelta, -shift, strikeCpn);
@@ -392,13 +395,14 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
       }
     }
     double expiryTime = swaptionVolatilities.relativeTime(expiryDate);
-    double shift = swaptionVolatilities.shift(expiryTime, tenor);
+    SabrSmile smile = swaptionVolatilities.smile(expiryTime, tenor);
+    double shift = smile.getShift();
     double strikeCpn = cmsPeriod.getCmsPeriodType().equals(CmsPeriodType.COUPON) ? -shift : cmsPeriod.getStrike();
     double forward = swapPricer.parRate(swap, provider);
     double eta = index.getTemplate().getConvention().getFixedLeg().getDayCount()
         .relativeYearFraction(cmsPeriod.getPaymentDate(), swap.getStartDate());
     CmsIntegrantProvider intProv = new CmsIntegrantProvider(
-        cmsPeriod, swap, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor, cutOffStrike, eta);
+        cmsPeriod, swap, smile, forward, strikeCpn, cutOffStrike, eta);
     double factor = dfPayment / intProv.h(forward) * intProv.g(forward);
     double factor2 = factor * intProv.k(strikeCpn);
     double[] strikePartPrice = intProv.getSabrExtrapolation()
@@ -412,7 +416,7 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
       try {
         if (intProv.getPutCall().isCall()) {
           integralPart = dfPayment *
-              integrateCall(integrator, integrant, swaptionVolatilities, forward, strikeCpn, expiryTime, tenor);
+              integrateCall(integrator, integrant, smile, forward, strikeCpn);
         } else {
           integralPart = -dfPayment * integrator.integrate(integrant, -shift + ZERO_SHIFT, strikeCpn);
         }
@@ -459,7 +463,8 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     ZonedDateTime expiryDate = fixingDate.atTime(index.getFixingTime()).atZone(index.getFixingZone());
     double expiryTime = swaptionVolatilities.relativeTime(expiryDate);
     double strike = cmsPeriod.getStrike();
-    double shift = swaptionVolatilities.shift(expiryTime, tenor);
+    SabrSmile smile = swaptionVolatilities.smile(expiryTime, tenor);
+    double shift = smile.getShift();
     if (!fixingDate.isAfter(valuationDate.toLocalDate())) {
       OptionalDouble fixedRate = provider.timeSeries(cmsPeriod.getIndex()).get(fixingDate);
       if (fixedRate.isPresent()) {
@@ -484,7 +489,7 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     double eta = index.getTemplate().getConvention().getFixedLeg().getDayCount()
         .relativeYearFraction(cmsPeriod.getPaymentDate(), swap.getStartDate());
     CmsIntegrantProvider intProv = new CmsIntegrantProvider(
-        cmsPeriod, swap, swaptionVolatilities, forward, strike, expiryTime, tenor, cutOffStrike, eta);
+        cmsPeriod, swap, smile, forward, strike, cutOffStrike, eta);
     double factor = dfPayment * intProv.g(forward) / intProv.h(forward);
     RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(ABS_TOL, REL_TOL_STRIKE, NUM_ITER);
     double[] kpkpp = intProv.kpkpp(strike);
@@ -493,7 +498,7 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     Function<Double, Double> integrant = intProv.integrantDualDelta();
     if (intProv.getPutCall().isCall()) {
       firstPart = -kpkpp[0] * intProv.bs(strike);
-      thirdPart = integrateCall(integrator, integrant, swaptionVolatilities, forward, strike, expiryTime, tenor);
+      thirdPart = integrateCall(integrator, integrant, smile, forward, strike);
     } else {
       firstPart = -kpkpp[0] * intProv.bs(strike);
       thirdPart = -integrator.integrate(integrant, -shift + ZERO_SHIFT, strike);
@@ -524,16 +529,14 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
   private double integrateCall(
       RungeKuttaIntegrator1D integrator,
       Function<Double, Double> integrant,
-      SabrSwaptionVolatilities swaptionVolatilities,
+      SabrSmile smile,
       double forward,
-      double strike,
-      double expiryTime,
-      double tenor) {
+      double strike) {
 
     double res;
-    double vol = swaptionVolatilities.volatility(expiryTime, tenor, forward, forward);
+    double vol = smile.volatility(forward, forward);
     double upper0 = Math.max(
-        forward * Math.exp(6d * vol * Math.sqrt(expiryTime)),
+        forward * Math.exp(6d * vol * Math.sqrt(smile.getExpiry())),
         Math.max(cutOffStrike, 2d * strike));  // To ensure that the integral covers a good part of the smile
     double upper = Math.min(upper0, 1d); // To ensure that we don't miss the meaningful part
     res = integrator.integrate(integrant, strike, upper);
@@ -653,11 +656,9 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     public CmsIntegrantProvider(
         CmsPeriod cmsPeriod,
         ResolvedSwap swap,
-        SabrSwaptionVolatilities swaptionVolatilities,
+        SabrSmile smile,
         double forward,
         double strike,
-        double timeToExpiry,
-        double tenor,
         double cutOffStrike,
         double eta) {
 
@@ -667,14 +668,10 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
           ((RatePaymentPeriod) fixedLeg.getPaymentPeriods().get(0)).getAccrualPeriods().get(0).getYearFraction());
       this.tau = 1d / nbFixedPaymentYear;
       this.eta = eta;
-      SabrFormulaData sabrPoint = SabrFormulaData.of(
-          swaptionVolatilities.alpha(timeToExpiry, tenor),
-          swaptionVolatilities.beta(timeToExpiry, tenor),
-          swaptionVolatilities.rho(timeToExpiry, tenor),
-          swaptionVolatilities.nu(timeToExpiry, tenor));
-      this.shift = swaptionVolatilities.shift(timeToExpiry, tenor);
+      SabrFormulaData sabrPoint = SabrFormulaData.of(smile.getAlpha(), smile.getBeta(), smile.getRho(), smile.getNu());
+      this.shift = smile.getShift();
       this.sabrExtrapolation = SabrExtrapolationRightFunction
-          .of(forward + shift, timeToExpiry, sabrPoint, cutOffStrike + shift, mu);
+          .of(forward + shift, smile.getExpiry(), sabrPoint, cutOffStrike + shift, mu);
       this.putCall = cmsPeriod.getCmsPeriodType().equals(CmsPeriodType.FLOORLET) ? PutCall.PUT : PutCall.CALL;
       this.strike = strike;
       this.factor = g(forward) / h(forward);
@@ -842,14 +839,12 @@ public final class SabrExtrapolationReplicationCmsPeriodPricer {
     public CmsDeltaIntegrantProvider(
         CmsPeriod cmsPeriod,
         ResolvedSwap swap,
-        SabrSwaptionVolatilities swaptionVolatilities,
+        SabrSmile smile,
         double forward,
         double strike,
-        double timeToExpiry,
-        double tenor,
         double cutOffStrike,
         double eta) {
-      super(cmsPeriod, swap, swaptionVolatilities, forward, strike, timeToExpiry, tenor, cutOffStrike, eta);
+      super(cmsPeriod, swap, smile, forward, strike, cutOffStrike, eta);
       this.nnp = nnp(forward);
     }
 
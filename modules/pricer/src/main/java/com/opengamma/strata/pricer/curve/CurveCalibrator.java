@@ -10,6 +10,7 @@ import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 import com.google.common.collect.ImmutableList;
@@ -23,17 +24,23 @@ import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataFxRateProvider;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
+import com.opengamma.strata.market.curve.NodalCurveDefinition;
 import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.math.impl.linearalgebra.BlockTriangularDecomposition;
 import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
 import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
 import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
 import com.opengamma.strata.math.impl.rootfinding.newton.BroydenVectorRootFinder;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.ResolvedTrade;
 
 /**
@@ -60,14 +67,25 @@ public final class CurveCalibrator {
   private static final CurveCalibrator STANDARD =
       CurveCalibrator.of(1e-9, 1e-9, 1000, CalibrationMeasures.PAR_SPREAD, CalibrationMeasures.PRESENT_VALUE);
   /**
-   * The matrix algebra used for matrix inversion.
+   * The matrix algebra used for matrix multiplication.
    */
   private static final MatrixAlgebra MATRIX_ALGEBRA = new CommonsMatrixAlgebra();
+  /**
+   * The decomposition used for matrix inversion.
+   * The derivatives used in calibration are typically block-sparse, as each trade only depends on a few curves.
+   */
+  private static final BlockTriangularDecomposition DECOMPOSITION =
+      new BlockTriangularDecomposition(DecompositionFactory.getDecomposition(DecompositionFactory.SV_COMMONS_NAME));
 
   /**
    * The root finder used for curve calibration.
    */
   private final BroydenVectorRootFinder rootFinder;
+  /**
+   * The absolute tolerance of the root finder.
+   * This is used to check whether a first-order update is a root.
+   */
+  private final double toleranceAbs;
   /**
    * The calibration measures.
    * This is used to compute the function for which the root is found.
@@ -162,7 +180,8 @@ public final class CurveCalibrator {
         toleranceAbs,
         toleranceRel,
         stepMaximum,
-        DecompositionFactory.getDecomposition(DecompositionFactory.SV_COMMONS_NAME));
+        new BlockTriangularDecomposition(DecompositionFactory.getDecomposition(DecompositionFactory.SV_COMMONS_NAME)));
+    this.toleranceAbs = toleranceAbs;
     this.measures = measures;
     this.pvMeasures = pvMeasures;
   }
@@ -197,15 +216,83 @@ public final class CurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
+  }
+
+  /**
+   * Calibrates a single curve group, using the curves of an existing provider as the starting point.
+   * <p>
+   * This is identical to {@link #calibrate(CurveGroupDefinition, MarketData, ReferenceData)},
+   * except that the root finder is seeded with the parameters of the matching curves in the provider.
+   * A curve matches if it has the same name and number of parameters as the curve definition.
+   * If there is no matching curve, the initial guesses of the curve definition are used.
+   * <p>
+   * This is typically used to calibrate perturbed scenarios, starting from the curves of the base scenario.
+   * When the market data is close to that used to calibrate the provider, fewer iterations are needed.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @param startingProvider  the provider containing the curves used as the starting point
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider calibrate(
+      CurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData,
+      RatesProvider startingProvider) {
+
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData, startingProvider);
+  }
+
+  /**
+   * Recalibrates a single curve group, updating a previous calibration for a change in market data.
+   * <p>
+   * This produces the same curves as {@link #calibrate(CurveGroupDefinition, MarketData, ReferenceData)},
+   * within the tolerance of the root finder, but reuses as much of the previous calibration as possible.
+   * It is intended for frequent recalibration where only a small number of quotes change each time.
+   * The quotes that changed are determined by comparing the previous and current market data.
+   * <p>
+   * The previous provider must be the result of calibrating the same definition against the previous market data.
+   * If the valuation date or time-series differ, all curves are recalibrated.
+   * Otherwise, the curves of the previous provider are reused if none of the quotes of the definition changed.
+   * <p>
+   * When curves are recalibrated, a first-order update of the previous curve parameters is calculated
+   * using the Jacobian matrices stored in the curve metadata. If the update reprices the trades within
+   * the tolerance of the root finder it is used directly, otherwise it is the starting point for the root finder.
+   * If the Jacobian matrices are not available, the root finder starts from the previous curve parameters.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param previousProvider  the rates provider resulting from the previous calibration
+   * @param previousMarketData  the market data used for the previous calibration
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      CurveGroupDefinition curveGroupDefn,
+      ImmutableRatesProvider previousProvider,
+      MarketData previousMarketData,
+      MarketData marketData,
+      ReferenceData refData) {
+
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return recalibrate(
+        ImmutableList.of(curveGroupDefn), knownData, previousProvider, previousMarketData, marketData, refData);
+  }
+
+  // the known data, containing the FX rates and time-series from the market data
+  private static ImmutableRatesProvider knownData(MarketData marketData) {
     Map<Index, LocalDateDoubleTimeSeries> timeSeries = marketData.getTimeSeriesIds().stream()
         .filter(IndexQuoteId.class::isInstance)
         .map(IndexQuoteId.class::cast)
         .collect(toImmutableMap(id -> id.getIndex(), id -> marketData.getTimeSeries(id)));
-    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(marketData.getValuationDate())
+    return ImmutableRatesProvider.builder(marketData.getValuationDate())
         .fxRateProvider(MarketDataFxRateProvider.of(marketData))
         .timeSeries(timeSeries)
         .build();
-    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
   }
 
   /**
@@ -227,6 +314,43 @@ public final class CurveCalibrator {
       ImmutableRatesProvider knownData,
       MarketData marketData,
       ReferenceData refData) {
+
+    return calibrate(allGroupsDefn, knownData, marketData, refData, knownData, null);
+  }
+
+  /**
+   * Recalibrates a list of curve groups, updating a previous calibration for a change in market data.
+   * <p>
+   * Once a group has changed, all subsequent groups are recalibrated, as they may depend on the changed curves.
+   *
+   * @param allGroupsDefn  the curve group definitions
+   * @param knownData  the starting data for the calibration
+   * @param previousProvider  the rates provider resulting from the previous calibration
+   * @param previousMarketData  the market data used for the previous calibration
+   * @param marketData  the market data required to build a trade for the instrument
+   * @param refData  the reference data, used to resolve the trades
+   * @return the rates provider resulting from the calibration
+   */
+  ImmutableRatesProvider recalibrate(
+      List<CurveGroupDefinition> allGroupsDefn,
+      ImmutableRatesProvider knownData,
+      ImmutableRatesProvider previousProvider,
+      MarketData previousMarketData,
+      MarketData marketData,
+      ReferenceData refData) {
+
+    return calibrate(allGroupsDefn, knownData, marketData, refData, previousProvider, previousMarketData);
+  }
+
+  // calibrates the groups, using the matching curves of the starting provider as the initial guesses
+  // if the previous market data is not null, groups whose inputs did not change reuse the starting provider curves
+  private ImmutableRatesProvider calibrate(
+      List<CurveGroupDefinition> allGroupsDefn,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      RatesProvider startingProvider,
+      MarketData previousMarketData) {
     // this method effectively takes one CurveGroupDefinition
     // the list is a split of the definition, not multiple independent definitions
 
@@ -238,31 +362,85 @@ public final class CurveCalibrator {
     ImmutableRatesProvider providerCombined = knownData;
     ImmutableList<CurveParameterSize> orderPrev = ImmutableList.of();
     ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians = ImmutableMap.of();
+    boolean incremental = previousMarketData != null;
+    boolean changed = !incremental || !previousMarketData.getValuationDate().equals(marketData.getValuationDate()) ||
+        !timeSeriesEqual(previousMarketData, marketData);
     for (CurveGroupDefinition groupDefn : allGroupsDefn) {
       CurveGroupDefinition groupDefnBound = groupDefn.bindTimeSeries(knownData.getValuationDate(), knownData.getTimeSeries());
-      // combine all data in the group into flat lists
-      ImmutableList<ResolvedTrade> trades = groupDefnBound.resolvedTrades(marketData, refData);
-      ImmutableList<Double> initialGuesses = groupDefnBound.initialGuesses(marketData);
       ImmutableList<CurveParameterSize> orderGroup = toOrder(groupDefnBound);
       ImmutableList<CurveParameterSize> orderPrevAndGroup = ImmutableList.<CurveParameterSize>builder()
           .addAll(orderPrev)
           .addAll(orderGroup)
           .build();
-
-      // calibrate
       RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
-      DoubleArray calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
+
+      // reuse the previous curves if the inputs to the group and all previous groups are unchanged
+      changed = changed || !inputsEqual(groupDefnBound, previousMarketData, marketData);
+      if (!changed) {
+        Optional<DoubleArray> previousParams = previousParameters(orderGroup, startingProvider);
+        Optional<ImmutableMap<CurveName, JacobianCalibrationMatrix>> previousJacobians =
+            groupDefnBound.isComputeJacobian() ?
+                previousInfo(orderGroup, startingProvider, CurveInfoType.JACOBIAN) :
+                Optional.of(ImmutableMap.of());
+        Optional<ImmutableMap<CurveName, DoubleArray>> previousSensitivities =
+            groupDefnBound.isComputePvSensitivityToMarketQuote() ?
+                previousInfo(orderGroup, startingProvider, CurveInfoType.PV_SENSITIVITY_TO_MARKET_QUOTE) :
+                Optional.of(ImmutableMap.of());
+        if (previousParams.isPresent() && previousJacobians.isPresent() && previousSensitivities.isPresent()) {
+          jacobians = ImmutableMap.<CurveName, JacobianCalibrationMatrix>builder()
+              .putAll(jacobians)
+              .putAll(previousJacobians.get())
+              .build();
+          orderPrev = orderPrevAndGroup;
+          providerCombined = providerGenerator.generate(previousParams.get(), jacobians, previousSensitivities.get());
+          continue;
+        }
+        changed = true;
+      }
+
+      // combine all data in the group into flat lists
+      ImmutableList<ResolvedTrade> trades = groupDefnBound.resolvedTrades(marketData, refData);
+      ImmutableList<Double> initialGuesses = initialGuesses(groupDefnBound, marketData, startingProvider);
+
+      // calibrate, using the first-order update of the previous curves if it is a root
+      DoubleArray calibratedGroupParams = null;
+      if (incremental) {
+        Optional<DoubleArray> firstOrder = firstOrderUpdate(providerGenerator, trades, orderGroup, startingProvider);
+        if (firstOrder.isPresent()) {
+          DoubleArray residual = new CalibrationValue(trades, measures, providerGenerator).apply(firstOrder.get());
+          if (Math.sqrt(residual.multipliedBy(residual).sum()) < toleranceAbs) {
+            calibratedGroupParams = firstOrder.get();
+          } else {
+            initialGuesses = ImmutableList.copyOf(firstOrder.get().toList());
+          }
+        }
+      }
+      if (calibratedGroupParams == null) {
+        calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
+      }
       ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
 
-      // use calibration to build Jacobian matrices
+      // the exact derivatives at the root are calculated once, as the root finder only holds an approximation
+      // they are shared by the Jacobian and, if the measures are the same, by the sensitivity to market quote
+      int totalParamsAll = orderPrevAndGroup.stream().mapToInt(e -> e.getParameterCount()).sum();
+      int totalParamsPrevious = totalParamsAll - orderGroup.stream().mapToInt(e -> e.getParameterCount()).sum();
+      DoubleMatrix derivatives = null;
       if (groupDefnBound.isComputeJacobian()) {
+        derivatives = derivatives(measures, trades, calibratedProvider, orderPrevAndGroup, totalParamsAll);
         jacobians = updateJacobiansForGroup(
-            calibratedProvider, trades, orderGroup, orderPrev, orderPrevAndGroup, jacobians);
+            derivatives, trades.size(), orderGroup, orderPrev, orderPrevAndGroup, jacobians);
       }
+      // the sensitivity to market quote does not depend on the Jacobian, so the calibrated provider is used
       ImmutableMap<CurveName, DoubleArray> sensitivityToMarketQuote = ImmutableMap.of();
       if (groupDefnBound.isComputePvSensitivityToMarketQuote()) {
-        ImmutableRatesProvider providerWithJacobian = providerGenerator.generate(calibratedGroupParams, jacobians);
-        sensitivityToMarketQuote = sensitivityToMarketQuoteForGroup(providerWithJacobian, trades, orderGroup);
+        if (derivatives != null && pvMeasures == measures) {
+          sensitivityToMarketQuote = sensitivityToMarketQuoteForGroup(derivatives, totalParamsPrevious, orderGroup);
+        } else {
+          int totalParamsGroup = totalParamsAll - totalParamsPrevious;
+          DoubleMatrix pvDerivatives =
+              derivatives(pvMeasures, trades, calibratedProvider, orderGroup, totalParamsGroup);
+          sensitivityToMarketQuote = sensitivityToMarketQuoteForGroup(pvDerivatives, 0, orderGroup);
+        }
       }
       orderPrev = orderPrevAndGroup;
 
@@ -273,6 +451,127 @@ public final class CurveCalibrator {
     return providerCombined;
   }
 
+  // the initial guesses, taken from the matching curves in the provider where possible
+  private static ImmutableList<Double> initialGuesses(
+      CurveGroupDefinition groupDefn,
+      MarketData marketData,
+      RatesProvider startingProvider) {
+
+    ImmutableList<Double> defaultGuesses = groupDefn.initialGuesses(marketData);
+    ImmutableList.Builder<Double> result = ImmutableList.builder();
+    int startIndex = 0;
+    for (NodalCurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      int paramCount = curveDefn.getParameterCount();
+      Optional<Curve> curve = startingProvider.findData(curveDefn.getName());
+      if (curve.isPresent() && curve.get().getParameterCount() == paramCount) {
+        for (int i = 0; i < paramCount; i++) {
+          result.add(curve.get().getParameter(i));
+        }
+      } else {
+        result.addAll(defaultGuesses.subList(startIndex, startIndex + paramCount));
+      }
+      startIndex += paramCount;
+    }
+    return result.build();
+  }
+
+  // checks if the time-series are the same in both sets of market data
+  private static boolean timeSeriesEqual(MarketData previousMarketData, MarketData marketData) {
+    if (!previousMarketData.getTimeSeriesIds().equals(marketData.getTimeSeriesIds())) {
+      return false;
+    }
+    return marketData.getTimeSeriesIds().stream()
+        .allMatch(id -> previousMarketData.getTimeSeries(id).equals(marketData.getTimeSeries(id)));
+  }
+
+  // checks if the market data required by the nodes of the group is the same in both sets of market data
+  private static boolean inputsEqual(
+      CurveGroupDefinition groupDefn,
+      MarketData previousMarketData,
+      MarketData marketData) {
+
+    for (NodalCurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      for (CurveNode node : curveDefn.getNodes()) {
+        for (MarketDataId<?> id : node.requirements()) {
+          if (!previousMarketData.findValue(id).equals(marketData.findValue(id))) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  // the combined parameters of the matching curves in the provider, empty if any curve does not match
+  private static Optional<DoubleArray> previousParameters(
+      ImmutableList<CurveParameterSize> orderGroup,
+      RatesProvider startingProvider) {
+
+    DoubleArray result = DoubleArray.EMPTY;
+    for (CurveParameterSize order : orderGroup) {
+      Optional<Curve> curve = startingProvider.findData(order.getName());
+      if (!curve.isPresent() || curve.get().getParameterCount() != order.getParameterCount()) {
+        return Optional.empty();
+      }
+      result = result.concat(DoubleArray.of(order.getParameterCount(), i -> curve.get().getParameter(i)));
+    }
+    return Optional.of(result);
+  }
+
+  // the curve info of the matching curves in the provider, empty if any curve does not have the info
+  private static <T> Optional<ImmutableMap<CurveName, T>> previousInfo(
+      ImmutableList<CurveParameterSize> orderGroup,
+      RatesProvider startingProvider,
+      CurveInfoType<T> type) {
+
+    ImmutableMap.Builder<CurveName, T> builder = ImmutableMap.builder();
+    for (CurveParameterSize order : orderGroup) {
+      Optional<T> info = startingProvider.findData(order.getName()).flatMap(c -> c.getMetadata().findInfo(type));
+      if (!info.isPresent()) {
+        return Optional.empty();
+      }
+      builder.put(order.getName(), info.get());
+    }
+    return Optional.of(builder.build());
+  }
+
+  // a single Newton step from the previous curve parameters, using the Jacobian matrices of the previous curves
+  // the Jacobian block for the group is the inverse of the derivative of the measures with respect to the parameters
+  private Optional<DoubleArray> firstOrderUpdate(
+      RatesProviderGenerator providerGenerator,
+      ImmutableList<ResolvedTrade> trades,
+      ImmutableList<CurveParameterSize> orderGroup,
+      RatesProvider startingProvider) {
+
+    Optional<DoubleArray> previousParams = previousParameters(orderGroup, startingProvider);
+    Optional<ImmutableMap<CurveName, JacobianCalibrationMatrix>> previousJacobians =
+        previousInfo(orderGroup, startingProvider, CurveInfoType.JACOBIAN);
+    if (!previousParams.isPresent() || !previousJacobians.isPresent()) {
+      return Optional.empty();
+    }
+    // extract the block of each Jacobian matrix relating to the group, which is at the end of the order
+    int totalParamsGroup = previousParams.get().size();
+    double[][] inverse = new double[totalParamsGroup][];
+    int startIndex = 0;
+    for (CurveParameterSize order : orderGroup) {
+      JacobianCalibrationMatrix jacobian = previousJacobians.get().get(order.getName());
+      List<CurveParameterSize> jacobianOrder = jacobian.getOrder();
+      if (jacobianOrder.size() < orderGroup.size() ||
+          !jacobianOrder.subList(jacobianOrder.size() - orderGroup.size(), jacobianOrder.size()).equals(orderGroup)) {
+        return Optional.empty();
+      }
+      int startColumn = jacobian.getTotalParameterCount() - totalParamsGroup;
+      for (int p = 0; p < order.getParameterCount(); p++) {
+        inverse[startIndex + p] = jacobian.getJacobianMatrix().row(p).subArray(startColumn).toArray();
+      }
+      startIndex += order.getParameterCount();
+    }
+    DoubleArray residual = new CalibrationValue(trades, measures, providerGenerator).apply(previousParams.get());
+    DoubleArray step = DoubleArray.of(
+        totalParamsGroup, i -> DoubleArray.ofUnsafe(inverse[i]).multipliedBy(residual).sum());
+    return Optional.of(previousParams.get().minus(step));
+  }
+
   // converts a definition to the curve order list
   private static ImmutableList<CurveParameterSize> toOrder(CurveGroupDefinition groupDefn) {
     return groupDefn.getCurveDefinitions().stream().map(def -> def.toCurveParameterSize()).collect(toImmutableList());
@@ -298,21 +597,18 @@ public final class CurveCalibrator {
 
   //-------------------------------------------------------------------------
   // calculates the Jacobian and builds the result, called once per group
+  // the derivatives are the sensitivity of each trade to all parameters in the stated order
   // this uses, but does not alter, data from previous groups
   private ImmutableMap<CurveName, JacobianCalibrationMatrix> updateJacobiansForGroup(
-      ImmutableRatesProvider provider,
-      ImmutableList<ResolvedTrade> trades,
+      DoubleMatrix res,
+      int nbTrades,
       ImmutableList<CurveParameterSize> orderGroup,
       ImmutableList<CurveParameterSize> orderPrev,
       ImmutableList<CurveParameterSize> orderAll,
       ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians) {
 
-    // sensitivity to all parameters in the stated order
-    int totalParamsAll = orderAll.stream().mapToInt(e -> e.getParameterCount()).sum();
-    DoubleMatrix res = derivatives(trades, provider, orderAll, totalParamsAll);
-
+    int totalParamsAll = res.columnCount();
     // jacobian direct
-    int nbTrades = trades.size();
     int totalParamsGroup = orderGroup.stream().mapToInt(e -> e.getParameterCount()).sum();
     int totalParamsPrevious = totalParamsAll - totalParamsGroup;
     DoubleMatrix pDmCurrentMatrix = jacobianDirect(res, nbTrades, totalParamsGroup, totalParamsPrevious);
@@ -346,37 +642,37 @@ public final class CurveCalibrator {
     return jacobianBuilder.build();
   }
 
-  private ImmutableMap<CurveName, DoubleArray> sensitivityToMarketQuoteForGroup(
-      ImmutableRatesProvider provider,
-      ImmutableList<ResolvedTrade> trades,
+  // the sensitivity of the present value of each trade to the market quote of its node
+  // the derivatives are the sensitivity of each trade to the parameters, with those of the group starting at the offset
+  private static ImmutableMap<CurveName, DoubleArray> sensitivityToMarketQuoteForGroup(
+      DoubleMatrix derivatives,
+      int columnOffset,
       ImmutableList<CurveParameterSize> orderGroup) {
 
     Builder<CurveName, DoubleArray> mqsGroup = new Builder<>();
     int nodeIndex = 0;
     for (CurveParameterSize cps : orderGroup) {
-      int nbParameters = cps.getParameterCount();
-      double[] mqsCurve = new double[nbParameters];
-      for (int looptrade = 0; looptrade < nbParameters; looptrade++) {
-        DoubleArray mqsNode = pvMeasures.derivative(trades.get(nodeIndex), provider, orderGroup);
-        mqsCurve[looptrade] = mqsNode.get(nodeIndex);
-        nodeIndex++;
-      }
-      mqsGroup.put(cps.getName(), DoubleArray.ofUnsafe(mqsCurve));
+      int startIndex = nodeIndex;
+      DoubleArray mqsCurve = DoubleArray.of(
+          cps.getParameterCount(), i -> derivatives.get(startIndex + i, columnOffset + startIndex + i));
+      mqsGroup.put(cps.getName(), mqsCurve);
+      nodeIndex += cps.getParameterCount();
     }
     return mqsGroup.build();
   }
 
   // calculate the derivatives
-  private DoubleMatrix derivatives(
+  private static DoubleMatrix derivatives(
+      CalibrationMeasures measures,
       ImmutableList<ResolvedTrade> trades,
       ImmutableRatesProvider provider,
-      ImmutableList<CurveParameterSize> orderAll,
-      int totalParamsAll) {
+      ImmutableList<CurveParameterSize> order,
+      int totalParams) {
 
     return DoubleMatrix.ofArrayObjects(
         trades.size(),
-        totalParamsAll,
-        i -> measures.derivative(trades.get(i), provider, orderAll));
+        totalParams,
+        i -> measures.derivative(trades.get(i), provider, order));
   }
 
   // jacobian direct, for the current group
@@ -390,7 +686,7 @@ public final class CurveCalibrator {
     for (int i = 0; i < nbTrades; i++) {
       System.arraycopy(res.rowArray(i), totalParamsPrevious, direct[i], 0, totalParamsGroup);
     }
-    return MATRIX_ALGEBRA.getInverse(DoubleMatrix.copyOf(direct));
+    return DECOMPOSITION.apply(DoubleMatrix.ofUnsafe(direct)).solve(DoubleMatrix.identity(totalParamsGroup));
   }
 
   // jacobian indirect, merging groups
@@ -0,0 +1,483 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.fxopt;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.surface.Surface;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.impl.pde.LocalVolatilityPdeSolver;
+import com.opengamma.strata.pricer.impl.pde.PdeGrid;
+import com.opengamma.strata.pricer.impl.tree.ConstantContinuousSingleBarrierKnockoutFunction;
+import com.opengamma.strata.pricer.impl.tree.EuropeanVanillaOptionFunction;
+import com.opengamma.strata.pricer.impl.volatility.local.DupireLocalVolatilityCalculator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.fx.ResolvedFxSingle;
+import com.opengamma.strata.product.fxopt.ResolvedFxSingleBarrierOption;
+import com.opengamma.strata.product.fxopt.ResolvedFxVanillaOption;
+import com.opengamma.strata.product.option.SimpleConstantContinuousBarrier;
+
+/**
+ * Pricer for FX barrier option products under the Dupire local volatility model.
+ * <p>
+ * This function provides the ability to price an {@link ResolvedFxSingleBarrierOption}.
+ * <p>
+ * The local volatility is computed from the Black volatility surface by Dupire's formula,
+ * then the price is computed by solving the backward PDE with a finite difference scheme.
+ * The nodes of the spatial grid are concentrated around the spot, the strike and the barrier.
+ * This is an alternative to {@link ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer},
+ * converging smoothly as the number of time steps and nodes increases.
+ * <p>
+ * All of the computation is be based on the counter currency of the underlying FX transaction.
+ * For example, price, PV and risk measures of the product will be expressed in USD for an option on EUR/USD.
+ */
+public class DupirePdeFxSingleBarrierOptionProductPricer {
+
+  /**
+   * The local volatility calculator.
+   */
+  private static final DupireLocalVolatilityCalculator LOCAL_VOL_CALCULATOR = new DupireLocalVolatilityCalculator();
+  /**
+   * The PDE solver.
+   */
+  private static final LocalVolatilityPdeSolver SOLVER = LocalVolatilityPdeSolver.DEFAULT;
+  /**
+   * Default number of time steps.
+   */
+  private static final int NUM_STEPS_DEFAULT = 100;
+  /**
+   * Default number of nodes of the spatial grid.
+   */
+  private static final int NUM_NODES_DEFAULT = 201;
+  /**
+   * The number of standard deviations covered by the spatial grid on each side of the spot.
+   */
+  private static final double NUM_STD_DEV = 5d;
+  /**
+   * The margin beyond the barrier covered by the spatial grid, in standard deviations.
+   */
+  private static final double BARRIER_MARGIN = 0.5;
+
+  /**
+   * Default implementation.
+   */
+  public static final DupirePdeFxSingleBarrierOptionProductPricer DEFAULT =
+      new DupirePdeFxSingleBarrierOptionProductPricer(NUM_STEPS_DEFAULT, NUM_NODES_DEFAULT);
+
+  /**
+   * Number of time steps.
+   */
+  private final int nSteps;
+  /**
+   * Number of nodes of the spatial grid.
+   */
+  private final int nNodes;
+
+  /**
+   * Pricer with the default number of time steps and nodes.
+   */
+  public DupirePdeFxSingleBarrierOptionProductPricer() {
+    this(NUM_STEPS_DEFAULT, NUM_NODES_DEFAULT);
+  }
+
+  /**
+   * Pricer with the specified number of time steps and nodes.
+   *
+   * @param nSteps  number of time steps
+   * @param nNodes  number of nodes of the spatial grid
+   */
+  public DupirePdeFxSingleBarrierOptionProductPricer(int nSteps, int nNodes) {
+    this.nSteps = ArgChecker.notNegativeOrZero(nSteps, "nSteps");
+    this.nNodes = ArgChecker.notNegativeOrZero(nNodes, "nNodes");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of time steps.
+   *
+   * @return the number of time steps
+   */
+  public int getNumberOfSteps() {
+    return nSteps;
+  }
+
+  /**
+   * Gets the number of nodes of the spatial grid.
+   *
+   * @return the number of nodes
+   */
+  public int getNumberOfNodes() {
+    return nNodes;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the local volatility surface from the Black volatilities.
+   * <p>
+   * The Black volatilities must be a surface, {@link BlackFxOptionSurfaceVolatilities}, for the currency pair
+   * of the option, as Dupire's formula requires the derivatives of the volatility with respect to expiry and strike.
+   * The x-value of the local volatility surface is the time and the y-value is the spot.
+   * <p>
+   * The surface may be computed once and used to price several options on the same currency pair.
+   *
+   * @param option  the option product
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the local volatility surface
+   */
+  public Surface calibrateLocalVolatility(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    CurrencyPair currencyPair = option.getCurrencyPair();
+    ArgChecker.isTrue(volatilities instanceof BlackFxOptionSurfaceVolatilities,
+        "Dupire local volatility requires BlackFxOptionSurfaceVolatilities");
+    ArgChecker.isTrue(volatilities.getCurrencyPair().equals(currencyPair),
+        "Volatilities must be for the currency pair of the option");
+    validate(option, ratesProvider, volatilities);
+    Surface impliedVolatility = ((BlackFxOptionSurfaceVolatilities) volatilities).getSurface();
+    DiscountFactors baseDiscountFactors = ratesProvider.discountFactors(currencyPair.getBase());
+    DiscountFactors counterDiscountFactors = ratesProvider.discountFactors(currencyPair.getCounter());
+    Function<Double, Double> interestRate = t -> counterDiscountFactors.zeroRate(t);
+    Function<Double, Double> dividendRate = t -> baseDiscountFactors.zeroRate(t);
+    return LOCAL_VOL_CALCULATOR.localVolatilityFromImpliedVolatility(
+        impliedVolatility, ratesProvider.fxRate(currencyPair), interestRate, dividendRate);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the price of the FX barrier option product.
+   * <p>
+   * The price of the product is the value on the valuation date for one unit of the base currency
+   * and is expressed in the counter currency. The price does not take into account the long/short flag.
+   * See {@linkplain #presentValue(ResolvedFxSingleBarrierOption, RatesProvider, BlackFxOptionVolatilities) presentValue}
+   * for scaling and currency.
+   * <p>
+   * The local volatility is first computed from the Black volatilities,
+   * then the price is computed by solving the PDE.
+   *
+   * @param option  the option product
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the price of the product
+   */
+  public double price(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    Surface localVolatility = calibrateLocalVolatility(option, ratesProvider, volatilities);
+    return price(option, ratesProvider, volatilities, localVolatility);
+  }
+
+  /**
+   * Calculates the price of the FX barrier option product.
+   * <p>
+   * The price of the product is the value on the valuation date for one unit of the base currency
+   * and is expressed in the counter currency. The price does not take into account the long/short flag.
+   * See {@linkplain #presentValue(ResolvedFxSingleBarrierOption, RatesProvider, BlackFxOptionVolatilities) presentValue}
+   * for scaling and currency.
+   * <p>
+   * This assumes the local volatility is already computed, see {@link #calibrateLocalVolatility}.
+   * The Black volatilities are only used to choose the spatial grid.
+   *
+   * @param option  the option product
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @param localVolatility  the local volatility surface
+   * @return the price of the product
+   */
+  public double price(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities,
+      Surface localVolatility) {
+
+    return priceDerivatives(option, ratesProvider, volatilities, localVolatility).getValue();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of the FX barrier option product.
+   * <p>
+   * The present value of the product is the value on the valuation date.
+   * It is expressed in the counter currency.
+   * <p>
+   * The local volatility is first computed from the Black volatilities,
+   * then the price is computed by solving the PDE.
+   *
+   * @param option  the option product
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the present value of the product
+   */
+  public CurrencyAmount presentValue(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    Surface localVolatility = calibrateLocalVolatility(option, ratesProvider, volatilities);
+    return presentValue(option, ratesProvider, volatilities, localVolatility);
+  }
+
+  /**
+   * Calculates the present value of the FX barrier option product.
+   * <p>
+   * The present value of the product is the value on the valuation date.
+   * It is expressed in the counter currency.
+   * <p>
+   * This assumes the local volatility is already computed, see {@link #calibrateLocalVolatility}.
+   *
+   * @param option  the option product
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @param localVolatility  the local volatility surface
+   * @return the present value of the product
+   */
+  public CurrencyAmount presentValue(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities,
+      Surface localVolatility) {
+
+    double price = price(option, ratesProvider, volatilities, localVolatility);
+    ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
+    return CurrencyAmount.of(underlyingOption.getCounterCurrency(), signedNotional(underlyingOption) * price);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value sensitivity of the FX barrier option product.
+   * <p>
+   * The present value sensitivity of the product is the sensitivity of {@link #presentValue} to
+   * the underlying curve parameters.
+   * <p>
+   * The sensitivity is computed by bump and re-price, including the change of the local volatility.
+   *
+   * @param option  the option product
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the present value of the product
+   */
+  public CurrencyParameterSensitivities presentValueSensitivityRates(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    double shift = 1.0e-5;
+    CurrencyAmount pvBase = presentValue(option, ratesProvider, volatilities);
+    CurrencyPair currencyPair = option.getCurrencyPair();
+    ImmutableRatesProvider immRatesProvider = ratesProvider.toImmutableRatesProvider();
+    ImmutableMap<Currency, Curve> baseCurves = immRatesProvider.getDiscountCurves();
+    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+
+    for (Entry<Currency, Curve> entry : baseCurves.entrySet()) {
+      if (currencyPair.contains(entry.getKey())) {
+        Curve curve = entry.getValue();
+        int nParams = curve.getParameterCount();
+        DoubleArray sensitivity = DoubleArray.of(nParams, i -> {
+          Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
+          Map<Currency, Curve> mapBumped = new HashMap<>(baseCurves);
+          mapBumped.put(entry.getKey(), dscBumped);
+          ImmutableRatesProvider providerDscBumped = immRatesProvider.toBuilder().discountCurves(mapBumped).build();
+          double pvBumped = presentValue(option, providerDscBumped, volatilities).getAmount();
+          return (pvBumped - pvBase.getAmount()) / shift;
+        });
+        result = result.combinedWith(curve.createParameterSensitivity(pvBase.getCurrency(), sensitivity));
+      }
+    }
+    return result;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the currency exposure of the FX barrier option product.
+   * <p>
+   * The local volatility is first computed from the Black volatilities,
+   * then the price is computed by solving the PDE.
+   *
+   * @param option  the option product
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the currency exposure
+   */
+  public MultiCurrencyAmount currencyExposure(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    Surface localVolatility = calibrateLocalVolatility(option, ratesProvider, volatilities);
+    return currencyExposure(option, ratesProvider, volatilities, localVolatility);
+  }
+
+  /**
+   * Calculates the currency exposure of the FX barrier option product.
+   * <p>
+   * This assumes the local volatility is already computed, see {@link #calibrateLocalVolatility}.
+   *
+   * @param option  the option product
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @param localVolatility  the local volatility surface
+   * @return the currency exposure
+   */
+  public MultiCurrencyAmount currencyExposure(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities,
+      Surface localVolatility) {
+
+    ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
+    ValueDerivatives priceDerivatives = priceDerivatives(option, ratesProvider, volatilities, localVolatility);
+    double price = priceDerivatives.getValue();
+    double delta = priceDerivatives.getDerivative(0);
+    CurrencyPair currencyPair = underlyingOption.getUnderlying().getCurrencyPair();
+    double todayFx = ratesProvider.fxRate(currencyPair);
+    double signedNotional = signedNotional(underlyingOption);
+    CurrencyAmount domestic = CurrencyAmount.of(currencyPair.getCounter(), (price - delta * todayFx) * signedNotional);
+    CurrencyAmount foreign = CurrencyAmount.of(currencyPair.getBase(), delta * signedNotional);
+    return MultiCurrencyAmount.of(domestic, foreign);
+  }
+
+  //-------------------------------------------------------------------------
+  private ValueDerivatives priceDerivatives(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities,
+      Surface localVolatility) {
+
+    validate(option, ratesProvider, volatilities);
+    ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
+    double timeToExpiry = volatilities.relativeTime(underlyingOption.getExpiry());
+    if (timeToExpiry <= 0d) {
+      throw new IllegalArgumentException("option expired");
+    }
+    ResolvedFxSingle underlyingFx = underlyingOption.getUnderlying();
+    CurrencyPair currencyPair = underlyingFx.getCurrencyPair();
+    Currency ccyBase = currencyPair.getBase();
+    Currency ccyCounter = currencyPair.getCounter();
+    // discount factors as a function of the time of the volatilities, consistent at expiry
+    DoubleUnaryOperator baseDiscountFactors = discountFactors(ratesProvider, ccyBase, underlyingOption, timeToExpiry);
+    DoubleUnaryOperator counterDiscountFactors =
+        discountFactors(ratesProvider, ccyCounter, underlyingOption, timeToExpiry);
+    double todayFx = ratesProvider.fxRate(currencyPair);
+    double strike = underlyingOption.getStrike();
+    double dt = timeToExpiry / nSteps;
+    double rebateAtExpiry = 0d; // used to price knock-in option
+    double rebateAtExpiryDerivative = 0d; // used to price knock-in option
+    double notional = Math.abs(underlyingFx.getBaseCurrencyPayment().getAmount());
+    double[] rebateArray = new double[nSteps + 1];
+    SimpleConstantContinuousBarrier barrier = (SimpleConstantContinuousBarrier) option.getBarrier();
+    double barrierLevel = barrier.getBarrierLevel();
+    if (option.getRebate().isPresent()) {
+      CurrencyAmount rebateCurrencyAmount = option.getRebate().get();
+      double rebatePerUnit = rebateCurrencyAmount.getAmount() / notional;
+      boolean isCounter = rebateCurrencyAmount.getCurrency().equals(ccyCounter);
+      double rebate = isCounter ? rebatePerUnit : rebatePerUnit * barrierLevel;
+      if (barrier.getKnockType().isKnockIn()) { // use in-out parity
+        double dfCounterAtExpiry = counterDiscountFactors.applyAsDouble(timeToExpiry);
+        double dfBaseAtExpiry = baseDiscountFactors.applyAsDouble(timeToExpiry);
+        for (int i = 0; i < nSteps + 1; ++i) {
+          rebateArray[i] = isCounter ?
+              rebate * dfCounterAtExpiry / counterDiscountFactors.applyAsDouble(dt * i) :
+              rebate * dfBaseAtExpiry / baseDiscountFactors.applyAsDouble(dt * i);
+        }
+        if (isCounter) {
+          rebateAtExpiry = rebatePerUnit * dfCounterAtExpiry;
+        } else {
+          rebateAtExpiry = rebatePerUnit * todayFx * dfBaseAtExpiry;
+          rebateAtExpiryDerivative = rebatePerUnit * dfBaseAtExpiry;
+        }
+      } else {
+        Arrays.fill(rebateArray, rebate);
+      }
+    }
+    ConstantContinuousSingleBarrierKnockoutFunction barrierFunction =
+        ConstantContinuousSingleBarrierKnockoutFunction.of(
+            strike,
+            timeToExpiry,
+            underlyingOption.getPutCall(),
+            nSteps,
+            barrier.getBarrierType(),
+            barrierLevel,
+            DoubleArray.ofUnsafe(rebateArray));
+    // grid covering the distribution of the spot, concentrated at the spot, the strike and the barrier
+    double forward = todayFx * baseDiscountFactors.applyAsDouble(timeToExpiry) /
+        counterDiscountFactors.applyAsDouble(timeToExpiry);
+    double stdDev = volatilities.volatility(currencyPair, timeToExpiry, strike, forward) * Math.sqrt(timeToExpiry);
+    double low = Math.min(
+        todayFx * Math.exp(-NUM_STD_DEV * stdDev), barrierLevel * Math.exp(-BARRIER_MARGIN * stdDev));
+    double high = Math.max(
+        todayFx * Math.exp(NUM_STD_DEV * stdDev), barrierLevel * Math.exp(BARRIER_MARGIN * stdDev));
+    PdeGrid grid = PdeGrid.concentrated(low, high, nNodes, DoubleArray.of(todayFx, strike, barrierLevel));
+    DoubleMatrix values = SOLVER.optionValues(
+        barrier.getKnockType().isKnockIn() ?
+            ImmutableList.of(barrierFunction, EuropeanVanillaOptionFunction.of(
+                strike, timeToExpiry, underlyingOption.getPutCall(), nSteps)) :
+            ImmutableList.of(barrierFunction),
+        grid,
+        (t, s) -> localVolatility.zValue(t, s),
+        counterDiscountFactors,
+        baseDiscountFactors);
+    ValueDerivatives barrierPrice = grid.interpolate(values.row(0), todayFx);
+    if (barrier.getKnockType().isKnockIn()) {  // use in-out parity
+      ValueDerivatives vanillaPrice = grid.interpolate(values.row(1), todayFx);
+      return ValueDerivatives.of(vanillaPrice.getValue() + rebateAtExpiry - barrierPrice.getValue(),
+          DoubleArray.of(vanillaPrice.getDerivative(0) + rebateAtExpiryDerivative - barrierPrice.getDerivative(0)));
+    }
+    return barrierPrice;
+  }
+
+  // the discount factors, with the time of the curve scaled to match the time of the volatilities at expiry
+  private DoubleUnaryOperator discountFactors(
+      RatesProvider ratesProvider,
+      Currency currency,
+      ResolvedFxVanillaOption option,
+      double timeToExpiry) {
+
+    DiscountFactors discountFactors = ratesProvider.discountFactors(currency);
+    double scale = discountFactors.relativeYearFraction(option.getExpiry().toLocalDate()) / timeToExpiry;
+    return t -> discountFactors.discountFactor(t * scale);
+  }
+
+  //-------------------------------------------------------------------------
+  private void validate(ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    ArgChecker.isTrue(option.getBarrier() instanceof SimpleConstantContinuousBarrier,
+        "barrier should be SimpleConstantContinuousBarrier");
+    ArgChecker.isTrue(
+        ratesProvider.getValuationDate().isEqual(volatilities.getValuationDateTime().toLocalDate()),
+        "Volatility and rate data must be for the same date");
+  }
+
+  // signed notional amount to computed present value and value Greeks
+  private double signedNotional(ResolvedFxVanillaOption option) {
+    return (option.getLongShort().isLong() ? 1d : -1d) *
+        Math.abs(option.getUnderlying().getBaseCurrencyPayment().getAmount());
+  }
+
+}
@@ -15,6 +15,7 @@ import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
 import org.joda.beans.BeanDefinition;
 import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableConstructor;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.Property;
@@ -70,6 +71,10 @@ public final class RecombiningTrinomialTreeData implements ImmutableBean, Serial
    */
   @PropertyDefinition
   private final DoubleArray time;
+  /**
+   * The transition probability of each layer as a flat array.
+   */
+  private final transient double[][] flatTransitionProbability;  // cached, not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -103,6 +108,44 @@ public final class RecombiningTrinomialTreeData implements ImmutableBean, Serial
     return new RecombiningTrinomialTreeData(stateValue, transitionProbability, discountFactor, time);
   }
 
+  @ImmutableConstructor
+  private RecombiningTrinomialTreeData(
+      DoubleMatrix stateValue,
+      List<DoubleMatrix> transitionProbability,
+      DoubleArray discountFactor,
+      DoubleArray time) {
+
+    this.stateValue = stateValue;
+    this.transitionProbability = (transitionProbability != null ? ImmutableList.copyOf(transitionProbability) : null);
+    this.discountFactor = discountFactor;
+    this.time = time;
+    this.flatTransitionProbability = flatten(this.transitionProbability);
+  }
+
+  // flattens the transition probability matrix of each layer, storing the three probabilities of each node together
+  private static double[][] flatten(List<DoubleMatrix> transitionProbability) {
+    if (transitionProbability == null) {
+      return null;
+    }
+    double[][] flat = new double[transitionProbability.size()][];
+    for (int i = 0; i < flat.length; ++i) {
+      DoubleMatrix probability = transitionProbability.get(i);
+      int nNodes = probability.rowCount();
+      flat[i] = new double[3 * nNodes];
+      for (int j = 0; j < nNodes; ++j) {
+        flat[i][3 * j] = probability.get(j, 0);
+        flat[i][3 * j + 1] = probability.get(j, 1);
+        flat[i][3 * j + 2] = probability.get(j, 2);
+      }
+    }
+    return flat;
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new RecombiningTrinomialTreeData(stateValue, transitionProbability, discountFactor, time);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Obtains the number of time steps.
@@ -133,6 +176,20 @@ public final class RecombiningTrinomialTreeData implements ImmutableBean, Serial
     return transitionProbability.get(i);
   }
 
+  /**
+   * Obtains the transition probability values at the {@code i}-th time layer as a flat array.
+   * <p>
+   * The down, middle and up probabilities of the {@code j}-th lowest node are stored in
+   * the {@code 3*j}, {@code 3*j+1} and {@code 3*j+2} elements, respectively.
+   * The array is created once, thus this method is suitable for use in each step of a backward induction.
+   * 
+   * @param i  the layer
+   * @return the transition probability
+   */
+  public DoubleArray getFlatProbabilityAtLayer(int i) {
+    return DoubleArray.ofUnsafe(flatTransitionProbability[i]);
+  }
+
   /**
    * Obtains discount factor between the {@code i}-th layer to the {@code (i+1)}-th layer.
    * 
@@ -183,17 +240,6 @@ public final class RecombiningTrinomialTreeData implements ImmutableBean, Serial
    */
   private static final long serialVersionUID = 1L;
 
-  private RecombiningTrinomialTreeData(
-      DoubleMatrix stateValue,
-      List<DoubleMatrix> transitionProbability,
-      DoubleArray discountFactor,
-      DoubleArray time) {
-    this.stateValue = stateValue;
-    this.transitionProbability = (transitionProbability != null ? ImmutableList.copyOf(transitionProbability) : null);
-    this.discountFactor = discountFactor;
-    this.time = time;
-  }
-
   @Override
   public RecombiningTrinomialTreeData.Meta metaBean() {
     return RecombiningTrinomialTreeData.Meta.INSTANCE;
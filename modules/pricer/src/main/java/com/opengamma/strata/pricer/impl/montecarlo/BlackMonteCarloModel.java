@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Monte Carlo model of a log-normal underlying.
+ * <p>
+ * The underlying is simulated exactly at each time from the forward and the total Black variance,
+ * such that the expected value of the underlying at each time is the forward.
+ * The variance can be obtained from a Black volatility term structure as the square of the
+ * volatility multiplied by the time.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class BlackMonteCarloModel implements MonteCarloModel {
+
+  /**
+   * The simulation times.
+   */
+  private final DoubleArray times;
+  /**
+   * The logarithm of the forward, less half the variance, at each time.
+   */
+  private final double[] logDrift;
+  /**
+   * The standard deviation of each step.
+   */
+  private final double[] stdDev;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the forwards and total variances.
+   * <p>
+   * The total variance must not decrease with time.
+   * 
+   * @param times  the simulation times
+   * @param forwards  the forward of the underlying at each time
+   * @param variances  the total Black variance at each time
+   * @return the instance
+   */
+  public static BlackMonteCarloModel of(DoubleArray times, DoubleArray forwards, DoubleArray variances) {
+    return new BlackMonteCarloModel(times, forwards, variances);
+  }
+
+  /**
+   * Obtains an instance with constant rates and volatility.
+   * <p>
+   * The interest rate and dividend rate are continuously compounded.
+   * 
+   * @param spot  the spot
+   * @param interestRate  the interest rate
+   * @param dividendRate  the dividend rate
+   * @param volatility  the Black volatility
+   * @param times  the simulation times
+   * @return the instance
+   */
+  public static BlackMonteCarloModel of(
+      double spot,
+      double interestRate,
+      double dividendRate,
+      double volatility,
+      DoubleArray times) {
+
+    DoubleArray forwards = times.map(t -> spot * Math.exp((interestRate - dividendRate) * t));
+    DoubleArray variances = times.map(t -> volatility * volatility * t);
+    return new BlackMonteCarloModel(times, forwards, variances);
+  }
+
+  // restricted constructor
+  private BlackMonteCarloModel(DoubleArray times, DoubleArray forwards, DoubleArray variances) {
+    ArgChecker.isTrue(forwards.size() == times.size(), "size mismatch between times and forwards");
+    ArgChecker.isTrue(variances.size() == times.size(), "size mismatch between times and variances");
+    this.times = times;
+    this.logDrift = new double[times.size()];
+    this.stdDev = new double[times.size()];
+    double previousVariance = 0d;
+    for (int i = 0; i < times.size(); i++) {
+      ArgChecker.isTrue(forwards.get(i) > 0d, "forwards must be positive");
+      ArgChecker.isTrue(variances.get(i) >= previousVariance, "variances must not decrease");
+      logDrift[i] = Math.log(forwards.get(i)) - 0.5 * variances.get(i);
+      stdDev[i] = Math.sqrt(variances.get(i) - previousVariance);
+      previousVariance = variances.get(i);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DoubleArray getTimes() {
+    return times;
+  }
+
+  @Override
+  public void path(double[] normals, double[] paths, int offset) {
+    double w = 0d;
+    for (int i = 0; i < logDrift.length; i++) {
+      w += stdDev[i] * normals[i];
+      paths[offset + i] = Math.exp(logDrift[i] + w);
+    }
+  }
+
+}
@@ -0,0 +1,236 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+
+/**
+ * Monte Carlo model of interest rates in the Hull-White one factor model.
+ * <p>
+ * The simulation takes place in the forward measure associated with the numeraire date {@code T},
+ * the numeraire being the zero-coupon bond {@code P(t, T)}.
+ * In this measure, the ratio {@code P(t, u) / P(t, T)} is a martingale for any maturity {@code u}.
+ * With the piecewise constant volatility {@code eta}, all the ratios are driven by the single Gaussian state
+ * <pre>
+ *  X(t) = int_0^t eta(s) exp(a s) dW(s)
+ * </pre>
+ * which is simulated exactly. The state at each time is the value of the path.
+ * <p>
+ * The value today of a payoff {@code V} paid at a simulation time {@code t} is {@code P(0, T)} multiplied by the
+ * expected value of {@code V / P(t, T)}. The methods {@link #numeraire(int, double)} and
+ * {@link #discountFactor(int, double, LocalDate)} are used to compute the payoffs from the state.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class HullWhiteMonteCarloModel implements MonteCarloModel {
+
+  /**
+   * The Hull-White model parameters provider.
+   */
+  private final HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider;
+  /**
+   * The discount factors.
+   */
+  private final DiscountFactors discountFactors;
+  /**
+   * The simulation dates.
+   */
+  private final ImmutableList<LocalDate> dates;
+  /**
+   * The numeraire date.
+   */
+  private final LocalDate numeraireDate;
+  /**
+   * The simulation times.
+   */
+  private final DoubleArray times;
+  /**
+   * The mean reversion.
+   */
+  private final double meanReversion;
+  /**
+   * The time to the numeraire date.
+   */
+  private final double numeraireTime;
+  /**
+   * The discount factor to the numeraire date.
+   */
+  private final double numeraireDiscountFactor;
+  /**
+   * The discount factor to each simulation date.
+   */
+  private final double[] discountFactor;
+  /**
+   * The variance of the state at each time.
+   */
+  private final double[] variance;
+  /**
+   * The standard deviation of each step.
+   */
+  private final double[] stdDev;
+  /**
+   * The loading of the state at each time.
+   */
+  private final double[] loading;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   * <p>
+   * The dates must be after the valuation date, in increasing order, and not after the numeraire date.
+   * 
+   * @param hwProvider  the Hull-White model parameters provider
+   * @param discountFactors  the discount factors
+   * @param dates  the simulation dates
+   * @param numeraireDate  the numeraire date
+   * @return the instance
+   */
+  public static HullWhiteMonteCarloModel of(
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider,
+      DiscountFactors discountFactors,
+      List<LocalDate> dates,
+      LocalDate numeraireDate) {
+
+    return new HullWhiteMonteCarloModel(hwProvider, discountFactors, dates, numeraireDate);
+  }
+
+  // restricted constructor
+  private HullWhiteMonteCarloModel(
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider,
+      DiscountFactors discountFactors,
+      List<LocalDate> dates,
+      LocalDate numeraireDate) {
+
+    ArgChecker.notNull(hwProvider, "hwProvider");
+    ArgChecker.notNull(discountFactors, "discountFactors");
+    ArgChecker.notEmpty(dates, "dates");
+    ArgChecker.notNull(numeraireDate, "numeraireDate");
+    ArgChecker.inOrderOrEqual(dates.get(dates.size() - 1), numeraireDate, "dates", "numeraireDate");
+    this.hwProvider = hwProvider;
+    this.discountFactors = discountFactors;
+    this.dates = ImmutableList.copyOf(dates);
+    this.numeraireDate = numeraireDate;
+    this.meanReversion = hwProvider.getParameters().getMeanReversion();
+    this.numeraireTime = hwProvider.relativeTime(numeraireDate);
+    this.numeraireDiscountFactor = discountFactors.discountFactor(numeraireDate);
+    int size = dates.size();
+    double[] timesArray = new double[size];
+    this.discountFactor = new double[size];
+    this.variance = new double[size];
+    this.stdDev = new double[size];
+    this.loading = new double[size];
+    for (int i = 0; i < size; i++) {
+      timesArray[i] = hwProvider.relativeTime(dates.get(i));
+      discountFactor[i] = discountFactors.discountFactor(dates.get(i));
+      variance[i] = variance(hwProvider.getParameters(), timesArray[i]);
+      stdDev[i] = Math.sqrt(Math.max(variance[i] - (i == 0 ? 0d : variance[i - 1]), 0d));
+      loading[i] = loading(timesArray[i]);
+    }
+    this.times = DoubleArray.ofUnsafe(timesArray);
+  }
+
+  // the variance of the state, integral of eta(s)^2 exp(2 a s) from zero to the time
+  private static double variance(HullWhiteOneFactorPiecewiseConstantParameters parameters, double time) {
+    double a = parameters.getMeanReversion();
+    DoubleArray volatility = parameters.getVolatility();
+    DoubleArray volatilityTime = parameters.getVolatilityTime();
+    double sum = 0d;
+    for (int j = 0; j < volatility.size() && volatilityTime.get(j) < time; j++) {
+      double end = Math.min(volatilityTime.get(j + 1), time);
+      sum += volatility.get(j) * volatility.get(j) *
+          (Math.exp(2d * a * end) - Math.exp(2d * a * volatilityTime.get(j)));
+    }
+    return sum / (2d * a);
+  }
+
+  // the loading of the state in the logarithm of the ratio P(t, u) / P(t, T)
+  private double loading(double maturityTime) {
+    return (Math.exp(-meanReversion * maturityTime) - Math.exp(-meanReversion * numeraireTime)) / meanReversion;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the simulation dates.
+   * 
+   * @return the dates
+   */
+  public ImmutableList<LocalDate> getDates() {
+    return dates;
+  }
+
+  /**
+   * Gets the numeraire date.
+   * 
+   * @return the numeraire date
+   */
+  public LocalDate getNumeraireDate() {
+    return numeraireDate;
+  }
+
+  /**
+   * Gets the discount factor to the numeraire date.
+   * <p>
+   * This is the value today of the numeraire, used to convert the expected value of the
+   * payoffs divided by the numeraire to a present value.
+   * 
+   * @return the discount factor
+   */
+  public double getNumeraireDiscountFactor() {
+    return numeraireDiscountFactor;
+  }
+
+  @Override
+  public DoubleArray getTimes() {
+    return times;
+  }
+
+  @Override
+  public void path(double[] normals, double[] paths, int offset) {
+    double state = 0d;
+    for (int i = 0; i < stdDev.length; i++) {
+      state += stdDev[i] * normals[i];
+      paths[offset + i] = state;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the numeraire, the zero-coupon bond to the numeraire date, at a simulation time.
+   * 
+   * @param timeIndex  the index of the simulation time
+   * @param state  the value of the path at the time
+   * @return the numeraire
+   */
+  public double numeraire(int timeIndex, double state) {
+    double h = loading[timeIndex];
+    return numeraireDiscountFactor / discountFactor[timeIndex] *
+        Math.exp(-h * state + 0.5 * h * h * variance[timeIndex]);
+  }
+
+  /**
+   * Computes the zero-coupon bond to the maturity date at a simulation time.
+   * 
+   * @param timeIndex  the index of the simulation time
+   * @param state  the value of the path at the time
+   * @param maturityDate  the maturity date of the bond, not before the simulation date
+   * @return the discount factor
+   */
+  public double discountFactor(int timeIndex, double state, LocalDate maturityDate) {
+    double h = loading[timeIndex];
+    double hMaturity = loading(hwProvider.relativeTime(maturityDate));
+    return discountFactors.discountFactor(maturityDate) / discountFactor[timeIndex] *
+        Math.exp((hMaturity - h) * state - 0.5 * (hMaturity * hMaturity - h * h) * variance[timeIndex]);
+  }
+
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import java.util.function.Function;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.surface.Surface;
+
+/**
+ * Monte Carlo model of an underlying with local volatility.
+ * <p>
+ * The logarithm of the underlying is simulated using the Euler scheme, the local volatility
+ * being taken at the start of each step. The simulation times thus define the time steps,
+ * and must be fine enough for the discretization error to be acceptable.
+ * <p>
+ * The local volatility surface is spanned by time and spot, as produced by
+ * implementations of {@code LocalVolatilityCalculator}.
+ * The interest rate and dividend rate must be zero-coupon continuously compounded rates.
+ * Thus {@code interestRate} and {@code dividendRate} are functions from year fraction to zero rate.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class LocalVolatilityMonteCarloModel implements MonteCarloModel {
+
+  /**
+   * The spot.
+   */
+  private final double spot;
+  /**
+   * The local volatility surface.
+   */
+  private final Surface localVolatility;
+  /**
+   * The simulation times.
+   */
+  private final DoubleArray times;
+  /**
+   * The drift of the logarithm of the underlying over each step, excluding the volatility term.
+   */
+  private final double[] drift;
+  /**
+   * The square root of the length of each step.
+   */
+  private final double[] sqrtDt;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   * 
+   * @param spot  the spot
+   * @param localVolatility  the local volatility surface
+   * @param interestRate  the interest rate
+   * @param dividendRate  the dividend rate
+   * @param times  the simulation times
+   * @return the instance
+   */
+  public static LocalVolatilityMonteCarloModel of(
+      double spot,
+      Surface localVolatility,
+      Function<Double, Double> interestRate,
+      Function<Double, Double> dividendRate,
+      DoubleArray times) {
+
+    return new LocalVolatilityMonteCarloModel(spot, localVolatility, interestRate, dividendRate, times);
+  }
+
+  // restricted constructor
+  private LocalVolatilityMonteCarloModel(
+      double spot,
+      Surface localVolatility,
+      Function<Double, Double> interestRate,
+      Function<Double, Double> dividendRate,
+      DoubleArray times) {
+
+    ArgChecker.notNegativeOrZero(spot, "spot");
+    ArgChecker.notNull(localVolatility, "localVolatility");
+    ArgChecker.notNull(interestRate, "interestRate");
+    ArgChecker.notNull(dividendRate, "dividendRate");
+    ArgChecker.notNull(times, "times");
+    this.spot = spot;
+    this.localVolatility = localVolatility;
+    this.times = times;
+    this.drift = new double[times.size()];
+    this.sqrtDt = new double[times.size()];
+    double previous = 0d;
+    for (int i = 0; i < times.size(); i++) {
+      double t = times.get(i);
+      double current = (interestRate.apply(t) - dividendRate.apply(t)) * t;
+      drift[i] = current - previous;
+      sqrtDt[i] = Math.sqrt(t - (i == 0 ? 0d : times.get(i - 1)));
+      previous = current;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DoubleArray getTimes() {
+    return times;
+  }
+
+  @Override
+  public void path(double[] normals, double[] paths, int offset) {
+    double logSpot = Math.log(spot);
+    double value = spot;
+    double previousTime = 0d;
+    for (int i = 0; i < drift.length; i++) {
+      double volatilityRootDt = localVolatility.zValue(previousTime, value) * sqrtDt[i];
+      logSpot += drift[i] - 0.5 * volatilityRootDt * volatilityRootDt + volatilityRootDt * normals[i];
+      value = Math.exp(logSpot);
+      paths[offset + i] = value;
+      previousTime = times.get(i);
+    }
+  }
+
+}
@@ -0,0 +1,372 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.random.BrownianBridge;
+import com.opengamma.strata.math.impl.random.SobolSequenceGenerator;
+import com.opengamma.strata.math.impl.random.SplittableNormalRandomNumberGenerator;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+
+/**
+ * Monte Carlo simulation engine.
+ * <p>
+ * The engine generates paths of a {@link MonteCarloModel} and estimates the expected value of a payoff.
+ * Two sources of normal numbers are available:
+ * <ul>
+ * <li>pseudo-random numbers from a reproducible stream defined by a seed
+ * <li>quasi-random numbers from a Sobol sequence, with the path built by Brownian bridge
+ * </ul>
+ * The number of times of the model is limited to {@link SobolSequenceGenerator#MAX_DIMENSION}
+ * when using the Sobol sequence.
+ * <p>
+ * Antithetic variates can be enabled, in which case every second path is generated from
+ * the negated normal numbers of the previous path. A control variate, a payoff whose expected value
+ * is known, can be supplied when pricing, with the regression coefficient estimated from the paths.
+ * <p>
+ * The paths are generated in batches, written into flat primitive arrays.
+ * The batches can be run in parallel by specifying an executor.
+ * The results depend on the batch size for pseudo-random numbers, as each batch has its own stream,
+ * but never depend on the executor or the order in which the batches run.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class MonteCarloEngine {
+
+  /**
+   * Normal distribution.
+   */
+  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
+  /**
+   * The default number of paths in a batch.
+   */
+  private static final int DEFAULT_BATCH_SIZE = 4096;
+  /**
+   * The minimum number of independent samples, required by the standard error with a control variate.
+   */
+  private static final int MIN_SAMPLE_COUNT = 3;
+
+  /**
+   * The number of paths.
+   */
+  private final int pathCount;
+  /**
+   * The seed of the pseudo-random numbers.
+   */
+  private final long seed;
+  /**
+   * Whether to use the Sobol sequence.
+   */
+  private final boolean sobol;
+  /**
+   * Whether to use antithetic variates.
+   */
+  private final boolean antithetic;
+  /**
+   * The executor used to run the batches.
+   */
+  private final Executor executor;
+  /**
+   * The number of paths in a batch.
+   */
+  private final int batchSize;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an engine using pseudo-random numbers.
+   * <p>
+   * The same seed always produces the same paths.
+   *
+   * @param pathCount  the number of paths, at least 3
+   * @param seed  the seed
+   * @return the engine
+   */
+  public static MonteCarloEngine ofPseudoRandom(int pathCount, long seed) {
+    return new MonteCarloEngine(pathCount, seed, false, false, MoreExecutors.directExecutor(), DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Obtains an engine using the Sobol sequence with Brownian bridge construction.
+   *
+   * @param pathCount  the number of paths, at least 3
+   * @return the engine
+   */
+  public static MonteCarloEngine ofSobol(int pathCount) {
+    return new MonteCarloEngine(pathCount, 0L, true, false, MoreExecutors.directExecutor(), DEFAULT_BATCH_SIZE);
+  }
+
+  // restricted constructor
+  private MonteCarloEngine(
+      int pathCount,
+      long seed,
+      boolean sobol,
+      boolean antithetic,
+      Executor executor,
+      int batchSize) {
+
+    this.pathCount = ArgChecker.notNegativeOrZero(pathCount, "pathCount");
+    this.seed = seed;
+    this.sobol = sobol;
+    this.antithetic = antithetic;
+    this.executor = ArgChecker.notNull(executor, "executor");
+    this.batchSize = ArgChecker.notNegativeOrZero(batchSize, "batchSize");
+    if (antithetic) {
+      ArgChecker.isTrue(pathCount % 2 == 0, "pathCount must be even for antithetic variates, was {}", pathCount);
+      ArgChecker.isTrue(batchSize % 2 == 0, "batchSize must be even for antithetic variates, was {}", batchSize);
+    }
+    // each antithetic pair is a single sample, the standard error needs at least one more sample than coefficients
+    int sampleCount = antithetic ? pathCount / 2 : pathCount;
+    ArgChecker.isTrue(
+        sampleCount >= MIN_SAMPLE_COUNT,
+        "pathCount must give at least {} independent samples, was {}", MIN_SAMPLE_COUNT, pathCount);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of this engine that uses antithetic variates.
+   * <p>
+   * The number of paths and the batch size must be even.
+   * Each pair of paths is a single sample, thus the number of paths must be at least 6.
+   *
+   * @return the new engine
+   */
+  public MonteCarloEngine withAntitheticVariates() {
+    return new MonteCarloEngine(pathCount, seed, sobol, true, executor, batchSize);
+  }
+
+  /**
+   * Returns a copy of this engine that runs the batches of paths using the specified executor.
+   *
+   * @param executor  the executor
+   * @param batchSize  the number of paths in each batch
+   * @return the new engine
+   */
+  public MonteCarloEngine withParallelism(Executor executor, int batchSize) {
+    return new MonteCarloEngine(pathCount, seed, sobol, antithetic, executor, batchSize);
+  }
+
+  /**
+   * Gets the number of paths.
+   *
+   * @return the number of paths
+   */
+  public int getPathCount() {
+    return pathCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Generates the paths of the model.
+   * <p>
+   * The paths are returned in a single array, path {@code p} occupying the elements
+   * from {@code p * n} to {@code p * n + n - 1}, where {@code n} is the number of times of the model.
+   *
+   * @param model  the model
+   * @return the paths
+   */
+  public double[] simulate(MonteCarloModel model) {
+    int timeCount = model.getTimes().size();
+    double[] paths = new double[pathCount * timeCount];
+    runBatches(model, (source, start, count) -> {
+      simulateBatch(model, source, count, paths, start * timeCount);
+      return null;
+    });
+    return paths;
+  }
+
+  /**
+   * Estimates the expected value of the payoff.
+   *
+   * @param model  the model
+   * @param payoff  the payoff
+   * @return the estimate
+   */
+  public MonteCarloEstimate price(MonteCarloModel model, MonteCarloPayoff payoff) {
+    ArgChecker.notNull(payoff, "payoff");
+    double[] sums = sums(model, payoff, null);
+    double n = antithetic ? pathCount / 2 : pathCount;
+    double meanY = sums[0] / n;
+    double sumSqY = sums[1] - n * meanY * meanY;
+    return MonteCarloEstimate.of(meanY, Math.sqrt(Math.max(sumSqY, 0d) / ((n - 1d) * n)), pathCount);
+  }
+
+  /**
+   * Estimates the expected value of the payoff using a control variate.
+   * <p>
+   * The control variate is a payoff whose expected value is known. It must be highly correlated
+   * with the payoff to be effective, and is typically a simpler product with a closed form price.
+   * The optimal coefficient is estimated by regression of the payoff against the control variate.
+   *
+   * @param model  the model
+   * @param payoff  the payoff
+   * @param controlVariate  the control variate
+   * @param controlValue  the known expected value of the control variate
+   * @return the estimate
+   */
+  public MonteCarloEstimate price(
+      MonteCarloModel model,
+      MonteCarloPayoff payoff,
+      MonteCarloPayoff controlVariate,
+      double controlValue) {
+
+    ArgChecker.notNull(payoff, "payoff");
+    ArgChecker.notNull(controlVariate, "controlVariate");
+    double[] sums = sums(model, payoff, controlVariate);
+    double n = antithetic ? pathCount / 2 : pathCount;
+    double meanY = sums[0] / n;
+    double meanC = sums[2] / n;
+    double sumSqY = sums[1] - n * meanY * meanY;
+    double sumSqC = sums[3] - n * meanC * meanC;
+    double sumYC = sums[4] - n * meanY * meanC;
+    double beta = sumSqC > 0d ? sumYC / sumSqC : 0d;
+    double value = meanY - beta * (meanC - controlValue);
+    double residual = sumSqY - beta * sumYC;
+    return MonteCarloEstimate.of(value, Math.sqrt(Math.max(residual, 0d) / ((n - 2d) * n)), pathCount);
+  }
+
+  // computes the sums of the payoff and control variate, their squares and their product
+  // the antithetic pairs are averaged to obtain independent samples
+  private double[] sums(MonteCarloModel model, MonteCarloPayoff payoff, MonteCarloPayoff controlVariate) {
+    int timeCount = model.getTimes().size();
+    int step = antithetic ? 2 : 1;
+    List<double[]> batchSums = runBatches(model, (source, start, count) -> {
+      double[] paths = new double[count * timeCount];
+      simulateBatch(model, source, count, paths, 0);
+      double[] sums = new double[5];
+      for (int p = 0; p < count; p += step) {
+        double y = 0d;
+        double c = 0d;
+        for (int q = p; q < p + step; q++) {
+          y += payoff.payoff(paths, q * timeCount);
+          if (controlVariate != null) {
+            c += controlVariate.payoff(paths, q * timeCount);
+          }
+        }
+        y /= step;
+        c /= step;
+        sums[0] += y;
+        sums[1] += y * y;
+        sums[2] += c;
+        sums[3] += c * c;
+        sums[4] += y * c;
+      }
+      return sums;
+    });
+    double[] total = new double[5];
+    for (double[] sums : batchSums) {
+      for (int i = 0; i < total.length; i++) {
+        total[i] += sums[i];
+      }
+    }
+    return total;
+  }
+
+  //-------------------------------------------------------------------------
+  // runs the task for each batch, returning the results in batch order
+  private <T> List<T> runBatches(MonteCarloModel model, BatchTask<T> task) {
+    DoubleArray times = model.getTimes();
+    // the bridge also validates the times
+    BrownianBridge bridge = new BrownianBridge(times);
+    double[] sqrtDt = new double[times.size()];
+    for (int i = 0; i < times.size(); i++) {
+      sqrtDt[i] = Math.sqrt(times.get(i) - (i == 0 ? 0d : times.get(i - 1)));
+    }
+    SplittableNormalRandomNumberGenerator generator = new SplittableNormalRandomNumberGenerator(seed);
+    int batchCount = (pathCount + batchSize - 1) / batchSize;
+    List<CompletableFuture<T>> futures = new ArrayList<>(batchCount);
+    for (int batch = 0; batch < batchCount; batch++) {
+      int start = batch * batchSize;
+      int count = Math.min(batchSize, pathCount - start);
+      // the sources are created in batch order, so the numbers do not depend on the executor
+      NormalSource source = sobol ?
+          new SobolNormalSource(bridge, sqrtDt, (antithetic ? start / 2 : start) + 1) :
+          generator.split()::fill;
+      futures.add(CompletableFuture.supplyAsync(() -> task.apply(source, start, count), executor));
+    }
+    List<T> results = new ArrayList<>(batchCount);
+    for (CompletableFuture<T> future : futures) {
+      try {
+        results.add(future.join());
+      } catch (CompletionException ex) {
+        futures.forEach(f -> f.cancel(false));
+        throw Unchecked.propagate(ex.getCause());
+      }
+    }
+    return results;
+  }
+
+  // generates the paths of a single batch
+  private void simulateBatch(MonteCarloModel model, NormalSource source, int count, double[] paths, int offset) {
+    int timeCount = model.getTimes().size();
+    double[] normals = new double[timeCount];
+    for (int p = 0; p < count; p++) {
+      if (antithetic && (p & 1) == 1) {
+        for (int i = 0; i < timeCount; i++) {
+          normals[i] = -normals[i];
+        }
+      } else {
+        source.next(normals);
+      }
+      model.path(normals, paths, offset + p * timeCount);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // source of the independent standard normal numbers for a batch, one for each time step
+  @FunctionalInterface
+  private interface NormalSource {
+    void next(double[] normals);
+  }
+
+  // task run for each batch
+  @FunctionalInterface
+  private interface BatchTask<T> {
+    T apply(NormalSource source, int start, int count);
+  }
+
+  // normal numbers from the Sobol sequence, using the Brownian bridge to assign the dimensions to the time steps
+  private static final class SobolNormalSource implements NormalSource {
+    private final SobolSequenceGenerator generator;
+    private final BrownianBridge bridge;
+    private final double[] sqrtDt;
+    private final double[] point;
+    private final double[] path;
+
+    private SobolNormalSource(BrownianBridge bridge, double[] sqrtDt, long firstIndex) {
+      this.generator = new SobolSequenceGenerator(bridge.size());
+      this.generator.skipTo(firstIndex);
+      this.bridge = bridge;
+      this.sqrtDt = sqrtDt;
+      this.point = new double[bridge.size()];
+      this.path = new double[bridge.size()];
+    }
+
+    @Override
+    public void next(double[] normals) {
+      generator.nextPoint(point);
+      for (int i = 0; i < point.length; i++) {
+        point[i] = NORMAL.getInverseCDF(point[i]);
+      }
+      bridge.transform(point, path);
+      double previous = 0d;
+      for (int i = 0; i < path.length; i++) {
+        normals[i] = (path[i] - previous) / sqrtDt[i];
+        previous = path[i];
+      }
+    }
+  }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * The estimate of a value obtained by Monte Carlo simulation.
+ * <p>
+ * This holds the estimated value and its standard error.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class MonteCarloEstimate {
+
+  /**
+   * The estimated value.
+   */
+  private final double value;
+  /**
+   * The standard error of the estimate.
+   */
+  private final double standardError;
+  /**
+   * The number of paths.
+   */
+  private final int pathCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   * 
+   * @param value  the estimated value
+   * @param standardError  the standard error of the estimate
+   * @param pathCount  the number of paths
+   * @return the instance
+   */
+  public static MonteCarloEstimate of(double value, double standardError, int pathCount) {
+    return new MonteCarloEstimate(value, standardError, pathCount);
+  }
+
+  // restricted constructor
+  private MonteCarloEstimate(double value, double standardError, int pathCount) {
+    this.value = value;
+    this.standardError = standardError;
+    this.pathCount = pathCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the estimated value.
+   * 
+   * @return the value
+   */
+  public double getValue() {
+    return value;
+  }
+
+  /**
+   * Gets the standard error of the estimate.
+   * 
+   * @return the standard error
+   */
+  public double getStandardError() {
+    return standardError;
+  }
+
+  /**
+   * Gets the number of paths used to obtain the estimate.
+   * 
+   * @return the number of paths
+   */
+  public int getPathCount() {
+    return pathCount;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format(
+        "MonteCarloEstimate[value={}, standardError={}, pathCount={}]", value, standardError, pathCount);
+  }
+
+}
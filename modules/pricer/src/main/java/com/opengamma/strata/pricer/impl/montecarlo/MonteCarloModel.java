@@ -0,0 +1,39 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Model used to generate paths in Monte Carlo simulation.
+ * <p>
+ * The model generates the value of a single state variable at each of a set of times.
+ * Each step between two consecutive times is driven by one independent standard normal number.
+ */
+public interface MonteCarloModel {
+
+  /**
+   * Obtains the simulation times.
+   * <p>
+   * The times must be strictly increasing and positive.
+   * 
+   * @return the times
+   */
+  public abstract DoubleArray getTimes();
+
+  /**
+   * Generates a path.
+   * <p>
+   * The state value at each time is written to {@code paths}, starting at {@code offset}.
+   * The normal numbers must not be altered.
+   * 
+   * @param normals  the independent standard normal numbers, one for each time
+   * @param paths  the array to populate
+   * @param offset  the offset of the path in the array
+   */
+  public abstract void path(double[] normals, double[] paths, int offset);
+
+}
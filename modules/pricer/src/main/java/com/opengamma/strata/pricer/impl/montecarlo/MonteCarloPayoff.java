@@ -0,0 +1,27 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+/**
+ * Payoff of a path-dependent product used in Monte Carlo simulation.
+ */
+@FunctionalInterface
+public interface MonteCarloPayoff {
+
+  /**
+   * Computes the payoff for a single path.
+   * <p>
+   * The state value at time index {@code i} is {@code paths[offset + i]}.
+   * The payoff must be expressed in the same units for every path, typically discounted
+   * or divided by the numeraire of the model.
+   * 
+   * @param paths  the array holding the path
+   * @param offset  the offset of the path in the array
+   * @return the payoff
+   */
+  public abstract double payoff(double[] paths, int offset);
+
+}
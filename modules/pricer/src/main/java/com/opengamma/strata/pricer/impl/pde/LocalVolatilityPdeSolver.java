@@ -0,0 +1,255 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.pde;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import com.google.common.math.DoubleMath;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.linearalgebra.TridiagonalSolver;
+import com.opengamma.strata.pricer.impl.tree.ConstantContinuousSingleBarrierKnockoutFunction;
+import com.opengamma.strata.pricer.impl.tree.EuropeanVanillaOptionFunction;
+import com.opengamma.strata.pricer.impl.tree.OptionFunction;
+
+/**
+ * Finite difference solver of the backward PDE of a local volatility model.
+ * <p>
+ * The underlying follows {@code dS = (r_d - r_f) S dt + sigma(t, S) S dW}, where {@code r_d} and {@code r_f}
+ * are the domestic and foreign short rates and {@code sigma} is the local volatility.
+ * The PDE is discretised on a {@link PdeGrid} in space and uniform steps in time,
+ * with central differences in space and a theta-scheme in time.
+ * The default scheme is Crank-Nicolson, where the first time steps from expiry are fully implicit
+ * in order to damp the oscillations generated by non-smooth payoffs.
+ * <p>
+ * The options are described by {@link OptionFunction}, as used by the trinomial tree.
+ * The expiry and the number of time steps are those of the option functions.
+ * A knock-out barrier of {@link ConstantContinuousSingleBarrierKnockoutFunction} is imposed as a boundary
+ * condition equal to the rebate, thus the barrier level must be a node of the grid.
+ * At the first and last nodes, the option value is the discounted payoff of the forward.
+ * <p>
+ * The coefficients of the scheme depend only on the model, thus are computed once per time step
+ * and shared by all the options. The working arrays are allocated once per call.
+ */
+public final class LocalVolatilityPdeSolver {
+
+  /**
+   * The default weight of the implicit part of the scheme.
+   */
+  private static final double DEFAULT_THETA = 0.5;
+  /**
+   * The default number of fully implicit time steps from expiry.
+   */
+  private static final int DEFAULT_DAMPING_STEPS = 2;
+  /**
+   * Small parameter.
+   */
+  private static final double SMALL = 1.0e-12;
+
+  /**
+   * Default implementation.
+   */
+  public static final LocalVolatilityPdeSolver DEFAULT = new LocalVolatilityPdeSolver();
+
+  /**
+   * The weight of the implicit part of the scheme.
+   */
+  private final double theta;
+  /**
+   * The number of fully implicit time steps from expiry.
+   */
+  private final int nbDampingSteps;
+
+  /**
+   * Creates a solver using the Crank-Nicolson scheme with the default damping.
+   */
+  public LocalVolatilityPdeSolver() {
+    this(DEFAULT_THETA, DEFAULT_DAMPING_STEPS);
+  }
+
+  /**
+   * Creates a solver with the specified scheme.
+   * <p>
+   * The weight of the implicit part is 1 for the fully implicit scheme and 0.5 for Crank-Nicolson.
+   *
+   * @param theta  the weight of the implicit part of the scheme, from 0.5 to 1
+   * @param nbDampingSteps  the number of fully implicit time steps from expiry
+   */
+  public LocalVolatilityPdeSolver(double theta, int nbDampingSteps) {
+    this.theta = ArgChecker.inRangeInclusive(theta, 0.5d, 1d, "theta");
+    this.nbDampingSteps = ArgChecker.notNegative(nbDampingSteps, "nbDampingSteps");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the option values today on the grid.
+   * <p>
+   * The options are solved in a single backward sweep, and must have the same expiry and number of time steps.
+   * The discount factors are from the valuation date, for a time measured from the valuation date.
+   * <p>
+   * The result has a row for each option and a column for each node of the grid.
+   * The value at a given spot is obtained by {@link PdeGrid#interpolate(DoubleArray, double)}.
+   *
+   * @param functions  the option functions
+   * @param grid  the spatial grid
+   * @param localVolatility  the local volatility, as a function of time and the underlying
+   * @param domesticDiscountFactor  the domestic discount factor, as a function of time
+   * @param foreignDiscountFactor  the foreign discount factor, as a function of time
+   * @return the option values on the grid
+   */
+  public DoubleMatrix optionValues(
+      List<? extends OptionFunction> functions,
+      PdeGrid grid,
+      DoubleBinaryOperator localVolatility,
+      DoubleUnaryOperator domesticDiscountFactor,
+      DoubleUnaryOperator foreignDiscountFactor) {
+
+    ArgChecker.notEmpty(functions, "functions");
+    ArgChecker.notNull(grid, "grid");
+    ArgChecker.notNull(localVolatility, "localVolatility");
+    ArgChecker.notNull(domesticDiscountFactor, "domesticDiscountFactor");
+    ArgChecker.notNull(foreignDiscountFactor, "foreignDiscountFactor");
+    int nOptions = functions.size();
+    int nSteps = functions.get(0).getNumberOfSteps();
+    double timeToExpiry = functions.get(0).getTimeToExpiry();
+    ArgChecker.isTrue(timeToExpiry > 0d, "option expired");
+    for (OptionFunction function : functions) {
+      ArgChecker.isTrue(function.getNumberOfSteps() == nSteps, "the number of steps must be the same for all options");
+      ArgChecker.isTrue(DoubleMath.fuzzyEquals(function.getTimeToExpiry(), timeToExpiry, SMALL),
+          "the time to expiry must be the same for all options");
+    }
+    int n = grid.size();
+    double dt = timeToExpiry / nSteps;
+    double[] nodes = grid.getNodes().toArrayUnsafe();
+    double[] d1l = grid.firstLower();
+    double[] d1d = grid.firstDiagonal();
+    double[] d1u = grid.firstUpper();
+    double[] d2l = grid.secondLower();
+    double[] d2d = grid.secondDiagonal();
+    double[] d2u = grid.secondUpper();
+    // discount factors at each time
+    double[] dfDomestic = new double[nSteps + 1];
+    double[] dfForeign = new double[nSteps + 1];
+    for (int j = 0; j <= nSteps; j++) {
+      dfDomestic[j] = domesticDiscountFactor.applyAsDouble(dt * j);
+      dfForeign[j] = foreignDiscountFactor.applyAsDouble(dt * j);
+    }
+    // payoff and range of nodes solved for each option
+    double[][] values = new double[nOptions][];
+    int[] first = new int[nOptions];
+    int[] last = new int[nOptions];
+    for (int k = 0; k < nOptions; k++) {
+      OptionFunction function = functions.get(k);
+      values[k] = function.getPayoffAtExpiryTrinomial(DoubleArray.ofUnsafe(nodes)).toArray();
+      ArgChecker.isTrue(values[k].length == n, "the payoff must have the same size as the grid");
+      first[k] = 0;
+      last[k] = n - 1;
+      if (function instanceof ConstantContinuousSingleBarrierKnockoutFunction) {
+        ConstantContinuousSingleBarrierKnockoutFunction barrierFunction =
+            (ConstantContinuousSingleBarrierKnockoutFunction) function;
+        double barrierLevel = barrierFunction.getBarrierLevel();
+        int index = grid.indexOf(barrierLevel);
+        ArgChecker.isTrue(index > 0 && index < n - 1 && DoubleMath.fuzzyEquals(nodes[index], barrierLevel, SMALL),
+            "the barrier level must be an interior node of the grid");
+        if (barrierFunction.getBarrierType().isDown()) {
+          first[k] = index;
+        } else {
+          last[k] = index;
+        }
+        knockOut(barrierFunction, values[k], first[k], last[k], nSteps);
+      }
+    }
+    // working arrays, shared by all the options and time steps
+    double[] opLower = new double[n];
+    double[] opDiagonal = new double[n];
+    double[] opUpper = new double[n];
+    double[] lower = new double[n];
+    double[] diagonal = new double[n];
+    double[] upper = new double[n];
+    double[] rhs = new double[n];
+    double[] work = new double[n];
+    for (int j = nSteps - 1; j >= 0; j--) {
+      double time = dt * (j + 0.5);
+      double rd = Math.log(dfDomestic[j] / dfDomestic[j + 1]) / dt;
+      double rf = Math.log(dfForeign[j] / dfForeign[j + 1]) / dt;
+      double th = j >= nSteps - nbDampingSteps ? 1d : theta;
+      for (int i = 1; i < n - 1; i++) {
+        double s = nodes[i];
+        double vol = localVolatility.applyAsDouble(time, s);
+        double diffusion = 0.5 * vol * vol * s * s;
+        double drift = (rd - rf) * s;
+        opLower[i] = dt * (diffusion * d2l[i] + drift * d1l[i]);
+        opDiagonal[i] = dt * (diffusion * d2d[i] + drift * d1d[i] - rd);
+        opUpper[i] = dt * (diffusion * d2u[i] + drift * d1u[i]);
+        lower[i] = -th * opLower[i];
+        diagonal[i] = 1d - th * opDiagonal[i];
+        upper[i] = -th * opUpper[i];
+      }
+      double dfDomesticToExpiry = dfDomestic[nSteps] / dfDomestic[j];
+      double forwardFactor = dfForeign[nSteps] / dfForeign[j] / dfDomesticToExpiry;
+      for (int k = 0; k < nOptions; k++) {
+        OptionFunction function = functions.get(k);
+        double[] value = values[k];
+        int start = first[k] + 1;
+        int end = last[k];
+        for (int i = start; i < end; i++) {
+          rhs[i] = value[i] + (1d - th) *
+              (opLower[i] * value[i - 1] + opDiagonal[i] * value[i] + opUpper[i] * value[i + 1]);
+        }
+        // boundary values at the new time
+        if (first[k] == 0) {
+          value[0] = dfDomesticToExpiry * forwardPayoff(function, nodes[0] * forwardFactor);
+        }
+        if (last[k] == n - 1) {
+          value[n - 1] = dfDomesticToExpiry * forwardPayoff(function, nodes[n - 1] * forwardFactor);
+        }
+        if (function instanceof ConstantContinuousSingleBarrierKnockoutFunction) {
+          knockOut((ConstantContinuousSingleBarrierKnockoutFunction) function, value, first[k], last[k], j);
+        }
+        rhs[start] -= lower[start] * value[start - 1];
+        rhs[end - 1] -= upper[end - 1] * value[end];
+        TridiagonalSolver.solvTriDag(lower, diagonal, upper, rhs, value, work, start, end);
+      }
+    }
+    return DoubleMatrix.ofUnsafe(values);
+  }
+
+  //-------------------------------------------------------------------------
+  // sets the value to the rebate at the barrier and beyond
+  private static void knockOut(
+      ConstantContinuousSingleBarrierKnockoutFunction function,
+      double[] value,
+      int first,
+      int last,
+      int step) {
+
+    double rebate = function.getRebate(step);
+    if (first > 0) {
+      Arrays.fill(value, 0, first + 1, rebate);
+    } else {
+      Arrays.fill(value, last, value.length, rebate);
+    }
+  }
+
+  // the payoff at expiry for the specified forward, ignoring any barrier
+  private static double forwardPayoff(OptionFunction function, double forward) {
+    if (function instanceof ConstantContinuousSingleBarrierKnockoutFunction) {
+      ConstantContinuousSingleBarrierKnockoutFunction barrierFunction =
+          (ConstantContinuousSingleBarrierKnockoutFunction) function;
+      return Math.max(barrierFunction.getSign() * (forward - barrierFunction.getStrike()), 0d);
+    }
+    if (function instanceof EuropeanVanillaOptionFunction) {
+      EuropeanVanillaOptionFunction vanillaFunction = (EuropeanVanillaOptionFunction) function;
+      return Math.max(vanillaFunction.getSign() * (forward - vanillaFunction.getStrike()), 0d);
+    }
+    return function.getPayoffAtExpiryTrinomial(DoubleArray.of(forward)).get(0);
+  }
+
+}
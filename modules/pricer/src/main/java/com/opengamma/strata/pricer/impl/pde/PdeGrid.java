@@ -0,0 +1,313 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.pde;
+
+import java.util.Arrays;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Spatial grid for the finite difference solution of a one-dimensional PDE.
+ * <p>
+ * The nodes of the grid are not necessarily uniformly spaced.
+ * The weights of the three point approximations of the first and second derivatives
+ * are computed once when the grid is created.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class PdeGrid {
+
+  /**
+   * The default ratio of the node density at the concentration points to the density far from them.
+   */
+  private static final double CONCENTRATION = 5d;
+  /**
+   * The default width of the concentration around each point, as a fraction of the width of the grid.
+   */
+  private static final double CONCENTRATION_WIDTH = 0.05;
+  /**
+   * The number of bisection steps used to position the nodes.
+   */
+  private static final int BISECTION_STEPS = 60;
+
+  /**
+   * The nodes, strictly increasing.
+   */
+  private final double[] nodes;
+  /**
+   * The weights of the first derivative for the node below, indexed by node.
+   */
+  private final double[] firstLower;
+  /**
+   * The weights of the first derivative for the node itself, indexed by node.
+   */
+  private final double[] firstDiagonal;
+  /**
+   * The weights of the first derivative for the node above, indexed by node.
+   */
+  private final double[] firstUpper;
+  /**
+   * The weights of the second derivative for the node below, indexed by node.
+   */
+  private final double[] secondLower;
+  /**
+   * The weights of the second derivative for the node itself, indexed by node.
+   */
+  private final double[] secondDiagonal;
+  /**
+   * The weights of the second derivative for the node above, indexed by node.
+   */
+  private final double[] secondUpper;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the nodes.
+   *
+   * @param nodes  the nodes, strictly increasing, at least three nodes
+   * @return the grid
+   */
+  public static PdeGrid of(DoubleArray nodes) {
+    ArgChecker.notNull(nodes, "nodes");
+    return new PdeGrid(nodes.toArray());
+  }
+
+  /**
+   * Obtains an instance with nodes concentrated around specified points.
+   * <p>
+   * Far from the points, the nodes are uniformly spaced in the logarithm of the state variable.
+   * The density of the nodes increases smoothly close to each point, with each point
+   * lying between the bounds being moved onto the nearest node.
+   * This ensures that discontinuities of the payoff, such as the strike, and the boundary conditions,
+   * such as a barrier, are accurately represented.
+   *
+   * @param low  the lowest node, positive
+   * @param high  the highest node
+   * @param nbNodes  the number of nodes, at least three
+   * @param points  the points where the nodes are concentrated
+   * @return the grid
+   */
+  public static PdeGrid concentrated(double low, double high, int nbNodes, DoubleArray points) {
+    ArgChecker.isTrue(low > 0d, "low must be positive");
+    ArgChecker.isTrue(low < high, "low must be smaller than high");
+    ArgChecker.isTrue(nbNodes >= 3, "nbNodes must be at least 3");
+    ArgChecker.notNull(points, "points");
+    double xLow = Math.log(low);
+    double xHigh = Math.log(high);
+    double width = CONCENTRATION_WIDTH * (xHigh - xLow);
+    double[] centres = points.stream()
+        .filter(p -> p > low && p < high)
+        .map(Math::log)
+        .sorted()
+        .distinct()
+        .toArray();
+    double fLow = density(xLow, centres, width);
+    double fHigh = density(xHigh, centres, width);
+    double[] nodes = new double[nbNodes];
+    nodes[0] = low;
+    nodes[nbNodes - 1] = high;
+    for (int i = 1; i < nbNodes - 1; i++) {
+      double target = fLow + (fHigh - fLow) * i / (nbNodes - 1);
+      double a = xLow;
+      double b = xHigh;
+      for (int j = 0; j < BISECTION_STEPS; j++) {
+        double mid = 0.5 * (a + b);
+        if (density(mid, centres, width) < target) {
+          a = mid;
+        } else {
+          b = mid;
+        }
+      }
+      nodes[i] = Math.exp(0.5 * (a + b));
+    }
+    // move the nearest node onto each point
+    int previous = 0;
+    for (double centre : centres) {
+      double point = Math.exp(centre);
+      int index = nearest(nodes, point);
+      if (index <= previous) {
+        index = previous + 1;
+      }
+      ArgChecker.isTrue(index < nbNodes - 1, "Too few nodes to represent the points {}", points);
+      nodes[index] = point;
+      previous = index;
+    }
+    return new PdeGrid(nodes);
+  }
+
+  // the cumulative node density in log space
+  private static double density(double x, double[] centres, double width) {
+    double value = x;
+    for (double centre : centres) {
+      value += CONCENTRATION * width * asinh((x - centre) / width);
+    }
+    return value;
+  }
+
+  // the inverse hyperbolic sine
+  private static double asinh(double x) {
+    return Math.signum(x) * Math.log(Math.abs(x) + Math.sqrt(x * x + 1d));
+  }
+
+  // the index of the node nearest to the value
+  private static int nearest(double[] nodes, double value) {
+    int index = Arrays.binarySearch(nodes, value);
+    if (index >= 0) {
+      return index;
+    }
+    int upper = -(index + 1);
+    if (upper == 0) {
+      return 0;
+    }
+    if (upper == nodes.length) {
+      return nodes.length - 1;
+    }
+    return value - nodes[upper - 1] < nodes[upper] - value ? upper - 1 : upper;
+  }
+
+  // restricted constructor
+  private PdeGrid(double[] nodes) {
+    int n = nodes.length;
+    ArgChecker.isTrue(n >= 3, "The grid must have at least 3 nodes");
+    for (int i = 1; i < n; i++) {
+      ArgChecker.isTrue(nodes[i - 1] < nodes[i], "The nodes must be strictly increasing");
+    }
+    this.nodes = nodes;
+    this.firstLower = new double[n];
+    this.firstDiagonal = new double[n];
+    this.firstUpper = new double[n];
+    this.secondLower = new double[n];
+    this.secondDiagonal = new double[n];
+    this.secondUpper = new double[n];
+    for (int i = 1; i < n - 1; i++) {
+      double hm = nodes[i] - nodes[i - 1];
+      double hp = nodes[i + 1] - nodes[i];
+      firstLower[i] = -hp / (hm * (hm + hp));
+      firstDiagonal[i] = (hp - hm) / (hm * hp);
+      firstUpper[i] = hm / (hp * (hm + hp));
+      secondLower[i] = 2d / (hm * (hm + hp));
+      secondDiagonal[i] = -2d / (hm * hp);
+      secondUpper[i] = 2d / (hp * (hm + hp));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of nodes.
+   *
+   * @return the number of nodes
+   */
+  public int size() {
+    return nodes.length;
+  }
+
+  /**
+   * Gets the nodes.
+   *
+   * @return the nodes
+   */
+  public DoubleArray getNodes() {
+    return DoubleArray.copyOf(nodes);
+  }
+
+  /**
+   * Gets the node at the specified index.
+   *
+   * @param index  the index
+   * @return the node
+   */
+  public double getNode(int index) {
+    return nodes[index];
+  }
+
+  /**
+   * Finds the index of the node nearest to the specified value.
+   *
+   * @param value  the value
+   * @return the index of the nearest node
+   */
+  public int indexOf(double value) {
+    return nearest(nodes, value);
+  }
+
+  /**
+   * Interpolates values defined on the nodes.
+   * <p>
+   * The interpolation is quadratic, based on the three nodes nearest to the value.
+   * The derivative with respect to the state variable is also returned.
+   *
+   * @param values  the values at the nodes
+   * @param x  the value of the state variable, between the first and last node
+   * @return the interpolated value and its first derivative
+   */
+  public ValueDerivatives interpolate(double[] values, double x) {
+    ArgChecker.isTrue(values.length == nodes.length, "values must have the same size as the grid");
+    ArgChecker.inRangeInclusive(x, nodes[0], nodes[nodes.length - 1], "x");
+    int i = Math.min(Math.max(nearest(nodes, x), 1), nodes.length - 2);
+    double x0 = nodes[i - 1];
+    double x1 = nodes[i];
+    double x2 = nodes[i + 1];
+    double w0 = (x - x1) * (x - x2) / ((x0 - x1) * (x0 - x2));
+    double w1 = (x - x0) * (x - x2) / ((x1 - x0) * (x1 - x2));
+    double w2 = (x - x0) * (x - x1) / ((x2 - x0) * (x2 - x1));
+    double d0 = (2d * x - x1 - x2) / ((x0 - x1) * (x0 - x2));
+    double d1 = (2d * x - x0 - x2) / ((x1 - x0) * (x1 - x2));
+    double d2 = (2d * x - x0 - x1) / ((x2 - x0) * (x2 - x1));
+    double value = w0 * values[i - 1] + w1 * values[i] + w2 * values[i + 1];
+    double derivative = d0 * values[i - 1] + d1 * values[i] + d2 * values[i + 1];
+    return ValueDerivatives.of(value, DoubleArray.of(derivative));
+  }
+
+  /**
+   * Interpolates values defined on the nodes.
+   * <p>
+   * The interpolation is quadratic, based on the three nodes nearest to the value.
+   * The derivative with respect to the state variable is also returned.
+   *
+   * @param values  the values at the nodes
+   * @param x  the value of the state variable, between the first and last node
+   * @return the interpolated value and its first derivative
+   */
+  public ValueDerivatives interpolate(DoubleArray values, double x) {
+    return interpolate(values.toArrayUnsafe(), x);
+  }
+
+  //-------------------------------------------------------------------------
+  // the weights of the first derivative, aligned by node, zero at the first and last nodes
+  double[] firstLower() {
+    return firstLower;
+  }
+
+  double[] firstDiagonal() {
+    return firstDiagonal;
+  }
+
+  double[] firstUpper() {
+    return firstUpper;
+  }
+
+  // the weights of the second derivative, aligned by node, zero at the first and last nodes
+  double[] secondLower() {
+    return secondLower;
+  }
+
+  double[] secondDiagonal() {
+    return secondDiagonal;
+  }
+
+  double[] secondUpper() {
+    return secondUpper;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format("PdeGrid[size={}, low={}, high={}]", nodes.length, nodes[0], nodes[nodes.length - 1]);
+  }
+
+}
@@ -0,0 +1,12 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * Internal implementation of finite difference methods for PDEs.
+ * <p>
+ * Code in this package may change in a non-backwards compatible way.
+ */
+package com.opengamma.strata.pricer.impl.pde;
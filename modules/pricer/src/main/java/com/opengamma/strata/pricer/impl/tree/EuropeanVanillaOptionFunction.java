@@ -85,6 +85,22 @@ public final class EuropeanVanillaOptionFunction
     return DoubleArray.ofUnsafe(values);
   }
 
+  @Override
+  public void computeNextOptionValues(
+      double discountFactor,
+      double[] transitionProbability,
+      double[] stateValue,
+      double[] value,
+      double[] result,
+      int i) {
+
+    int nNodes = 2 * i + 1;
+    for (int j = 0; j < nNodes; ++j) {
+      result[j] = discountFactor * (transitionProbability[3 * j + 2] * value[j + 2] +
+          transitionProbability[3 * j + 1] * value[j + 1] + transitionProbability[3 * j] * value[j]);
+    }
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   ///CLOVER:OFF
   /**
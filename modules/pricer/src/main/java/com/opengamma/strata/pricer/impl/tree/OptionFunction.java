@@ -131,4 +131,43 @@ public interface OptionFunction {
         transitionProbability.get(j, 1) * value.get(j + 1) + transitionProbability.get(j, 0) * value.get(j)));
   }
 
+  /**
+   * Computes the option values in the intermediate nodes, writing the result into an existing array.
+   * <p>
+   * Given a set of option values in the (i+1)-th layer, option values in the i-th layer are derived
+   * and stored in the first (2*i+1) elements of {@code result}.
+   * The down, middle and up probabilities of the j-th lowest node are stored in the {3*j}, {3*j+1}, {3*j+2}
+   * elements of {@code transitionProbability}, respectively.
+   * <p>
+   * This method is used by the lattice engine to avoid allocating new arrays at each step.
+   * The arrays must not be stored, and only {@code result} may be altered.
+   * By default, this delegates to {@link #getNextOptionValues(double, DoubleMatrix, DoubleArray, DoubleArray, int)},
+   * thus implementations should override this method for efficiency.
+   * 
+   * @param discountFactor  the discount factor between the two layers
+   * @param transitionProbability  the transition probability, as a flat array
+   * @param stateValue  the state value
+   * @param value  the option values in the (i+1)-th layer
+   * @param result  the array to store the option values in the i-th layer
+   * @param i  the step number for which the next option values are computed
+   */
+  public default void computeNextOptionValues(
+      double discountFactor,
+      double[] transitionProbability,
+      double[] stateValue,
+      double[] value,
+      double[] result,
+      int i) {
+
+    int nNodes = 2 * i + 1;
+    DoubleMatrix probability = DoubleMatrix.of(nNodes, 3, (j, k) -> transitionProbability[3 * j + k]);
+    DoubleArray res = getNextOptionValues(
+        discountFactor,
+        probability,
+        DoubleArray.ofUnsafe(stateValue).subArray(0, nNodes),
+        DoubleArray.ofUnsafe(value).subArray(0, nNodes + 2),
+        i);
+    System.arraycopy(res.toArrayUnsafe(), 0, result, 0, nNodes);
+  }
+
 }
@@ -129,16 +129,59 @@ abstract class SingleBarrierKnockoutFunction implements OptionFunction {
     return DoubleArray.ofUnsafe(res);
   }
 
+  @Override
+  public void computeNextOptionValues(
+      double discountFactor,
+      double[] transitionProbability,
+      double[] stateValue,
+      double[] values,
+      double[] result,
+      int i) {
+
+    int nNodes = 2 * i + 1;
+    double barrierLevel = getBarrierLevel(i);
+    double rebate = getRebate(i);
+    boolean isDown = getBarrierType().isDown();
+    for (int j = 0; j < nNodes; ++j) {
+      if ((isDown && stateValue[j] <= barrierLevel) ||
+          (!isDown && stateValue[j] >= barrierLevel)) {
+        result[j] = rebate;
+      } else {
+        double upProb = transitionProbability[3 * j + 2];
+        double middleProb = transitionProbability[3 * j + 1];
+        double downProb = transitionProbability[3 * j];
+        result[j] = discountFactor *
+            (upProb * values[j + 2] + middleProb * values[j + 1] + downProb * values[j]);
+      }
+    }
+    // modification if barrier lies between two consecutive nodes 
+    int index = getLowerBoundIndex(stateValue, nNodes, barrierLevel);
+    if (index > -1 && index < nNodes - 1) {
+      double bd = barrierLevel - stateValue[index];
+      double ub = stateValue[index + 1] - barrierLevel;
+      double ud = stateValue[index + 1] - stateValue[index];
+      if (isDown) {
+        result[index + 1] = 0.5 * result[index + 1] + 0.5 * (bd * rebate + ub * result[index + 1]) / ud;
+      } else {
+        result[index] = 0.5 * result[index] + 0.5 * (ub * rebate + bd * result[index]) / ud;
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   private int getLowerBoundIndex(DoubleArray set, double value) {
-    int n = set.size();
-    if (value < set.get(0)) {
+    return getLowerBoundIndex(set.toArrayUnsafe(), set.size(), value);
+  }
+
+  // finds the lower bound index within the first n elements of the set
+  private int getLowerBoundIndex(double[] set, int n, double value) {
+    if (value < set[0]) {
       return -1;
     }
-    if (value > set.get(n - 1)) {
+    if (value > set[n - 1]) {
       return n - 1;
     }
-    int index = Arrays.binarySearch(set.toArrayUnsafe(), value);
+    int index = Arrays.binarySearch(set, 0, n, value);
     if (index >= 0) {
       // Fast break out if it's an exact match.
       return index;
@@ -147,7 +190,7 @@ abstract class SingleBarrierKnockoutFunction implements OptionFunction {
       index = -(index + 1);
       index--;
     }
-    if (value == -0. && index < n - 1 && set.get(index + 1) == 0.) {
+    if (value == -0. && index < n - 1 && set[index + 1] == 0.) {
       ++index;
     }
     return index;
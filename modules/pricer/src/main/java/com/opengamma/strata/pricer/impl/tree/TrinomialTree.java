@@ -5,6 +5,12 @@
  */
 package com.opengamma.strata.pricer.impl.tree;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
@@ -17,6 +23,10 @@ import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
  * and the option to price is specified by {@code OptionFunction}. 
  * <p>
  * Option pricing with non-uniform tree is realised by specifying {@code RecombiningTrinomialTreeData}.
+ * <p>
+ * The backward induction on the tree data reuses two arrays for the option values,
+ * rather than creating new arrays at each step.
+ * Several options can be priced on the same tree data in a single backward sweep.
  */
 public class TrinomialTree {
 
@@ -76,14 +86,25 @@ public class TrinomialTree {
       OptionFunction function,
       RecombiningTrinomialTreeData data) {
 
-    int nSteps = data.getNumberOfSteps();
-    ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
-    for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
-    }
-    return values.get(0);
+    return optionPrices(ImmutableList.of(function), data).get(0);
+  }
+
+  /**
+   * Price several options under the specified trinomial tree gird.
+   * <p>
+   * The options, such as a set of strikes or barriers, are priced in a single backward sweep
+   * through the tree, sharing the state values and transition probabilities of each layer.
+   * 
+   * @param functions  the options
+   * @param data  the trinomial tree data
+   * @return the option prices, in the same order as the options
+   */
+  public DoubleArray optionPrices(
+      List<? extends OptionFunction> functions,
+      RecombiningTrinomialTreeData data) {
+
+    double[][] values = backwardInduction(functions, data, null);
+    return DoubleArray.of(values.length, k -> values[k][0]);
   }
 
   /**
@@ -100,21 +121,69 @@ public class TrinomialTree {
       OptionFunction function,
       RecombiningTrinomialTreeData data) {
 
+    return optionPricesAdjoint(ImmutableList.of(function), data).get(0);
+  }
+
+  /**
+   * Compute the price and delta of several options under the specified trinomial tree gird.
+   * <p>
+   * The options, such as a set of strikes or barriers, are priced in a single backward sweep
+   * through the tree, sharing the state values and transition probabilities of each layer.
+   * <p>
+   * The delta is the first derivative of the price with respect to spot, and approximated by the data embedded in 
+   * the trinomial tree.
+   * 
+   * @param functions  the options
+   * @param data  the trinomial tree data
+   * @return the option price and spot delta of each option, in the same order as the options
+   */
+  public List<ValueDerivatives> optionPricesAdjoint(
+      List<? extends OptionFunction> functions,
+      RecombiningTrinomialTreeData data) {
+
+    double[] delta = new double[functions.size()];
+    double[][] values = backwardInduction(functions, data, delta);
+    return IntStream.range(0, values.length)
+        .mapToObj(k -> ValueDerivatives.of(values[k][0], DoubleArray.of(delta[k])))
+        .collect(toImmutableList());
+  }
+
+  // performs the backward induction for all the options, returning the option values at the 0-th layer
+  // each option uses two arrays, one holding the values of the current layer and one receiving the next layer
+  // the delta is populated if the array is not null
+  private double[][] backwardInduction(
+      List<? extends OptionFunction> functions,
+      RecombiningTrinomialTreeData data,
+      double[] delta) {
+
     int nSteps = data.getNumberOfSteps();
-    ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
-    double delta = 0d;
+    int nFunctions = functions.size();
+    double[][] values = new double[nFunctions][];
+    double[][] buffers = new double[nFunctions][];
+    DoubleArray stateValueAtExpiry = data.getStateValueAtLayer(nSteps);
+    for (int k = 0; k < nFunctions; ++k) {
+      OptionFunction function = functions.get(k);
+      ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
+      values[k] = function.getPayoffAtExpiryTrinomial(stateValueAtExpiry).toArray();
+      buffers[k] = new double[values[k].length];
+    }
     for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
-      if (i == 1) {
-        DoubleArray stateValue = data.getStateValueAtLayer(1);
-        double d1 = (values.get(2) - values.get(1)) / (stateValue.get(2) - stateValue.get(1));
-        double d2 = (values.get(1) - values.get(0)) / (stateValue.get(1) - stateValue.get(0));
-        delta = 0.5 * (d1 + d2);
+      double discountFactor = data.getDiscountFactorAtLayer(i);
+      double[] probability = data.getFlatProbabilityAtLayer(i).toArrayUnsafe();
+      double[] stateValue = data.getStateValueAtLayer(i).toArrayUnsafe();
+      for (int k = 0; k < nFunctions; ++k) {
+        functions.get(k).computeNextOptionValues(discountFactor, probability, stateValue, values[k], buffers[k], i);
+        double[] temp = values[k];
+        values[k] = buffers[k];
+        buffers[k] = temp;
+        if (i == 1 && delta != null) {
+          double d1 = (values[k][2] - values[k][1]) / (stateValue[2] - stateValue[1]);
+          double d2 = (values[k][1] - values[k][0]) / (stateValue[1] - stateValue[0]);
+          delta[k] = 0.5 * (d1 + d2);
+        }
       }
     }
-    return ValueDerivatives.of(values.get(0), DoubleArray.of(delta));
+    return values;
   }
 
 }
@@ -334,6 +334,27 @@ public final class SabrInterestRateParameters
     return shiftSurface.zValue(expiry, tenor);
   }
 
+  /**
+   * Obtains the smile for a pair of time to expiry and instrument tenor.
+   * <p>
+   * The SABR parameters are interpolated once, such that the volatilities for many strikes
+   * can be computed from the smile without further interpolation.
+   *
+   * @param expiry  the time to expiry as a year fraction
+   * @param tenor  the tenor of the instrument as a year fraction
+   * @return the smile
+   */
+  public SabrSmile smile(double expiry, double tenor) {
+    return SabrSmile.of(
+        expiry,
+        alpha(expiry, tenor),
+        beta(expiry, tenor),
+        rho(expiry, tenor),
+        nu(expiry, tenor),
+        shift(expiry, tenor),
+        sabrVolatilityFormula);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the volatility for given expiry, tenor, strike and forward rate.
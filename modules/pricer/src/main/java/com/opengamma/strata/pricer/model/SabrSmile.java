@@ -0,0 +1,334 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.model;
+
+import java.io.Serializable;
+import java.util.Set;
+
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * The SABR smile for a single expiry.
+ * <p>
+ * This holds the SABR model parameters resolved for a single expiry, and tenor where applicable,
+ * such that the volatility can be computed for many strikes without interpolating the parameters again.
+ * Instances are typically obtained from {@link SabrInterestRateParameters#smile(double, double)}.
+ * <p>
+ * The implementation allows for shifted SABR model.
+ */
+@BeanDefinition(style = "light")
+public final class SabrSmile
+    implements ImmutableBean, Serializable {
+
+  /**
+   * The time to expiry as a year fraction.
+   */
+  @PropertyDefinition
+  private final double expiry;
+  /**
+   * The alpha parameter.
+   */
+  @PropertyDefinition
+  private final double alpha;
+  /**
+   * The beta parameter.
+   */
+  @PropertyDefinition
+  private final double beta;
+  /**
+   * The rho parameter.
+   */
+  @PropertyDefinition
+  private final double rho;
+  /**
+   * The nu parameter.
+   */
+  @PropertyDefinition
+  private final double nu;
+  /**
+   * The shift parameter.
+   */
+  @PropertyDefinition
+  private final double shift;
+  /**
+   * The SABR volatility formula.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final SabrVolatilityFormula sabrVolatilityFormula;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the SABR parameters.
+   *
+   * @param expiry  the time to expiry as a year fraction
+   * @param alpha  the alpha parameter
+   * @param beta  the beta parameter
+   * @param rho  the rho parameter
+   * @param nu  the nu parameter
+   * @param shift  the shift parameter
+   * @param sabrFormula  the SABR formula
+   * @return the instance
+   */
+  public static SabrSmile of(
+      double expiry,
+      double alpha,
+      double beta,
+      double rho,
+      double nu,
+      double shift,
+      SabrVolatilityFormula sabrFormula) {
+
+    return new SabrSmile(expiry, alpha, beta, rho, nu, shift, sabrFormula);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the volatility for the specified strike and forward.
+   *
+   * @param strike  the strike
+   * @param forward  the forward
+   * @return the volatility
+   */
+  public double volatility(double strike, double forward) {
+    return sabrVolatilityFormula.volatility(forward + shift, strike + shift, expiry, alpha, beta, rho, nu);
+  }
+
+  /**
+   * Calculates the volatility and associated sensitivities for the specified strike and forward.
+   * <p>
+   * The derivatives are stored in an array with:
+   * <ul>
+   * <li>[0] derivative with respect to the forward
+   * <li>[1] derivative with respect to the forward strike
+   * <li>[2] derivative with respect to the alpha
+   * <li>[3] derivative with respect to the beta
+   * <li>[4] derivative with respect to the rho
+   * <li>[5] derivative with respect to the nu
+   * </ul>
+   *
+   * @param strike  the strike
+   * @param forward  the forward
+   * @return the volatility and associated derivatives
+   */
+  public ValueDerivatives volatilityAdjoint(double strike, double forward) {
+    return sabrVolatilityFormula.volatilityAdjoint(forward + shift, strike + shift, expiry, alpha, beta, rho, nu);
+  }
+
+  /**
+   * Calculates the volatilities for the specified strikes and forward.
+   *
+   * @param strikes  the strikes
+   * @param forward  the forward
+   * @return the volatilities, in the order of the strikes
+   */
+  public DoubleArray volatilities(DoubleArray strikes, double forward) {
+    ArgChecker.notNull(strikes, "strikes");
+    double shiftedForward = forward + shift;
+    return DoubleArray.of(strikes.size(), i -> sabrVolatilityFormula.volatility(
+        shiftedForward, strikes.get(i) + shift, expiry, alpha, beta, rho, nu));
+  }
+
+  /**
+   * Calculates the volatilities and associated sensitivities for the specified strikes and forward.
+   * <p>
+   * The derivatives are in the order described in {@link #volatilityAdjoint(double, double)}.
+   *
+   * @param strikes  the strikes
+   * @param forward  the forward
+   * @return the volatilities and associated derivatives, in the order of the strikes
+   */
+  public ImmutableList<ValueDerivatives> volatilityAdjoints(DoubleArray strikes, double forward) {
+    ArgChecker.notNull(strikes, "strikes");
+    double shiftedForward = forward + shift;
+    ImmutableList.Builder<ValueDerivatives> builder = ImmutableList.builder();
+    for (int i = 0; i < strikes.size(); i++) {
+      builder.add(sabrVolatilityFormula.volatilityAdjoint(
+          shiftedForward, strikes.get(i) + shift, expiry, alpha, beta, rho, nu));
+    }
+    return builder.build();
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code SabrSmile}.
+   */
+  private static final MetaBean META_BEAN = LightMetaBean.of(SabrSmile.class);
+
+  /**
+   * The meta-bean for {@code SabrSmile}.
+   * @return the meta-bean, not null
+   */
+  public static MetaBean meta() {
+    return META_BEAN;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(META_BEAN);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private SabrSmile(
+      double expiry,
+      double alpha,
+      double beta,
+      double rho,
+      double nu,
+      double shift,
+      SabrVolatilityFormula sabrVolatilityFormula) {
+    JodaBeanUtils.notNull(sabrVolatilityFormula, "sabrVolatilityFormula");
+    this.expiry = expiry;
+    this.alpha = alpha;
+    this.beta = beta;
+    this.rho = rho;
+    this.nu = nu;
+    this.shift = shift;
+    this.sabrVolatilityFormula = sabrVolatilityFormula;
+  }
+
+  @Override
+  public MetaBean metaBean() {
+    return META_BEAN;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the time to expiry as a year fraction.
+   * @return the value of the property
+   */
+  public double getExpiry() {
+    return expiry;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the alpha parameter.
+   * @return the value of the property
+   */
+  public double getAlpha() {
+    return alpha;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the beta parameter.
+   * @return the value of the property
+   */
+  public double getBeta() {
+    return beta;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the rho parameter.
+   * @return the value of the property
+   */
+  public double getRho() {
+    return rho;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the nu parameter.
+   * @return the value of the property
+   */
+  public double getNu() {
+    return nu;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the shift parameter.
+   * @return the value of the property
+   */
+  public double getShift() {
+    return shift;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the SABR volatility formula.
+   * @return the value of the property, not null
+   */
+  public SabrVolatilityFormula getSabrVolatilityFormula() {
+    return sabrVolatilityFormula;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      SabrSmile other = (SabrSmile) obj;
+      return JodaBeanUtils.equal(expiry, other.expiry) &&
+          JodaBeanUtils.equal(alpha, other.alpha) &&
+          JodaBeanUtils.equal(beta, other.beta) &&
+          JodaBeanUtils.equal(rho, other.rho) &&
+          JodaBeanUtils.equal(nu, other.nu) &&
+          JodaBeanUtils.equal(shift, other.shift) &&
+          JodaBeanUtils.equal(sabrVolatilityFormula, other.sabrVolatilityFormula);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(expiry);
+    hash = hash * 31 + JodaBeanUtils.hashCode(alpha);
+    hash = hash * 31 + JodaBeanUtils.hashCode(beta);
+    hash = hash * 31 + JodaBeanUtils.hashCode(rho);
+    hash = hash * 31 + JodaBeanUtils.hashCode(nu);
+    hash = hash * 31 + JodaBeanUtils.hashCode(shift);
+    hash = hash * 31 + JodaBeanUtils.hashCode(sabrVolatilityFormula);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(256);
+    buf.append("SabrSmile{");
+    buf.append("expiry").append('=').append(JodaBeanUtils.toString(expiry)).append(',').append(' ');
+    buf.append("alpha").append('=').append(JodaBeanUtils.toString(alpha)).append(',').append(' ');
+    buf.append("beta").append('=').append(JodaBeanUtils.toString(beta)).append(',').append(' ');
+    buf.append("rho").append('=').append(JodaBeanUtils.toString(rho)).append(',').append(' ');
+    buf.append("nu").append('=').append(JodaBeanUtils.toString(nu)).append(',').append(' ');
+    buf.append("shift").append('=').append(JodaBeanUtils.toString(shift)).append(',').append(' ');
+    buf.append("sabrVolatilityFormula").append('=').append(JodaBeanUtils.toString(sabrVolatilityFormula));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
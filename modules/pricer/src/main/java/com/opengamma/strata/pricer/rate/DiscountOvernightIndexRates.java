@@ -36,6 +36,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
@@ -227,6 +228,16 @@ public final class DiscountOvernightIndexRates
   //-------------------------------------------------------------------------
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(OvernightRateSensitivity pointSensitivity) {
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder();
+    parameterSensitivity(pointSensitivity, builder);
+    return builder.build();
+  }
+
+  @Override
+  public void parameterSensitivity(
+      OvernightRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesBuilder builder) {
+
     OvernightIndex index = pointSensitivity.getIndex();
     LocalDate startDate = pointSensitivity.getObservation().getEffectiveDate();
     LocalDate endDate = pointSensitivity.getEndDate();
@@ -238,9 +249,8 @@ public final class DiscountOvernightIndexRates
     double dfEndBar = -forwardBar * dfForwardStart / (accrualFactor * dfForwardEnd * dfForwardEnd);
     ZeroRateSensitivity zrsStart = discountFactors.zeroRatePointSensitivity(startDate, pointSensitivity.getCurrency());
     ZeroRateSensitivity zrsEnd = discountFactors.zeroRatePointSensitivity(endDate, pointSensitivity.getCurrency());
-    CurrencyParameterSensitivities psStart = discountFactors.parameterSensitivity(zrsStart).multipliedBy(dfStartBar);
-    CurrencyParameterSensitivities psEnd = discountFactors.parameterSensitivity(zrsEnd).multipliedBy(dfEndBar);
-    return psStart.combinedWith(psEnd);
+    discountFactors.parameterSensitivity(zrsStart.multipliedBy(dfStartBar), builder);
+    discountFactors.parameterSensitivity(zrsEnd.multipliedBy(dfEndBar), builder);
   }
 
   @Override
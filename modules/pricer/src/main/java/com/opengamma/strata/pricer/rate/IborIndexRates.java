@@ -20,6 +20,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.ParameterizedData;
@@ -215,6 +216,23 @@ public interface IborIndexRates
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(IborRateSensitivity pointSensitivity);
 
+  /**
+   * Calculates the parameter sensitivity from the point sensitivity, adding it to the builder.
+   * <p>
+   * This is equivalent to adding the result of {@link #parameterSensitivity(IborRateSensitivity)}
+   * to the builder, but allows implementations to avoid creating intermediate objects.
+   * 
+   * @param pointSensitivity  the point sensitivity to convert
+   * @param builder  the builder to add the parameter sensitivity to
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default void parameterSensitivity(
+      IborRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesBuilder builder) {
+
+    builder.add(parameterSensitivity(pointSensitivity));
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
@@ -14,12 +14,15 @@ import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
 import org.joda.beans.BeanDefinition;
 import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableConstructor;
 import org.joda.beans.ImmutableDefaults;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaProperty;
@@ -97,6 +100,18 @@ public final class ImmutableRatesProvider
    */
   @PropertyDefinition(validate = "notNull")
   private final ImmutableMap<Index, LocalDateDoubleTimeSeries> timeSeries;
+  /**
+   * The discount factors, built on demand from the discount curves.
+   */
+  private final transient ConcurrentMap<Currency, DiscountFactors> discountFactors;  // derived, not a property
+  /**
+   * The Ibor index rates, built on demand from the index curves and time-series.
+   */
+  private final transient ConcurrentMap<IborIndex, IborIndexRates> iborIndexRates;  // derived, not a property
+  /**
+   * The Overnight index rates, built on demand from the index curves and time-series.
+   */
+  private final transient ConcurrentMap<OvernightIndex, OvernightIndexRates> overnightIndexRates;  // derived, not a property
 
   //-------------------------------------------------------------------------
   @ImmutableDefaults
@@ -104,6 +119,42 @@ public final class ImmutableRatesProvider
     builder.fxRateProvider = FxMatrix.empty();
   }
 
+  /**
+   * Creates an instance.
+   * 
+   * @param valuationDate  the valuation date
+   * @param fxRateProvider  the provider of FX rates
+   * @param discountCurves  the discount curves
+   * @param indexCurves  the forward curves
+   * @param timeSeries  the time-series
+   */
+  @ImmutableConstructor
+  ImmutableRatesProvider(
+      LocalDate valuationDate,
+      FxRateProvider fxRateProvider,
+      Map<Currency, Curve> discountCurves,
+      Map<Index, Curve> indexCurves,
+      Map<Index, LocalDateDoubleTimeSeries> timeSeries) {
+    JodaBeanUtils.notNull(valuationDate, "valuationDate");
+    JodaBeanUtils.notNull(fxRateProvider, "fxRateProvider");
+    JodaBeanUtils.notNull(discountCurves, "discountCurves");
+    JodaBeanUtils.notNull(indexCurves, "indexCurves");
+    JodaBeanUtils.notNull(timeSeries, "timeSeries");
+    this.valuationDate = valuationDate;
+    this.fxRateProvider = fxRateProvider;
+    this.discountCurves = ImmutableMap.copyOf(discountCurves);
+    this.indexCurves = ImmutableMap.copyOf(indexCurves);
+    this.timeSeries = ImmutableMap.copyOf(timeSeries);
+    this.discountFactors = new ConcurrentHashMap<>();
+    this.iborIndexRates = new ConcurrentHashMap<>();
+    this.overnightIndexRates = new ConcurrentHashMap<>();
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new ImmutableRatesProvider(valuationDate, fxRateProvider, discountCurves, indexCurves, timeSeries);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Combines a number of rates providers.
@@ -221,6 +272,11 @@ public final class ImmutableRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public DiscountFactors discountFactors(Currency currency) {
+    return discountFactors.computeIfAbsent(currency, this::createDiscountFactors);
+  }
+
+  // creates the discount factors, invoked once per currency
+  private DiscountFactors createDiscountFactors(Currency currency) {
     Curve curve = discountCurves.get(currency);
     if (curve == null) {
       throw new IllegalArgumentException("Unable to find discount curve: " + currency);
@@ -247,15 +303,33 @@ public final class ImmutableRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public IborIndexRates iborIndexRates(IborIndex index) {
+    return iborIndexRates.computeIfAbsent(index, this::createIborIndexRates);
+  }
+
+  // creates the Ibor index rates, invoked once per index
+  private IborIndexRates createIborIndexRates(IborIndex index) {
     LocalDateDoubleTimeSeries fixings = timeSeries(index);
     Curve curve = indexCurve(index);
+    if (curve.equals(discountCurves.get(index.getCurrency()))) {
+      // share the discount factors view, including the cached year fractions
+      return DiscountIborIndexRates.of(index, discountFactors(index.getCurrency()), fixings);
+    }
     return IborIndexRates.of(index, valuationDate, curve, fixings);
   }
 
   @Override
   public OvernightIndexRates overnightIndexRates(OvernightIndex index) {
+    return overnightIndexRates.computeIfAbsent(index, this::createOvernightIndexRates);
+  }
+
+  // creates the Overnight index rates, invoked once per index
+  private OvernightIndexRates createOvernightIndexRates(OvernightIndex index) {
     LocalDateDoubleTimeSeries fixings = timeSeries(index);
     Curve curve = indexCurve(index);
+    if (curve.equals(discountCurves.get(index.getCurrency()))) {
+      // share the discount factors view, including the cached year fractions
+      return DiscountOvernightIndexRates.of(index, discountFactors(index.getCurrency()), fixings);
+    }
     return OvernightIndexRates.of(index, valuationDate, curve, fixings);
   }
 
@@ -328,32 +402,6 @@ public final class ImmutableRatesProvider
     JodaBeanUtils.registerMetaBean(ImmutableRatesProvider.Meta.INSTANCE);
   }
 
-  /**
-   * Creates an instance.
-   * @param valuationDate  the value of the property, not null
-   * @param fxRateProvider  the value of the property, not null
-   * @param discountCurves  the value of the property, not null
-   * @param indexCurves  the value of the property, not null
-   * @param timeSeries  the value of the property, not null
-   */
-  ImmutableRatesProvider(
-      LocalDate valuationDate,
-      FxRateProvider fxRateProvider,
-      Map<Currency, Curve> discountCurves,
-      Map<Index, Curve> indexCurves,
-      Map<Index, LocalDateDoubleTimeSeries> timeSeries) {
-    JodaBeanUtils.notNull(valuationDate, "valuationDate");
-    JodaBeanUtils.notNull(fxRateProvider, "fxRateProvider");
-    JodaBeanUtils.notNull(discountCurves, "discountCurves");
-    JodaBeanUtils.notNull(indexCurves, "indexCurves");
-    JodaBeanUtils.notNull(timeSeries, "timeSeries");
-    this.valuationDate = valuationDate;
-    this.fxRateProvider = fxRateProvider;
-    this.discountCurves = ImmutableMap.copyOf(discountCurves);
-    this.indexCurves = ImmutableMap.copyOf(indexCurves);
-    this.timeSeries = ImmutableMap.copyOf(timeSeries);
-  }
-
   @Override
   public ImmutableRatesProvider.Meta metaBean() {
     return ImmutableRatesProvider.Meta.INSTANCE;
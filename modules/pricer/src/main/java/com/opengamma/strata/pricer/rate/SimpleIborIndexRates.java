@@ -42,6 +42,7 @@ import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -252,6 +253,14 @@ public final class SimpleIborIndexRates
     return CurrencyParameterSensitivities.of(sensitivity);
   }
 
+  @Override
+  public void parameterSensitivity(IborRateSensitivity pointSensitivity, CurrencyParameterSensitivitiesBuilder builder) {
+    LocalDate maturityDate = pointSensitivity.getObservation().getMaturityDate();
+    double relativeYearFraction = relativeYearFraction(maturityDate);
+    curve.yValueParameterSensitivity(
+        relativeYearFraction, pointSensitivity.getCurrency(), pointSensitivity.getSensitivity(), builder);
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
@@ -6,6 +6,8 @@
 package com.opengamma.strata.pricer.swap;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
 
@@ -13,15 +15,18 @@ import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.schedule.CompactSchedule;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
 import com.opengamma.strata.product.swap.RatePaymentPeriod;
@@ -182,6 +187,10 @@ public class DiscountingSwapLegPricer {
    * @return the Present Value of a Basis Point
    */
   public double pvbp(ResolvedSwapLeg leg, RatesProvider provider) {
+    Optional<CompactSchedule> compactSchedule = findCompactSchedule(leg);
+    if (compactSchedule.isPresent()) {
+      return pvbp(leg, compactSchedule.get(), provider);
+    }
     double pvbpLeg = 0d;
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       pvbpLeg += paymentPeriodPricer.pvbp(period, provider);
@@ -189,6 +198,19 @@ public class DiscountingSwapLegPricer {
     return pvbpLeg;
   }
 
+  // calculates the PVBP from the compact schedule, finding all the year fractions in bulk
+  // matches the standard pricer for a rate payment period with a single accrual period
+  private double pvbp(ResolvedSwapLeg leg, CompactSchedule compactSchedule, RatesProvider provider) {
+    DiscountFactors discountFactors = provider.discountFactors(leg.getCurrency());
+    DoubleArray paymentTimes = discountFactors.relativeYearFractions(compactSchedule.getPaymentDates());
+    double pvbpLeg = 0d;
+    for (int i = 0; i < compactSchedule.size(); i++) {
+      double notional = ((RatePaymentPeriod) leg.getPaymentPeriods().get(i)).getNotional();
+      pvbpLeg += discountFactors.discountFactor(paymentTimes.get(i)) * compactSchedule.getYearFraction(i) * notional;
+    }
+    return pvbpLeg;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the coupon equivalent of a swap leg.
@@ -281,6 +303,10 @@ public class DiscountingSwapLegPricer {
    * @return the Present Value of a Basis Point sensitivity to the curves
    */
   public PointSensitivityBuilder pvbpSensitivity(ResolvedSwapLeg fixedLeg, RatesProvider provider) {
+    Optional<CompactSchedule> compactSchedule = findCompactSchedule(fixedLeg);
+    if (compactSchedule.isPresent()) {
+      return pvbpSensitivity(fixedLeg, compactSchedule.get(), provider);
+    }
     PointSensitivityBuilder builder = PointSensitivityBuilder.none();
     for (SwapPaymentPeriod period : fixedLeg.getPaymentPeriods()) {
       builder = builder.combinedWith(paymentPeriodPricer.pvbpSensitivity(period, provider));
@@ -288,6 +314,32 @@ public class DiscountingSwapLegPricer {
     return builder;
   }
 
+  // calculates the PVBP sensitivity from the compact schedule, finding all the year fractions in bulk
+  // matches the standard pricer for a rate payment period with a single accrual period
+  private PointSensitivityBuilder pvbpSensitivity(
+      ResolvedSwapLeg fixedLeg,
+      CompactSchedule compactSchedule,
+      RatesProvider provider) {
+
+    DiscountFactors discountFactors = provider.discountFactors(fixedLeg.getCurrency());
+    DoubleArray paymentTimes = discountFactors.relativeYearFractions(compactSchedule.getPaymentDates());
+    PointSensitivityBuilder builder = PointSensitivityBuilder.none();
+    for (int i = 0; i < compactSchedule.size(); i++) {
+      double notional = ((RatePaymentPeriod) fixedLeg.getPaymentPeriods().get(i)).getNotional();
+      builder = builder.combinedWith(discountFactors.zeroRatePointSensitivity(paymentTimes.get(i))
+          .multipliedBy(compactSchedule.getYearFraction(i) * notional));
+    }
+    return builder;
+  }
+
+  // finds the compact schedule of the leg, only used with the standard period pricer, as the bulk methods match it
+  private Optional<CompactSchedule> findCompactSchedule(ResolvedSwapLeg leg) {
+    if (paymentPeriodPricer != SwapPaymentPeriodPricer.standard()) {
+      return Optional.empty();
+    }
+    return leg.findCompactSchedule();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the conventional cash annuity from a swap leg.
@@ -525,6 +577,10 @@ public class DiscountingSwapLegPricer {
 
   // calculates the present value of the periods composing the leg in the currency of the swap leg
   double presentValuePeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
+    Optional<CompactSchedule> compactSchedule = findCompactSchedule(leg);
+    if (compactSchedule.isPresent()) {
+      return presentValuePeriodsInternal(leg, compactSchedule.get(), provider);
+    }
     double total = 0d;
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
@@ -534,6 +590,27 @@ public class DiscountingSwapLegPricer {
     return total;
   }
 
+  // calculates the present value of the periods from the compact schedule, finding all the year fractions in bulk
+  // the standard pricer discounts the forecast value of a period without FX reset from the payment date
+  private double presentValuePeriodsInternal(
+      ResolvedSwapLeg leg,
+      CompactSchedule compactSchedule,
+      RatesProvider provider) {
+
+    DiscountFactors discountFactors = provider.discountFactors(leg.getCurrency());
+    IntArray paymentDates = compactSchedule.getPaymentDates();
+    DoubleArray paymentTimes = discountFactors.relativeYearFractions(paymentDates);
+    int valuationDate = CompactSchedule.toEpochDay(provider.getValuationDate());
+    double total = 0d;
+    for (int i = 0; i < compactSchedule.size(); i++) {
+      if (paymentDates.get(i) >= valuationDate) {
+        double forecastValue = paymentPeriodPricer.forecastValue(leg.getPaymentPeriods().get(i), provider);
+        total += forecastValue * discountFactors.discountFactor(paymentTimes.get(i));
+      }
+    }
+    return total;
+  }
+
   // calculates the present value curve sensitivity of the events composing the leg in the currency of the swap leg
   PointSensitivityBuilder presentValueSensitivityEventsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
     PointSensitivityBuilder builder = PointSensitivityBuilder.none();
@@ -559,37 +636,53 @@ public class DiscountingSwapLegPricer {
   //-------------------------------------------------------------------------
   // calculates the cash flow of the periods composing the leg in the currency of the swap leg
   CashFlows cashFlowPeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    List<LocalDate> paymentDates = new ArrayList<>();
+    List<Double> forecastValues = new ArrayList<>();
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
         double forecastValue = paymentPeriodPricer.forecastValue(period, provider);
         if (forecastValue != 0d) {
-          Currency currency = period.getCurrency();
-          LocalDate paymentDate = period.getPaymentDate();
-          double discountFactor = provider.discountFactor(currency, paymentDate);
-          CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
-          builder.add(singleCashFlow);
+          paymentDates.add(period.getPaymentDate());
+          forecastValues.add(forecastValue);
         }
       }
     }
-    return CashFlows.of(builder.build());
+    return cashFlows(leg.getCurrency(), paymentDates, forecastValues, provider);
   }
 
   // calculates the cash flow of the events composing the leg in the currency of the swap leg
   CashFlows cashFlowEventsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    List<LocalDate> paymentDates = new ArrayList<>();
+    List<Double> forecastValues = new ArrayList<>();
     for (SwapPaymentEvent event : leg.getPaymentEvents()) {
       if (!event.getPaymentDate().isBefore(provider.getValuationDate())) {
         double forecastValue = paymentEventPricer.forecastValue(event, provider);
         if (forecastValue != 0d) {
-          Currency currency = event.getCurrency();
-          LocalDate paymentDate = event.getPaymentDate();
-          double discountFactor = provider.discountFactor(currency, paymentDate);
-          CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
-          builder.add(singleCashFlow);
+          paymentDates.add(event.getPaymentDate());
+          forecastValues.add(forecastValue);
         }
       }
     }
+    return cashFlows(leg.getCurrency(), paymentDates, forecastValues, provider);
+  }
+
+  // builds the cash flows, finding the discount factors of all the payment dates together
+  // the payment dates of a leg are sorted, allowing the discount factors to be found efficiently
+  private static CashFlows cashFlows(
+      Currency currency,
+      List<LocalDate> paymentDates,
+      List<Double> forecastValues,
+      RatesProvider provider) {
+
+    if (paymentDates.isEmpty()) {
+      return CashFlows.NONE;
+    }
+    DoubleArray discountFactors = provider.discountFactors(currency).discountFactors(paymentDates);
+    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    for (int i = 0; i < paymentDates.size(); i++) {
+      builder.add(
+          CashFlow.ofForecastValue(paymentDates.get(i), currency, forecastValues.get(i), discountFactors.get(i)));
+    }
     return CashFlows.of(builder.build());
   }
 
@@ -43,6 +43,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivity;
 import com.opengamma.strata.market.surface.Surface;
 import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
 import com.opengamma.strata.pricer.model.SabrInterestRateParameters;
+import com.opengamma.strata.pricer.model.SabrSmile;
 import com.opengamma.strata.product.common.PutCall;
 import com.opengamma.strata.product.swap.type.FixedIborSwapConvention;
 
@@ -207,6 +208,11 @@ public final class SabrParametersSwaptionVolatilities
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public SabrSmile smile(double expiry, double tenor) {
+    return parameters.smile(expiry, tenor);
+  }
+
   @Override
   public double volatility(double expiry, double tenor, double strike, double forwardRate) {
     return parameters.volatility(expiry, tenor, strike, forwardRate);
@@ -12,7 +12,11 @@ import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
@@ -21,6 +25,7 @@ import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.Unchecked;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.tuple.Pair;
@@ -178,7 +183,6 @@ public final class SabrSwaptionCalibrator {
    *   expiries/tenors which throw MathException
    * @return the SABR volatility object
    */
-  @SuppressWarnings("null")
   public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
       SabrSwaptionDefinition definition,
       ZonedDateTime calibrationDateTime,
@@ -188,78 +192,154 @@ public final class SabrSwaptionCalibrator {
       Surface shiftSurface,
       boolean stopOnMathException) {
 
-    SwaptionVolatilitiesName name = definition.getName();
+    List<Supplier<SmileCalibration>> smileCalibrations = smileCalibrations(
+        definition, calibrationDateTime, data, ratesProvider, betaSurface, shiftSurface, stopOnMathException);
+    List<SmileCalibration> results = new ArrayList<>(smileCalibrations.size());
+    for (Supplier<SmileCalibration> smileCalibration : smileCalibrations) {
+      results.add(smileCalibration.get());
+    }
+    return volatilities(definition, calibrationDateTime, betaSurface, shiftSurface, results);
+  }
+
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, calibrating the smiles in parallel.
+   * <p>
+   * The SABR parameters are calibrated with fixed beta and fixed shift surfaces.
+   * The raw data can be (shifted) log-normal volatilities, normal volatilities or option prices
+   * <p>
+   * The smile at each expiry and tenor is calibrated independently, thus the smiles can be
+   * submitted to the executor separately. The results are merged in the same order as
+   * {@link #calibrateWithFixedBetaAndShift(SabrSwaptionDefinition, ZonedDateTime, TenorRawOptionData,
+   * RatesProvider, Surface, Surface, boolean)}, thus the output is identical.
+   * <p>
+   * This method offers the flexibility to skip the data sets that throw a MathException (stopOnMathException = false).
+   * The option to skip those data sets should be use with care, as part of the input data may be unused in the output.
+   * 
+   * @param definition  the definition of the calibration to be performed
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param data  the map of raw option data, keyed by tenor
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @param executor  the executor used to calibrate the smiles
+   * @return the SABR volatility object
+   */
+  public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    List<Supplier<SmileCalibration>> smileCalibrations = smileCalibrations(
+        definition, calibrationDateTime, data, ratesProvider, betaSurface, shiftSurface, stopOnMathException);
+    List<CompletableFuture<SmileCalibration>> futures = new ArrayList<>(smileCalibrations.size());
+    for (Supplier<SmileCalibration> smileCalibration : smileCalibrations) {
+      futures.add(CompletableFuture.supplyAsync(smileCalibration, executor));
+    }
+    // wait for the results in order, so the first failure is the same as when calibrating sequentially
+    List<SmileCalibration> results = new ArrayList<>(futures.size());
+    for (CompletableFuture<SmileCalibration> future : futures) {
+      try {
+        results.add(future.join());
+      } catch (CompletionException ex) {
+        futures.forEach(f -> f.cancel(false));
+        throw Unchecked.propagate(ex.getCause());
+      }
+    }
+    return volatilities(definition, calibrationDateTime, betaSurface, shiftSurface, results);
+  }
+
+  // creates the calibration of each smile, in the order of the tenors and expiries of the data
+  // the forward rate and the calibration itself are computed when the supplier is invoked
+  // the supplier returns null if the calibration throws a MathException that is to be skipped
+  private List<Supplier<SmileCalibration>> smileCalibrations(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException) {
+
     FixedIborSwapConvention convention = definition.getConvention();
     DayCount dayCount = definition.getDayCount();
-    SurfaceInterpolator interpolator = definition.getInterpolator();
 
     BitSet fixed = new BitSet();
     fixed.set(1); // Beta fixed
     BusinessDayAdjustment bda = convention.getFloatingLeg().getStartDateBusinessDayAdjustment();
     LocalDate calibrationDate = calibrationDateTime.toLocalDate();
-    // Sorted maps to obtain the surfaces nodes in standard order
-    TreeMap<Double, TreeMap<Double, ParameterMetadata>> parameterMetadataTmp = new TreeMap<>();
-    TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityAlphaTmp = new TreeMap<>(); // Sensitivity to the calibrating data
-    TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityRhoTmp = new TreeMap<>();
-    TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityNuTmp = new TreeMap<>();
-    TreeMap<Double, TreeMap<Double, SabrFormulaData>> sabrPointTmp = new TreeMap<>();
+    List<Supplier<SmileCalibration>> smileCalibrations = new ArrayList<>();
     for (Tenor tenor : data.getTenors()) {
       RawOptionData tenorData = data.getData(tenor);
       double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
       List<Period> expiries = tenorData.getExpiries();
       int nbExpiries = expiries.size();
       for (int loopexpiry = 0; loopexpiry < nbExpiries; loopexpiry++) {
-        Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiries.get(loopexpiry));
+        Period expiry = expiries.get(loopexpiry);
+        Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiry);
         if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
           continue;
         }
-        LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiries.get(loopexpiry));
-        LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
-        double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
-        double beta = betaSurface.zValue(timeToExpiry, timeTenor);
-        double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
-        LocalDate endDate = effectiveDate.plus(tenor);
-        SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
-        double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
-        SabrFormulaData sabrPoint = null;
-        DoubleMatrix inverseJacobian = null;
-        boolean error = false;
-        try {
-          Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
-              calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
-                  availableSmile.getFirst(), availableSmile.getSecond(), expiries.get(loopexpiry), tenorData);
-          sabrPoint = calibrationResult.getFirst();
-          inverseJacobian = calibrationResult.getSecond();
-        } catch (MathException e) {
-          error = true;
-          if (stopOnMathException) {
-            String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(),
-                expiries.get(loopexpiry), tenor);
-            throw new MathException(message, e);
-          }
-        }
-        if (!error) {
-          if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
-            parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
-            sabrPointTmp.put(timeToExpiry, new TreeMap<>());
+        smileCalibrations.add(() -> {
+          LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiry);
+          LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
+          double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
+          double beta = betaSurface.zValue(timeToExpiry, timeTenor);
+          double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
+          LocalDate endDate = effectiveDate.plus(tenor);
+          SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
+          double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
+          try {
+            Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
+                calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
+                    availableSmile.getFirst(), availableSmile.getSecond(), expiry, tenorData);
+            ParameterMetadata parameterMetadata = SwaptionSurfaceExpiryTenorParameterMetadata.of(
+                timeToExpiry,
+                timeTenor,
+                expiry.toString() + "x" + tenor.toString());
+            return new SmileCalibration(
+                timeToExpiry,
+                timeTenor,
+                parameterMetadata,
+                calibrationResult.getFirst(),
+                calibrationResult.getSecond());
+          } catch (MathException e) {
+            if (stopOnMathException) {
+              String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(), expiry, tenor);
+              throw new MathException(message, e);
+            }
+            return null;
           }
-          TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-          TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-          parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
-              timeToExpiry,
-              timeTenor,
-              expiries.get(loopexpiry).toString() + "x" + tenor.toString()));
-          dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
-          dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
-          dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
-          sabrPointExpiryMap.put(timeTenor, sabrPoint);
-        }
+        });
+      }
+    }
+    return smileCalibrations;
+  }
+
+  // creates the volatilities from the calibrated smiles
+  private SabrParametersSwaptionVolatilities volatilities(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      Surface betaSurface,
+      Surface shiftSurface,
+      List<SmileCalibration> smileCalibrations) {
+
+    SwaptionVolatilitiesName name = definition.getName();
+    DayCount dayCount = definition.getDayCount();
+    SurfaceInterpolator interpolator = definition.getInterpolator();
+    // Sorted maps to obtain the surfaces nodes in standard order
+    TreeMap<Double, TreeMap<Double, SmileCalibration>> smileCalibrationTmp = new TreeMap<>();
+    for (SmileCalibration smileCalibration : smileCalibrations) {
+      if (smileCalibration != null) {
+        smileCalibrationTmp.computeIfAbsent(smileCalibration.timeToExpiry, k -> new TreeMap<>())
+            .put(smileCalibration.timeTenor, smileCalibration);
       }
     }
     DoubleArray timeToExpiryArray = DoubleArray.EMPTY;
@@ -271,20 +351,17 @@ public final class SabrSwaptionCalibrator {
     List<DoubleArray> dataSensitivityAlpha = new ArrayList<>(); // Sensitivity to the calibrating data
     List<DoubleArray> dataSensitivityRho = new ArrayList<>();
     List<DoubleArray> dataSensitivityNu = new ArrayList<>();
-    for (Double timeToExpiry : parameterMetadataTmp.keySet()) {
-      TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-      TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-      TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-      TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-      TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-      for (Double timeTenor : parameterMetadataExpiryMap.keySet()) {
-        parameterMetadata.add(parameterMetadataExpiryMap.get(timeTenor));
-        dataSensitivityAlpha.add(dataSensitivityAlphaExpiryMap.get(timeTenor));
-        dataSensitivityRho.add(dataSensitivityRhoExpiryMap.get(timeTenor));
-        dataSensitivityNu.add(dataSensitivityNuExpiryMap.get(timeTenor));
+    for (Double timeToExpiry : smileCalibrationTmp.keySet()) {
+      TreeMap<Double, SmileCalibration> smileCalibrationExpiryMap = smileCalibrationTmp.get(timeToExpiry);
+      for (Double timeTenor : smileCalibrationExpiryMap.keySet()) {
+        SmileCalibration smileCalibration = smileCalibrationExpiryMap.get(timeTenor);
+        parameterMetadata.add(smileCalibration.parameterMetadata);
+        dataSensitivityAlpha.add(smileCalibration.inverseJacobian.row(0));
+        dataSensitivityRho.add(smileCalibration.inverseJacobian.row(2));
+        dataSensitivityNu.add(smileCalibration.inverseJacobian.row(3));
         timeToExpiryArray = timeToExpiryArray.concat(timeToExpiry);
         timeTenorArray = timeTenorArray.concat(timeTenor);
-        SabrFormulaData sabrPt = sabrPointExpiryMap.get(timeTenor);
+        SabrFormulaData sabrPt = smileCalibration.sabrPoint;
         alphaArray = alphaArray.concat(sabrPt.getAlpha());
         rhoArray = rhoArray.concat(sabrPt.getRho());
         nuArray = nuArray.concat(sabrPt.getNu());
@@ -309,7 +386,7 @@ public final class SabrSwaptionCalibrator {
         alphaSurface, betaSurface, rhoSurface, nuSurface, shiftSurface, sabrVolatilityFormula);
     return SabrParametersSwaptionVolatilities.builder()
         .name(name)
-        .convention(convention)
+        .convention(definition.getConvention())
         .valuationDateTime(calibrationDateTime)
         .parameters(params)
         .dataSensitivityAlpha(dataSensitivityAlpha)
@@ -899,4 +976,28 @@ public final class SabrSwaptionCalibrator {
     return bda.adjust(calibrationDate.plus(expiry), refData);
   }
 
+  //-------------------------------------------------------------------------
+  // the result of calibrating the smile at a single expiry and tenor
+  private static final class SmileCalibration {
+    private final double timeToExpiry;
+    private final double timeTenor;
+    private final ParameterMetadata parameterMetadata;
+    private final SabrFormulaData sabrPoint;
+    private final DoubleMatrix inverseJacobian;
+
+    private SmileCalibration(
+        double timeToExpiry,
+        double timeTenor,
+        ParameterMetadata parameterMetadata,
+        SabrFormulaData sabrPoint,
+        DoubleMatrix inverseJacobian) {
+
+      this.timeToExpiry = timeToExpiry;
+      this.timeTenor = timeTenor;
+      this.parameterMetadata = parameterMetadata;
+      this.sabrPoint = sabrPoint;
+      this.inverseJacobian = inverseJacobian;
+    }
+  }
+
 }
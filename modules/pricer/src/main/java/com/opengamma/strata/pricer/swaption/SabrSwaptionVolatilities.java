@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.swaption;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.param.ParameterPerturbation;
+import com.opengamma.strata.pricer.model.SabrSmile;
 
 /**
  * Volatility for swaptions in SABR model.
@@ -31,6 +32,18 @@ public interface SabrSwaptionVolatilities
   public abstract SabrSwaptionVolatilities withPerturbation(ParameterPerturbation perturbation);
 
   //-------------------------------------------------------------------------
+  /**
+   * Calculates the smile for a pair of time to expiry and instrument tenor.
+   * <p>
+   * The SABR parameters are found once, such that the volatilities and their sensitivities
+   * for many strikes can be computed from the smile without finding the parameters again.
+   * 
+   * @param expiry  the time to expiry as a year fraction
+   * @param tenor  the tenor of the instrument as a year fraction
+   * @return the smile
+   */
+  public abstract SabrSmile smile(double expiry, double tenor);
+
   /**
    * Calculates the alpha parameter for a pair of time to expiry and instrument tenor.
    * 
@@ -0,0 +1,71 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_ACT_ISDA;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
+
+/**
+ * Test {@link YearFractionCache}.
+ */
+@Test
+public class YearFractionCacheTest {
+
+  private static final LocalDate DATE_VAL = date(2015, 6, 4);
+
+  public void test_matches() {
+    YearFractionCache test = YearFractionCache.of(DATE_VAL, ACT_ACT_ISDA);
+    assertTrue(test.matches(DATE_VAL, ACT_ACT_ISDA));
+    assertFalse(test.matches(DATE_VAL.plusDays(1), ACT_ACT_ISDA));
+    assertFalse(test.matches(DATE_VAL, ACT_360));
+  }
+
+  public void test_relativeYearFraction() {
+    YearFractionCache test = YearFractionCache.of(DATE_VAL, ACT_ACT_ISDA);
+    LocalDate[] dates = {
+        DATE_VAL.minusDays(10),
+        DATE_VAL,
+        DATE_VAL.plusDays(1),
+        DATE_VAL.plusDays(255),
+        DATE_VAL.plusDays(256),
+        DATE_VAL.plusYears(10),
+        DATE_VAL.plusYears(100)};
+    for (int i = 0; i < 2; i++) {
+      for (LocalDate date : dates) {
+        assertEquals(test.relativeYearFraction(date), ACT_ACT_ISDA.relativeYearFraction(DATE_VAL, date));
+      }
+    }
+  }
+
+  public void test_relativeYearFractions() {
+    YearFractionCache test = YearFractionCache.of(DATE_VAL, ACT_ACT_ISDA);
+    LocalDate[] dates = {
+        DATE_VAL.minusDays(10),
+        DATE_VAL.plusDays(3),
+        DATE_VAL.plusDays(300),
+        DATE_VAL.plusYears(100)};
+    IntArray epochDays = IntArray.of(dates.length, i -> (int) dates[i].toEpochDay());
+    for (int i = 0; i < 2; i++) {
+      DoubleArray yearFractions = test.relativeYearFractions(epochDays);
+      assertEquals(yearFractions.size(), dates.length);
+      for (int j = 0; j < dates.length; j++) {
+        assertEquals(yearFractions.get(j), ACT_ACT_ISDA.relativeYearFraction(DATE_VAL, dates[j]));
+      }
+    }
+  }
+
+}
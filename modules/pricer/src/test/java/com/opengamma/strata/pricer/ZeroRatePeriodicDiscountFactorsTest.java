@@ -18,10 +18,12 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.CurveInfoType;
@@ -129,6 +131,22 @@ public class ZeroRatePeriodicDiscountFactorsTest {
     assertEquals(test.discountFactor(DATE_AFTER), expected);
   }
   
+  public void test_discountFactors_bulk() {
+    ZeroRatePeriodicDiscountFactors test = ZeroRatePeriodicDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    List<LocalDate> dates = ImmutableList.of(
+        DATE_VAL, DATE_AFTER, DATE_AFTER.plusMonths(7), DATE_AFTER.plusYears(3), DATE_AFTER.plusYears(30));
+    DoubleArray computed = test.discountFactors(dates);
+    assertEquals(computed.size(), dates.size());
+    for (int i = 0; i < dates.size(); i++) {
+      assertEquals(computed.get(i), test.discountFactor(dates.get(i)));
+    }
+    // unsorted
+    List<LocalDate> unsorted = ImmutableList.of(DATE_AFTER.plusYears(3), DATE_VAL, DATE_AFTER);
+    assertEquals(
+        test.discountFactors(unsorted),
+        DoubleArray.of(computed.get(3), computed.get(0), computed.get(1)));
+  }
+
   public void test_discountFactorTimeDerivative() {
     DiscountFactors test = DiscountFactors.of(GBP, DATE_VAL, CURVE);
     double relativeYearFraction = ACT_365F.relativeYearFraction(DATE_VAL, DATE_AFTER);
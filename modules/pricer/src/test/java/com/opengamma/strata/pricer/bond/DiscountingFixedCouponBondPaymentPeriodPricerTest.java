@@ -17,6 +17,7 @@ import java.time.LocalDate;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
@@ -85,6 +86,29 @@ public class DiscountingFixedCouponBondPaymentPeriodPricerTest {
     assertEquals(computed, expected);
   }
 
+  public void test_presentValue_list() {
+    double computed = PRICER.presentValue(ImmutableList.of(PAYMENT_PERIOD, PAYMENT_PERIOD), ISSUER_CURVE);
+    double expected = 2d * PRICER.presentValue(PAYMENT_PERIOD, ISSUER_CURVE);
+    assertEquals(computed, expected, NOTIONAL * TOL);
+    assertEquals(PRICER.presentValue(ImmutableList.of(), ISSUER_CURVE), 0d);
+  }
+
+  public void test_presentValue_list_past() {
+    double computed = PRICER.presentValue(ImmutableList.of(PAYMENT_PERIOD, PAYMENT_PERIOD), ISSUER_CURVE_AFTER);
+    assertEquals(computed, 0d);
+  }
+
+  public void test_presentValue_list_subclass() {
+    // a subclass that changes the single period present value is used for each period
+    DiscountingFixedCouponBondPaymentPeriodPricer pricer = new DiscountingFixedCouponBondPaymentPeriodPricer() {
+      @Override
+      public double presentValue(FixedCouponBondPaymentPeriod period, IssuerCurveDiscountFactors discountFactors) {
+        return 1d;
+      }
+    };
+    assertEquals(pricer.presentValue(ImmutableList.of(PAYMENT_PERIOD, PAYMENT_PERIOD), ISSUER_CURVE), 2d);
+  }
+
   public void test_presentValueWithSpread() {
     double computed = PRICER.presentValueWithSpread(
         PAYMENT_PERIOD, ISSUER_CURVE, Z_SPREAD, PERIODIC, PERIOD_PER_YEAR);
@@ -97,6 +97,7 @@ public class CalibrationNotionalEquivalentTest {
 
   private static final double TOLERANCE_PV = 1.0E-8;
   private static final double TOLERANCE_PV_DELTA = 1.0E-2;
+  private static final double TOLERANCE_PV_SENSITIVITY = 1.0E-6;
 
   public void check_pv_with_measures() {
     ImmutableRatesProvider multicurve =
@@ -160,6 +161,21 @@ public class CalibrationNotionalEquivalentTest {
     }
   }
 
+  public void check_pv_sensitivity_sameMeasures() {
+    // the derivatives used for the Jacobian are reused when the calibration measures are the present value
+    CurveCalibrator calibratorPv = CurveCalibrator.of(
+        1e-9, 1e-9, 100, CalibrationMeasures.PRESENT_VALUE, CalibrationMeasures.PRESENT_VALUE);
+    ImmutableRatesProvider multicurvePv = calibratorPv.calibrate(GROUP_DEFINITION_PV_SENSI, MARKET_QUOTES, REF_DATA);
+    ImmutableRatesProvider multicurve = CALIBRATOR.calibrate(GROUP_DEFINITION_PV_SENSI, MARKET_QUOTES, REF_DATA);
+    for (NodalCurveDefinition entry : GROUP_DEFINITION.getCurveDefinitions()) {
+      DoubleArray expected = multicurve.findData(entry.getName()).get()
+          .getMetadata().findInfo(CurveInfoType.PV_SENSITIVITY_TO_MARKET_QUOTE).get();
+      DoubleArray computed = multicurvePv.findData(entry.getName()).get()
+          .getMetadata().findInfo(CurveInfoType.PV_SENSITIVITY_TO_MARKET_QUOTE).get();
+      assertTrue(expected.equalWithTolerance(computed, TOLERANCE_PV_SENSITIVITY));
+    }
+  }
+
   public void check_equivalent_notional() {
     ImmutableRatesProvider multicurve =
         CALIBRATOR.calibrate(GROUP_DEFINITION_PV_SENSI, MARKET_QUOTES, REF_DATA);
@@ -287,6 +287,12 @@ public class CalibrationZeroRateUsd2OisFuturesIrsTest {
     assertPresentValue(result);
   }
   
+  public void calibration_present_value_startingProvider() {
+    RatesProvider base = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    RatesProvider result = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, base);
+    assertPresentValue(result);
+  }
+
   public void calibration_market_quote_sensitivity_one_group() {
     double shift = 1.0E-6;
     Function<MarketData, RatesProvider> f =
@@ -17,6 +17,7 @@ import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.US
 import static com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS;
 import static com.opengamma.strata.product.swap.type.IborIborSwapConventions.USD_LIBOR_3M_LIBOR_6M;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -46,6 +47,7 @@ import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
 import com.opengamma.strata.market.curve.CurveGroupName;
 import com.opengamma.strata.market.curve.CurveMetadata;
@@ -307,6 +309,7 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
   // Constants
   private static final double TOLERANCE_PV = 1.0E-6;
   private static final double TOLERANCE_PV_DELTA = 1.0E+3;
+  private static final double TOLERANCE_PARAMETER = 1.0E-8;
 
   private static final CurveGroupName CURVE_GROUP_NAME = CurveGroupName.of("USD-DSCON-LIBOR3M");
   private static final InterpolatedNodalCurveDefinition DSC_CURVE_DEFN =
@@ -375,6 +378,74 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
     assertPresentValue(result);
   }
   
+  public void recalibration_unchanged() {
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    ImmutableRatesProvider result =
+        CALIBRATOR.recalibrate(CURVE_GROUP_CONFIG, previous, ALL_QUOTES, ALL_QUOTES, REF_DATA);
+    assertEquals(result.getDiscountCurves(), previous.getDiscountCurves());
+    assertEquals(result.getIndexCurves(), previous.getIndexCurves());
+  }
+
+  public void recalibration_oneGroup() {
+    Map<MarketDataId<?>, Object> map = new HashMap<>(ALL_QUOTES.getValues());
+    map.put(QuoteId.of(StandardId.of(SCHEME, DSC_ID_VALUE[3])), DSC_MARKET_QUOTES[3] + 1.0E-4);
+    ImmutableMarketData previousQuotes = ImmutableMarketData.of(VAL_DATE, map);
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, previousQuotes, REF_DATA);
+    ImmutableRatesProvider result =
+        CALIBRATOR.recalibrate(CURVE_GROUP_CONFIG, previous, previousQuotes, ALL_QUOTES, REF_DATA);
+    assertPresentValue(result);
+  }
+
+  public void recalibration_threeGroups() {
+    Map<MarketDataId<?>, Object> map = new HashMap<>(ALL_QUOTES.getValues());
+    map.put(QuoteId.of(StandardId.of(SCHEME, FWD6_ID_VALUE[2])), FWD6_MARKET_QUOTES[2] + 1.0E-4);
+    ImmutableMarketData previousQuotes = ImmutableMarketData.of(VAL_DATE, map);
+    ImmutableList<CurveGroupDefinition> groups = ImmutableList.of(GROUP_1, GROUP_2, GROUP_3);
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(groups, KNOWN_DATA, previousQuotes, REF_DATA);
+    ImmutableRatesProvider result =
+        CALIBRATOR.recalibrate(groups, KNOWN_DATA, previous, previousQuotes, ALL_QUOTES, REF_DATA);
+    assertPresentValue(result);
+    // the curves of the groups before the changed group are reused
+    assertEquals(result.findData(DSCON_CURVE_NAME), previous.findData(DSCON_CURVE_NAME));
+    assertEquals(result.findData(FWD3_CURVE_NAME), previous.findData(FWD3_CURVE_NAME));
+  }
+
+  public void recalibration_newtonStepRejected() {
+    // a shift of 100 basis points is too large for a single Newton step to reprice the trades
+    Map<MarketDataId<?>, Object> map = new HashMap<>(ALL_QUOTES.getValues());
+    for (int i = 0; i < DSC_NB_NODES; i++) {
+      map.put(QuoteId.of(StandardId.of(SCHEME, DSC_ID_VALUE[i])), DSC_MARKET_QUOTES[i] + 1.0E-2);
+    }
+    ImmutableMarketData previousQuotes = ImmutableMarketData.of(VAL_DATE, map);
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, previousQuotes, REF_DATA);
+    ImmutableRatesProvider result =
+        CALIBRATOR.recalibrate(CURVE_GROUP_CONFIG, previous, previousQuotes, ALL_QUOTES, REF_DATA);
+    assertPresentValue(result);
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    assertCurveParameters(result, expected, DSCON_CURVE_NAME);
+    assertCurveParameters(result, expected, FWD3_CURVE_NAME);
+    assertCurveParameters(result, expected, FWD6_CURVE_NAME);
+  }
+
+  public void recalibration_threeGroups_unchangedAfterChanged() {
+    // the quotes of the second and third groups are unchanged, but the groups depend on the first group
+    Map<MarketDataId<?>, Object> map = new HashMap<>(ALL_QUOTES.getValues());
+    map.put(QuoteId.of(StandardId.of(SCHEME, DSC_ID_VALUE[3])), DSC_MARKET_QUOTES[3] + 1.0E-4);
+    ImmutableMarketData previousQuotes = ImmutableMarketData.of(VAL_DATE, map);
+    ImmutableList<CurveGroupDefinition> groups = ImmutableList.of(GROUP_1, GROUP_2, GROUP_3);
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(groups, KNOWN_DATA, previousQuotes, REF_DATA);
+    ImmutableRatesProvider result =
+        CALIBRATOR.recalibrate(groups, KNOWN_DATA, previous, previousQuotes, ALL_QUOTES, REF_DATA);
+    assertPresentValue(result);
+    // the curves of the groups after the changed group are not reused
+    assertFalse(result.findData(FWD3_CURVE_NAME).equals(previous.findData(FWD3_CURVE_NAME)));
+    assertFalse(result.findData(FWD6_CURVE_NAME).equals(previous.findData(FWD6_CURVE_NAME)));
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(groups, KNOWN_DATA, ALL_QUOTES, REF_DATA);
+    assertCurveParameters(result, expected, DSCON_CURVE_NAME);
+    assertCurveParameters(result, expected, FWD3_CURVE_NAME);
+    assertCurveParameters(result, expected, FWD6_CURVE_NAME);
+  }
+
   public void calibration_market_quote_sensitivity_one_group() {
     double shift = 1.0E-6;
     Function<MarketData, RatesProvider> f =
@@ -431,6 +502,16 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
     }
   }
 
+  private void assertCurveParameters(RatesProvider result, RatesProvider expected, CurveName name) {
+    Curve resultCurve = result.findData(name).get();
+    Curve expectedCurve = expected.findData(name).get();
+    assertEquals(resultCurve.getParameterCount(), expectedCurve.getParameterCount());
+    for (int i = 0; i < resultCurve.getParameterCount(); i++) {
+      assertEquals(
+          resultCurve.getParameter(i), expectedCurve.getParameter(i), TOLERANCE_PARAMETER, name + " - node " + i);
+    }
+  }
+
   private void assertPresentValue(RatesProvider result) {
     // Test PV Dsc
     CurveNode[] dscNodes = CURVES_NODES.get(0).get(0);
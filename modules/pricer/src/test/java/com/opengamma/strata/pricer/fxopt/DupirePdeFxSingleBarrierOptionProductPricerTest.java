@@ -0,0 +1,291 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.fxopt;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.FLAT;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.NATURAL_SPLINE;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.surface.ConstantSurface;
+import com.opengamma.strata.market.surface.DefaultSurfaceMetadata;
+import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
+import com.opengamma.strata.market.surface.Surface;
+import com.opengamma.strata.market.surface.SurfaceMetadata;
+import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
+import com.opengamma.strata.pricer.fx.RatesProviderFxDataSets;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.common.LongShort;
+import com.opengamma.strata.product.fx.ResolvedFxSingle;
+import com.opengamma.strata.product.fxopt.ResolvedFxSingleBarrierOption;
+import com.opengamma.strata.product.fxopt.ResolvedFxVanillaOption;
+import com.opengamma.strata.product.option.BarrierType;
+import com.opengamma.strata.product.option.KnockType;
+import com.opengamma.strata.product.option.SimpleConstantContinuousBarrier;
+
+/**
+ * Test {@link DupirePdeFxSingleBarrierOptionProductPricer}.
+ */
+@Test
+public class DupirePdeFxSingleBarrierOptionProductPricerTest {
+
+  private static final ZoneId ZONE = ZoneId.of("Z");
+  private static final CurrencyPair CURRENCY_PAIR = CurrencyPair.of(EUR, USD);
+  private static final LocalDate VAL_DATE = LocalDate.of(2011, 6, 13);
+  private static final ZonedDateTime VAL_DATETIME = VAL_DATE.atStartOfDay(ZONE);
+  private static final LocalDate PAY_DATE = LocalDate.of(2014, 9, 15);
+  private static final LocalDate EXPIRY_DATE = LocalDate.of(2014, 9, 15);
+  private static final ZonedDateTime EXPIRY_DATETIME = EXPIRY_DATE.atStartOfDay(ZONE);
+  // providers - flat
+  private static final ImmutableRatesProvider RATE_PROVIDER_FLAT =
+      RatesProviderFxDataSets.createProviderEurUsdFlat(VAL_DATE);
+  private static final SurfaceMetadata METADATA = DefaultSurfaceMetadata.builder()
+      .surfaceName("Flat")
+      .xValueType(ValueType.YEAR_FRACTION)
+      .yValueType(ValueType.STRIKE)
+      .zValueType(ValueType.BLACK_VOLATILITY)
+      .dayCount(ACT_360)
+      .build();
+  private static final BlackFxOptionSurfaceVolatilities VOLS_FLAT = BlackFxOptionSurfaceVolatilities.of(
+      CURRENCY_PAIR, VAL_DATETIME, ConstantSurface.of(METADATA, 0.13));
+  // providers
+  private static final ImmutableRatesProvider RATE_PROVIDER =
+      RatesProviderFxDataSets.createProviderEURUSD(VAL_DATE);
+  private static final BlackFxOptionSmileVolatilities VOLS_SMILE =
+      FxVolatilitySmileDataSet.createVolatilitySmileProvider5(VAL_DATETIME);
+  // providers - smile surface, flat beyond the strikes and times of the nodes
+  private static final DoubleArray SMILE_TIMES = DoubleArray.of(0.5, 1d, 2d, 3d, 5d);
+  private static final DoubleArray SMILE_STRIKES =
+      DoubleArray.of(0.3, 0.5, 0.8, 1.0, 1.2, 1.3, 1.4, 1.5, 1.6, 1.8, 2.1, 2.6, 3.5, 5.0);
+  private static final SurfaceMetadata SMILE_METADATA = DefaultSurfaceMetadata.builder()
+      .surfaceName("Smile")
+      .xValueType(ValueType.YEAR_FRACTION)
+      .yValueType(ValueType.STRIKE)
+      .zValueType(ValueType.BLACK_VOLATILITY)
+      .dayCount(ACT_365F)
+      .build();
+  private static final BlackFxOptionSurfaceVolatilities VOLS_SMILE_SURFACE = BlackFxOptionSurfaceVolatilities.of(
+      CURRENCY_PAIR, VAL_DATETIME, smileSurface());
+  // providers - after maturity
+  private static final ImmutableRatesProvider RATE_PROVIDER_AFTER =
+      RatesProviderFxDataSets.createProviderEURUSD(EXPIRY_DATE.plusDays(1));
+  private static final BlackFxOptionSurfaceVolatilities VOLS_AFTER = BlackFxOptionSurfaceVolatilities.of(
+      CURRENCY_PAIR, EXPIRY_DATETIME.plusDays(1),
+      ConstantSurface.of(METADATA, 0.13));
+
+  private static final double NOTIONAL = 100_000_000d;
+  private static final double LEVEL_LOW = 1.25;
+  private static final double LEVEL_HIGH = 1.6;
+  private static final SimpleConstantContinuousBarrier BARRIER_DKO =
+      SimpleConstantContinuousBarrier.of(BarrierType.DOWN, KnockType.KNOCK_OUT, LEVEL_LOW);
+  private static final SimpleConstantContinuousBarrier BARRIER_UKI =
+      SimpleConstantContinuousBarrier.of(BarrierType.UP, KnockType.KNOCK_IN, LEVEL_HIGH);
+  private static final double REBATE_AMOUNT = 5_000_000d; // large rebate for testing
+  private static final CurrencyAmount REBATE = CurrencyAmount.of(USD, REBATE_AMOUNT);
+  private static final CurrencyAmount REBATE_BASE = CurrencyAmount.of(EUR, REBATE_AMOUNT);
+  private static final double STRIKE_RATE = 1.35;
+  // call
+  private static final CurrencyAmount EUR_AMOUNT_REC = CurrencyAmount.of(EUR, NOTIONAL);
+  private static final CurrencyAmount USD_AMOUNT_PAY = CurrencyAmount.of(USD, -NOTIONAL * STRIKE_RATE);
+  private static final ResolvedFxSingle FX_PRODUCT = ResolvedFxSingle.of(EUR_AMOUNT_REC, USD_AMOUNT_PAY, PAY_DATE);
+  private static final ResolvedFxVanillaOption CALL = ResolvedFxVanillaOption.builder()
+      .longShort(LongShort.LONG)
+      .expiry(EXPIRY_DATETIME)
+      .underlying(FX_PRODUCT)
+      .build();
+  // put
+  private static final ResolvedFxSingle FX_PRODUCT_INV =
+      ResolvedFxSingle.of(EUR_AMOUNT_REC.negated(), USD_AMOUNT_PAY.negated(), PAY_DATE);
+  private static final ResolvedFxVanillaOption PUT = ResolvedFxVanillaOption.builder()
+      .longShort(LongShort.SHORT)
+      .expiry(EXPIRY_DATETIME)
+      .underlying(FX_PRODUCT_INV)
+      .build();
+  private static final ResolvedFxSingleBarrierOption CALL_DKO =
+      ResolvedFxSingleBarrierOption.of(CALL, BARRIER_DKO);
+  private static final ResolvedFxSingleBarrierOption CALL_UKI_C =
+      ResolvedFxSingleBarrierOption.of(CALL, BARRIER_UKI, REBATE);
+  // pricers
+  private static final DupirePdeFxSingleBarrierOptionProductPricer PRICER =
+      DupirePdeFxSingleBarrierOptionProductPricer.DEFAULT;
+  private static final BlackFxSingleBarrierOptionProductPricer BLACK_PRICER =
+      BlackFxSingleBarrierOptionProductPricer.DEFAULT;
+  private static final BlackFxVanillaOptionProductPricer VANILLA_PRICER = BlackFxVanillaOptionProductPricer.DEFAULT;
+  private static final ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer TREE_PRICER =
+      new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(100);
+  private static final double TOL = 1.0e-3;
+  private static final double TOL_SENSI = 1.0e-2;
+  private static final double TOL_SMILE_VANILLA = 2.0e-3;
+  private static final double TOL_TREE = 1.0e-2;
+
+  //-------------------------------------------------------------------------
+  public void test_black() {
+    for (int i = 0; i < 5; ++i) {
+      double lowerBarrier = 1.1 + 0.05 * i;
+      double higherBarrier = 1.45 + 0.05 * i;
+      for (ResolvedFxVanillaOption vanilla : new ResolvedFxVanillaOption[] {CALL, PUT}) {
+        for (KnockType knockType : KnockType.values()) {
+          SimpleConstantContinuousBarrier down =
+              SimpleConstantContinuousBarrier.of(BarrierType.DOWN, knockType, lowerBarrier);
+          assertBlack(ResolvedFxSingleBarrierOption.of(vanilla, down));
+          assertBlack(ResolvedFxSingleBarrierOption.of(vanilla, down, REBATE));
+          assertBlack(ResolvedFxSingleBarrierOption.of(vanilla, down, REBATE_BASE));
+          SimpleConstantContinuousBarrier up =
+              SimpleConstantContinuousBarrier.of(BarrierType.UP, knockType, higherBarrier);
+          assertBlack(ResolvedFxSingleBarrierOption.of(vanilla, up));
+          assertBlack(ResolvedFxSingleBarrierOption.of(vanilla, up, REBATE));
+          assertBlack(ResolvedFxSingleBarrierOption.of(vanilla, up, REBATE_BASE));
+        }
+      }
+    }
+  }
+
+  private void assertBlack(ResolvedFxSingleBarrierOption option) {
+    double price = PRICER.price(option, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    double priceBlack = BLACK_PRICER.price(option, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    assertEqualsRelative(price, priceBlack, TOL);
+    CurrencyAmount pv = PRICER.presentValue(option, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    CurrencyAmount pvBlack = BLACK_PRICER.presentValue(option, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    assertEquals(pv.getCurrency(), pvBlack.getCurrency());
+    assertEquals(pv.getAmount(), pvBlack.getAmount(), TOL * NOTIONAL);
+    MultiCurrencyAmount ce = PRICER.currencyExposure(option, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    MultiCurrencyAmount ceBlack = BLACK_PRICER.currencyExposure(option, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    assertEquals(ce.getAmount(EUR).getAmount(), ceBlack.getAmount(EUR).getAmount(), 1.0e-2 * NOTIONAL);
+    assertEquals(ce.getAmount(USD).getAmount(), ceBlack.getAmount(USD).getAmount(), 1.0e-2 * NOTIONAL);
+  }
+
+  public void test_inOutParity() {
+    double callPrice = VANILLA_PRICER.price(CALL, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    for (int i = 0; i < 5; ++i) {
+      double lowerBarrier = 1.1 + 0.05 * i;
+      double priceDko = PRICER.price(ResolvedFxSingleBarrierOption.of(CALL,
+          SimpleConstantContinuousBarrier.of(BarrierType.DOWN, KnockType.KNOCK_OUT, lowerBarrier)),
+          RATE_PROVIDER_FLAT, VOLS_FLAT);
+      double priceDki = PRICER.price(ResolvedFxSingleBarrierOption.of(CALL,
+          SimpleConstantContinuousBarrier.of(BarrierType.DOWN, KnockType.KNOCK_IN, lowerBarrier)),
+          RATE_PROVIDER_FLAT, VOLS_FLAT);
+      assertEqualsRelative(priceDko + priceDki, callPrice, TOL);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_localVolatility() {
+    Surface localVol = PRICER.calibrateLocalVolatility(CALL_DKO, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    assertEquals(localVol.zValue(1d, 1.3), 0.13, 1.0e-10);
+    double price = PRICER.price(CALL_UKI_C, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    double priceWithLocalVol = PRICER.price(CALL_UKI_C, RATE_PROVIDER_FLAT, VOLS_FLAT, localVol);
+    assertEquals(price, priceWithLocalVol);
+    CurrencyAmount pv = PRICER.presentValue(CALL_DKO, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    CurrencyAmount pvWithLocalVol = PRICER.presentValue(CALL_DKO, RATE_PROVIDER_FLAT, VOLS_FLAT, localVol);
+    assertEquals(pv, pvWithLocalVol);
+    MultiCurrencyAmount ce = PRICER.currencyExposure(CALL_UKI_C, RATE_PROVIDER_FLAT, VOLS_FLAT);
+    MultiCurrencyAmount ceWithLocalVol = PRICER.currencyExposure(CALL_UKI_C, RATE_PROVIDER_FLAT, VOLS_FLAT, localVol);
+    assertEquals(ce, ceWithLocalVol);
+  }
+
+  public void test_presentValueSensitivityRates() {
+    // compared to the analytic sensitivity of the Black pricer, for a parallel shift of each flat curve
+    for (ResolvedFxSingleBarrierOption option : new ResolvedFxSingleBarrierOption[] {CALL_DKO, CALL_UKI_C}) {
+      CurrencyParameterSensitivities computed =
+          PRICER.presentValueSensitivityRates(option, RATE_PROVIDER_FLAT, VOLS_FLAT);
+      CurrencyParameterSensitivities expected = RATE_PROVIDER_FLAT.parameterSensitivity(
+          BLACK_PRICER.presentValueSensitivityRatesStickyStrike(option, RATE_PROVIDER_FLAT, VOLS_FLAT).build());
+      assertEquals(computed.getSensitivities().size(), expected.getSensitivities().size());
+      for (CurrencyParameterSensitivity sensi : expected.getSensitivities()) {
+        CurrencyParameterSensitivity sensiComputed =
+            computed.getSensitivity(sensi.getMarketDataName(), sensi.getCurrency());
+        assertEquals(sensiComputed.getSensitivity().sum(), sensi.getSensitivity().sum(), TOL_SENSI * NOTIONAL);
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_smile_vanilla() {
+    // a distant knock-out barrier is not hit, so the price is that of the vanilla option with the smile
+    SimpleConstantContinuousBarrier barrier =
+        SimpleConstantContinuousBarrier.of(BarrierType.DOWN, KnockType.KNOCK_OUT, 0.6);
+    double price = PRICER.price(ResolvedFxSingleBarrierOption.of(CALL, barrier), RATE_PROVIDER, VOLS_SMILE_SURFACE);
+    double priceVanilla = VANILLA_PRICER.price(CALL, RATE_PROVIDER, VOLS_SMILE_SURFACE);
+    assertEqualsRelative(price, priceVanilla, TOL_SMILE_VANILLA);
+  }
+
+  public void test_smile_trinomialTree() {
+    // both pricers use a local volatility implied from the same smile, by Dupire formula and by the implied tree
+    for (int i = 0; i < 2; ++i) {
+      double lowerBarrier = 1.15 + 0.1 * i;
+      double higherBarrier = 1.5 + 0.1 * i;
+      for (KnockType knockType : KnockType.values()) {
+        SimpleConstantContinuousBarrier down =
+            SimpleConstantContinuousBarrier.of(BarrierType.DOWN, knockType, lowerBarrier);
+        assertTree(ResolvedFxSingleBarrierOption.of(CALL, down));
+        assertTree(ResolvedFxSingleBarrierOption.of(PUT, down, REBATE));
+        SimpleConstantContinuousBarrier up =
+            SimpleConstantContinuousBarrier.of(BarrierType.UP, knockType, higherBarrier);
+        assertTree(ResolvedFxSingleBarrierOption.of(CALL, up, REBATE_BASE));
+        assertTree(ResolvedFxSingleBarrierOption.of(PUT, up));
+      }
+    }
+  }
+
+  private void assertTree(ResolvedFxSingleBarrierOption option) {
+    double price = PRICER.price(option, RATE_PROVIDER, VOLS_SMILE_SURFACE);
+    double priceTree = TREE_PRICER.price(option, RATE_PROVIDER, VOLS_SMILE_SURFACE);
+    assertEqualsRelative(price, priceTree, TOL_TREE);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_invalid() {
+    // volatilities not a surface
+    assertThrowsIllegalArg(() -> PRICER.calibrateLocalVolatility(CALL_DKO, RATE_PROVIDER, VOLS_SMILE));
+    assertThrowsIllegalArg(() -> PRICER.price(CALL_DKO, RATE_PROVIDER, VOLS_SMILE));
+    // expired
+    assertThrowsIllegalArg(() -> PRICER.price(CALL_DKO, RATE_PROVIDER_AFTER, VOLS_AFTER));
+    assertThrowsIllegalArg(() -> PRICER.presentValue(CALL_DKO, RATE_PROVIDER_AFTER, VOLS_AFTER));
+    assertThrowsIllegalArg(() -> PRICER.currencyExposure(CALL_DKO, RATE_PROVIDER_AFTER, VOLS_AFTER));
+    // inconsistent dates
+    assertThrowsIllegalArg(() -> PRICER.price(CALL_DKO, RATE_PROVIDER, VOLS_AFTER));
+    assertThrowsIllegalArg(() -> new DupirePdeFxSingleBarrierOptionProductPricer(0, 101));
+  }
+
+  //-------------------------------------------------------------------------
+  // the smile is symmetric in log-moneyness around 1.4 and rises with time, giving positive local variance
+  private static InterpolatedNodalSurface smileSurface() {
+    int nStrikes = SMILE_STRIKES.size();
+    int nPoints = SMILE_TIMES.size() * nStrikes;
+    DoubleArray times = DoubleArray.of(nPoints, i -> SMILE_TIMES.get(i / nStrikes));
+    DoubleArray strikes = DoubleArray.of(nPoints, i -> SMILE_STRIKES.get(i % nStrikes));
+    DoubleArray vols = DoubleArray.of(nPoints, i -> {
+      double logMoneyness = Math.log(strikes.get(i) / 1.4);
+      double squared = logMoneyness * logMoneyness;
+      return 0.1075 + 0.005 * times.get(i) + 0.03 * squared / (1d + squared);
+    });
+    GridSurfaceInterpolator interpolator = GridSurfaceInterpolator.of(LINEAR, FLAT, NATURAL_SPLINE, FLAT);
+    return InterpolatedNodalSurface.of(SMILE_METADATA, times, strikes, vols, interpolator);
+  }
+
+  private void assertEqualsRelative(double computed, double expected, double relTol) {
+    assertEquals(computed, expected, Math.max(1d, Math.abs(expected)) * relTol);
+  }
+
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.ConstantCurve;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorPiecewiseConstantInterestRateModel;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+
+/**
+ * Test {@link HullWhiteMonteCarloModel}.
+ */
+@Test
+public class HullWhiteMonteCarloModelTest {
+
+  private static final LocalDate VAL_DATE = LocalDate.of(2017, 3, 15);
+  private static final HullWhiteOneFactorPiecewiseConstantParameters PARAMETERS =
+      HullWhiteOneFactorPiecewiseConstantParameters.of(
+          0.05, DoubleArray.of(0.01, 0.011, 0.012, 0.013), DoubleArray.of(0.5, 1d, 2d));
+  private static final HullWhiteOneFactorPiecewiseConstantParametersProvider HW_PROVIDER =
+      HullWhiteOneFactorPiecewiseConstantParametersProvider.of(PARAMETERS, ACT_365F, VAL_DATE, LocalTime.NOON,
+          ZoneOffset.UTC);
+  private static final DiscountFactors DISCOUNT_FACTORS =
+      ZeroRateDiscountFactors.of(EUR, VAL_DATE, ConstantCurve.of(Curves.zeroRates("EUR-Zero", ACT_365F), 0.02));
+  private static final ImmutableList<LocalDate> DATES = ImmutableList.of(
+      LocalDate.of(2017, 9, 15), LocalDate.of(2018, 3, 15), LocalDate.of(2019, 3, 15), LocalDate.of(2020, 3, 16));
+  private static final LocalDate NUMERAIRE_DATE = LocalDate.of(2022, 3, 15);
+  private static final LocalDate MATURITY_DATE = LocalDate.of(2021, 3, 15);
+  private static final HullWhiteMonteCarloModel MODEL =
+      HullWhiteMonteCarloModel.of(HW_PROVIDER, DISCOUNT_FACTORS, DATES, NUMERAIRE_DATE);
+  private static final int NB_PATHS = (1 << 14) - 1;
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    assertEquals(MODEL.getDates(), DATES);
+    assertEquals(MODEL.getNumeraireDate(), NUMERAIRE_DATE);
+    assertEquals(MODEL.getNumeraireDiscountFactor(), DISCOUNT_FACTORS.discountFactor(NUMERAIRE_DATE));
+    assertEquals(MODEL.getTimes().size(), 4);
+    assertEquals(MODEL.getTimes().get(1), HW_PROVIDER.relativeTime(DATES.get(1)));
+  }
+
+  public void test_discountFactor() {
+    for (int i = 0; i < DATES.size(); i++) {
+      for (double state : new double[] {-0.05, 0d, 0.1}) {
+        assertEquals(MODEL.discountFactor(i, state, DATES.get(i)), 1d, 1e-14);
+        assertEquals(MODEL.discountFactor(i, state, NUMERAIRE_DATE), MODEL.numeraire(i, state), 1e-14);
+      }
+    }
+  }
+
+  public void test_martingale() {
+    MonteCarloEngine engine = MonteCarloEngine.ofSobol(NB_PATHS);
+    for (int i = 0; i < DATES.size(); i++) {
+      int index = i;
+      MonteCarloEstimate bond = engine.price(MODEL, (paths, offset) -> {
+        double state = paths[offset + index];
+        return MODEL.getNumeraireDiscountFactor() *
+            MODEL.discountFactor(index, state, MATURITY_DATE) / MODEL.numeraire(index, state);
+      });
+      assertEquals(bond.getValue(), DISCOUNT_FACTORS.discountFactor(MATURITY_DATE), 5e-5);
+      MonteCarloEstimate cash = engine.price(MODEL, (paths, offset) -> MODEL.getNumeraireDiscountFactor() /
+          MODEL.numeraire(index, paths[offset + index]));
+      assertEquals(cash.getValue(), DISCOUNT_FACTORS.discountFactor(DATES.get(i)), 5e-5);
+    }
+  }
+
+  public void test_volatility() {
+    // the volatility of the bond divided by the numeraire is alpha
+    double[] paths = MonteCarloEngine.ofSobol(NB_PATHS).simulate(MODEL);
+    double numeraireTime = HW_PROVIDER.relativeTime(NUMERAIRE_DATE);
+    double maturityTime = HW_PROVIDER.relativeTime(MATURITY_DATE);
+    for (int i = 0; i < DATES.size(); i++) {
+      double sum = 0d;
+      double sumSq = 0d;
+      for (int p = 0; p < NB_PATHS; p++) {
+        double state = paths[p * DATES.size() + i];
+        double logRatio = Math.log(MODEL.discountFactor(i, state, MATURITY_DATE) / MODEL.numeraire(i, state));
+        sum += logRatio;
+        sumSq += logRatio * logRatio;
+      }
+      double stdDev = Math.sqrt((sumSq - sum * sum / NB_PATHS) / (NB_PATHS - 1));
+      double alpha = HullWhiteOneFactorPiecewiseConstantInterestRateModel.DEFAULT.alpha(
+          PARAMETERS, 0d, MODEL.getTimes().get(i), numeraireTime, maturityTime);
+      assertEquals(stdDev, Math.abs(alpha), 1e-2 * Math.abs(alpha));
+    }
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> HullWhiteMonteCarloModel.of(
+        HW_PROVIDER, DISCOUNT_FACTORS, ImmutableList.of(), NUMERAIRE_DATE));
+    assertThrowsIllegalArg(() -> HullWhiteMonteCarloModel.of(
+        HW_PROVIDER, DISCOUNT_FACTORS, DATES, LocalDate.of(2019, 3, 15)));
+  }
+
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.surface.ConstantSurface;
+import com.opengamma.strata.market.surface.Surface;
+
+/**
+ * Test {@link LocalVolatilityMonteCarloModel}.
+ */
+@Test
+public class LocalVolatilityMonteCarloModelTest {
+
+  private static final double SPOT = 1.2;
+  private static final Function<Double, Double> INTEREST_RATE = t -> 0.02 + 0.001 * t;
+  private static final Function<Double, Double> DIVIDEND_RATE = t -> 0.005;
+  private static final DoubleArray TIMES = DoubleArray.of(0.25, 0.5, 0.75, 1d);
+
+  //-------------------------------------------------------------------------
+  public void test_flatVolatility() {
+    // the Euler scheme of the logarithm is exact when the volatility is constant
+    double volatility = 0.15;
+    Surface surface = ConstantSurface.of("Vol", volatility);
+    LocalVolatilityMonteCarloModel test =
+        LocalVolatilityMonteCarloModel.of(SPOT, surface, INTEREST_RATE, DIVIDEND_RATE, TIMES);
+    assertEquals(test.getTimes(), TIMES);
+    DoubleArray forwards = TIMES.map(t -> SPOT * Math.exp((INTEREST_RATE.apply(t) - DIVIDEND_RATE.apply(t)) * t));
+    BlackMonteCarloModel black = BlackMonteCarloModel.of(TIMES, forwards, TIMES.map(t -> volatility * volatility * t));
+    double[] normals = {0.3, -1.2, 0.7, 2.1};
+    double[] computed = new double[6];
+    double[] expected = new double[6];
+    test.path(normals, computed, 2);
+    black.path(normals, expected, 2);
+    for (int i = 0; i < 6; i++) {
+      assertEquals(computed[i], expected[i], 1e-12);
+    }
+  }
+
+  public void test_invalid() {
+    Surface surface = ConstantSurface.of("Vol", 0.1);
+    assertThrowsIllegalArg(() -> LocalVolatilityMonteCarloModel.of(0d, surface, INTEREST_RATE, DIVIDEND_RATE, TIMES));
+    assertThrowsIllegalArg(() -> LocalVolatilityMonteCarloModel.of(SPOT, null, INTEREST_RATE, DIVIDEND_RATE, TIMES));
+  }
+
+}
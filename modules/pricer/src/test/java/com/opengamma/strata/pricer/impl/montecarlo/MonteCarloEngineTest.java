@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
+
+/**
+ * Test {@link MonteCarloEngine}.
+ */
+@Test
+public class MonteCarloEngineTest {
+
+  private static final double SPOT = 100d;
+  private static final double STRIKE = 105d;
+  private static final double RATE = 0.03;
+  private static final double DIVIDEND = 0.01;
+  private static final double VOLATILITY = 0.25;
+  private static final double EXPIRY = 1d;
+  private static final BlackMonteCarloModel EUROPEAN_MODEL =
+      BlackMonteCarloModel.of(SPOT, RATE, DIVIDEND, VOLATILITY, DoubleArray.of(EXPIRY));
+  private static final DoubleArray MONTHLY = DoubleArray.of(12, i -> (i + 1) / 12d);
+  private static final BlackMonteCarloModel ASIAN_MODEL =
+      BlackMonteCarloModel.of(SPOT, RATE, DIVIDEND, VOLATILITY, MONTHLY);
+  private static final double DF = Math.exp(-RATE * EXPIRY);
+  private static final double FORWARD = SPOT * Math.exp((RATE - DIVIDEND) * EXPIRY);
+  private static final double CALL_PRICE =
+      DF * BlackFormulaRepository.price(FORWARD, STRIKE, EXPIRY, VOLATILITY, true);
+  private static final MonteCarloPayoff CALL = (paths, offset) -> DF * Math.max(paths[offset] - STRIKE, 0d);
+  private static final MonteCarloPayoff UNDERLYING = (paths, offset) -> DF * paths[offset];
+  private static final MonteCarloPayoff ARITHMETIC_ASIAN = (paths, offset) -> {
+    double sum = 0d;
+    for (int i = 0; i < 12; i++) {
+      sum += paths[offset + i];
+    }
+    return DF * Math.max(sum / 12d - STRIKE, 0d);
+  };
+  private static final MonteCarloPayoff GEOMETRIC_ASIAN = (paths, offset) -> {
+    double sumLog = 0d;
+    for (int i = 0; i < 12; i++) {
+      sumLog += Math.log(paths[offset + i]);
+    }
+    return DF * Math.max(Math.exp(sumLog / 12d) - STRIKE, 0d);
+  };
+  private static final int NB_PATHS = 100_000;
+  private static final int NB_PATHS_SOBOL = (1 << 14) - 1;
+
+  //-------------------------------------------------------------------------
+  public void test_pseudoRandom() {
+    MonteCarloEngine engine = MonteCarloEngine.ofPseudoRandom(NB_PATHS, 1L);
+    assertEquals(engine.getPathCount(), NB_PATHS);
+    MonteCarloEstimate computed = engine.price(EUROPEAN_MODEL, CALL);
+    assertEquals(computed.getPathCount(), NB_PATHS);
+    assertEquals(computed.getValue(), CALL_PRICE, 4d * computed.getStandardError());
+    assertTrue(computed.getStandardError() < 0.1);
+    // reproducible
+    assertEquals(MonteCarloEngine.ofPseudoRandom(NB_PATHS, 1L).price(EUROPEAN_MODEL, CALL).getValue(),
+        computed.getValue());
+  }
+
+  public void test_sobol() {
+    MonteCarloEngine engine = MonteCarloEngine.ofSobol(NB_PATHS_SOBOL);
+    MonteCarloEstimate computed = engine.price(EUROPEAN_MODEL, CALL);
+    assertEquals(computed.getValue(), CALL_PRICE, 2e-2);
+    MonteCarloEstimate underlying = engine.price(ASIAN_MODEL, (paths, offset) -> paths[offset + 11]);
+    assertEquals(underlying.getValue(), FORWARD, 1e-2);
+  }
+
+  public void test_antithetic() {
+    MonteCarloEngine engine = MonteCarloEngine.ofPseudoRandom(NB_PATHS, 1L);
+    MonteCarloEstimate plain = engine.price(EUROPEAN_MODEL, CALL);
+    MonteCarloEstimate computed = engine.withAntitheticVariates().price(EUROPEAN_MODEL, CALL);
+    assertEquals(computed.getValue(), CALL_PRICE, 4d * computed.getStandardError());
+    assertTrue(computed.getStandardError() < plain.getStandardError());
+    double[] paths = engine.withAntitheticVariates().simulate(EUROPEAN_MODEL);
+    assertEquals(Math.log(paths[0] / FORWARD), -Math.log(paths[1] / FORWARD) - VOLATILITY * VOLATILITY, 1e-12);
+  }
+
+  public void test_controlVariate() {
+    MonteCarloEngine engine = MonteCarloEngine.ofPseudoRandom(NB_PATHS, 1L);
+    MonteCarloEstimate plain = engine.price(EUROPEAN_MODEL, CALL);
+    MonteCarloEstimate computed = engine.price(EUROPEAN_MODEL, CALL, UNDERLYING, DF * FORWARD);
+    assertEquals(computed.getValue(), CALL_PRICE, 4d * computed.getStandardError());
+    assertTrue(computed.getStandardError() < plain.getStandardError());
+  }
+
+  public void test_controlVariate_asian() {
+    // the geometric average of a log-normal underlying is log-normal
+    double sumLogForward = 0d;
+    double variance = 0d;
+    for (int i = 0; i < 12; i++) {
+      sumLogForward += Math.log(SPOT) + (RATE - DIVIDEND - 0.5 * VOLATILITY * VOLATILITY) * MONTHLY.get(i);
+      for (int j = 0; j < 12; j++) {
+        variance += VOLATILITY * VOLATILITY * Math.min(MONTHLY.get(i), MONTHLY.get(j));
+      }
+    }
+    variance /= 144d;
+    double geometricForward = Math.exp(sumLogForward / 12d + 0.5 * variance);
+    double geometricPrice = DF * BlackFormulaRepository.price(geometricForward, STRIKE, 1d, Math.sqrt(variance), true);
+    MonteCarloEngine engine = MonteCarloEngine.ofPseudoRandom(NB_PATHS, 2L).withAntitheticVariates();
+    MonteCarloEstimate geometric = engine.price(ASIAN_MODEL, GEOMETRIC_ASIAN);
+    assertEquals(geometric.getValue(), geometricPrice, 4d * geometric.getStandardError());
+    MonteCarloEstimate plain = engine.price(ASIAN_MODEL, ARITHMETIC_ASIAN);
+    MonteCarloEstimate computed = engine.price(ASIAN_MODEL, ARITHMETIC_ASIAN, GEOMETRIC_ASIAN, geometricPrice);
+    assertTrue(computed.getStandardError() < 0.2 * plain.getStandardError());
+    assertEquals(computed.getValue(), plain.getValue(), 4d * plain.getStandardError());
+    assertTrue(computed.getValue() > geometricPrice);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_parallel() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      MonteCarloEngine pseudoRandom = MonteCarloEngine.ofPseudoRandom(10_000, 3L);
+      assertEquals(
+          pseudoRandom.withParallelism(executor, 1000).simulate(ASIAN_MODEL),
+          pseudoRandom.withParallelism(Runnable::run, 1000).simulate(ASIAN_MODEL));
+      // the Sobol paths do not depend on the batch size
+      MonteCarloEngine sobol = MonteCarloEngine.ofSobol(10_000).withAntitheticVariates();
+      assertEquals(sobol.withParallelism(executor, 998).simulate(ASIAN_MODEL), sobol.simulate(ASIAN_MODEL));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void test_simulate() {
+    double[] paths = MonteCarloEngine.ofSobol(100).simulate(ASIAN_MODEL);
+    assertEquals(paths.length, 100 * 12);
+    for (double value : paths) {
+      assertTrue(value > 0d);
+    }
+  }
+
+  public void test_minimumPathCount() {
+    assertEquals(MonteCarloEngine.ofPseudoRandom(3, 1L).getPathCount(), 3);
+    assertEquals(MonteCarloEngine.ofPseudoRandom(6, 1L).withAntitheticVariates().getPathCount(), 6);
+    MonteCarloEstimate estimate = MonteCarloEngine.ofPseudoRandom(3, 1L).price(EUROPEAN_MODEL, CALL, UNDERLYING, DF * FORWARD);
+    assertTrue(Double.isFinite(estimate.getStandardError()));
+  }
+
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofPseudoRandom(0, 1L));
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofPseudoRandom(2, 1L));
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofSobol(2));
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofPseudoRandom(4, 1L).withAntitheticVariates());
+
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofPseudoRandom(0, 1L));
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofPseudoRandom(2, 1L));
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofSobol(2));
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofPseudoRandom(4, 1L).withAntitheticVariates());
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofPseudoRandom(101, 1L).withAntitheticVariates());
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofPseudoRandom(100, 1L).withParallelism(Runnable::run, 0));
+    DoubleArray times = DoubleArray.of(20, i -> i + 1d);
+    BlackMonteCarloModel model = BlackMonteCarloModel.of(SPOT, RATE, DIVIDEND, VOLATILITY, times);
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofSobol(100).simulate(model));
+    BlackMonteCarloModel modelZero = BlackMonteCarloModel.of(SPOT, RATE, DIVIDEND, VOLATILITY, DoubleArray.of(0d, 1d));
+    assertThrowsIllegalArg(() -> MonteCarloEngine.ofPseudoRandom(100, 1L).simulate(modelZero));
+  }
+
+}
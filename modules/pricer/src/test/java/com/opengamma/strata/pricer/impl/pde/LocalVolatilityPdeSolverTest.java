@@ -0,0 +1,210 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.pde;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+import com.opengamma.strata.pricer.impl.option.BlackBarrierPriceFormulaRepository;
+import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
+import com.opengamma.strata.pricer.impl.tree.ConstantContinuousSingleBarrierKnockoutFunction;
+import com.opengamma.strata.pricer.impl.tree.EuropeanVanillaOptionFunction;
+import com.opengamma.strata.pricer.impl.tree.OptionFunction;
+import com.opengamma.strata.product.common.PutCall;
+import com.opengamma.strata.product.option.BarrierType;
+import com.opengamma.strata.product.option.KnockType;
+import com.opengamma.strata.product.option.SimpleConstantContinuousBarrier;
+
+/**
+ * Test {@link LocalVolatilityPdeSolver}.
+ */
+@Test
+public class LocalVolatilityPdeSolverTest {
+
+  private static final LocalVolatilityPdeSolver SOLVER = LocalVolatilityPdeSolver.DEFAULT;
+  private static final BlackBarrierPriceFormulaRepository BARRIER_FORMULA = new BlackBarrierPriceFormulaRepository();
+  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
+  private static final double SPOT = 1.4;
+  private static final double TIME = 3.25;
+  private static final double RATE_DOMESTIC = 0.02;
+  private static final double RATE_FOREIGN = 0.01;
+  private static final double VOL = 0.15;
+  private static final double STD_DEV = VOL * Math.sqrt(TIME);
+  private static final double[] STRIKES = new double[] {1.2, 1.35, 1.4, 1.55};
+  private static final double LEVEL_LOW = 1.25;
+  private static final double LEVEL_HIGH = 1.6;
+  private static final SimpleConstantContinuousBarrier BARRIER_DKO =
+      SimpleConstantContinuousBarrier.of(BarrierType.DOWN, KnockType.KNOCK_OUT, LEVEL_LOW);
+  private static final SimpleConstantContinuousBarrier BARRIER_UKO =
+      SimpleConstantContinuousBarrier.of(BarrierType.UP, KnockType.KNOCK_OUT, LEVEL_HIGH);
+  private static final int NUM_STEPS = 100;
+  private static final int NUM_NODES = 201;
+  private static final DoubleArray ZERO_REBATE = DoubleArray.filled(NUM_STEPS + 1);
+  private static final double TOL = 1.0e-4;
+
+  public void test_vanilla() {
+    PdeGrid grid = grid(DoubleArray.of(SPOT));
+    double forward = SPOT * Math.exp((RATE_DOMESTIC - RATE_FOREIGN) * TIME);
+    double df = Math.exp(-RATE_DOMESTIC * TIME);
+    for (double strike : STRIKES) {
+      for (PutCall putCall : PutCall.values()) {
+        EuropeanVanillaOptionFunction function = EuropeanVanillaOptionFunction.of(strike, TIME, putCall, NUM_STEPS);
+        DoubleMatrix values = optionValues(ImmutableList.of(function), grid, VOL);
+        ValueDerivatives computed = grid.interpolate(values.row(0), SPOT);
+        double expected = df * BlackFormulaRepository.price(forward, strike, TIME, VOL, putCall.isCall());
+        double expectedDelta = df * BlackFormulaRepository.delta(forward, strike, TIME, VOL, putCall.isCall()) *
+            forward / SPOT;
+        assertEquals(computed.getValue(), expected, TOL);
+        assertEquals(computed.getDerivative(0), expectedDelta, 10d * TOL);
+      }
+    }
+  }
+
+  public void test_barrier() {
+    for (double strike : STRIKES) {
+      for (PutCall putCall : PutCall.values()) {
+        // down barrier
+        PdeGrid gridDown = grid(DoubleArray.of(SPOT, strike, LEVEL_LOW));
+        OptionFunction functionDown = barrierFunction(strike, putCall, BarrierType.DOWN, LEVEL_LOW, ZERO_REBATE);
+        double computedDown = gridDown.interpolate(
+            optionValues(ImmutableList.of(functionDown), gridDown, VOL).row(0), SPOT).getValue();
+        double expectedDown = BARRIER_FORMULA.price(
+            SPOT, strike, TIME, RATE_DOMESTIC - RATE_FOREIGN, RATE_DOMESTIC, VOL, putCall.isCall(), BARRIER_DKO);
+        assertEquals(computedDown, expectedDown, TOL);
+        // up barrier
+        PdeGrid gridUp = grid(DoubleArray.of(SPOT, strike, LEVEL_HIGH));
+        OptionFunction functionUp = barrierFunction(strike, putCall, BarrierType.UP, LEVEL_HIGH, ZERO_REBATE);
+        double computedUp = gridUp.interpolate(
+            optionValues(ImmutableList.of(functionUp), gridUp, VOL).row(0), SPOT).getValue();
+        double expectedUp = BARRIER_FORMULA.price(
+            SPOT, strike, TIME, RATE_DOMESTIC - RATE_FOREIGN, RATE_DOMESTIC, VOL, putCall.isCall(), BARRIER_UKO);
+        assertEquals(computedUp, expectedUp, TOL);
+      }
+    }
+  }
+
+  public void test_rebate() {
+    // the rebate is such that its value at expiry is one, thus is worth the probability of hitting the barrier
+    double strike = 1.35;
+    PdeGrid grid = grid(DoubleArray.of(SPOT, strike, LEVEL_LOW));
+    double dt = TIME / NUM_STEPS;
+    DoubleArray rebate = DoubleArray.of(NUM_STEPS + 1, i -> Math.exp(-RATE_DOMESTIC * (TIME - dt * i)));
+    OptionFunction withRebate = barrierFunction(strike, PutCall.CALL, BarrierType.DOWN, LEVEL_LOW, rebate);
+    OptionFunction withoutRebate = barrierFunction(strike, PutCall.CALL, BarrierType.DOWN, LEVEL_LOW, ZERO_REBATE);
+    DoubleMatrix values = optionValues(ImmutableList.of(withRebate, withoutRebate), grid, VOL);
+    double drift = RATE_DOMESTIC - RATE_FOREIGN - 0.5 * VOL * VOL;
+    double logBarrier = Math.log(LEVEL_LOW / SPOT);
+    double probability = NORMAL.getCDF((logBarrier - drift * TIME) / STD_DEV) +
+        Math.exp(2d * drift * logBarrier / (VOL * VOL)) * NORMAL.getCDF((logBarrier + drift * TIME) / STD_DEV);
+    double computed =
+        grid.interpolate(values.row(0), SPOT).getValue() - grid.interpolate(values.row(1), SPOT).getValue();
+    assertEquals(computed, Math.exp(-RATE_DOMESTIC * TIME) * probability, TOL);
+    assertEquals(values.get(0, 0), rebate.get(0));
+  }
+
+  public void test_timeDependentVolatility() {
+    // local volatility depending on time only is equivalent to the Black model with the root mean square volatility
+    PdeGrid grid = grid(DoubleArray.of(SPOT));
+    double variance = 0.01 * TIME + 0.005 * TIME * TIME + 0.0025 * TIME * TIME * TIME / 3d;
+    double vol = Math.sqrt(variance / TIME);
+    double forward = SPOT * Math.exp((RATE_DOMESTIC - RATE_FOREIGN) * TIME);
+    double df = Math.exp(-RATE_DOMESTIC * TIME);
+    for (double strike : STRIKES) {
+      EuropeanVanillaOptionFunction function = EuropeanVanillaOptionFunction.of(strike, TIME, PutCall.CALL, NUM_STEPS);
+      DoubleMatrix values = SOLVER.optionValues(
+          ImmutableList.of(function),
+          grid,
+          (t, s) -> 0.1 + 0.05 * t,
+          t -> Math.exp(-RATE_DOMESTIC * t),
+          t -> Math.exp(-RATE_FOREIGN * t));
+      double computed = grid.interpolate(values.row(0), SPOT).getValue();
+      double expected = df * BlackFormulaRepository.price(forward, strike, TIME, vol, true);
+      assertEquals(computed, expected, TOL);
+    }
+  }
+
+  public void test_severalOptions() {
+    PdeGrid grid = grid(DoubleArray.of(SPOT, STRIKES[1], LEVEL_HIGH));
+    List<OptionFunction> functions = ImmutableList.of(
+        EuropeanVanillaOptionFunction.of(STRIKES[0], TIME, PutCall.CALL, NUM_STEPS),
+        barrierFunction(STRIKES[1], PutCall.PUT, BarrierType.UP, LEVEL_HIGH, DoubleArray.filled(NUM_STEPS + 1, 0.1)),
+        EuropeanVanillaOptionFunction.of(STRIKES[2], TIME, PutCall.PUT, NUM_STEPS));
+    DoubleMatrix computed = optionValues(functions, grid, VOL);
+    for (int i = 0; i < functions.size(); i++) {
+      DoubleMatrix expected = optionValues(ImmutableList.of(functions.get(i)), grid, VOL);
+      assertEquals(computed.row(i), expected.row(0));
+    }
+  }
+
+  public void test_implicit() {
+    // the fully implicit scheme converges to the same value, with a first order error in time
+    LocalVolatilityPdeSolver implicit = new LocalVolatilityPdeSolver(1d, 0);
+    PdeGrid grid = grid(DoubleArray.of(SPOT, STRIKES[1]));
+    EuropeanVanillaOptionFunction function = EuropeanVanillaOptionFunction.of(STRIKES[1], TIME, PutCall.CALL, 400);
+    DoubleMatrix values = implicit.optionValues(
+        ImmutableList.of(function),
+        grid,
+        (t, s) -> VOL,
+        t -> Math.exp(-RATE_DOMESTIC * t),
+        t -> Math.exp(-RATE_FOREIGN * t));
+    double forward = SPOT * Math.exp((RATE_DOMESTIC - RATE_FOREIGN) * TIME);
+    double expected =
+        Math.exp(-RATE_DOMESTIC * TIME) * BlackFormulaRepository.price(forward, STRIKES[1], TIME, VOL, true);
+    assertEquals(grid.interpolate(values.row(0), SPOT).getValue(), expected, 1.0e-3);
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> new LocalVolatilityPdeSolver(0.4, 2));
+    assertThrowsIllegalArg(() -> new LocalVolatilityPdeSolver(0.5, -1));
+    PdeGrid grid = grid(DoubleArray.of(SPOT));
+    // barrier not on the grid
+    OptionFunction barrier = barrierFunction(1.35, PutCall.CALL, BarrierType.DOWN, LEVEL_LOW, ZERO_REBATE);
+    assertThrowsIllegalArg(() -> optionValues(ImmutableList.of(barrier), grid, VOL));
+    // inconsistent time steps
+    List<OptionFunction> functions = ImmutableList.of(
+        EuropeanVanillaOptionFunction.of(1.35, TIME, PutCall.CALL, NUM_STEPS),
+        EuropeanVanillaOptionFunction.of(1.35, TIME, PutCall.CALL, NUM_STEPS + 1));
+    assertThrowsIllegalArg(() -> optionValues(functions, grid, VOL));
+    assertThrowsIllegalArg(() -> optionValues(ImmutableList.of(), grid, VOL));
+  }
+
+  //-------------------------------------------------------------------------
+  private static ConstantContinuousSingleBarrierKnockoutFunction barrierFunction(
+      double strike,
+      PutCall putCall,
+      BarrierType barrierType,
+      double barrierLevel,
+      DoubleArray rebate) {
+
+    return ConstantContinuousSingleBarrierKnockoutFunction.of(
+        strike, TIME, putCall, NUM_STEPS, barrierType, barrierLevel, rebate);
+  }
+
+  private static PdeGrid grid(DoubleArray points) {
+    return PdeGrid.concentrated(
+        SPOT * Math.exp(-5d * STD_DEV), SPOT * Math.exp(5d * STD_DEV), NUM_NODES, points);
+  }
+
+  private static DoubleMatrix optionValues(List<? extends OptionFunction> functions, PdeGrid grid, double vol) {
+    return SOLVER.optionValues(
+        functions,
+        grid,
+        (t, s) -> vol,
+        t -> Math.exp(-RATE_DOMESTIC * t),
+        t -> Math.exp(-RATE_FOREIGN * t));
+  }
+
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.pde;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link PdeGrid}.
+ */
+@Test
+public class PdeGridTest {
+
+  private static final DoubleArray NODES = DoubleArray.of(1d, 1.5, 1.75, 2.5, 3d, 4.5);
+  private static final double TOL = 1.0e-12;
+
+  public void test_of() {
+    PdeGrid test = PdeGrid.of(NODES);
+    assertEquals(test.size(), NODES.size());
+    assertEquals(test.getNodes(), NODES);
+    assertEquals(test.getNode(2), 1.75);
+    assertEquals(test.indexOf(1.6), 1);
+    assertEquals(test.indexOf(1.7), 2);
+    assertEquals(test.indexOf(0.5), 0);
+    assertEquals(test.indexOf(5d), 5);
+  }
+
+  public void test_of_invalid() {
+    assertThrowsIllegalArg(() -> PdeGrid.of(DoubleArray.of(1d, 2d)));
+    assertThrowsIllegalArg(() -> PdeGrid.of(DoubleArray.of(1d, 3d, 2d)));
+    assertThrowsIllegalArg(() -> PdeGrid.of(DoubleArray.of(1d, 2d, 2d)));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_weights() {
+    // the three point approximations are exact for quadratic functions
+    PdeGrid test = PdeGrid.of(NODES);
+    for (int i = 1; i < NODES.size() - 1; i++) {
+      double xm = NODES.get(i - 1);
+      double x = NODES.get(i);
+      double xp = NODES.get(i + 1);
+      double first = test.firstLower()[i] * f(xm) + test.firstDiagonal()[i] * f(x) + test.firstUpper()[i] * f(xp);
+      double second = test.secondLower()[i] * f(xm) + test.secondDiagonal()[i] * f(x) + test.secondUpper()[i] * f(xp);
+      assertEquals(first, 2.4 * x - 1d, TOL);
+      assertEquals(second, 2.4, TOL);
+    }
+  }
+
+  public void test_interpolate() {
+    PdeGrid test = PdeGrid.of(NODES);
+    double[] values = NODES.stream().map(x -> f(x)).toArray();
+    for (double x : new double[] {1d, 1.2, 1.75, 2.1, 3.7, 4.5}) {
+      ValueDerivatives computed = test.interpolate(DoubleArray.ofUnsafe(values), x);
+      assertEquals(computed.getValue(), f(x), TOL);
+      assertEquals(computed.getDerivative(0), 2.4 * x - 1d, TOL);
+    }
+    assertThrowsIllegalArg(() -> test.interpolate(values, 0.9));
+    assertThrowsIllegalArg(() -> test.interpolate(new double[3], 2d));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_concentrated() {
+    double low = 0.5;
+    double high = 2.5;
+    DoubleArray points = DoubleArray.of(1.1, 1.35, 3d, 1.1);
+    PdeGrid test = PdeGrid.concentrated(low, high, 101, points);
+    assertEquals(test.size(), 101);
+    assertEquals(test.getNode(0), low);
+    assertEquals(test.getNode(100), high);
+    for (int i = 1; i < test.size(); i++) {
+      assertTrue(test.getNode(i - 1) < test.getNode(i));
+    }
+    // points within the grid are nodes
+    int index1 = test.indexOf(1.1);
+    int index2 = test.indexOf(1.35);
+    assertEquals(test.getNode(index1), 1.1);
+    assertEquals(test.getNode(index2), 1.35);
+    // nodes are denser close to the points than far from them
+    double spacingPoint = Math.log(test.getNode(index1 + 1) / test.getNode(index1));
+    double spacingLow = Math.log(test.getNode(1) / test.getNode(0));
+    double spacingHigh = Math.log(test.getNode(100) / test.getNode(99));
+    assertTrue(spacingPoint < 0.5 * spacingLow);
+    assertTrue(spacingPoint < 0.5 * spacingHigh);
+  }
+
+  public void test_concentrated_noPoint() {
+    PdeGrid test = PdeGrid.concentrated(1d, Math.exp(2d), 21, DoubleArray.of());
+    for (int i = 0; i < test.size(); i++) {
+      assertEquals(test.getNode(i), Math.exp(0.1 * i), 1.0e-10);
+    }
+  }
+
+  public void test_concentrated_invalid() {
+    assertThrowsIllegalArg(() -> PdeGrid.concentrated(0d, 2d, 11, DoubleArray.of()));
+    assertThrowsIllegalArg(() -> PdeGrid.concentrated(2d, 1d, 11, DoubleArray.of()));
+    assertThrowsIllegalArg(() -> PdeGrid.concentrated(1d, 2d, 2, DoubleArray.of()));
+    assertThrowsIllegalArg(() -> PdeGrid.concentrated(1d, 2d, 3, DoubleArray.of(1.2, 1.4)));
+  }
+
+  //-------------------------------------------------------------------------
+  private static double f(double x) {
+    return 1.2 * x * x - x + 0.5;
+  }
+
+}
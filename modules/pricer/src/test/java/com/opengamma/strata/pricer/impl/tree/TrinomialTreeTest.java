@@ -6,6 +6,7 @@
 package com.opengamma.strata.pricer.impl.tree;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -18,6 +19,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
 import com.opengamma.strata.product.common.PutCall;
+import com.opengamma.strata.product.option.BarrierType;
 
 /**
  * Test {@link TrinomialTree}.
@@ -82,4 +84,132 @@ public class TrinomialTreeTest {
     }
   }
 
+  /**
+   * Test pricing several options in a single sweep is consistent with pricing each option separately.
+   */
+  public void test_optionPrices() {
+    int nSteps = 95;
+    double vol = 0.12;
+    double interest = 0.03;
+    RecombiningTrinomialTreeData treeData = treeData(nSteps, vol, interest);
+    assertEquals(treeData.getFlatProbabilityAtLayer(3).size(), 21);
+    assertEquals(treeData.getFlatProbabilityAtLayer(3).get(4), treeData.getProbabilityAtLayer(3).get(1, 1));
+    List<OptionFunction> functions = new ArrayList<>();
+    for (double strike : STRIKES) {
+      functions.add(EuropeanVanillaOptionFunction.of(strike, TIME, PutCall.CALL, nSteps));
+      functions.add(ConstantContinuousSingleBarrierKnockoutFunction.of(
+          strike, TIME, PutCall.PUT, nSteps, BarrierType.DOWN, 90d, DoubleArray.filled(nSteps + 1, 1d)));
+    }
+    DoubleArray prices = TRINOMIAL_TREE.optionPrices(functions, treeData);
+    List<ValueDerivatives> pricesAdjoint = TRINOMIAL_TREE.optionPricesAdjoint(functions, treeData);
+    assertEquals(prices.size(), functions.size());
+    assertEquals(pricesAdjoint.size(), functions.size());
+    for (int i = 0; i < functions.size(); ++i) {
+      assertEquals(prices.get(i), TRINOMIAL_TREE.optionPrice(functions.get(i), treeData));
+      assertEquals(pricesAdjoint.get(i), TRINOMIAL_TREE.optionPriceAdjoint(functions.get(i), treeData));
+      assertEquals(pricesAdjoint.get(i).getValue(), prices.get(i));
+    }
+  }
+
+  /**
+   * Test an option function that does not override the in-place computation of the option values.
+   */
+  public void test_defaultOptionFunction() {
+    int nSteps = 45;
+    RecombiningTrinomialTreeData treeData = treeData(nSteps, 0.2, 0.01);
+    EuropeanVanillaOptionFunction vanilla = EuropeanVanillaOptionFunction.of(STRIKES[1], TIME, PutCall.PUT, nSteps);
+    OptionFunction function = new OptionFunction() {
+      @Override
+      public double getTimeToExpiry() {
+        return vanilla.getTimeToExpiry();
+      }
+
+      @Override
+      public int getNumberOfSteps() {
+        return vanilla.getNumberOfSteps();
+      }
+
+      @Override
+      public DoubleArray getPayoffAtExpiryTrinomial(DoubleArray stateValue) {
+        return vanilla.getPayoffAtExpiryTrinomial(stateValue);
+      }
+    };
+    assertEquals(TRINOMIAL_TREE.optionPriceAdjoint(function, treeData),
+        TRINOMIAL_TREE.optionPriceAdjoint(vanilla, treeData));
+    LatticeSpecification lattice = new CoxRossRubinsteinLatticeSpecification();
+    assertEquals(TRINOMIAL_TREE.optionPrice(function, lattice, SPOT, 0.2, 0.01, 0d),
+        TRINOMIAL_TREE.optionPrice(vanilla, lattice, SPOT, 0.2, 0.01, 0d));
+  }
+
+  /**
+   * Test an option function that only overrides the option values of the uniform lattice.
+   */
+  public void test_latticeOptionFunction() {
+    int nSteps = 45;
+    double interest = 0.05;
+    EuropeanVanillaOptionFunction vanilla = EuropeanVanillaOptionFunction.of(STRIKES[4], TIME, PutCall.PUT, nSteps);
+    // American put, exercised early if the intrinsic value exceeds the continuation value
+    OptionFunction american = new OptionFunction() {
+      @Override
+      public double getTimeToExpiry() {
+        return vanilla.getTimeToExpiry();
+      }
+
+      @Override
+      public int getNumberOfSteps() {
+        return vanilla.getNumberOfSteps();
+      }
+
+      @Override
+      public DoubleArray getPayoffAtExpiryTrinomial(DoubleArray stateValue) {
+        return vanilla.getPayoffAtExpiryTrinomial(stateValue);
+      }
+
+      @Override
+      public DoubleArray getNextOptionValues(
+          double discountFactor,
+          double upProbability,
+          double middleProbability,
+          double downProbability,
+          DoubleArray value,
+          double spot,
+          double downFactor,
+          double middleFactor,
+          int i) {
+
+        DoubleArray continuation = vanilla.getNextOptionValues(discountFactor, upProbability, middleProbability,
+            downProbability, value, spot, downFactor, middleFactor, i);
+        return DoubleArray.of(continuation.size(), k -> Math.max(
+            continuation.get(k), STRIKES[4] - spot * Math.pow(downFactor, i - k) * Math.pow(middleFactor, k)));
+      }
+    };
+    LatticeSpecification lattice = new CoxRossRubinsteinLatticeSpecification();
+    double priceAmerican = TRINOMIAL_TREE.optionPrice(american, lattice, SPOT, 0.2, interest, 0d);
+    double priceEuropean = TRINOMIAL_TREE.optionPrice(vanilla, lattice, SPOT, 0.2, interest, 0d);
+    assertTrue(priceAmerican > priceEuropean);
+    assertTrue(priceAmerican >= STRIKES[4] - SPOT);
+  }
+
+  // creates a uniform tree with no dividend
+  private static RecombiningTrinomialTreeData treeData(int nSteps, double vol, double interest) {
+    double dt = TIME / nSteps;
+    LatticeSpecification lattice = new CoxRossRubinsteinLatticeSpecification();
+    double[] params = lattice.getParametersTrinomial(vol, interest, dt).toArray();
+    DoubleArray time = DoubleArray.of(nSteps + 1, i -> dt * i);
+    DoubleArray df = DoubleArray.of(nSteps, i -> Math.exp(-interest * dt));
+    double[][] stateValue = new double[nSteps + 1][];
+    stateValue[0] = new double[] {SPOT };
+    List<DoubleMatrix> prob = new ArrayList<DoubleMatrix>();
+    double[] probs = new double[] {params[5], params[4], params[3] };
+    for (int i = 0; i < nSteps; ++i) {
+      int index = i;
+      stateValue[i + 1] = DoubleArray.of(2 * i + 3,
+          j -> SPOT * Math.pow(params[2], index + 1 - j) * Math.pow(params[1], j)).toArray();
+      double[][] probMatrix = new double[2 * i + 1][];
+      Arrays.fill(probMatrix, probs);
+      prob.add(DoubleMatrix.ofUnsafe(probMatrix));
+    }
+    return RecombiningTrinomialTreeData.of(DoubleMatrix.ofUnsafe(stateValue), prob, df, time);
+  }
+
 }
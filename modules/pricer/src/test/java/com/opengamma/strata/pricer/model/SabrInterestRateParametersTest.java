@@ -101,6 +101,7 @@ public class SabrInterestRateParametersTest {
     for (int i = 0; i < 4; ++i) {
       assertEquals(adjCmp[i], adjExp[i]);
     }
+    assertEquals(params.smile(expiry, tenor), SabrSmile.of(expiry, alpha, beta, rho, nu, shift, FORMULA));
   }
 
   //-------------------------------------------------------------------------
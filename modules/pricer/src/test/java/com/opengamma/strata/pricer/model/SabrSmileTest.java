@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.model;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link SabrSmile}.
+ */
+@Test
+public class SabrSmileTest {
+
+  private static final double EXPIRY = 2.5;
+  private static final double ALPHA = 0.05;
+  private static final double BETA = 0.5;
+  private static final double RHO = -0.25;
+  private static final double NU = 0.4;
+  private static final double SHIFT = 0.02;
+  private static final SabrVolatilityFormula FORMULA = SabrVolatilityFormula.hagan();
+  private static final SabrSmile SMILE = SabrSmile.of(EXPIRY, ALPHA, BETA, RHO, NU, SHIFT, FORMULA);
+  private static final double FORWARD = 0.015;
+  private static final DoubleArray STRIKES = DoubleArray.of(-0.005, 0.005, 0.015, 0.025, 0.05);
+
+  public void test_of() {
+    assertEquals(SMILE.getExpiry(), EXPIRY);
+    assertEquals(SMILE.getAlpha(), ALPHA);
+    assertEquals(SMILE.getBeta(), BETA);
+    assertEquals(SMILE.getRho(), RHO);
+    assertEquals(SMILE.getNu(), NU);
+    assertEquals(SMILE.getShift(), SHIFT);
+    assertEquals(SMILE.getSabrVolatilityFormula(), FORMULA);
+  }
+
+  public void test_volatility() {
+    DoubleArray vols = SMILE.volatilities(STRIKES, FORWARD);
+    List<ValueDerivatives> adjoints = SMILE.volatilityAdjoints(STRIKES, FORWARD);
+    assertEquals(vols.size(), STRIKES.size());
+    assertEquals(adjoints.size(), STRIKES.size());
+    for (int i = 0; i < STRIKES.size(); i++) {
+      double strike = STRIKES.get(i);
+      double volExpected = FORMULA.volatility(FORWARD + SHIFT, strike + SHIFT, EXPIRY, ALPHA, BETA, RHO, NU);
+      ValueDerivatives adjExpected =
+          FORMULA.volatilityAdjoint(FORWARD + SHIFT, strike + SHIFT, EXPIRY, ALPHA, BETA, RHO, NU);
+      assertEquals(SMILE.volatility(strike, FORWARD), volExpected);
+      assertEquals(SMILE.volatilityAdjoint(strike, FORWARD), adjExpected);
+      assertEquals(vols.get(i), volExpected);
+      assertEquals(adjoints.get(i), adjExpected);
+    }
+  }
+
+  public void test_volatility_empty() {
+    assertEquals(SMILE.volatilities(DoubleArray.EMPTY, FORWARD), DoubleArray.EMPTY);
+    assertEquals(SMILE.volatilityAdjoints(DoubleArray.EMPTY, FORWARD).size(), 0);
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    coverImmutableBean(SMILE);
+    SabrSmile test2 = SabrSmile.of(1d, 0.1, 0.8, 0.2, 0.3, 0d, FORMULA);
+    coverBeanEquals(SMILE, test2);
+  }
+
+  public void test_serialization() {
+    assertSerialization(SMILE);
+  }
+
+}
@@ -82,6 +82,7 @@ public class ImmutableRatesProviderTest {
         .discountCurve(USD, DISCOUNT_CURVE_USD)
         .build();
     assertEquals(test.discountFactors(GBP).getCurrency(), GBP);
+    assertSame(test.discountFactors(GBP), test.discountFactors(GBP));
   }
 
   public void test_discountFactors_notKnown() {
@@ -89,6 +90,7 @@ public class ImmutableRatesProviderTest {
         .build();
     assertThrowsIllegalArg(() -> test.discountFactors(GBP));
     assertThrowsIllegalArg(() -> test.discountFactor(GBP, LocalDate.of(2014, 7, 30)));
+    assertThrowsIllegalArg(() -> test.discountFactors(GBP));
   }
 
   //-------------------------------------------------------------------------
@@ -144,6 +146,7 @@ public class ImmutableRatesProviderTest {
         .build();
     assertEquals(test.iborIndexRates(USD_LIBOR_3M).getIndex(), USD_LIBOR_3M);
     assertEquals(test.iborIndexRates(USD_LIBOR_3M).getFixings(), ts);
+    assertSame(test.iborIndexRates(USD_LIBOR_3M), test.iborIndexRates(USD_LIBOR_3M));
   }
 
   //-------------------------------------------------------------------------
@@ -155,6 +158,21 @@ public class ImmutableRatesProviderTest {
         .build();
     assertEquals(test.overnightIndexRates(USD_FED_FUND).getIndex(), USD_FED_FUND);
     assertEquals(test.overnightIndexRates(USD_FED_FUND).getFixings(), ts);
+    assertSame(test.overnightIndexRates(USD_FED_FUND), test.overnightIndexRates(USD_FED_FUND));
+  }
+
+  public void test_indexRates_sharedDiscountCurve() {
+    ImmutableRatesProvider test = ImmutableRatesProvider.builder(VAL_DATE)
+        .discountCurve(USD, DISCOUNT_CURVE_USD)
+        .iborIndexCurve(USD_LIBOR_3M, DISCOUNT_CURVE_USD)
+        .overnightIndexCurve(USD_FED_FUND, DISCOUNT_CURVE_USD)
+        .build();
+    DiscountIborIndexRates iborRates = (DiscountIborIndexRates) test.iborIndexRates(USD_LIBOR_3M);
+    assertSame(iborRates.getDiscountFactors(), test.discountFactors(USD));
+    assertEquals(iborRates, IborIndexRates.of(USD_LIBOR_3M, VAL_DATE, DISCOUNT_CURVE_USD));
+    DiscountOvernightIndexRates onRates = (DiscountOvernightIndexRates) test.overnightIndexRates(USD_FED_FUND);
+    assertSame(onRates.getDiscountFactors(), test.discountFactors(USD));
+    assertEquals(onRates, OvernightIndexRates.of(USD_FED_FUND, VAL_DATE, DISCOUNT_CURVE_USD));
   }
 
   //-------------------------------------------------------------------------
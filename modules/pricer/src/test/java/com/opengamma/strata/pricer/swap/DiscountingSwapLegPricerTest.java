@@ -63,6 +63,7 @@ import com.opengamma.strata.basics.schedule.PeriodicSchedule;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.basics.value.ValueSchedule;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
@@ -75,12 +76,16 @@ import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
 import com.opengamma.strata.pricer.impl.rate.ForwardInflationInterpolatedRateComputationFn;
 import com.opengamma.strata.pricer.impl.rate.ForwardInflationMonthlyRateComputationFn;
+import com.opengamma.strata.pricer.impl.swap.DiscountingKnownAmountPaymentPeriodPricer;
+import com.opengamma.strata.pricer.impl.swap.DiscountingRatePaymentPeriodPricer;
 import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentEventPricer;
+import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentPeriodPricer;
 import com.opengamma.strata.pricer.rate.IborRateSensitivity;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -104,6 +109,7 @@ import com.opengamma.strata.product.swap.ResolvedSwapLeg;
 import com.opengamma.strata.product.swap.SwapLeg;
 import com.opengamma.strata.product.swap.SwapLegType;
 import com.opengamma.strata.product.swap.SwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
 import com.opengamma.strata.product.swap.type.FixedInflationSwapConvention;
 import com.opengamma.strata.product.swap.type.FixedInflationSwapConventions;
 import com.opengamma.strata.product.swap.type.IborIborSwapConventions;
@@ -144,12 +150,18 @@ public class DiscountingSwapLegPricerTest {
         .paymentPeriods(FIXED_RATE_PAYMENT_PERIOD_PAY_USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2)
         .build();
     RatesProvider mockProv = mock(RatesProvider.class);
+    DiscountFactors mockDf = mock(DiscountFactors.class);
+    when(mockProv.discountFactors(USD)).thenReturn(mockDf);
+    double time1 = 0.75d;
+    double time2 = 1.25d;
+    when(mockDf.relativeYearFractions(IntArray.of(
+        (int) FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate().toEpochDay(),
+        (int) FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate().toEpochDay())))
+        .thenReturn(DoubleArray.of(time1, time2));
     double df1 = 0.99d;
-    when(mockProv.discountFactor(USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate()))
-        .thenReturn(df1);
+    when(mockDf.discountFactor(time1)).thenReturn(df1);
     double df2 = 0.98d;
-    when(mockProv.discountFactor(USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate()))
-        .thenReturn(df2);
+    when(mockDf.discountFactor(time2)).thenReturn(df2);
     when(mockProv.getValuationDate()).thenReturn(RatesProviderDataSets.VAL_DATE_2014_01_22);
     double pvbp = PRICER_LEG.pvbp(leg, mockProv);
     double ceExpected = PRICER_LEG.presentValuePeriodsInternal(leg, mockProv) / pvbp;
@@ -160,9 +172,14 @@ public class DiscountingSwapLegPricerTest {
   //-------------------------------------------------------------------------
   public void test_pvbp_onePeriod() {
     RatesProvider mockProv = mock(RatesProvider.class);
+    DiscountFactors mockDf = mock(DiscountFactors.class);
+    when(mockProv.discountFactors(USD)).thenReturn(mockDf);
+    double time = 0.75d;
     double df = 0.99d;
-    when(mockProv.discountFactor(USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate()))
-        .thenReturn(df);
+    when(mockDf.relativeYearFractions(IntArray.of(
+        (int) FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate().toEpochDay())))
+        .thenReturn(DoubleArray.of(time));
+    when(mockDf.discountFactor(time)).thenReturn(df);
     double expected = df * FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getNotional() *
         FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getAccrualPeriods().get(0).getYearFraction();
     DiscountingSwapLegPricer test = DiscountingSwapLegPricer.DEFAULT;
@@ -176,12 +193,18 @@ public class DiscountingSwapLegPricerTest {
         .paymentPeriods(FIXED_RATE_PAYMENT_PERIOD_PAY_USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2)
         .build();
     RatesProvider mockProv = mock(RatesProvider.class);
+    DiscountFactors mockDf = mock(DiscountFactors.class);
+    when(mockProv.discountFactors(USD)).thenReturn(mockDf);
+    double time1 = 0.75d;
+    double time2 = 1.25d;
+    when(mockDf.relativeYearFractions(IntArray.of(
+        (int) FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate().toEpochDay(),
+        (int) FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate().toEpochDay())))
+        .thenReturn(DoubleArray.of(time1, time2));
     double df1 = 0.99d;
-    when(mockProv.discountFactor(USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate()))
-        .thenReturn(df1);
+    when(mockDf.discountFactor(time1)).thenReturn(df1);
     double df2 = 0.98d;
-    when(mockProv.discountFactor(USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate()))
-        .thenReturn(df2);
+    when(mockDf.discountFactor(time2)).thenReturn(df2);
     double expected = df1 * FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getNotional() *
         FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getAccrualPeriods().get(0).getYearFraction();
     expected += df2 * FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getNotional() *
@@ -190,6 +213,35 @@ public class DiscountingSwapLegPricerTest {
     assertEquals(test.pvbp(leg, mockProv), expected, TOLERANCE);
   }
 
+  // the standard period pricer allows the leg to be priced from its compact schedule
+  public void test_compactSchedule() {
+    DiscountingSwapLegPricer periodByPeriod = new DiscountingSwapLegPricer(
+        new DispatchingSwapPaymentPeriodPricer(
+            DiscountingRatePaymentPeriodPricer.DEFAULT, DiscountingKnownAmountPaymentPeriodPricer.DEFAULT),
+        SwapPaymentEventPricer.standard());
+    LocalDate tradeDate = RATES_USD.getValuationDate().minusYears(2);
+    ResolvedSwap swap = FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+        .createTrade(tradeDate, TENOR_10Y, BuySell.BUY, 1_000_000d, 0.015, REF_DATA)
+        .getProduct()
+        .resolve(REF_DATA);
+    for (ResolvedSwapLeg leg : swap.getLegs()) {
+      assertTrue(leg.findCompactSchedule().isPresent());
+      assertEquals(
+          PRICER_LEG.presentValue(leg, RATES_USD).getAmount(),
+          periodByPeriod.presentValue(leg, RATES_USD).getAmount(),
+          TOLERANCE);
+      assertEquals(
+          PRICER_LEG.presentValuePeriodsInternal(leg, RATES_USD),
+          periodByPeriod.presentValuePeriodsInternal(leg, RATES_USD),
+          TOLERANCE);
+    }
+    ResolvedSwapLeg fixedLeg = swap.getLegs(FIXED).get(0);
+    assertEquals(PRICER_LEG.pvbp(fixedLeg, RATES_USD), periodByPeriod.pvbp(fixedLeg, RATES_USD), TOLERANCE);
+    assertEquals(
+        PRICER_LEG.pvbpSensitivity(fixedLeg, RATES_USD).build(),
+        periodByPeriod.pvbpSensitivity(fixedLeg, RATES_USD).build());
+  }
+
   public void test_pvbp_compounding_flat_fixed() {
     DiscountingSwapLegPricer test = DiscountingSwapLegPricer.DEFAULT;
     SwapPaymentPeriod p = FIXED_CMP_FLAT_SWAP_LEG_PAY_GBP.getPaymentPeriods().get(0);
@@ -722,9 +774,11 @@ public class DiscountingSwapLegPricerTest {
     when(mockPeriod.forecastValue(period1, mockProv)).thenReturn(fv1);
     when(mockPeriod.forecastValue(period2, mockProv)).thenReturn(fv2);
     when(mockProv.getValuationDate()).thenReturn(LocalDate.of(2014, 7, 1));
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), period1.getPaymentDate())).thenReturn(df1);
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), period2.getPaymentDate())).thenReturn(df2);
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), event.getPaymentDate())).thenReturn(df);
+    DiscountFactors mockDf = mock(DiscountFactors.class);
+    when(mockProv.discountFactors(expSwapLeg.getCurrency())).thenReturn(mockDf);
+    when(mockDf.discountFactors(ImmutableList.of(period1.getPaymentDate(), period2.getPaymentDate())))
+        .thenReturn(DoubleArray.of(df1, df2));
+    when(mockDf.discountFactors(ImmutableList.of(event.getPaymentDate()))).thenReturn(DoubleArray.of(df));
     DiscountingSwapLegPricer pricer = new DiscountingSwapLegPricer(mockPeriod, eventPricer);
 
     CashFlows computed = pricer.cashFlows(expSwapLeg, mockProv);
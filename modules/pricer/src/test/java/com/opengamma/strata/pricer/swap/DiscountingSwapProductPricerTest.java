@@ -78,6 +78,7 @@ import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
@@ -646,10 +647,14 @@ public class DiscountingSwapProductPricerTest {
     when(mockPeriod.forecastValue(IBOR_RATE_PAYMENT_PERIOD_REC_GBP, mockProv)).thenReturn(fvGBP);
     when(mockPeriod.forecastValue(FIXED_RATE_PAYMENT_PERIOD_PAY_USD, mockProv)).thenReturn(fvUSD);
     when(mockProv.getValuationDate()).thenReturn(LocalDate.of(2014, 7, 1));
-    when(mockProv.discountFactor(IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getCurrency(),
-        IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getPaymentDate())).thenReturn(df1);
-    when(mockProv.discountFactor(FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getCurrency(),
-        FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate())).thenReturn(df2);
+    DiscountFactors mockDfGBP = mock(DiscountFactors.class);
+    DiscountFactors mockDfUSD = mock(DiscountFactors.class);
+    when(mockProv.discountFactors(GBP)).thenReturn(mockDfGBP);
+    when(mockProv.discountFactors(USD)).thenReturn(mockDfUSD);
+    when(mockDfGBP.discountFactors(ImmutableList.of(IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getPaymentDate())))
+        .thenReturn(DoubleArray.of(df1));
+    when(mockDfUSD.discountFactors(ImmutableList.of(FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate())))
+        .thenReturn(DoubleArray.of(df2));
     SwapPaymentEventPricer<SwapPaymentEvent> mockEvent = mock(SwapPaymentEventPricer.class);
     DiscountingSwapLegPricer pricerLeg = new DiscountingSwapLegPricer(mockPeriod, mockEvent);
     DiscountingSwapProductPricer pricerSwap = new DiscountingSwapProductPricer(pricerLeg);
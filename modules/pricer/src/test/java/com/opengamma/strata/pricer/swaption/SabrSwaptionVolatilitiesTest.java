@@ -32,6 +32,7 @@ import com.opengamma.strata.market.param.UnitParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.surface.SurfaceName;
 import com.opengamma.strata.pricer.model.SabrInterestRateParameters;
+import com.opengamma.strata.pricer.model.SabrSmile;
 import com.opengamma.strata.product.swap.type.FixedIborSwapConvention;
 
 /**
@@ -86,6 +87,19 @@ public class SabrSwaptionVolatilitiesTest {
     assertEquals(test.shift(1d, 2d), PARAM.shift(1d, 2d));
   }
 
+  public void test_smile() {
+    SabrParametersSwaptionVolatilities test = SabrParametersSwaptionVolatilities.of(NAME, CONV, DATE_TIME, PARAM);
+    SabrSmile smile = test.smile(1d, 2d);
+    assertEquals(smile, PARAM.smile(1d, 2d));
+    assertEquals(test.smile(1d, 5d), PARAM.smile(1d, 5d));
+    for (int j = 0; j < NB_STRIKE; ++j) {
+      assertEquals(smile.volatility(TEST_STRIKE[j], TEST_FORWARD),
+          test.volatility(1d, 2d, TEST_STRIKE[j], TEST_FORWARD));
+      assertEquals(smile.volatilityAdjoint(TEST_STRIKE[j], TEST_FORWARD),
+          test.volatilityAdjoint(1d, 2d, TEST_STRIKE[j], TEST_FORWARD));
+    }
+  }
+
   public void test_tenor() {
     SabrParametersSwaptionVolatilities prov = SabrParametersSwaptionVolatilities.of(NAME, CONV, DATE_TIME, PARAM);
     double test1 = prov.tenor(DATE, DATE);
@@ -34,7 +34,10 @@ import com.google.common.collect.Iterables;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.basics.schedule.CompactSchedule;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.product.common.PayReceive;
 
 /**
@@ -102,6 +105,10 @@ public final class ResolvedSwapLeg
    * The currency of the leg.
    */
   private final transient Currency currency;  // not a property, derived and cached from input data
+  /**
+   * The compact schedule of the leg, null until first requested.
+   */
+  private transient volatile Optional<CompactSchedule> compactSchedule;  // not a property, derived on first use
 
   //-------------------------------------------------------------------------
   @ImmutableConstructor
@@ -140,6 +147,35 @@ public final class ResolvedSwapLeg
     this.currency = currency;
   }
 
+  // creates the compact schedule if each period is a rate period with a single accrual period and no FX reset
+  private static Optional<CompactSchedule> compactSchedule(List<SwapPaymentPeriod> paymentPeriods) {
+    int size = paymentPeriods.size();
+    int[] startDates = new int[size];
+    int[] endDates = new int[size];
+    int[] paymentDates = new int[size];
+    double[] yearFractions = new double[size];
+    for (int i = 0; i < size; i++) {
+      SwapPaymentPeriod paymentPeriod = paymentPeriods.get(i);
+      if (!(paymentPeriod instanceof RatePaymentPeriod)) {
+        return Optional.empty();
+      }
+      RatePaymentPeriod ratePeriod = (RatePaymentPeriod) paymentPeriod;
+      if (ratePeriod.getAccrualPeriods().size() != 1 || ratePeriod.getFxReset().isPresent()) {
+        return Optional.empty();
+      }
+      RateAccrualPeriod accrualPeriod = ratePeriod.getAccrualPeriods().get(0);
+      startDates[i] = CompactSchedule.toEpochDay(accrualPeriod.getStartDate());
+      endDates[i] = CompactSchedule.toEpochDay(accrualPeriod.getEndDate());
+      paymentDates[i] = CompactSchedule.toEpochDay(ratePeriod.getPaymentDate());
+      yearFractions[i] = accrualPeriod.getYearFraction();
+    }
+    return Optional.of(CompactSchedule.of(
+        IntArray.ofUnsafe(startDates),
+        IntArray.ofUnsafe(endDates),
+        IntArray.ofUnsafe(paymentDates),
+        DoubleArray.ofUnsafe(yearFractions)));
+  }
+
   // ensure standard constructor is invoked
   private Object readResolve() {
     return new ResolvedSwapLeg(type, payReceive, paymentPeriods, paymentEvents);
@@ -181,6 +217,30 @@ public final class ResolvedSwapLeg
     return currency;
   }
 
+  /**
+   * Finds the compact schedule of the leg.
+   * <p>
+   * The compact schedule holds the dates of each payment period as epoch-days, allowing
+   * the leg to be priced in bulk without using a {@code LocalDate} for each period.
+   * It is only available if each payment period is a {@link RatePaymentPeriod} with
+   * a single accrual period and no FX reset, as is typical of a fixed leg or a simple Ibor leg.
+   * The periods of the schedule match the payment periods of the leg.
+   * <p>
+   * The compact schedule is created when first requested and then held by the leg,
+   * thus legs that are never priced in bulk do not hold a second copy of their dates.
+   * 
+   * @return the compact schedule, empty if the periods cannot be represented in compact form
+   */
+  public Optional<CompactSchedule> findCompactSchedule() {
+    Optional<CompactSchedule> schedule = compactSchedule;
+    if (schedule == null) {
+      // if two threads race, both create an equal schedule
+      schedule = compactSchedule(paymentPeriods);
+      compactSchedule = schedule;
+    }
+    return schedule;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Finds the payment period applicable for the specified accrual date.
@@ -19,6 +19,7 @@ import static com.opengamma.strata.product.common.PayReceive.RECEIVE;
 import static com.opengamma.strata.product.swap.SwapLegType.FIXED;
 import static com.opengamma.strata.product.swap.SwapLegType.IBOR;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -31,6 +32,7 @@ import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.Payment;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.basics.schedule.CompactSchedule;
 import com.opengamma.strata.basics.schedule.SchedulePeriod;
 import com.opengamma.strata.product.rate.IborRateComputation;
 
@@ -127,6 +129,39 @@ public class ResolvedSwapLegTest {
     assertEquals(test.findPaymentPeriod(RPP2.getEndDate().plusDays(1)), Optional.empty());
   }
 
+  public void test_findCompactSchedule() {
+    ResolvedSwapLeg test = ResolvedSwapLeg.builder()
+        .type(IBOR)
+        .payReceive(RECEIVE)
+        .paymentPeriods(RPP1, RPP2)
+        .build();
+    CompactSchedule schedule = test.findCompactSchedule().get();
+    assertEquals(schedule.size(), 2);
+    assertEquals(schedule.getStartDate(0), DATE_2014_06_30);
+    assertEquals(schedule.getEndDate(0), DATE_2014_09_30);
+    assertEquals(schedule.getPaymentDate(0), DATE_2014_10_01);
+    assertEquals(schedule.getYearFraction(0), 0.25d);
+    assertEquals(schedule.getStartDate(1), DATE_2014_09_30);
+    assertEquals(schedule.getEndDate(1), DATE_2014_12_30);
+    assertEquals(schedule.getPaymentDate(1), DATE_2015_01_01);
+    assertEquals(schedule.getYearFraction(1), 0.25d);
+    // created once, then held by the leg
+    assertSame(test.findCompactSchedule().get(), schedule);
+  }
+
+  public void test_findCompactSchedule_notCompact() {
+    RatePaymentPeriod compounded = RPP1.toBuilder()
+        .accrualPeriods(RAP1, RAP2)
+        .compoundingMethod(CompoundingMethod.STRAIGHT)
+        .build();
+    ResolvedSwapLeg test = ResolvedSwapLeg.builder()
+        .type(IBOR)
+        .payReceive(RECEIVE)
+        .paymentPeriods(compounded)
+        .build();
+    assertEquals(test.findCompactSchedule(), Optional.empty());
+  }
+
   public void test_collectIndices() {
     ResolvedSwapLeg test = ResolvedSwapLeg.builder()
         .type(IBOR)